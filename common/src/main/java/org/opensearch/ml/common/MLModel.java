@@ -25,6 +25,7 @@ import org.opensearch.ml.common.model.MetricsCorrelationModelConfig;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Locale;
 
@@ -118,6 +119,8 @@ public class MLModel implements ToXContentObject {
     @Setter
     private Connector connector;
     private String connectorId;
+    // model chunk doc only, raw bytes of chunk content which is stored as binary value in CBOR source
+    private byte[] binaryContent;
 
     @Builder(toBuilder = true)
     public MLModel(String name,
@@ -146,7 +149,8 @@ public class MLModel implements ToXContentObject {
                    boolean deployToAllNodes,
                    Boolean isHidden,
                    Connector connector,
-                   String connectorId) {
+                   String connectorId,
+                   byte[] binaryContent) {
         this.name = name;
         this.modelGroupId = modelGroupId;
         this.algorithm = algorithm;
@@ -175,6 +179,7 @@ public class MLModel implements ToXContentObject {
         this.isHidden = isHidden;
         this.connector = connector;
         this.connectorId = connectorId;
+        this.binaryContent = binaryContent;
     }
 
     public MLModel(StreamInput input) throws IOException{
@@ -223,6 +228,9 @@ public class MLModel implements ToXContentObject {
                 connector = Connector.fromStream(input);
             }
             connectorId = input.readOptionalString();
+            if (input.readBoolean()) {
+                binaryContent = input.readByteArray();
+            }
         }
     }
 
@@ -280,6 +288,23 @@ public class MLModel implements ToXContentObject {
             out.writeBoolean(false);
         }
         out.writeOptionalString(connectorId);
+        if (binaryContent != null) {
+            out.writeBoolean(true);
+            out.writeByteArray(binaryContent);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    /**
+     * Get raw bytes of model chunk content. Chunks registered by old versions store content as Base64 string.
+     * @return raw bytes of chunk content, null if doc has no content
+     */
+    public byte[] getContentBytes() {
+        if (binaryContent != null) {
+            return binaryContent;
+        }
+        return content == null ? null : Base64.getDecoder().decode(content);
     }
 
     @Override
@@ -297,7 +322,10 @@ public class MLModel implements ToXContentObject {
         if (version != null) {
             builder.field(MODEL_VERSION_FIELD, version);
         }
-        if (content != null) {
+        if (binaryContent != null) {
+            // written as raw bytes by binary formats like CBOR and as Base64 string by JSON
+            builder.field(MODEL_CONTENT_FIELD, binaryContent);
+        } else if (content != null) {
             builder.field(MODEL_CONTENT_FIELD, content);
         }
         if (user != null) {
@@ -408,6 +436,7 @@ public class MLModel implements ToXContentObject {
         boolean isHidden = false;
         Connector connector = null;
         String connectorId = null;
+        byte[] binaryContent = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -422,7 +451,11 @@ public class MLModel implements ToXContentObject {
                     modelGroupId = parser.text();
                     break;
                 case MODEL_CONTENT_FIELD:
-                    content = parser.text();
+                    if (parser.currentToken() == XContentParser.Token.VALUE_EMBEDDED_OBJECT) {
+                        binaryContent = parser.binaryValue();
+                    } else {
+                        content = parser.text();
+                    }
                     break;
                 case OLD_MODEL_CONTENT_FIELD:
                     oldContent = parser.text();
@@ -556,6 +589,7 @@ public class MLModel implements ToXContentObject {
                 .isHidden(isHidden)
                 .connector(connector)
                 .connectorId(connectorId)
+                .binaryContent(binaryContent)
                 .build();
     }
 
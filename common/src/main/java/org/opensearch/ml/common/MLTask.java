@@ -22,7 +22,9 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.USER;
@@ -44,6 +46,7 @@ public class MLTask implements ToXContentObject, Writeable {
     public static final String LAST_UPDATE_TIME_FIELD = "last_update_time";
     public static final String ERROR_FIELD = "error";
     public static final String IS_ASYNC_TASK_FIELD = "is_async";
+    public static final String DEPLOY_PHASE_TIMINGS_FIELD = "deploy_phase_timings";
 
     @Setter
     private String taskId;
@@ -65,6 +68,9 @@ public class MLTask implements ToXContentObject, Writeable {
     private String error;
     private User user; // TODO: support document level access control later
     private boolean async;
+    // Time spent in each phase of model deployment in milliseconds, keyed by worker node id.
+    @Setter
+    private Map<String, Map<String, Long>> deployPhaseTimings;
 
     @Builder(toBuilder = true)
     public MLTask(
@@ -81,7 +87,8 @@ public class MLTask implements ToXContentObject, Writeable {
         Instant lastUpdateTime,
         String error,
         User user,
-        boolean async
+        boolean async,
+        Map<String, Map<String, Long>> deployPhaseTimings
     ) {
         this.taskId = taskId;
         this.modelId = modelId;
@@ -97,6 +104,7 @@ public class MLTask implements ToXContentObject, Writeable {
         this.error = error;
         this.user = user;
         this.async = async;
+        this.deployPhaseTimings = deployPhaseTimings;
     }
 
     public MLTask(StreamInput input) throws IOException {
@@ -122,6 +130,10 @@ public class MLTask implements ToXContentObject, Writeable {
             this.user = null;
         }
         this.async = input.readBoolean();
+        if (input.readBoolean()) {
+            this.deployPhaseTimings = input
+                .readMap(StreamInput::readString, in -> in.readMap(StreamInput::readString, StreamInput::readLong));
+        }
     }
 
     @Override
@@ -149,6 +161,17 @@ public class MLTask implements ToXContentObject, Writeable {
             out.writeBoolean(false);
         }
         out.writeBoolean(async);
+        if (deployPhaseTimings != null) {
+            out.writeBoolean(true);
+            out
+                .writeMap(
+                    deployPhaseTimings,
+                    StreamOutput::writeString,
+                    (o, timings) -> o.writeMap(timings, StreamOutput::writeString, StreamOutput::writeLong)
+                );
+        } else {
+            out.writeBoolean(false);
+        }
     }
 
     @Override
@@ -194,6 +217,9 @@ public class MLTask implements ToXContentObject, Writeable {
             builder.field(USER, user);
         }
         builder.field(IS_ASYNC_TASK_FIELD, async);
+        if (deployPhaseTimings != null) {
+            builder.field(DEPLOY_PHASE_TIMINGS_FIELD, deployPhaseTimings);
+        }
         return builder.endObject();
     }
 
@@ -217,6 +243,7 @@ public class MLTask implements ToXContentObject, Writeable {
         String error = null;
         User user = null;
         boolean async = false;
+        Map<String, Map<String, Long>> deployPhaseTimings = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -274,6 +301,9 @@ public class MLTask implements ToXContentObject, Writeable {
                 case IS_ASYNC_TASK_FIELD:
                     async = parser.booleanValue();
                     break;
+                case DEPLOY_PHASE_TIMINGS_FIELD:
+                    deployPhaseTimings = parser.map(HashMap::new, p -> p.map(HashMap::new, XContentParser::longValue));
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -294,6 +324,7 @@ public class MLTask implements ToXContentObject, Writeable {
                 .error(error)
                 .user(user)
                 .async(async)
+                .deployPhaseTimings(deployPhaseTimings)
                 .build();
     }
 }
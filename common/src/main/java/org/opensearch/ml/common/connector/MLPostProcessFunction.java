@@ -25,6 +25,8 @@ public class MLPostProcessFunction {
 
     private static final Map<String, Function<List<List<Float>>, List<ModelTensor>>> POST_PROCESS_FUNCTIONS = new HashMap<>();
 
+    private static final Map<String, Function<List<float[]>, List<ModelTensor>>> VECTOR_POST_PROCESS_FUNCTIONS = new HashMap<>();
+
 
     static {
         JSON_PATH_EXPRESSION.put(OPENAI_EMBEDDING, "$.data[*].embedding");
@@ -33,6 +35,9 @@ public class MLPostProcessFunction {
         POST_PROCESS_FUNCTIONS.put(OPENAI_EMBEDDING, buildModelTensorList());
         POST_PROCESS_FUNCTIONS.put(COHERE_EMBEDDING, buildModelTensorList());
         POST_PROCESS_FUNCTIONS.put(DEFAULT_EMBEDDING, buildModelTensorList());
+        VECTOR_POST_PROCESS_FUNCTIONS.put(OPENAI_EMBEDDING, buildModelTensorListFromVectors());
+        VECTOR_POST_PROCESS_FUNCTIONS.put(COHERE_EMBEDDING, buildModelTensorListFromVectors());
+        VECTOR_POST_PROCESS_FUNCTIONS.put(DEFAULT_EMBEDDING, buildModelTensorListFromVectors());
     }
 
     public static Function<List<List<Float>>, List<ModelTensor>> buildModelTensorList() {
@@ -54,6 +59,28 @@ public class MLPostProcessFunction {
         };
     }
 
+    /**
+     * Same as {@link #buildModelTensorList()}, but takes embeddings already parsed into float arrays.
+     */
+    public static Function<List<float[]>, List<ModelTensor>> buildModelTensorListFromVectors() {
+        return embeddings -> {
+            List<ModelTensor> modelTensors = new ArrayList<>();
+            if (embeddings == null) {
+                throw new IllegalArgumentException("The list of embeddings is null when using the built-in post-processing function.");
+            }
+            embeddings.forEach(embedding -> modelTensors.add(
+                ModelTensor
+                    .builder()
+                    .name("sentence_embedding")
+                    .dataType(MLResultDataType.FLOAT32)
+                    .shape(new long[]{embedding.length})
+                    .floatData(embedding)
+                    .build()
+            ));
+            return modelTensors;
+        };
+    }
+
     public static String getResponseFilter(String postProcessFunction) {
         return JSON_PATH_EXPRESSION.get(postProcessFunction);
     }
@@ -62,6 +89,10 @@ public class MLPostProcessFunction {
         return POST_PROCESS_FUNCTIONS.get(postProcessFunction);
     }
 
+    public static Function<List<float[]>, List<ModelTensor>> getVectorFunction(String postProcessFunction) {
+        return VECTOR_POST_PROCESS_FUNCTIONS.get(postProcessFunction);
+    }
+
     public static boolean contains(String postProcessFunction) {
         return POST_PROCESS_FUNCTIONS.containsKey(postProcessFunction);
     }
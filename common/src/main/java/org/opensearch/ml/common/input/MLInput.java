@@ -7,7 +7,9 @@ package org.opensearch.ml.common.input;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -69,6 +71,11 @@ public class MLInput implements Input {
 
     private int version = 1;
 
+    // Deadline of the predict request in System.nanoTime(), set on the node running inference and not serialized.
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient Long deadlineInNanos;
+
     @Builder(toBuilder = true)
     public MLInput(FunctionName algorithm, MLAlgoParams parameters, MLInputDataset inputDataset) {
         validate(algorithm);
@@ -22,8 +22,10 @@ import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.utils.StringUtils.gson;
@@ -43,19 +45,34 @@ public class ModelTensor implements Writeable, ToXContentObject {
 
     private String name;
     private Number[] data;
+    // Primitive copy of data, avoids boxing numbers of large tensors like embeddings. Boxed data is built on demand.
+    private float[] floatData;
+    private int[] intData;
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
 
-    @Builder
     public ModelTensor(String name, Number[] data, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        this(name, data, null, null, shape, dataType, byteBuffer, result, dataAsMap);
+    }
+
+    @Builder
+    public ModelTensor(String name, Number[] data, float[] floatData, int[] intData, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
+        if ((data != null || floatData != null || intData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
+        if (floatData != null && !dataType.isFloating()) {
+            throw new IllegalArgumentException("float data requires floating data type");
+        }
+        if (intData != null && !dataType.isInteger() && !dataType.isBoolean()) {
+            throw new IllegalArgumentException("int data requires integer or boolean data type");
+        }
         this.name = name;
         this.data = data;
+        this.floatData = data == null ? floatData : null;
+        this.intData = data == null && floatData == null ? intData : null;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -63,6 +80,122 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.dataAsMap = dataAsMap;
     }
 
+    /**
+     * Get tensor data as boxed numbers. If the tensor is backed by primitive data, a boxed copy is built on
+     * every call and the primitive data is kept, so changes to the returned array don't change the tensor.
+     * @return tensor data
+     */
+    public Number[] getData() {
+        if (data == null && floatData != null) {
+            Number[] boxed = new Number[floatData.length];
+            for (int i = 0; i < floatData.length; i++) {
+                boxed[i] = floatData[i];
+            }
+            return boxed;
+        } else if (data == null && intData != null) {
+            Number[] boxed = new Number[intData.length];
+            for (int i = 0; i < intData.length; i++) {
+                boxed[i] = intData[i];
+            }
+            return boxed;
+        }
+        return data;
+    }
+
+    public void setData(Number[] data) {
+        this.data = data;
+        this.floatData = null;
+        this.intData = null;
+    }
+
+    /**
+     * Get tensor data as float array without boxing.
+     * @return float data, null if tensor has no data or data type is not floating
+     */
+    public float[] getFloatData() {
+        if (floatData == null && data != null && dataType != null && dataType.isFloating()) {
+            float[] values = new float[data.length];
+            for (int i = 0; i < data.length; i++) {
+                values[i] = data[i].floatValue();
+            }
+            return values;
+        }
+        return floatData;
+    }
+
+    public void setFloatData(float[] floatData) {
+        this.floatData = floatData;
+        this.data = null;
+        this.intData = null;
+    }
+
+    /**
+     * Get tensor data as int array without boxing.
+     * @return int data, null if tensor has no data or data type is not integer or boolean
+     */
+    public int[] getIntData() {
+        if (intData == null && data != null && dataType != null && (dataType.isInteger() || dataType.isBoolean())) {
+            int[] values = new int[data.length];
+            for (int i = 0; i < data.length; i++) {
+                values[i] = data[i].intValue();
+            }
+            return values;
+        }
+        return intData;
+    }
+
+    public void setIntData(int[] intData) {
+        this.intData = intData;
+        this.data = null;
+        this.floatData = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ModelTensor)) {
+            return false;
+        }
+        ModelTensor other = (ModelTensor) o;
+        return Objects.equals(name, other.name)
+                && Arrays.equals(shape, other.shape)
+                && dataType == other.dataType
+                && Objects.equals(byteBuffer, other.byteBuffer)
+                && Objects.equals(result, other.result)
+                && Objects.equals(dataAsMap, other.dataAsMap)
+                && dataEquals(other);
+    }
+
+    private boolean dataEquals(ModelTensor other) {
+        if (floatData != null && other.floatData != null) {
+            return Arrays.equals(floatData, other.floatData);
+        }
+        if (intData != null && other.intData != null) {
+            return Arrays.equals(intData, other.intData);
+        }
+        if (floatData == null && intData == null && other.floatData == null && other.intData == null) {
+            return Arrays.equals(data, other.data);
+        }
+        // Only tensors keeping data in different forms are compared as boxed numbers.
+        return Arrays.equals(getData(), other.getData());
+    }
+
+    @Override
+    public int hashCode() {
+        // Hash of primitive data equals hash of its boxed copy, so equal tensors have the same hash in any form.
+        int dataHashCode;
+        if (floatData != null) {
+            dataHashCode = Arrays.hashCode(floatData);
+        } else if (intData != null) {
+            dataHashCode = Arrays.hashCode(intData);
+        } else {
+            dataHashCode = Arrays.hashCode(data);
+        }
+        return Objects.hash(name, dataHashCode, Arrays.hashCode(shape), dataType, byteBuffer, result, dataAsMap);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
         builder.startObject();
@@ -77,6 +210,10 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (data != null) {
             builder.field(DATA_FIELD, data);
+        } else if (floatData != null) {
+            builder.array(DATA_FIELD, floatData);
+        } else if (intData != null) {
+            builder.array(DATA_FIELD, intData);
         }
         if (byteBuffer != null) {
             builder.startObject(BYTE_BUFFER_FIELD);
@@ -195,17 +332,16 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
             if (dataType.isFloating()) {
+                floatData = new float[size];
                 for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
+                    floatData[i] = in.readFloat();
                 }
             } else if (dataType.isInteger() || dataType.isBoolean()) {
+                intData = new int[size];
                 for (int i = 0; i < size; i++) {
-                    data[i] = in.readInt();
+                    intData[i] = in.readInt();
                 }
-            } else {
-                data = null;
             }
         }
         if (in.readBoolean()) {
@@ -244,7 +380,20 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        // Wire format is the same for boxed and primitive data, so nodes on older versions can read it.
+        if (floatData != null) {
+            out.writeBoolean(true);
+            out.writeInt(floatData.length);
+            for (float value : floatData) {
+                out.writeFloat(value);
+            }
+        } else if (intData != null) {
+            out.writeBoolean(true);
+            out.writeInt(intData.length);
+            for (int value : intData) {
+                out.writeInt(value);
+            }
+        } else if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
             out.writeInt(data.length);
             if (dataType.isFloating()) {
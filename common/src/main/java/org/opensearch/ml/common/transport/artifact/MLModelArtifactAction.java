@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Internal action to read cached model artifact of other ML nodes, so a deploying node can get model content from a
+ * peer instead of retrieving model chunks from model index.
+ */
+public class MLModelArtifactAction extends ActionType<MLModelArtifactNodesResponse> {
+    public static final MLModelArtifactAction INSTANCE = new MLModelArtifactAction();
+    public static final String NAME = "cluster:admin/opensearch/mlinternal/model_artifact";
+
+    private MLModelArtifactAction() {
+        super(NAME, MLModelArtifactNodesResponse::new);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+public class MLModelArtifactNodeRequest extends TransportRequest {
+    @Getter
+    private MLModelArtifactNodesRequest modelArtifactNodesRequest;
+
+    public MLModelArtifactNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelArtifactNodesRequest = new MLModelArtifactNodesRequest(in);
+    }
+
+    public MLModelArtifactNodeRequest(MLModelArtifactNodesRequest request) {
+        this.modelArtifactNodesRequest = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        modelArtifactNodesRequest.writeTo(out);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Getter
+public class MLModelArtifactNodeResponse extends BaseNodeResponse {
+    // File sizes by relative path, null if model artifact is not cached on node.
+    private Map<String, Long> files;
+    // SHA-256 hashes of files by relative path, fetched files are checked against them before they are cached.
+    private Map<String, String> fileHashes;
+    // ML tasks executing on node, deploying node reads artifact from the least loaded node first.
+    private long load;
+    private BytesReference content;
+
+    public MLModelArtifactNodeResponse(
+            DiscoveryNode node,
+            Map<String, Long> files,
+            Map<String, String> fileHashes,
+            long load,
+            BytesReference content
+    ) {
+        super(node);
+        this.files = files;
+        this.fileHashes = fileHashes;
+        this.load = load;
+        this.content = content;
+    }
+
+    public MLModelArtifactNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        if (in.readBoolean()) {
+            this.files = in.readMap(StreamInput::readString, StreamInput::readVLong);
+        }
+        if (in.readBoolean()) {
+            this.fileHashes = in.readMap(StreamInput::readString, StreamInput::readString);
+        }
+        this.load = in.readVLong();
+        if (in.readBoolean()) {
+            this.content = in.readBytesReference();
+        }
+    }
+
+    public static MLModelArtifactNodeResponse readResponse(StreamInput in) throws IOException {
+        return new MLModelArtifactNodeResponse(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        if (files != null) {
+            out.writeBoolean(true);
+            out.writeMap(files, StreamOutput::writeString, StreamOutput::writeVLong);
+        } else {
+            out.writeBoolean(false);
+        }
+        if (fileHashes != null) {
+            out.writeBoolean(true);
+            out.writeMap(fileHashes, StreamOutput::writeString, StreamOutput::writeString);
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeVLong(load);
+        if (content != null) {
+            out.writeBoolean(true);
+            out.writeBytesReference(content);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * Request to read cached model artifact. Without file name, nodes respond with files of the artifact; with file name,
+ * nodes respond with content of the file from offset, up to length bytes. Nodes only serve artifact which the content
+ * of the requesting model matched on them.
+ */
+@Getter
+public class MLModelArtifactNodesRequest extends BaseNodesRequest<MLModelArtifactNodesRequest> {
+
+    private String contentHash;
+    private String modelId;
+    private String fileName;
+    private long offset;
+    private int length;
+
+    public MLModelArtifactNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.contentHash = in.readString();
+        this.modelId = in.readString();
+        this.fileName = in.readOptionalString();
+        this.offset = in.readVLong();
+        this.length = in.readVInt();
+    }
+
+    public MLModelArtifactNodesRequest(String[] nodeIds, String contentHash, String modelId) {
+        this(nodeIds, contentHash, modelId, null, 0, 0);
+    }
+
+    public MLModelArtifactNodesRequest(
+            String[] nodeIds,
+            String contentHash,
+            String modelId,
+            String fileName,
+            long offset,
+            int length
+    ) {
+        super(nodeIds);
+        this.contentHash = contentHash;
+        this.modelId = modelId;
+        this.fileName = fileName;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(contentHash);
+        out.writeString(modelId);
+        out.writeOptionalString(fileName);
+        out.writeVLong(offset);
+        out.writeVInt(length);
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import org.opensearch.action.ActionType;
+
+public class MLModelGroupCacheInvalidateAction extends ActionType<MLModelGroupCacheInvalidateNodesResponse> {
+    public static final MLModelGroupCacheInvalidateAction INSTANCE = new MLModelGroupCacheInvalidateAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/model_groups/invalidate_cache";
+
+    private MLModelGroupCacheInvalidateAction() { super(NAME, MLModelGroupCacheInvalidateNodesResponse::new);}
+}
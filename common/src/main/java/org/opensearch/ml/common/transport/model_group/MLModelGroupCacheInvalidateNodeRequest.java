@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import org.opensearch.transport.TransportRequest;
+import java.io.IOException;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLModelGroupCacheInvalidateNodeRequest extends TransportRequest {
+    @Getter
+    private MLModelGroupCacheInvalidateNodesRequest invalidateNodesRequest;
+
+    public MLModelGroupCacheInvalidateNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.invalidateNodesRequest = new MLModelGroupCacheInvalidateNodesRequest(in);
+    }
+
+    public MLModelGroupCacheInvalidateNodeRequest(MLModelGroupCacheInvalidateNodesRequest request) {
+        this.invalidateNodesRequest = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        invalidateNodesRequest.writeTo(out);
+    }
+}
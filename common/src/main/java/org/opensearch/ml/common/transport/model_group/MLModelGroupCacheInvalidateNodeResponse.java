@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+public class MLModelGroupCacheInvalidateNodeResponse extends BaseNodeResponse {
+
+    public MLModelGroupCacheInvalidateNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+
+    public MLModelGroupCacheInvalidateNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public static MLModelGroupCacheInvalidateNodeResponse readStats(StreamInput in) throws IOException {
+        return new MLModelGroupCacheInvalidateNodeResponse(in);
+    }
+}
@@ -9,10 +9,12 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
 
 import lombok.Setter;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
@@ -38,6 +40,8 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
     MLInput mlInput;
     @Setter
     User user;
+    // Deadline of the request in System.nanoTime() of this node, null if the request has no timeout.
+    Long deadlineInNanos;
 
     @Builder
     public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user) {
@@ -62,6 +66,11 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         if (in.readBoolean()) {
             this.user = new User(in);
         }
+        // Remaining time is sent instead of the deadline, as nanoTime of different nodes can't be compared.
+        Long remainingTimeInMillis = in.readOptionalLong();
+        if (remainingTimeInMillis != null) {
+            this.deadlineInNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingTimeInMillis);
+        }
     }
 
     @Override
@@ -75,6 +84,30 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         } else {
             out.writeBoolean(false);
         }
+        TimeValue remainingTime = getRemainingTime();
+        out.writeOptionalLong(remainingTime == null ? null : remainingTime.millis());
+    }
+
+    /**
+     * Set end-to-end timeout of the request, starting from now.
+     * @param timeout timeout of the request, null means no timeout
+     */
+    public void setTimeout(TimeValue timeout) {
+        this.deadlineInNanos = timeout == null ? null : System.nanoTime() + timeout.nanos();
+    }
+
+    /**
+     * @return time left until the deadline, zero if the request expired, null if the request has no timeout
+     */
+    public TimeValue getRemainingTime() {
+        if (deadlineInNanos == null) {
+            return null;
+        }
+        return TimeValue.timeValueNanos(Math.max(0, deadlineInNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineInNanos != null && deadlineInNanos - System.nanoTime() <= 0;
     }
 
     @Override
@@ -8,9 +8,12 @@ package org.opensearch.ml.common;
 import org.junit.Before;
 import org.junit.Test;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.model.MLModelFormat;
@@ -21,6 +24,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.function.Function;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
@@ -101,6 +105,32 @@ public class MLModelTests {
         readInputStream(mlModel);
     }
 
+    @Test
+    public void binaryContent() throws IOException {
+        byte[] bytes = new byte[] { 0, 1, 2, -1, 127 };
+        MLModel chunk = MLModel.builder().algorithm(FunctionName.TEXT_EMBEDDING).version("1").chunkNumber(0).binaryContent(bytes).build();
+        assertArrayEquals(bytes, chunk.getContentBytes());
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        chunk.writeTo(bytesStreamOutput);
+        MLModel parsedChunk = new MLModel(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(bytes, parsedChunk.getBinaryContent());
+
+        // binary content is raw bytes in CBOR and Base64 string in JSON
+        for (XContentType xContentType : new XContentType[] { XContentType.CBOR, XContentType.JSON }) {
+            XContentBuilder builder = XContentBuilder.builder(xContentType.xContent());
+            chunk.toXContent(builder, EMPTY_PARAMS);
+            byte[] source = BytesReference.toBytes(BytesReference.bytes(builder));
+            XContentParser parser = xContentType
+                .xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, source);
+            parser.nextToken();
+            parsedChunk = MLModel.parse(parser, FunctionName.TEXT_EMBEDDING.name());
+            assertArrayEquals(bytes, parsedChunk.getContentBytes());
+            assertEquals(xContentType == XContentType.CBOR, parsedChunk.getBinaryContent() != null);
+        }
+    }
+
     public void readInputStream(MLModel mlModel) throws IOException {
         BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
         mlModel.writeTo(bytesStreamOutput);
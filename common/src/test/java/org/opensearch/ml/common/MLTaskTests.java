@@ -9,14 +9,18 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Map;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 
 import java.io.IOException;
@@ -68,6 +72,24 @@ public class MLTaskTests {
         );
     }
 
+    @Test
+    public void deployPhaseTimings() throws IOException {
+        mlTask.setDeployPhaseTimings(Map.of("node1", Map.of("fetch", 100L, "load", 20L)));
+        BytesStreamOutput output = new BytesStreamOutput();
+        mlTask.writeTo(output);
+        Assert.assertEquals(mlTask, new MLTask(output.bytes().streamInput()));
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        mlTask.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String taskContent = TestHelper.xContentBuilderToString(builder);
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, taskContent);
+        parser.nextToken();
+        MLTask parsedTask = MLTask.parse(parser);
+        Assert.assertEquals(mlTask.getDeployPhaseTimings(), parsedTask.getDeployPhaseTimings());
+    }
+
     @Test
     public void toXContent_NullValue() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
@@ -9,6 +9,7 @@ import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.output.model.ModelTensor;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -52,4 +53,27 @@ public class MLPostProcessFunctionTest {
         exceptionRule.expect(IllegalArgumentException.class);
         MLPostProcessFunction.buildModelTensorList().apply(null);
     }
+
+    @Test
+    public void getVectorFunction() {
+        Assert.assertNotNull(MLPostProcessFunction.getVectorFunction(OPENAI_EMBEDDING));
+        Assert.assertNull(MLPostProcessFunction.getVectorFunction("wrong value"));
+    }
+
+    @Test
+    public void test_buildModelTensorListFromVectors() {
+        List<float[]> vectors = new ArrayList<>();
+        vectors.add(new float[]{1.0f, 2.0f});
+        List<ModelTensor> modelTensors = MLPostProcessFunction.buildModelTensorListFromVectors().apply(vectors);
+        Assert.assertEquals(1, modelTensors.size());
+        Assert.assertEquals("sentence_embedding", modelTensors.get(0).getName());
+        Assert.assertArrayEquals(new long[]{2}, modelTensors.get(0).getShape());
+        Assert.assertEquals(2.0f, modelTensors.get(0).getData()[1].floatValue(), 0);
+    }
+
+    @Test
+    public void test_buildModelTensorListFromVectors_exception() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        MLPostProcessFunction.buildModelTensorListFromVectors().apply(null);
+    }
 }
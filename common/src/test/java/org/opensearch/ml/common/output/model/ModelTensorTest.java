@@ -10,6 +10,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -20,7 +21,10 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
 public class ModelTensorTest {
@@ -116,5 +120,141 @@ public class ModelTensorTest {
                 .byteBuffer(ByteBuffer.wrap(new byte[]{0,1,0,1}))
                 .build();
     }
-}
 
+    @Test
+    public void test_FloatData_StreamInAndOut() throws IOException {
+        ModelTensor floatTensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .floatData(new float[]{0.1f, -0.2f, 0.3f})
+                .shape(new long[]{3})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        ModelTensor boxedTensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .data(new Number[]{0.1f, -0.2f, 0.3f})
+                .shape(new long[]{3})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+
+        // Primitive data is written in the same wire format as boxed data.
+        BytesStreamOutput floatOutput = new BytesStreamOutput();
+        floatTensor.writeTo(floatOutput);
+        BytesStreamOutput boxedOutput = new BytesStreamOutput();
+        boxedTensor.writeTo(boxedOutput);
+        assertArrayEquals(BytesReference.toBytes(boxedOutput.bytes()), BytesReference.toBytes(floatOutput.bytes()));
+
+        ModelTensor parsedTensor = new ModelTensor(floatOutput.bytes().streamInput());
+        assertArrayEquals(new float[]{0.1f, -0.2f, 0.3f}, parsedTensor.getFloatData(), 0);
+        assertNull(parsedTensor.getIntData());
+        assertEquals(floatTensor, parsedTensor);
+        assertEquals(boxedTensor, parsedTensor);
+    }
+
+    @Test
+    public void test_IntData_StreamInAndOut() throws IOException {
+        ModelTensor intTensor = ModelTensor.builder()
+                .name("tokens")
+                .intData(new int[]{1, 2, 3})
+                .dataType(MLResultDataType.INT32)
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        intTensor.writeTo(bytesStreamOutput);
+
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(new int[]{1, 2, 3}, parsedTensor.getIntData());
+        assertArrayEquals(new Number[]{1, 2, 3}, parsedTensor.getData());
+        assertNull(parsedTensor.getFloatData());
+    }
+
+    @Test
+    public void test_FloatData_ToXContent() throws IOException {
+        ModelTensor floatTensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .floatData(new float[]{0.5f, -1.25f})
+                .shape(new long[]{2})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        floatTensor.toXContent(builder, EMPTY_PARAMS);
+        assertEquals("{\"name\":\"sentence_embedding\"," +
+                "\"data_type\":\"FLOAT32\"," +
+                "\"shape\":[2]," +
+                "\"data\":[0.5,-1.25]}", TestHelper.xContentBuilderToString(builder));
+    }
+
+    @Test
+    public void test_FloatData_BoxedOnDemand() {
+        ModelTensor floatTensor = ModelTensor.builder()
+                .floatData(new float[]{1.5f, 2.5f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        Number[] data = floatTensor.getData();
+        assertArrayEquals(new Number[]{1.5f, 2.5f}, data);
+        // Boxing doesn't change the tensor, primitive data is kept.
+        data[0] = 3.5f;
+        assertArrayEquals(new float[]{1.5f, 2.5f}, floatTensor.getFloatData(), 0);
+        assertArrayEquals(new Number[]{1.5f, 2.5f}, floatTensor.getData());
+
+        floatTensor.setData(null);
+        assertNull(floatTensor.getData());
+        assertNull(floatTensor.getFloatData());
+    }
+
+    @Test
+    public void test_EqualsAndHashCode() {
+        ModelTensor floatTensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .floatData(new float[]{1.5f, 2.5f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        ModelTensor sameFloatTensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .floatData(new float[]{1.5f, 2.5f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        ModelTensor boxedTensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .data(new Number[]{1.5f, 2.5f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        ModelTensor otherTensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .floatData(new float[]{1.5f, 3.5f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        assertEquals(floatTensor, sameFloatTensor);
+        assertEquals(floatTensor.hashCode(), sameFloatTensor.hashCode());
+        assertEquals(floatTensor, boxedTensor);
+        assertEquals(boxedTensor, floatTensor);
+        assertEquals(floatTensor.hashCode(), boxedTensor.hashCode());
+        assertNotEquals(floatTensor, otherTensor);
+        assertNotEquals(boxedTensor, otherTensor);
+
+        ModelTensor intTensor = ModelTensor.builder().intData(new int[]{1, 2}).dataType(MLResultDataType.INT32).build();
+        ModelTensor boxedIntTensor = ModelTensor.builder().data(new Number[]{1, 2}).dataType(MLResultDataType.INT32).build();
+        assertEquals(intTensor, boxedIntTensor);
+        assertEquals(intTensor.hashCode(), boxedIntTensor.hashCode());
+        assertNotEquals(intTensor, floatTensor);
+    }
+
+    @Test
+    public void test_FloatData_WrongDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("float data requires floating data type");
+        ModelTensor.builder().floatData(new float[]{1.0f}).dataType(MLResultDataType.INT32).build();
+    }
+
+    @Test
+    public void test_IntData_WrongDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("int data requires integer or boolean data type");
+        ModelTensor.builder().intData(new int[]{1}).dataType(MLResultDataType.FLOAT32).build();
+    }
+
+    @Test
+    public void test_FloatData_NullDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("data type is null");
+        ModelTensor.builder().floatData(new float[]{1.0f}).build();
+    }
+}
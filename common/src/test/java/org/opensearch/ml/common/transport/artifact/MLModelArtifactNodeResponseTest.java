@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.transport.TransportAddress;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+public class MLModelArtifactNodeResponseTest {
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() throws Exception {
+        localNode = new DiscoveryNode(
+                "foo0",
+                "foo0",
+                new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+                Collections.emptyMap(),
+                Collections.singleton(CLUSTER_MANAGER_ROLE),
+                Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testSerializationDeserialization_Files() throws IOException {
+        Map<String, String> fileHashes = Map.of("model.pt", "hash");
+        MLModelArtifactNodeResponse response = new MLModelArtifactNodeResponse(localNode, Map.of("model.pt", 100L), fileHashes, 3L, null);
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLModelArtifactNodeResponse newResponse = MLModelArtifactNodeResponse.readResponse(output.bytes().streamInput());
+        assertEquals("foo0", newResponse.getNode().getId());
+        assertEquals(Map.of("model.pt", 100L), newResponse.getFiles());
+        assertEquals(Map.of("model.pt", "hash"), newResponse.getFileHashes());
+        assertEquals(3L, newResponse.getLoad());
+        assertNull(newResponse.getContent());
+    }
+
+    @Test
+    public void testSerializationDeserialization_Content() throws IOException {
+        byte[] content = new byte[] { 1, 2, 3 };
+        MLModelArtifactNodeResponse response = new MLModelArtifactNodeResponse(localNode, null, null, 0L, new BytesArray(content));
+        BytesStreamOutput output = new BytesStreamOutput();
+        new MLModelArtifactNodesResponse(ClusterName.DEFAULT, List.of(response), Collections.emptyList()).writeTo(output);
+        MLModelArtifactNodesResponse newResponse = new MLModelArtifactNodesResponse(output.bytes().streamInput());
+        assertEquals(1, newResponse.getNodes().size());
+        assertNull(newResponse.getNodes().get(0).getFiles());
+        assertNull(newResponse.getNodes().get(0).getFileHashes());
+        assertArrayEquals(content, BytesReference.toBytes(newResponse.getNodes().get(0).getContent()));
+    }
+}
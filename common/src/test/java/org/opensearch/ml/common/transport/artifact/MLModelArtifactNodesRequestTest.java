@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MLModelArtifactNodesRequestTest {
+
+    @Test
+    public void testSerializationDeserialization_Probe() throws IOException {
+        MLModelArtifactNodesRequest request = new MLModelArtifactNodesRequest(new String[] { "nodeId1", "nodeId2" }, "hash", "modelId");
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        MLModelArtifactNodesRequest newRequest = new MLModelArtifactNodesRequest(output.bytes().streamInput());
+        assertEquals("hash", newRequest.getContentHash());
+        assertEquals("modelId", newRequest.getModelId());
+        assertNull(newRequest.getFileName());
+        assertEquals(2, newRequest.nodesIds().length);
+    }
+
+    @Test
+    public void testSerializationDeserialization_Read() throws IOException {
+        String[] nodeIds = new String[] { "nodeId1" };
+        MLModelArtifactNodesRequest request = new MLModelArtifactNodesRequest(nodeIds, "hash", "modelId", "model.pt", 1024L, 512);
+        BytesStreamOutput output = new BytesStreamOutput();
+        new MLModelArtifactNodeRequest(request).writeTo(output);
+        MLModelArtifactNodeRequest newNodeRequest = new MLModelArtifactNodeRequest(output.bytes().streamInput());
+        MLModelArtifactNodesRequest newRequest = newNodeRequest.getModelArtifactNodesRequest();
+        assertEquals("hash", newRequest.getContentHash());
+        assertEquals("modelId", newRequest.getModelId());
+        assertEquals("model.pt", newRequest.getFileName());
+        assertEquals(1024L, newRequest.getOffset());
+        assertEquals(512, newRequest.getLength());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.transport.TransportAddress;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+public class MLModelGroupCacheInvalidateNodesRequestTest {
+
+    @Test
+    public void testNodeRequestFromInputStream() throws IOException {
+        String[] nodeIds = {"nodeId1", "nodeId2"};
+        MLModelGroupCacheInvalidateNodeRequest nodeRequest = new MLModelGroupCacheInvalidateNodeRequest(
+                new MLModelGroupCacheInvalidateNodesRequest(nodeIds, "testModelGroupId")
+        );
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        nodeRequest.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        MLModelGroupCacheInvalidateNodeRequest parsedNodeRequest = new MLModelGroupCacheInvalidateNodeRequest(streamInput);
+        assertEquals("testModelGroupId", parsedNodeRequest.getInvalidateNodesRequest().getModelGroupId());
+        assertEquals(2, parsedNodeRequest.getInvalidateNodesRequest().nodesIds().length);
+    }
+
+    @Test
+    public void testNodesResponseFromInputStream() throws IOException {
+        DiscoveryNode node = new DiscoveryNode(
+                "foo1",
+                "foo1",
+                new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+                Collections.emptyMap(),
+                Collections.singleton(CLUSTER_MANAGER_ROLE),
+                Version.CURRENT
+        );
+        List<MLModelGroupCacheInvalidateNodeResponse> nodes = new ArrayList<>();
+        nodes.add(new MLModelGroupCacheInvalidateNodeResponse(node));
+        MLModelGroupCacheInvalidateNodesResponse response = new MLModelGroupCacheInvalidateNodesResponse(
+                new ClusterName("test-cluster"),
+                nodes,
+                new ArrayList<>()
+        );
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        response.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        MLModelGroupCacheInvalidateNodesResponse parsedResponse = new MLModelGroupCacheInvalidateNodesResponse(streamInput);
+        assertEquals(1, parsedResponse.getNodes().size());
+        assertEquals("foo1", parsedResponse.getNodes().get(0).getNode().getId());
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.Test;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.index.query.MatchAllQueryBuilder;
@@ -32,9 +33,12 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class MLPredictionTaskRequestTest {
 
@@ -82,6 +86,30 @@ public class MLPredictionTaskRequestTest {
         assertNull(request.getModelId());
     }
 
+    @Test
+    public void writeTo_Timeout() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder().mlInput(mlInput).build();
+        assertNull(request.getRemainingTime());
+        assertFalse(request.isExpired());
+
+        request.setTimeout(TimeValue.timeValueSeconds(10));
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLPredictionTaskRequest(bytesStreamOutput.bytes().streamInput());
+        assertNotNull(request.getDeadlineInNanos());
+        assertTrue(request.getRemainingTime().millis() > 0);
+        assertTrue(request.getRemainingTime().millis() <= 10_000);
+        assertFalse(request.isExpired());
+    }
+
+    @Test
+    public void isExpired() {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder().mlInput(mlInput).build();
+        request.setTimeout(TimeValue.ZERO);
+        assertTrue(request.isExpired());
+        assertEquals(0, request.getRemainingTime().millis());
+    }
+
     @Test
     public void validate_Success() {
         User user = User.parse("admin|role-1|all_access");
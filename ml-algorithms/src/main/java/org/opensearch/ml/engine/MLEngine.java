@@ -110,6 +110,10 @@ public class MLEngine {
         return mlModelsCachePath.resolve("models");
     }
 
+    public Path getModelArtifactCacheRootPath() {
+        return mlModelsCachePath.resolve("artifacts");
+    }
+
     public MLModel train(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
@@ -142,6 +146,51 @@ public class MLEngine {
         return predictable.predict(mlInput, model);
     }
 
+    /**
+     * Predict with model which is not deployed. Deserialized model is reused from cache if the same version of
+     * model was predicted with the same parameters before.
+     * @param input input data
+     * @param model ML model with serialized content
+     * @param modelVersion version of model document
+     * @param cache cache of deserialized models, predict without cache if null
+     * @return predicted results
+     */
+    public MLOutput predict(Input input, MLModel model, long modelVersion, PredictableCache cache) {
+        validateMLInput(input);
+        MLInput mlInput = (MLInput) input;
+        if (cache == null || model == null || model.getModelId() == null || !cache.isCacheable(mlInput.getAlgorithm())) {
+            return predict(input, model);
+        }
+        int weight = model.getContent() == null ? 0 : model.getContent().length();
+        Predictable predictable = cache
+            .get(model.getModelId(), modelVersion, mlInput.getAlgorithm(), mlInput.getParameters(), weight, () -> {
+                Predictable loaded = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+                if (loaded == null) {
+                    throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
+                }
+                loaded.initModel(model, null, encryptor);
+                return loaded;
+            });
+        return predictable.predict(mlInput);
+    }
+
+    /**
+     * Predict with deployed model asynchronously. Remote models complete the listener from the http I/O callback
+     * without blocking the calling thread, other models predict in the calling thread.
+     * @param input input data
+     * @param predictable deployed model
+     * @param listener listener of predicted results
+     */
+    public void predictAsync(Input input, Predictable predictable, ActionListener<MLOutput> listener) {
+        try {
+            validateMLInput(input);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        predictable.predictAsync((MLInput) input, listener);
+    }
+
     public MLOutput trainAndPredict(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
@@ -0,0 +1,468 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level cache of unzipped model artifacts on disk, keyed by model content hash. A model whose content is already
+ * cached on the node is deployed without retrieving model chunks and unzipping them again, also after the model is
+ * undeployed or the node is restarted.
+ * An entry is only added after the model zip file matched the model content hash. It's published by an atomic rename
+ * together with a manifest of its file sizes and SHA-256 hashes. File sizes are checked before the entry is used, file
+ * hashes are checked when files are copied out of the cache. Files are copied into and out of the cache, so changes of
+ * deployed model files never reach cached files. Total size of entries is bounded, the least recently used entries are
+ * evicted first.
+ * The content hash of a model is given by the user registering it, so an entry is only used for models which proved to
+ * own its content: the entry records ids of models whose own chunks matched the content hash, and other models with
+ * the same content hash retrieve their chunks once before they use the entry.
+ * Files are copied outside of the lock, entries being copied are not evicted.
+ */
+@Log4j2
+public class ModelArtifactCache {
+    public static final String MANIFEST_FILE = ".manifest";
+    public static final String MODELS_FILE = ".models";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("[0-9a-fA-F]{16,128}");
+    private static final Pattern FILE_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path rootPath;
+    private volatile long maxSizeInBytes;
+    // Entries being copied out of the cache by number of copies, guarded by this.
+    private final Map<Path, Integer> readingEntries;
+    // Temp folders of entries being copied into the cache, guarded by this.
+    private final Set<Path> pendingPaths;
+
+    /**
+     * @param rootPath folder of cached model artifacts
+     * @param maxSizeInBytes max total size of cached model artifacts, 0 disables the cache
+     */
+    public ModelArtifactCache(Path rootPath, long maxSizeInBytes) {
+        this.rootPath = rootPath.toAbsolutePath().normalize();
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.readingEntries = new HashMap<>();
+        this.pendingPaths = new HashSet<>();
+    }
+
+    public void setMaxSizeInBytes(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    public boolean isEnabled() {
+        return maxSizeInBytes > 0;
+    }
+
+    /**
+     * Check if a valid artifact of model content is cached for the model, and mark it as recently used.
+     * @param contentHash model content hash
+     * @param modelId model id
+     * @return true if artifact is cached and the model's own content matched it
+     */
+    public synchronized boolean contains(String contentHash, String modelId) {
+        Path entryPath = getEntryPath(contentHash);
+        if (!isEnabled() || entryPath == null || readVerifiedEntry(entryPath, modelId) == null) {
+            return false;
+        }
+        touch(entryPath);
+        return true;
+    }
+
+    /**
+     * Copy cached artifact of model content into target folder.
+     * @param contentHash model content hash
+     * @param modelId model id
+     * @param targetPath target folder
+     * @return true if artifact is copied; false if it's not cached for the model or can't be copied
+     */
+    public boolean copyTo(String contentHash, String modelId, Path targetPath) {
+        Path entryPath = getEntryPath(contentHash);
+        Map<String, CachedFile> files;
+        synchronized (this) {
+            files = entryPath == null ? null : readVerifiedEntry(entryPath, modelId);
+            if (files == null) {
+                return false;
+            }
+            readingEntries.merge(entryPath, 1, Integer::sum);
+            touch(entryPath);
+        }
+        try {
+            for (Map.Entry<String, CachedFile> file : files.entrySet()) {
+                String hash = copyFile(entryPath.resolve(file.getKey()), targetPath.resolve(file.getKey()));
+                if (!hash.equals(file.getValue().sha256)) {
+                    log.warn("Remove invalid cached model artifact {}, file changed: {}", contentHash, file.getKey());
+                    deleteFileQuietly(targetPath);
+                    remove(contentHash);
+                    return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to copy cached model artifact " + contentHash, e);
+            deleteFileQuietly(targetPath);
+            return false;
+        } finally {
+            synchronized (this) {
+                readingEntries.computeIfPresent(entryPath, (path, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+
+    /**
+     * Get files of cached artifact of model content, and mark it as recently used.
+     * @param contentHash model content hash
+     * @param modelId model id
+     * @return file sizes by relative path; null if artifact is not cached for the model
+     */
+    public synchronized Map<String, Long> getFiles(String contentHash, String modelId) {
+        Path entryPath = getEntryPath(contentHash);
+        Map<String, CachedFile> files = entryPath == null ? null : readVerifiedEntry(entryPath, modelId);
+        if (files == null) {
+            return null;
+        }
+        touch(entryPath);
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        files.forEach((name, file) -> sizes.put(name, file.size));
+        return sizes;
+    }
+
+    /**
+     * Get SHA-256 hashes of files of cached artifact.
+     * @param contentHash model content hash
+     * @param modelId model id
+     * @return file hashes by relative path; null if artifact is not cached for the model
+     */
+    public synchronized Map<String, String> getFileHashes(String contentHash, String modelId) {
+        Path entryPath = getEntryPath(contentHash);
+        Map<String, CachedFile> files = entryPath == null ? null : readVerifiedEntry(entryPath, modelId);
+        if (files == null) {
+            return null;
+        }
+        Map<String, String> hashes = new LinkedHashMap<>();
+        files.forEach((name, file) -> hashes.put(name, file.sha256));
+        return hashes;
+    }
+
+    /**
+     * Read part of a file of cached artifact.
+     * @param contentHash model content hash
+     * @param modelId model id
+     * @param fileName relative path of file in artifact
+     * @param offset position in file to read from
+     * @param length max bytes to read
+     * @return bytes read, shorter than length at the end of file
+     */
+    public byte[] read(String contentHash, String modelId, String fileName, long offset, int length) throws IOException {
+        Path entryPath = getEntryPath(contentHash);
+        if (entryPath == null || fileName == null || offset < 0 || length < 0) {
+            throw new IllegalArgumentException("invalid model artifact read request");
+        }
+        Path file = entryPath.resolve(fileName).normalize();
+        boolean metadataFile = file.equals(entryPath.resolve(MANIFEST_FILE)) || file.equals(entryPath.resolve(MODELS_FILE));
+        if (!file.startsWith(entryPath) || metadataFile) {
+            throw new IllegalArgumentException("invalid model artifact file: " + fileName);
+        }
+        if (!isVerified(entryPath, modelId)) {
+            throw new IllegalArgumentException("model artifact " + contentHash + " is not cached for model " + modelId);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(0, Math.min(length, channel.size() - offset)));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        }
+    }
+
+    /**
+     * Copy artifact of model content into cache, then evict the least recently used artifacts if cache is full. If
+     * the artifact is already cached, the model is only recorded as verified for it.
+     * Failure is logged and doesn't affect the caller.
+     * @param contentHash model content hash, verified against content of the model
+     * @param modelId id of model whose content matched the content hash
+     * @param sourcePath folder of unzipped model content
+     */
+    public void put(String contentHash, String modelId, Path sourcePath) {
+        add(contentHash, modelId, sourcePath, null);
+    }
+
+    /**
+     * Move artifact of model content into cache, the source folder is copied if it can't be moved.
+     * Failure is logged and doesn't affect the caller.
+     * @param contentHash model content hash, verified against content of the model
+     * @param modelId id of model whose content matched the content hash
+     * @param sourcePath folder of unzipped model content
+     * @param fileHashes verified SHA-256 hashes of files by relative path
+     */
+    public void move(String contentHash, String modelId, Path sourcePath, Map<String, String> fileHashes) {
+        add(contentHash, modelId, sourcePath, fileHashes);
+    }
+
+    /**
+     * Remove cached artifact of model content.
+     * @param contentHash model content hash
+     */
+    public synchronized void remove(String contentHash) {
+        Path entryPath = getEntryPath(contentHash);
+        if (entryPath != null) {
+            deleteFileQuietly(entryPath);
+        }
+    }
+
+    private void add(String contentHash, String modelId, Path sourcePath, Map<String, String> fileHashes) {
+        Path entryPath = getEntryPath(contentHash);
+        if (!isEnabled() || entryPath == null || modelId == null) {
+            return;
+        }
+        Path tempPath = rootPath.resolve(contentHash + "-" + UUID.randomUUID() + TEMP_SUFFIX);
+        synchronized (this) {
+            if (readEntry(entryPath) != null) {
+                addVerifiedModel(entryPath, modelId);
+                return;
+            }
+            pendingPaths.add(tempPath);
+        }
+        try {
+            Map<String, Long> files = listFiles(sourcePath);
+            long size = files.values().stream().mapToLong(Long::longValue).sum();
+            if (files.isEmpty() || size > maxSizeInBytes) {
+                log.debug("Skip caching model artifact {} of {} bytes", contentHash, size);
+                return;
+            }
+            Map<String, String> hashes = fileHashes != null && files.keySet().equals(fileHashes.keySet())
+                ? moveFiles(sourcePath, tempPath, fileHashes)
+                : null;
+            StringBuilder manifest = new StringBuilder();
+            for (Map.Entry<String, Long> file : files.entrySet()) {
+                String hash = hashes == null
+                    ? copyFile(sourcePath.resolve(file.getKey()), tempPath.resolve(file.getKey()))
+                    : hashes.get(file.getKey());
+                manifest.append(file.getValue()).append(' ').append(hash).append(' ').append(file.getKey()).append('\n');
+            }
+            Files.write(tempPath.resolve(MANIFEST_FILE), manifest.toString().getBytes(StandardCharsets.UTF_8));
+            Files.write(tempPath.resolve(MODELS_FILE), (modelId + "\n").getBytes(StandardCharsets.UTF_8));
+            publish(contentHash, modelId, entryPath, tempPath, size);
+        } catch (Exception e) {
+            log.warn("Failed to cache model artifact " + contentHash, e);
+        } finally {
+            synchronized (this) {
+                pendingPaths.remove(tempPath);
+                deleteFileQuietly(tempPath);
+            }
+        }
+    }
+
+    /**
+     * Move source folder to temp folder of entry.
+     * @return file hashes; null if source folder can't be moved, e.g. it's on another file system
+     */
+    private Map<String, String> moveFiles(Path sourcePath, Path tempPath, Map<String, String> fileHashes) {
+        try {
+            Files.move(sourcePath, tempPath, StandardCopyOption.ATOMIC_MOVE);
+            return fileHashes;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Failed to move model artifact from {}, copy it instead", sourcePath, e);
+            return null;
+        }
+    }
+
+    private synchronized void publish(String contentHash, String modelId, Path entryPath, Path tempPath, long size) throws IOException {
+        if (readEntry(entryPath) != null) {
+            // added by another deploy of the same content
+            addVerifiedModel(entryPath, modelId);
+            return;
+        }
+        Files.move(tempPath, entryPath, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Cached model artifact {} of {} bytes", contentHash, size);
+        evict(contentHash);
+    }
+
+    private void evict(String keptContentHash) throws IOException {
+        List<Path> entries = new ArrayList<>();
+        Map<Path, Long> entrySizes = new LinkedHashMap<>();
+        long totalSize = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(rootPath)) {
+            for (Path entryPath : stream) {
+                if (pendingPaths.contains(entryPath)) {
+                    continue;
+                }
+                if (!CONTENT_HASH_PATTERN.matcher(entryPath.getFileName().toString()).matches()) {
+                    // leftover of a failed put
+                    deleteFileQuietly(entryPath);
+                    continue;
+                }
+                Map<String, CachedFile> files = readEntry(entryPath);
+                if (files != null) {
+                    long size = files.values().stream().mapToLong(file -> file.size).sum();
+                    entries.add(entryPath);
+                    entrySizes.put(entryPath, size);
+                    totalSize += size;
+                }
+            }
+        }
+        entries.sort(Comparator.comparing(this::lastAccessTime));
+        for (Path entryPath : entries) {
+            if (totalSize <= maxSizeInBytes) {
+                break;
+            }
+            if (!entryPath.getFileName().toString().equals(keptContentHash) && !readingEntries.containsKey(entryPath)) {
+                log.info("Evict cached model artifact {}", entryPath.getFileName());
+                deleteFileQuietly(entryPath);
+                totalSize -= entrySizes.get(entryPath);
+            }
+        }
+    }
+
+    private Path getEntryPath(String contentHash) {
+        if (contentHash == null || !CONTENT_HASH_PATTERN.matcher(contentHash).matches()) {
+            return null;
+        }
+        return rootPath.resolve(contentHash);
+    }
+
+    /**
+     * Read manifest of cached artifact and check its file sizes, artifact is removed if it's invalid.
+     * @return cached files by relative path; null if artifact is not cached or invalid
+     */
+    private Map<String, CachedFile> readEntry(Path entryPath) {
+        if (!Files.isDirectory(entryPath)) {
+            return null;
+        }
+        try {
+            Map<String, CachedFile> files = new LinkedHashMap<>();
+            for (String line : Files.readAllLines(entryPath.resolve(MANIFEST_FILE), StandardCharsets.UTF_8)) {
+                String[] fields = line.split(" ", 3);
+                if (fields.length != 3 || !FILE_HASH_PATTERN.matcher(fields[1]).matches()) {
+                    throw new IllegalArgumentException("invalid manifest");
+                }
+                long size = Long.parseLong(fields[0]);
+                String name = fields[2];
+                Path file = entryPath.resolve(name).normalize();
+                if (!file.startsWith(entryPath) || Files.size(file) != size) {
+                    throw new IllegalArgumentException("model artifact file changed: " + name);
+                }
+                files.put(name, new CachedFile(size, fields[1]));
+            }
+            if (files.isEmpty()) {
+                throw new IllegalArgumentException("empty manifest");
+            }
+            return files;
+        } catch (Exception e) {
+            log.warn("Remove invalid cached model artifact " + entryPath.getFileName(), e);
+            deleteFileQuietly(entryPath);
+            return null;
+        }
+    }
+
+    private Map<String, CachedFile> readVerifiedEntry(Path entryPath, String modelId) {
+        Map<String, CachedFile> files = readEntry(entryPath);
+        return files != null && isVerified(entryPath, modelId) ? files : null;
+    }
+
+    /**
+     * Check if content of model matched the content hash of cached artifact.
+     */
+    private boolean isVerified(Path entryPath, String modelId) {
+        if (modelId == null) {
+            return false;
+        }
+        try {
+            return Files.readAllLines(entryPath.resolve(MODELS_FILE), StandardCharsets.UTF_8).contains(modelId);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void addVerifiedModel(Path entryPath, String modelId) {
+        if (isVerified(entryPath, modelId)) {
+            return;
+        }
+        try {
+            byte[] line = (modelId + "\n").getBytes(StandardCharsets.UTF_8);
+            Files.write(entryPath.resolve(MODELS_FILE), line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Failed to record model {} of cached model artifact {}", modelId, entryPath.getFileName(), e);
+        }
+    }
+
+    private Map<String, Long> listFiles(Path sourcePath) throws IOException {
+        Map<String, Long> files = new LinkedHashMap<>();
+        try (Stream<Path> stream = Files.walk(sourcePath)) {
+            for (Path file : stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                files.put(sourcePath.relativize(file).toString(), Files.size(file));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Copy file and calculate its SHA-256 hash in the same pass.
+     * @return SHA-256 hash of copied content
+     */
+    private String copyFile(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try (HashingInputStream in = new HashingInputStream(Hashing.sha256(), Files.newInputStream(source))) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            return in.hash().toString();
+        }
+    }
+
+    private void touch(Path entryPath) {
+        try {
+            Files.setLastModifiedTime(entryPath.resolve(MANIFEST_FILE), FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Failed to update access time of cached model artifact {}", entryPath.getFileName(), e);
+        }
+    }
+
+    private long lastAccessTime(Path entryPath) {
+        try {
+            return Files.getLastModifiedTime(entryPath.resolve(MANIFEST_FILE)).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static class CachedFile {
+        private final long size;
+        private final String sha256;
+
+        CachedFile(long size, String sha256) {
+            this.size = size;
+            this.sha256 = sha256;
+        }
+    }
+}
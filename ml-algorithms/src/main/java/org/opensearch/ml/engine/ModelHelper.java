@@ -6,13 +6,16 @@
 package org.opensearch.ml.engine;
 
 import static org.opensearch.ml.common.utils.StringUtils.gson;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
-import static org.opensearch.ml.engine.utils.FileUtils.splitFileIntoChunks;
 
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
@@ -23,6 +26,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.zip.ZipEntry;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipFile;
 
 import org.opensearch.core.action.ActionListener;
@@ -32,6 +36,8 @@ import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.gson.stream.JsonReader;
 
 import ai.djl.training.util.DownloadUtils;
@@ -40,7 +46,7 @@ import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class ModelHelper {
-    public static final String CHUNK_FILES = "chunk_files";
+    public static final String TOTAL_CHUNKS = "total_chunks";
     public static final String MODEL_SIZE_IN_BYTES = "model_size_in_bytes";
     public static final String MODEL_FILE_HASH = "model_file_hash";
     public static final int CHUNK_SIZE = 10_000_000; // 10MB
@@ -200,14 +206,18 @@ public class ModelHelper {
     }
 
     /**
-     * Download model from URL and split it into smaller chunks.
+     * Download model from URL and split it into chunks in a single pass. Each chunk is handed to the chunk consumer as
+     * soon as it's downloaded, the model content hash is calculated over the same bytes. The downloaded zip file is
+     * only kept to verify its entries, it's deleted afterwards.
      * @param modelFormat model format
      * @param taskId task id
      * @param modelName model name
      * @param version model version
      * @param url model file URL
      * @param modelContentHash model content hash value
-     * @param listener action listener
+     * @param functionName function name
+     * @param chunkConsumer consumer of model chunks
+     * @param listener listener of model size, total chunks and hash value; chunks are consumed before it's called
      */
     public void downloadAndSplit(
         MLModelFormat modelFormat,
@@ -217,38 +227,75 @@ public class ModelHelper {
         String url,
         String modelContentHash,
         FunctionName functionName,
+        ModelChunkConsumer chunkConsumer,
         ActionListener<Map<String, Object>> listener
     ) {
         try {
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
                 Path registerModelPath = mlEngine.getRegisterModelPath(taskId, modelName, version);
                 String modelPath = registerModelPath + ".zip";
-                Path modelPartsPath = registerModelPath.resolve("chunks");
                 File modelZipFile = new File(modelPath);
                 log.debug("download model to file {}", modelZipFile.getAbsolutePath());
-                DownloadUtils.download(url, modelPath, new ProgressBar());
-                verifyModelZipFile(modelFormat, modelPath, modelName, functionName);
-                String hash = calculateFileHash(modelZipFile);
-                if (hash.equals(modelContentHash)) {
-                    List<String> chunkFiles = splitFileIntoChunks(modelZipFile, modelPartsPath, CHUNK_SIZE);
-                    Map<String, Object> result = new HashMap<>();
-                    result.put(CHUNK_FILES, chunkFiles);
-                    result.put(MODEL_SIZE_IN_BYTES, modelZipFile.length());
-
-                    result.put(MODEL_FILE_HASH, calculateFileHash(modelZipFile));
+                Map<String, Object> result = new HashMap<>();
+                try {
+                    Files.createDirectories(modelZipFile.toPath().getParent());
+                    URLConnection connection = new URL(url.trim()).openConnection();
+                    boolean gzip = connection.getURL().getFile().endsWith(".gz");
+                    long contentLength = gzip ? -1 : connection.getContentLengthLong();
+                    Integer totalChunks = contentLength > 0 ? (int) ((contentLength + CHUNK_SIZE - 1) / CHUNK_SIZE) : null;
+                    Hasher hasher = Hashing.sha256().newHasher();
+                    // one chunk buffer is reused for all chunks
+                    byte[] chunk = new byte[CHUNK_SIZE];
+                    long modelSize = 0;
+                    int chunkNumber = 0;
+                    try (
+                        InputStream inputStream = gzip ? new GZIPInputStream(connection.getInputStream()) : connection.getInputStream();
+                        OutputStream outputStream = Files.newOutputStream(modelZipFile.toPath())
+                    ) {
+                        int length;
+                        while ((length = inputStream.readNBytes(chunk, 0, CHUNK_SIZE)) > 0) {
+                            hasher.putBytes(chunk, 0, length);
+                            outputStream.write(chunk, 0, length);
+                            chunkConsumer.accept(chunkNumber++, chunk, length, totalChunks);
+                            modelSize += length;
+                        }
+                    }
+                    verifyModelZipFile(modelFormat, modelPath, modelName, functionName);
+                    String hash = hasher.hash().toString();
+                    if (!hash.equals(modelContentHash)) {
+                        log.error("Model content hash can't match original hash value when registering");
+                        throw (new IllegalArgumentException("model content changed"));
+                    }
+                    result.put(MODEL_SIZE_IN_BYTES, modelSize);
+                    result.put(TOTAL_CHUNKS, chunkNumber);
+                    result.put(MODEL_FILE_HASH, hash);
+                } finally {
                     deleteFileQuietly(modelZipFile);
-                    listener.onResponse(result);
-                    return null;
-                } else {
-                    log.error("Model content hash can't match original hash value when registering");
-                    throw (new IllegalArgumentException("model content changed"));
                 }
+                listener.onResponse(result);
+                return null;
             });
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
+    /**
+     * Consumer of model chunks produced while model file is downloaded.
+     */
+    @FunctionalInterface
+    public interface ModelChunkConsumer {
+        /**
+         * Consume a model chunk. The chunk buffer is reused for the next chunk once this method returns, so the chunk
+         * bytes must be copied or fully used before returning. Throwing an exception stops the download.
+         * @param chunkNumber chunk number, starting from 0
+         * @param chunk chunk buffer
+         * @param length number of bytes of the chunk in buffer
+         * @param totalChunks expected total chunks if model file size is known, otherwise null
+         */
+        void accept(int chunkNumber, byte[] chunk, int length, Integer totalChunks) throws Exception;
+    }
+
     public void verifyModelZipFile(MLModelFormat modelFormat, String modelZipFilePath, String modelName, FunctionName functionName)
         throws IOException {
         boolean hasPtFile = false;
@@ -7,6 +7,7 @@ package org.opensearch.ml.engine;
 
 import java.util.Map;
 
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
@@ -33,6 +34,24 @@ public interface Predictable {
      */
     MLOutput predict(MLInput mlInput);
 
+    /**
+     * Predict asynchronously with given input data for deployed model.
+     * Models calling remote services should override this to release the calling thread while waiting for response.
+     * Default implementation predicts synchronously in the calling thread.
+     * @param mlInput input data
+     * @param listener listener of predicted results
+     */
+    default void predictAsync(MLInput mlInput, ActionListener<MLOutput> listener) {
+        MLOutput output;
+        try {
+            output = predict(mlInput);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(output);
+    }
+
     /**
      * Init model (load model into memory) with ML model content and params.
      * @param model ML model
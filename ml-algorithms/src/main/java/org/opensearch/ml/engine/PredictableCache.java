@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Node level LRU cache of deserialized models which are predicted without being deployed.
+ * Entries are keyed by model id, model document version, algorithm and predict parameters, so an updated model
+ * document or different parameters never hit a stale entry. Cache is bounded by the total size of serialized model
+ * content, which is used as the memory weight of a deserialized model.
+ */
+public class PredictableCache {
+
+    // Algorithms whose predict doesn't change the model. FIT_RCF updates its forest with every predicted point,
+    // so each request must start from the stored model.
+    private static final Set<FunctionName> CACHEABLE_ALGORITHMS = ImmutableSet
+        .of(
+            FunctionName.KMEANS,
+            FunctionName.LINEAR_REGRESSION,
+            FunctionName.LOGISTIC_REGRESSION,
+            FunctionName.BATCH_RCF,
+            FunctionName.AD_LIBSVM
+        );
+
+    private final Cache<PredictableKey, CachedPredictable> cache;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    @Getter
+    private final long maxWeightInBytes;
+
+    public PredictableCache(long maxWeightInBytes) {
+        if (maxWeightInBytes < 0) {
+            throw new IllegalArgumentException("max cache weight must not be negative");
+        }
+        this.maxWeightInBytes = maxWeightInBytes;
+        // Evicted models are not closed, requests which got the model before eviction may still be predicting with it.
+        this.cache = CacheBuilder
+            .newBuilder()
+            .maximumWeight(maxWeightInBytes)
+            .<PredictableKey, CachedPredictable>weigher((key, value) -> value.weight)
+            .build();
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+    }
+
+    public boolean isCacheable(FunctionName algorithm) {
+        return maxWeightInBytes > 0 && CACHEABLE_ALGORITHMS.contains(algorithm);
+    }
+
+    /**
+     * Get deserialized model, the model is loaded with loader on first use.
+     * Other versions of the same model are removed once a new version is loaded.
+     * @param modelId model id
+     * @param modelVersion version of model document
+     * @param algorithm algorithm of model
+     * @param parameters predict parameters
+     * @param weight memory weight of model, usually size of serialized model content
+     * @param loader function to create and init model
+     * @return deserialized model
+     */
+    public Predictable get(
+        String modelId,
+        long modelVersion,
+        FunctionName algorithm,
+        MLAlgoParams parameters,
+        int weight,
+        Callable<Predictable> loader
+    ) {
+        PredictableKey key = new PredictableKey(modelId, modelVersion, algorithm, parameters);
+        CachedPredictable cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hitCount.increment();
+            return cached.predictable;
+        }
+        cache.asMap().keySet().removeIf(it -> it.modelId.equals(modelId) && it.modelVersion != modelVersion);
+        try {
+            return cache.get(key, () -> {
+                missCount.increment();
+                return new CachedPredictable(loader.call(), Math.max(weight, 1));
+            }).predictable;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MLException("Failed to load model " + modelId, e.getCause());
+        }
+    }
+
+    /**
+     * Remove all cached versions of a model.
+     * @param modelId model id
+     */
+    public void invalidate(String modelId) {
+        if (modelId == null) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> modelId.equals(key.modelId));
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private static class CachedPredictable {
+        private final Predictable predictable;
+        private final int weight;
+
+        CachedPredictable(Predictable predictable, int weight) {
+            this.predictable = predictable;
+            this.weight = weight;
+        }
+    }
+
+    @EqualsAndHashCode
+    private static class PredictableKey {
+        private final String modelId;
+        private final long modelVersion;
+        private final FunctionName algorithm;
+        private final MLAlgoParams parameters;
+
+        PredictableKey(String modelId, long modelVersion, FunctionName algorithm, MLAlgoParams parameters) {
+            this.modelId = modelId;
+            this.modelVersion = modelVersion;
+            this.algorithm = algorithm;
+            this.parameters = parameters;
+        }
+    }
+}
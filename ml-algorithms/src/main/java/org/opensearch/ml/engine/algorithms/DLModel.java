@@ -20,9 +20,11 @@ import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import org.apache.commons.io.FileUtils;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLException;
@@ -33,6 +35,7 @@ import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -58,14 +61,33 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    public static final String PREDICT_BATCH_SIZE = "predict_batch_size";
+    public static final String PREDICT_BATCH_WAIT_TIME_IN_MILLIS = "predict_batch_wait_time_in_millis";
+    public static final String PREDICT_BATCH_FLUSH_SCHEDULER = "predict_batch_flush_scheduler";
+    public static final String PREDICTOR_POOL_SIZE = "predictor_pool_size";
+    public static final String PREDICTOR_NUM_THREADS = "predictor_num_threads";
+    public static final String PREDICTOR_POOL_GROWTH_CHECK = "predictor_pool_growth_check";
+    // Map to put time of deploy phases in milliseconds, deploy model puts time of unzip phase.
+    public static final String DEPLOY_PHASE_TIMINGS = "deploy_phase_timings";
+    public static final String UNZIP_PHASE = "unzip";
+    public static final String LOAD_PHASE = "load";
+    // Node level cache of unzipped model artifacts, model content hash is the cache key.
+    public static final String MODEL_ARTIFACT_CACHE = "model_artifact_cache";
+    public static final String MODEL_CONTENT_HASH = "model_content_hash";
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
 
-    protected Predictor<Input, Output>[] predictors;
+    protected PredictorPool predictorPool;
     protected ZooModel[] models;
     protected Device[] devices;
-    protected AtomicInteger nextDevice = new AtomicInteger(0);
+    protected PredictBatcher<Input, Output> predictBatcher;
+    protected int predictorPoolSize = 1;
+    protected int predictorNumThreads = 1;
+    protected BooleanSupplier predictorPoolGrowthCheck;
+    protected Map<String, Long> deployPhaseTimings;
+    protected ModelArtifactCache modelArtifactCache;
+    protected String modelContentHash;
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
@@ -92,13 +114,55 @@ public abstract class DLModel implements Predictable {
         }
     }
 
-    protected Predictor<Input, Output> getPredictor() {
-        int currentDevice = nextDevice.getAndIncrement();
-        if (currentDevice > devices.length - 1) {
-            currentDevice = currentDevice % devices.length;
-            nextDevice.set(currentDevice + 1);
+    @Override
+    public void predictAsync(MLInput mlInput, ActionListener<MLOutput> listener) {
+        if (predictBatcher == null) {
+            Predictable.super.predictAsync(mlInput, listener);
+            return;
+        }
+        if (!isModelReady()) {
+            listener.onFailure(new MLException("model not deployed."));
+            return;
+        }
+        String errorMsg = "Failed to inference " + mlInput.getAlgorithm() + " model: " + modelId;
+        try {
+            predictAsync(modelId, mlInput, ActionListener.wrap(listener::onResponse, e -> {
+                log.error(errorMsg, e);
+                listener.onFailure(new MLException(errorMsg, e));
+            }));
+        } catch (Exception e) {
+            log.error(errorMsg, e);
+            listener.onFailure(new MLException(errorMsg, e));
         }
-        return predictors[currentDevice];
+    }
+
+    /**
+     * Predict asynchronously with predict batcher of model. Models supporting batching should override this,
+     * default implementation predicts synchronously in the calling thread.
+     * @param modelId model id
+     * @param mlInput input data
+     * @param listener listener of predicted results
+     */
+    protected void predictAsync(String modelId, MLInput mlInput, ActionListener<MLOutput> listener) throws TranslateException {
+        listener.onResponse(predict(modelId, mlInput));
+    }
+
+    /**
+     * Run function with the least loaded predictor of model.
+     * @param function function to run with predictor
+     * @param <T> result type
+     * @return result of function
+     */
+    protected <T> T executeWithPredictor(PredictorPool.PredictFunction<T> function) throws TranslateException {
+        return predictorPool.execute(function);
+    }
+
+    /**
+     * Get predictor pool of model.
+     * @return predictor pool; null if model is not deployed
+     */
+    public PredictorPool getPredictorPool() {
+        return predictorPool;
     }
 
     public abstract ModelTensorOutput predict(String modelId, MLInput input) throws TranslateException;
@@ -120,7 +184,9 @@ public abstract class DLModel implements Predictable {
         File modelZipFile = (File) params.get(MODEL_ZIP_FILE);
         modelHelper = (ModelHelper) params.get(MODEL_HELPER);
         mlEngine = (MLEngine) params.get(ML_ENGINE);
-        if (modelZipFile == null) {
+        modelArtifactCache = (ModelArtifactCache) params.get(MODEL_ARTIFACT_CACHE);
+        modelContentHash = (String) params.get(MODEL_CONTENT_HASH);
+        if (modelZipFile == null && (modelArtifactCache == null || modelContentHash == null)) {
             throw new IllegalArgumentException("model file is null");
         }
         if (modelHelper == null) {
@@ -136,27 +202,86 @@ public abstract class DLModel implements Predictable {
         if (!FunctionName.isDLModel(model.getAlgorithm())) {
             throw new IllegalArgumentException("wrong function name");
         }
+        initPredictorPoolParams(params);
         loadModel(modelZipFile, modelId, model.getName(), model.getVersion(), model.getModelConfig(), engine);
+        initPredictBatcher(params);
+    }
+
+    private void initPredictorPoolParams(Map<String, Object> params) {
+        Integer poolSize = (Integer) params.get(PREDICTOR_POOL_SIZE);
+        if (poolSize != null && poolSize > 0) {
+            predictorPoolSize = poolSize;
+        }
+        Integer numThreads = (Integer) params.get(PREDICTOR_NUM_THREADS);
+        if (numThreads != null && numThreads > 0) {
+            predictorNumThreads = numThreads;
+        }
+        predictorPoolGrowthCheck = (BooleanSupplier) params.get(PREDICTOR_POOL_GROWTH_CHECK);
+        deployPhaseTimings = (Map<String, Long>) params.get(DEPLOY_PHASE_TIMINGS);
+    }
+
+    private void initPredictBatcher(Map<String, Object> params) {
+        Integer batchSize = (Integer) params.get(PREDICT_BATCH_SIZE);
+        if (batchSize == null || batchSize <= 1) {
+            return;
+        }
+        PredictBatcher.FlushScheduler flushScheduler = (PredictBatcher.FlushScheduler) params.get(PREDICT_BATCH_FLUSH_SCHEDULER);
+        if (flushScheduler == null) {
+            log.warn("Predict batching of model {} is not enabled as flush scheduler is null", modelId);
+            return;
+        }
+        Long waitTimeInMillis = (Long) params.get(PREDICT_BATCH_WAIT_TIME_IN_MILLIS);
+        log.info("Enable predict batching for model {}, max batch size: {}, max wait time: {}ms", modelId, batchSize, waitTimeInMillis);
+        predictBatcher = new PredictBatcher<>(
+            batchSize,
+            waitTimeInMillis == null ? 0 : waitTimeInMillis,
+            this::runBatchPredict,
+            flushScheduler
+        );
+    }
+
+    private List<Output> runBatchPredict(List<Input> inputs) throws Exception {
+        // Batches flushed by scheduler run on a thread outside of the plugin security context.
+        try {
+            return AccessController.doPrivileged((PrivilegedExceptionAction<List<Output>>) () -> {
+                Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
+                if (!isModelReady()) {
+                    throw new MLException("model not deployed.");
+                }
+                return executeWithPredictor(predictor -> predictor.batchPredict(inputs));
+            });
+        } catch (PrivilegedActionException e) {
+            throw e.getException();
+        }
+    }
+
+    /**
+     * Get predict batcher of model.
+     * @return predict batcher; null if batching is not enabled
+     */
+    public PredictBatcher<Input, Output> getPredictBatcher() {
+        return predictBatcher;
     }
 
     @Override
     public void close() {
         if (modelHelper != null && modelId != null) {
             modelHelper.deleteFileCache(modelId);
-            if (predictors != null) {
-                closePredictors(predictors);
-                predictors = null;
+            if (predictorPool != null) {
+                predictorPool.close();
+                predictorPool = null;
             }
             if (models != null) {
                 closeModels(models);
                 models = null;
             }
+            predictBatcher = null;
         }
     }
 
     @Override
     public boolean isModelReady() {
-        if (predictors == null || modelHelper == null || modelId == null) {
+        if (predictorPool == null || modelHelper == null || modelId == null) {
             return false;
         }
         return true;
@@ -194,6 +319,11 @@ public abstract class DLModel implements Predictable {
                 .optEngine(engine)
                 .optDevice(devices[i])
                 .optModelPath(modelPath);
+            if (ONNX_ENGINE.equals(engine)) {
+                // ONNX Runtime reads thread counts per session, so every model gets its own intra-op thread pool size.
+                criteriaBuilder.optOption("intraOpNumThreads", String.valueOf(predictorNumThreads));
+                criteriaBuilder.optOption("interOpNumThreads", "1");
+            }
             Translator translator = getTranslator(engine, modelConfig);
             TranslatorFactory translatorFactory = getTranslatorFactory(engine, modelConfig);
             if (translatorFactory != null) {
@@ -219,15 +349,21 @@ public abstract class DLModel implements Predictable {
             warmUp(predictor, modelId, modelConfig);
         }
 
-        if (predictorList.size() > 0) {
-            this.predictors = predictorList.toArray(new Predictor[0]);
+        if (predictorList.size() > 0 && modelList.size() > 0) {
+            ZooModel<Input, Output>[] loadedModels = modelList.toArray(new ZooModel[0]);
+            this.predictorPool = new PredictorPool(modelId, predictorList, loadedModels, predictorPoolSize, predictorPoolGrowthCheck);
+            this.models = loadedModels;
             predictorList.clear();
-        }
-        if (modelList.size() > 0) {
-            this.models = modelList.toArray(new ZooModel[0]);
             modelList.clear();
         }
-        log.info("Model {} is successfully deployed on {} devices", modelId, devices.length);
+        log
+            .info(
+                "Model {} is successfully deployed on {} devices, max predictor pool size: {}, threads per predictor: {}",
+                modelId,
+                devices.length,
+                predictorPoolSize,
+                predictorNumThreads
+            );
     }
 
     protected void loadModel(
@@ -246,6 +382,7 @@ public abstract class DLModel implements Predictable {
             List<ZooModel<Input, Output>> modelList = new ArrayList<>();
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
                 ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+                boolean fromArtifactCache = false;
                 try {
                     System.setProperty("PYTORCH_PRECXX11", "true");
                     System.setProperty("DJL_CACHE_DIR", mlEngine.getMlCachePath().toAbsolutePath().toString());
@@ -253,14 +390,30 @@ public abstract class DLModel implements Predictable {
                     // access denied exception
                     System.setProperty("java.library.path", mlEngine.getMlCachePath().toAbsolutePath().toString());
                     System.setProperty("ai.djl.pytorch.num_interop_threads", "1");
-                    System.setProperty("ai.djl.pytorch.num_threads", "1");
+                    // PyTorch reads thread count once when engine starts, it applies to all PyTorch models of node.
+                    System.setProperty("ai.djl.pytorch.num_threads", String.valueOf(predictorNumThreads));
                     Thread.currentThread().setContextClassLoader(ai.djl.Model.class.getClassLoader());
                     Path modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
                     File pathFile = new File(modelPath.toUri());
                     if (pathFile.exists()) {
                         FileUtils.deleteDirectory(pathFile);
                     }
-                    ZipUtils.unzip(modelZipFile, modelPath);
+                    long unzipStartTime = System.nanoTime();
+                    if (modelArtifactCache != null && modelArtifactCache.copyTo(modelContentHash, modelId, modelPath)) {
+                        fromArtifactCache = true;
+                        log.info("Deploy model {} from cached model artifact", modelId);
+                    } else {
+                        if (modelZipFile == null) {
+                            throw new IllegalArgumentException("model file is null");
+                        }
+                        ZipUtils.unzip(modelZipFile, modelPath);
+                        if (modelArtifactCache != null) {
+                            modelArtifactCache.put(modelContentHash, modelId, modelPath);
+                        }
+                    }
+                    if (deployPhaseTimings != null) {
+                        deployPhaseTimings.put(UNZIP_PHASE, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - unzipStartTime));
+                    }
                     boolean findModelFile = false;
                     for (File file : pathFile.listFiles()) {
                         String name = file.getName();
@@ -282,6 +435,10 @@ public abstract class DLModel implements Predictable {
                 } catch (Throwable e) {
                     String errorMessage = "Failed to deploy model " + modelId;
                     log.error(errorMessage, e);
+                    if (fromArtifactCache) {
+                        // don't deploy from the same artifact again in case it's broken
+                        modelArtifactCache.remove(modelContentHash);
+                    }
                     close();
                     if (predictorList.size() > 0) {
                         closePredictors(predictorList.toArray(new Predictor[0]));
@@ -328,8 +485,7 @@ public abstract class DLModel implements Predictable {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
-        ModelTensors tensorOutput = ModelTensors.fromBytes(bytes);
+        ModelTensors tensorOutput = ModelTensorsBytesSupplier.toModelTensors(output);
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
         }
@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.nio.ByteBuffer;
+
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
+import lombok.Getter;
+
+/**
+ * DJL output content which carries model tensors as object, so translators can hand results back to the
+ * model in the same JVM without serializing them. Bytes are only built if some consumer reads the content
+ * as bytes.
+ */
+public class ModelTensorsBytesSupplier implements BytesSupplier {
+
+    @Getter
+    private final ModelTensors modelTensors;
+    private volatile byte[] bytes;
+
+    public ModelTensorsBytesSupplier(ModelTensors modelTensors) {
+        this.modelTensors = modelTensors;
+    }
+
+    @Override
+    public byte[] getAsBytes() {
+        byte[] result = bytes;
+        if (result == null) {
+            result = modelTensors.toBytes();
+            bytes = result;
+        }
+        return result;
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(getAsBytes());
+    }
+
+    /**
+     * Get model tensors from DJL output. Falls back to deserializing the output content if translator
+     * added model tensors as bytes.
+     * @param output DJL output
+     * @return model tensors
+     */
+    public static ModelTensors toModelTensors(Output output) {
+        BytesSupplier data = output.getData();
+        if (data instanceof ModelTensorsBytesSupplier) {
+            return ((ModelTensorsBytesSupplier) data).getModelTensors();
+        }
+        return ModelTensors.fromBytes(data.getAsBytes());
+    }
+}
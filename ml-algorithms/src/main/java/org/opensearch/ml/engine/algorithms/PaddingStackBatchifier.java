@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.StackBatchifier;
+
+/**
+ * Stack batchifier which pads one dimensional token arrays with zero to the longest sequence of the batch
+ * before stacking, so documents with different token length can run as one batch.
+ */
+public class PaddingStackBatchifier extends StackBatchifier {
+
+    @Override
+    public NDList batchify(NDList[] inputs) {
+        if (inputs.length <= 1) {
+            return super.batchify(inputs);
+        }
+        int numInputKinds = inputs[0].size();
+        long[] maxLength = new long[numInputKinds];
+        for (NDList input : inputs) {
+            for (int i = 0; i < numInputKinds; i++) {
+                maxLength[i] = Math.max(maxLength[i], input.get(i).getShape().get(0));
+            }
+        }
+        NDList[] padded = new NDList[inputs.length];
+        for (int j = 0; j < inputs.length; j++) {
+            NDList paddedInput = new NDList(numInputKinds);
+            for (int i = 0; i < numInputKinds; i++) {
+                NDArray array = inputs[j].get(i);
+                long length = array.getShape().get(0);
+                if (length < maxLength[i]) {
+                    String name = array.getName();
+                    array = array.concat(array.getManager().zeros(new Shape(maxLength[i] - length), array.getDataType()));
+                    array.setName(name);
+                }
+                paddedInput.add(array);
+            }
+            padded[j] = paddedInput;
+        }
+        NDList batch = super.batchify(padded);
+        for (int i = 0; i < numInputKinds; i++) {
+            batch.get(i).setName(inputs[0].get(i).getName());
+        }
+        return batch;
+    }
+}
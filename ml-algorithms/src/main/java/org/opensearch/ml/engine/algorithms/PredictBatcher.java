@@ -0,0 +1,283 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLException;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Micro-batching stage in front of a model predictor.
+ * Inputs submitted by concurrent predict requests are queued and flushed as one batch predict when the batch is full
+ * or when the first queued request has waited max wait time. Flushes run as tasks of the flush scheduler, so callers
+ * never block while a batch fills up; the outputs are scattered back to each caller through its listener.
+ *
+ * @param <I> input type
+ * @param <O> output type
+ */
+@Log4j2
+public class PredictBatcher<I, O> {
+
+    @FunctionalInterface
+    public interface BatchPredictFunction<I, O> {
+        List<O> batchPredict(List<I> inputs) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface FlushScheduler {
+        /**
+         * Run flush task after delay.
+         * @param task flush task
+         * @param delayInMillis delay in milliseconds, 0 to run the task as soon as possible
+         * @param onRejection called instead of the task if the task can't be run
+         */
+        void schedule(Runnable task, long delayInMillis, Consumer<Exception> onRejection);
+    }
+
+    @Getter
+    private final int maxBatchSize;
+    @Getter
+    private final long maxWaitTimeInMillis;
+    private final BatchPredictFunction<I, O> batchPredictFunction;
+    private final FlushScheduler flushScheduler;
+    private final ArrayDeque<PendingRequest<I, O>> pendingRequests;
+    // Number of queued inputs and whether a delayed flush is scheduled, both guarded by pendingRequests.
+    private int pendingInputs;
+    private boolean delayedFlushScheduled;
+    private final DoubleSummaryStatistics batchSizeStats;
+    private final DoubleSummaryStatistics batchWaitTimeStats;
+
+    public PredictBatcher(
+        int maxBatchSize,
+        long maxWaitTimeInMillis,
+        BatchPredictFunction<I, O> batchPredictFunction,
+        FlushScheduler flushScheduler
+    ) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("max batch size must be positive");
+        }
+        if (maxWaitTimeInMillis < 0) {
+            throw new IllegalArgumentException("max wait time must not be negative");
+        }
+        if (flushScheduler == null) {
+            throw new IllegalArgumentException("flush scheduler is null");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitTimeInMillis = maxWaitTimeInMillis;
+        this.batchPredictFunction = batchPredictFunction;
+        this.flushScheduler = flushScheduler;
+        this.pendingRequests = new ArrayDeque<>();
+        this.batchSizeStats = new DoubleSummaryStatistics();
+        this.batchWaitTimeStats = new DoubleSummaryStatistics();
+    }
+
+    /**
+     * Queue inputs of one request to predict them together with inputs of other concurrent requests.
+     * Returns immediately, the listener is completed by the flush task running the batch containing these inputs.
+     * @param inputs inputs of one request
+     * @param listener action listener to receive outputs in the same order as inputs
+     */
+    public void predict(List<I> inputs, ActionListener<List<O>> listener) {
+        if (inputs == null || inputs.size() == 0) {
+            listener.onResponse(new ArrayList<>());
+            return;
+        }
+        boolean flushNow;
+        boolean flushDelayed = false;
+        synchronized (pendingRequests) {
+            pendingRequests.add(new PendingRequest<>(inputs, listener, System.nanoTime()));
+            pendingInputs += inputs.size();
+            flushNow = pendingInputs >= maxBatchSize || maxWaitTimeInMillis == 0;
+            if (!flushNow && !delayedFlushScheduled) {
+                delayedFlushScheduled = true;
+                flushDelayed = true;
+            }
+        }
+        if (flushNow) {
+            scheduleFlush(0, false);
+        } else if (flushDelayed) {
+            scheduleFlush(maxWaitTimeInMillis, true);
+        }
+    }
+
+    /**
+     * Predict inputs of one request as its own batch in the calling thread, without waiting for other requests.
+     * @param inputs inputs of one request
+     * @return outputs in the same order as inputs
+     */
+    public List<O> predict(List<I> inputs) throws Exception {
+        if (inputs == null || inputs.size() == 0) {
+            return new ArrayList<>();
+        }
+        List<O> outputs = batchPredict(inputs);
+        synchronized (this) {
+            batchSizeStats.accept(inputs.size());
+            batchWaitTimeStats.accept(0);
+        }
+        return outputs;
+    }
+
+    private void scheduleFlush(long delayInMillis, boolean delayed) {
+        Consumer<Exception> onRejection = e -> {
+            log.error("Failed to schedule batch predict flush", e);
+            if (delayed) {
+                synchronized (pendingRequests) {
+                    delayedFlushScheduled = false;
+                }
+            }
+            failPendingRequests(e);
+        };
+        try {
+            flushScheduler.schedule(delayed ? this::delayedFlush : this::flush, delayInMillis, onRejection);
+        } catch (Exception e) {
+            onRejection.accept(e);
+        }
+    }
+
+    private void delayedFlush() {
+        synchronized (pendingRequests) {
+            delayedFlushScheduled = false;
+        }
+        flush();
+    }
+
+    private void flush() {
+        List<PendingRequest<I, O>> batch = pollBatch();
+        if (batch.size() > 0) {
+            runBatch(batch);
+        }
+        // Requests left in queue still need a flush once the first one has waited max wait time.
+        long delayInMillis;
+        synchronized (pendingRequests) {
+            PendingRequest<I, O> first = pendingRequests.peek();
+            if (first == null || delayedFlushScheduled) {
+                return;
+            }
+            delayedFlushScheduled = true;
+            long deadline = first.enqueueTime + TimeUnit.MILLISECONDS.toNanos(maxWaitTimeInMillis);
+            delayInMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 0);
+        }
+        scheduleFlush(delayInMillis, true);
+    }
+
+    private List<PendingRequest<I, O>> pollBatch() {
+        List<PendingRequest<I, O>> batch = new ArrayList<>();
+        int batchSize = 0;
+        synchronized (pendingRequests) {
+            PendingRequest<I, O> next;
+            while (batchSize < maxBatchSize && (next = pendingRequests.peek()) != null) {
+                if (batch.size() > 0 && batchSize + next.inputs.size() > maxBatchSize) {
+                    // Keep the order of requests, this request will start next batch.
+                    break;
+                }
+                pendingRequests.poll();
+                batch.add(next);
+                batchSize += next.inputs.size();
+            }
+            pendingInputs -= batchSize;
+        }
+        return batch;
+    }
+
+    private void failPendingRequests(Exception e) {
+        List<PendingRequest<I, O>> failed;
+        synchronized (pendingRequests) {
+            failed = new ArrayList<>(pendingRequests);
+            pendingRequests.clear();
+            pendingInputs = 0;
+        }
+        for (PendingRequest<I, O> request : failed) {
+            request.listener.onFailure(e);
+        }
+    }
+
+    private void runBatch(List<PendingRequest<I, O>> batch) {
+        PendingRequest<I, O> first = batch.get(0);
+        long batchStartTime = System.nanoTime();
+        List<I> batchInputs = new ArrayList<>();
+        for (PendingRequest<I, O> request : batch) {
+            batchInputs.addAll(request.inputs);
+        }
+        int batchSize = batchInputs.size();
+        List<O> outputs;
+        try {
+            outputs = batchPredict(batchInputs);
+        } catch (Throwable e) {
+            // Complete every request of the batch, otherwise the other callers would wait forever.
+            log.error("Failed to run batch predict of {} inputs", batchSize, e);
+            Exception failure = e instanceof Exception ? (Exception) e : new MLException(e);
+            for (PendingRequest<I, O> request : batch) {
+                request.listener.onFailure(failure);
+            }
+            return;
+        }
+        synchronized (this) {
+            batchSizeStats.accept(batchSize);
+            batchWaitTimeStats.accept((batchStartTime - first.enqueueTime) / 1_000_000.0);
+        }
+        int offset = 0;
+        for (PendingRequest<I, O> request : batch) {
+            int size = request.inputs.size();
+            request.listener.onResponse(new ArrayList<>(outputs.subList(offset, offset + size)));
+            offset += size;
+        }
+    }
+
+    private List<O> batchPredict(List<I> inputs) throws Exception {
+        // A single request can be larger than max batch size, split it into multiple model runs.
+        List<O> outputs = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i += maxBatchSize) {
+            List<I> slice = inputs.subList(i, Math.min(i + maxBatchSize, inputs.size()));
+            List<O> sliceOutputs = batchPredictFunction.batchPredict(slice);
+            if (sliceOutputs == null || sliceOutputs.size() != slice.size()) {
+                throw new MLException("Batch predict output size doesn't match input size");
+            }
+            outputs.addAll(sliceOutputs);
+        }
+        return outputs;
+    }
+
+    /**
+     * Get statistics of batch size, the count is the number of batches executed.
+     * @return copy of batch size statistics
+     */
+    public synchronized DoubleSummaryStatistics getBatchSizeStats() {
+        DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+        stats.combine(batchSizeStats);
+        return stats;
+    }
+
+    /**
+     * Get statistics of time in milliseconds the first request of each batch waited before the batch started.
+     * @return copy of batch wait time statistics
+     */
+    public synchronized DoubleSummaryStatistics getBatchWaitTimeStats() {
+        DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+        stats.combine(batchWaitTimeStats);
+        return stats;
+    }
+
+    private static class PendingRequest<I, O> {
+        private final List<I> inputs;
+        private final ActionListener<List<O>> listener;
+        private final long enqueueTime;
+
+        PendingRequest(List<I> inputs, ActionListener<List<O>> listener, long enqueueTime) {
+            this.inputs = inputs;
+            this.listener = listener;
+            this.enqueueTime = enqueueTime;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.repository.zoo.ZooModel;
+import ai.djl.translate.TranslateException;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Pool of predictors of one deployed model. It starts with one predictor per device and grows on demand,
+ * up to max size, when every predictor is serving a request. New predictors share the weights of the loaded
+ * model of a device and are spread over devices round-robin. Growth is checked with the growth check first,
+ * so a node under memory pressure keeps serving with the predictors it already has.
+ * Each call runs on the least loaded predictor; calls never wait for a predictor to become free.
+ */
+@Log4j2
+public class PredictorPool implements AutoCloseable {
+
+    @FunctionalInterface
+    public interface PredictFunction<T> {
+        T apply(Predictor<Input, Output> predictor) throws TranslateException;
+    }
+
+    private final String modelId;
+    private final ZooModel<Input, Output>[] models;
+    @Getter
+    private final int maxSize;
+    private final BooleanSupplier growthCheck;
+    private final CopyOnWriteArrayList<PooledPredictor> predictors;
+    private final LongAdder growthRejectedCount;
+    private volatile boolean closed;
+
+    public PredictorPool(
+        String modelId,
+        List<Predictor<Input, Output>> initialPredictors,
+        ZooModel<Input, Output>[] models,
+        int maxSize,
+        BooleanSupplier growthCheck
+    ) {
+        if (initialPredictors == null || initialPredictors.size() == 0) {
+            throw new IllegalArgumentException("predictor pool requires at least one predictor");
+        }
+        if (models == null || models.length == 0) {
+            throw new IllegalArgumentException("predictor pool requires at least one model");
+        }
+        this.modelId = modelId;
+        this.models = models;
+        this.maxSize = Math.max(maxSize, initialPredictors.size());
+        this.growthCheck = growthCheck;
+        this.predictors = new CopyOnWriteArrayList<>();
+        for (Predictor<Input, Output> predictor : initialPredictors) {
+            predictors.add(new PooledPredictor(predictor));
+        }
+        this.growthRejectedCount = new LongAdder();
+    }
+
+    /**
+     * Run function with the least loaded predictor of pool.
+     * @param function function to run with predictor
+     * @param <T> result type
+     * @return result of function
+     */
+    public <T> T execute(PredictFunction<T> function) throws TranslateException {
+        PooledPredictor pooled = acquire();
+        try {
+            return function.apply(pooled.predictor);
+        } finally {
+            pooled.inFlight.decrementAndGet();
+        }
+    }
+
+    private PooledPredictor acquire() {
+        if (closed) {
+            throw new MLException("model not deployed.");
+        }
+        PooledPredictor leastLoaded = null;
+        for (PooledPredictor pooled : predictors) {
+            if (leastLoaded == null || pooled.inFlight.get() < leastLoaded.inFlight.get()) {
+                leastLoaded = pooled;
+            }
+        }
+        if (leastLoaded == null) {
+            throw new MLException("Predictor pool of model " + modelId + " is closed");
+        }
+        if (leastLoaded.inFlight.get() > 0 && predictors.size() < maxSize) {
+            PooledPredictor created = grow();
+            if (created != null) {
+                leastLoaded = created;
+            }
+        }
+        leastLoaded.inFlight.incrementAndGet();
+        return leastLoaded;
+    }
+
+    private synchronized PooledPredictor grow() {
+        if (closed || predictors.size() >= maxSize) {
+            return null;
+        }
+        if (growthCheck != null && !growthCheck.getAsBoolean()) {
+            growthRejectedCount.increment();
+            log.debug("Skip adding predictor to model {}, growth check failed", modelId);
+            return null;
+        }
+        ZooModel<Input, Output> model = models[predictors.size() % models.length];
+        PooledPredictor created = new PooledPredictor(model.newPredictor());
+        predictors.add(created);
+        log.debug("Added predictor to model {}, pool size: {}", modelId, predictors.size());
+        return created;
+    }
+
+    public int size() {
+        return predictors.size();
+    }
+
+    public long getGrowthRejectedCount() {
+        return growthRejectedCount.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        log.debug("will close {} predictor for model {}", predictors.size(), modelId);
+        for (PooledPredictor pooled : predictors) {
+            pooled.predictor.close();
+        }
+        predictors.clear();
+    }
+
+    private static class PooledPredictor {
+        private final Predictor<Input, Output> predictor;
+        private final AtomicInteger inFlight;
+
+        PooledPredictor(Predictor<Input, Output> predictor) {
+            this.predictor = predictor;
+            this.inFlight = new AtomicInteger();
+        }
+    }
+}
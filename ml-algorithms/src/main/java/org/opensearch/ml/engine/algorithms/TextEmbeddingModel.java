@@ -5,11 +5,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -27,15 +29,55 @@ public abstract class TextEmbeddingModel extends DLModel {
         Output output;
         TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
+        if (predictBatcher != null) {
+            // Synchronous predict can't wait for other requests, docs of this request run as one batch.
+            for (Output batchOutput : batchPredict(toInputs(textDocsInput))) {
+                tensorOutputs.add(parseModelTensorOutput(batchOutput, resultFilter));
+            }
+            return new ModelTensorOutput(tensorOutputs);
+        }
         for (String doc : textDocsInput.getDocs()) {
             Input input = new Input();
             input.add(doc);
-            output = getPredictor().predict(input);
+            output = executeWithPredictor(predictor -> predictor.predict(input));
             tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
         }
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    @Override
+    protected void predictAsync(String modelId, MLInput mlInput, ActionListener<MLOutput> listener) {
+        TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) mlInput.getInputDataset();
+        ModelResultFilter resultFilter = textDocsInput.getResultFilter();
+        predictBatcher.predict(toInputs(textDocsInput), ActionListener.wrap(outputs -> {
+            List<ModelTensors> tensorOutputs = new ArrayList<>(outputs.size());
+            for (Output batchOutput : outputs) {
+                tensorOutputs.add(parseModelTensorOutput(batchOutput, resultFilter));
+            }
+            listener.onResponse(new ModelTensorOutput(tensorOutputs));
+        }, listener::onFailure));
+    }
+
+    private List<Input> toInputs(TextDocsInputDataSet textDocsInput) {
+        List<Input> inputs = new ArrayList<>();
+        for (String doc : textDocsInput.getDocs()) {
+            Input input = new Input();
+            input.add(doc);
+            inputs.add(input);
+        }
+        return inputs;
+    }
+
+    private List<Output> batchPredict(List<Input> inputs) throws TranslateException {
+        try {
+            return predictBatcher.predict(inputs);
+        } catch (TranslateException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TranslateException(e);
+        }
+    }
+
     public void warmUp(Predictor predictor, String modelId, MLModelConfig modelConfig) throws TranslateException {
         TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
         String warmUpSentence = "warm up sentence";
@@ -11,11 +11,14 @@ import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processO
 import static software.amazon.awssdk.http.SdkHttpMethod.POST;
 
 import java.io.BufferedReader;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +35,7 @@ import org.opensearch.script.ScriptService;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.AbortableInputStream;
@@ -50,6 +54,16 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
     @Setter
     @Getter
     private ScriptService scriptService;
+    @Setter
+    @Getter
+    private CompiledScriptCache scriptCache;
+    @Setter
+    @Getter
+    private String modelId;
+    // Signer params and headers only depend on the decrypted connector. They are built on first request and live as long as
+    // this executor: the executor is recreated when the model is deployed again, which is required to update its connector.
+    private volatile Aws4SignerParams signerParams;
+    private volatile Map<String, List<String>> headers;
 
     public AwsConnectorExecutor(Connector connector, SdkHttpClient httpClient) {
         this.connector = (AwsConnector) connector;
@@ -70,17 +84,12 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
                 .builder()
                 .method(POST)
                 .uri(URI.create(endpoint))
-                .contentStreamProvider(requestBody.contentStreamProvider());
-            Map<String, String> headers = connector.getDecryptedHeaders();
-            if (headers != null) {
-                for (String key : headers.keySet()) {
-                    builder.putHeader(key, headers.get(key));
-                }
-            }
+                .contentStreamProvider(requestBody.contentStreamProvider())
+                .headers(getHeaders());
             SdkHttpFullRequest request = builder.build();
             HttpExecuteRequest executeRequest = HttpExecuteRequest
                 .builder()
-                .request(signRequest(request))
+                .request(ConnectorUtils.signRequest(request, getSignerParams()))
                 .contentStreamProvider(request.contentStreamProvider().orElse(null))
                 .build();
 
@@ -94,23 +103,25 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
                 body = response.responseBody().get();
             }
 
-            StringBuilder responseBuilder = new StringBuilder();
-            if (body != null) {
+            if (body == null) {
+                throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
+            }
+            if (statusCode < 200 || statusCode >= 300) {
+                StringBuilder responseBuilder = new StringBuilder();
                 try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
                     String line;
                     while ((line = reader.readLine()) != null) {
                         responseBuilder.append(line);
                     }
                 }
-            } else {
-                throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
-            }
-            String modelResponse = responseBuilder.toString();
-            if (statusCode < 200 || statusCode >= 300) {
-                throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
+                throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + responseBuilder, RestStatus.fromCode(statusCode));
             }
 
-            ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
+            ModelTensors tensors;
+            // Read model response from body stream, so embedding vectors are parsed without copying response into string.
+            try (InputStream content = body) {
+                tensors = processOutput(content, StandardCharsets.UTF_8, connector, scriptService, parameters, scriptCache, modelId);
+            }
             tensors.setStatusCode(statusCode);
             tensorOutputs.add(tensors);
         } catch (RuntimeException exception) {
@@ -122,13 +133,35 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
         }
     }
 
-    private SdkHttpFullRequest signRequest(SdkHttpFullRequest request) {
-        String accessKey = connector.getAccessKey();
-        String secretKey = connector.getSecretKey();
-        String sessionToken = connector.getSessionToken();
-        String signingName = connector.getServiceName();
-        String region = connector.getRegion();
+    Aws4SignerParams getSignerParams() {
+        Aws4SignerParams params = signerParams;
+        if (params == null) {
+            params = ConnectorUtils
+                .createSignerParams(
+                    connector.getAccessKey(),
+                    connector.getSecretKey(),
+                    connector.getSessionToken(),
+                    connector.getServiceName(),
+                    connector.getRegion()
+                );
+            signerParams = params;
+        }
+        return params;
+    }
 
-        return ConnectorUtils.signRequest(request, accessKey, secretKey, sessionToken, signingName, region);
+    Map<String, List<String>> getHeaders() {
+        Map<String, List<String>> requestHeaders = headers;
+        if (requestHeaders == null) {
+            Map<String, String> decryptedHeaders = connector.getDecryptedHeaders();
+            requestHeaders = new HashMap<>();
+            if (decryptedHeaders != null) {
+                for (Map.Entry<String, String> entry : decryptedHeaders.entrySet()) {
+                    requestHeaders.put(entry.getKey(), Collections.singletonList(entry.getValue()));
+                }
+            }
+            requestHeaders = Collections.unmodifiableMap(requestHeaders);
+            headers = requestHeaders;
+        }
+        return requestHeaders;
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.engine.utils.ScriptUtils;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.ScriptType;
+import org.opensearch.script.TemplateScript;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Node level cache of compiled connector pre/post process scripts.
+ * Request parameters are substituted into the function text the same way as without the cache, and compiled scripts
+ * are keyed by model id and substituted script text, so requests with the same parameter values share one compiled
+ * script. Entries of a model are invalidated when the model is undeployed.
+ */
+public class CompiledScriptCache {
+
+    private static final String PARAMETER_PREFIX = "${parameters.";
+    // Upper bounds in milliseconds of compile time histogram buckets, last bucket has no upper bound.
+    private static final long[] COMPILE_TIME_BUCKETS_IN_MILLIS = { 1, 5, 10, 50, 100, 500, 1000 };
+
+    private final Cache<ScriptKey, TemplateScript.Factory> scriptCache;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder[] compileTimeBuckets;
+    @Getter
+    private final long maxSize;
+
+    public CompiledScriptCache(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("max cache size must not be negative");
+        }
+        this.maxSize = maxSize;
+        this.scriptCache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.compileTimeBuckets = new LongAdder[COMPILE_TIME_BUCKETS_IN_MILLIS.length + 1];
+        for (int i = 0; i < compileTimeBuckets.length; i++) {
+            compileTimeBuckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Run connector pre/post process function with request parameters. The function is compiled on first use.
+     * @param scriptService script service to compile script
+     * @param modelId id of model which the function belongs to
+     * @param function painless function text which may contain parameter placeholders
+     * @param parameters request parameters
+     * @param scriptParams params of script like text_docs or model response
+     * @return script result
+     */
+    public String execute(
+        ScriptService scriptService,
+        String modelId,
+        String function,
+        Map<String, String> parameters,
+        Map<String, Object> scriptParams
+    ) {
+        String source = function;
+        if (parameters != null && function.contains(PARAMETER_PREFIX)) {
+            source = new StringSubstitutor(parameters, PARAMETER_PREFIX, "}").replace(function);
+        }
+        return ScriptUtils.executeScript(compile(scriptService, modelId, source), scriptParams);
+    }
+
+    /**
+     * Get compiled painless template script, the script is compiled on first use.
+     * @param scriptService script service to compile script
+     * @param modelId id of model which the script belongs to
+     * @param painlessScript script text
+     * @return compiled script factory
+     */
+    public TemplateScript.Factory compile(ScriptService scriptService, String modelId, String painlessScript) {
+        ScriptKey key = new ScriptKey(modelId, painlessScript);
+        TemplateScript.Factory factory = scriptCache.getIfPresent(key);
+        if (factory != null) {
+            hitCount.increment();
+            return factory;
+        }
+        return load(scriptCache, key, () -> {
+            missCount.increment();
+            return compile(scriptService, painlessScript);
+        });
+    }
+
+    /**
+     * Remove all cached scripts of a model.
+     * @param modelId model id
+     */
+    public void invalidate(String modelId) {
+        if (modelId == null) {
+            return;
+        }
+        scriptCache.asMap().keySet().removeIf(key -> modelId.equals(key.modelId));
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        return scriptCache.size();
+    }
+
+    /**
+     * Get histogram of script compile time, bucket name is the upper bound like "le_10ms".
+     * @return count of compilations per compile time bucket
+     */
+    public Map<String, Object> getCompileTimeHistogram() {
+        Map<String, Object> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < COMPILE_TIME_BUCKETS_IN_MILLIS.length; i++) {
+            histogram.put("le_" + COMPILE_TIME_BUCKETS_IN_MILLIS[i] + "ms", compileTimeBuckets[i].sum());
+        }
+        int last = COMPILE_TIME_BUCKETS_IN_MILLIS.length;
+        histogram.put("gt_" + COMPILE_TIME_BUCKETS_IN_MILLIS[last - 1] + "ms", compileTimeBuckets[last].sum());
+        return histogram;
+    }
+
+    private TemplateScript.Factory compile(ScriptService scriptService, String painlessScript) {
+        long start = System.nanoTime();
+        Script script = new Script(ScriptType.INLINE, "painless", painlessScript, Collections.emptyMap());
+        TemplateScript.Factory factory = scriptService.compile(script, TemplateScript.CONTEXT);
+        long durationInMillis = (System.nanoTime() - start) / 1_000_000;
+        int bucket = 0;
+        while (bucket < COMPILE_TIME_BUCKETS_IN_MILLIS.length && durationInMillis > COMPILE_TIME_BUCKETS_IN_MILLIS[bucket]) {
+            bucket++;
+        }
+        compileTimeBuckets[bucket].increment();
+        return factory;
+    }
+
+    private static <K, V> V load(Cache<K, V> cache, K key, Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MLException("Failed to prepare connector script", e.getCause());
+        }
+    }
+
+    @EqualsAndHashCode
+    private static class ScriptKey {
+        private final String modelId;
+        private final String script;
+
+        ScriptKey(String modelId, String script) {
+            this.modelId = modelId;
+            this.script = script;
+        }
+    }
+}
@@ -13,6 +13,8 @@ import static org.opensearch.ml.engine.utils.ScriptUtils.executePostProcessFunct
 import static org.opensearch.ml.engine.utils.ScriptUtils.executePreprocessFunction;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
@@ -35,6 +37,7 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.script.ScriptService;
 
+import com.google.common.collect.ImmutableMap;
 import com.jayway.jsonpath.JsonPath;
 
 import lombok.extern.log4j.Log4j2;
@@ -59,13 +62,42 @@ public class ConnectorUtils {
         Connector connector,
         Map<String, String> parameters,
         ScriptService scriptService
+    ) {
+        return processInput(mlInput, connector, parameters, scriptService, null, null);
+    }
+
+    /**
+     * Process input with connector pre-process function. Compiled pre-process script is reused from
+     * script cache if it's not null.
+     * @param mlInput ML input
+     * @param connector connector
+     * @param parameters request parameters
+     * @param scriptService script service
+     * @param scriptCache compiled script cache, can be null
+     * @param modelId model id used as script cache key
+     * @return remote inference input
+     */
+    public static RemoteInferenceInputDataSet processInput(
+        MLInput mlInput,
+        Connector connector,
+        Map<String, String> parameters,
+        ScriptService scriptService,
+        CompiledScriptCache scriptCache,
+        String modelId
     ) {
         if (mlInput == null) {
             throw new IllegalArgumentException("Input is null");
         }
         RemoteInferenceInputDataSet inputData;
         if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
-            inputData = processTextDocsInput((TextDocsInputDataSet) mlInput.getInputDataset(), connector, parameters, scriptService);
+            inputData = processTextDocsInput(
+                (TextDocsInputDataSet) mlInput.getInputDataset(),
+                connector,
+                parameters,
+                scriptService,
+                scriptCache,
+                modelId
+            );
         } else if (mlInput.getInputDataset() instanceof RemoteInferenceInputDataSet) {
             inputData = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
         } else {
@@ -92,7 +124,9 @@ public class ConnectorUtils {
         TextDocsInputDataSet inputDataSet,
         Connector connector,
         Map<String, String> parameters,
-        ScriptService scriptService
+        ScriptService scriptService,
+        CompiledScriptCache scriptCache,
+        String modelId
     ) {
         Optional<ConnectorAction> predictAction = connector.findPredictAction();
         if (predictAction.isEmpty()) {
@@ -115,11 +149,18 @@ public class ConnectorUtils {
                     docs.add(null);
                 }
             }
-            if (preProcessFunction.contains("${parameters.")) {
-                StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-                preProcessFunction = substitutor.replace(preProcessFunction);
+            Optional<String> processedInput;
+            if (scriptCache != null) {
+                Map<String, Object> scriptParams = ImmutableMap.of("text_docs", docs);
+                processedInput = Optional
+                    .ofNullable(scriptCache.execute(scriptService, modelId, preProcessFunction, parameters, scriptParams));
+            } else {
+                if (preProcessFunction.contains("${parameters.")) {
+                    StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
+                    preProcessFunction = substitutor.replace(preProcessFunction);
+                }
+                processedInput = executePreprocessFunction(scriptService, preProcessFunction, docs);
             }
-            Optional<String> processedInput = executePreprocessFunction(scriptService, preProcessFunction, docs);
             if (processedInput.isEmpty()) {
                 throw new IllegalArgumentException("Wrong input");
             }
@@ -154,6 +195,28 @@ public class ConnectorUtils {
         Connector connector,
         ScriptService scriptService,
         Map<String, String> parameters
+    ) throws IOException {
+        return processOutput(modelResponse, connector, scriptService, parameters, null, null);
+    }
+
+    /**
+     * Process model response with connector post-process function. Compiled post-process script is reused
+     * from script cache if it's not null.
+     * @param modelResponse model response
+     * @param connector connector
+     * @param scriptService script service
+     * @param parameters request parameters
+     * @param scriptCache compiled script cache, can be null
+     * @param modelId model id used as script cache key
+     * @return model tensors
+     */
+    public static ModelTensors processOutput(
+        String modelResponse,
+        Connector connector,
+        ScriptService scriptService,
+        Map<String, String> parameters,
+        CompiledScriptCache scriptCache,
+        String modelId
     ) throws IOException {
         if (modelResponse == null) {
             throw new IllegalArgumentException("model response is null");
@@ -163,12 +226,7 @@ public class ConnectorUtils {
         if (predictAction.isEmpty()) {
             throw new IllegalArgumentException("no predict action found");
         }
-        ConnectorAction connectorAction = predictAction.get();
-        String postProcessFunction = connectorAction.getPostProcessFunction();
-        if (postProcessFunction != null && postProcessFunction.contains("${parameters")) {
-            StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-            postProcessFunction = substitutor.replace(postProcessFunction);
-        }
+        String postProcessFunction = getPostProcessFunction(predictAction.get(), parameters, scriptCache);
 
         String responseFilter = parameters.get(RESPONSE_FILTER_FIELD);
         if (MLPostProcessFunction.contains(postProcessFunction)) {
@@ -184,7 +242,14 @@ public class ConnectorUtils {
         }
 
         // execute user defined painless script.
-        Optional<String> processedResponse = executePostProcessFunction(scriptService, postProcessFunction, modelResponse);
+        Optional<String> processedResponse;
+        if (scriptCache != null && postProcessFunction != null) {
+            Map<String, Object> scriptParams = org.opensearch.ml.common.utils.StringUtils.fromJson(modelResponse, "result");
+            processedResponse = Optional
+                .ofNullable(scriptCache.execute(scriptService, modelId, postProcessFunction, parameters, scriptParams));
+        } else {
+            processedResponse = executePostProcessFunction(scriptService, postProcessFunction, modelResponse);
+        }
         String response = processedResponse.orElse(modelResponse);
         boolean scriptReturnModelTensor = postProcessFunction != null
             && processedResponse.isPresent()
@@ -198,6 +263,67 @@ public class ConnectorUtils {
         return ModelTensors.builder().mlModelTensors(modelTensors).build();
     }
 
+    /**
+     * Process model response stream. When connector uses a built-in post-process function, embedding vectors
+     * are read from the stream directly, otherwise the response is read as string and processed by
+     * {@link #processOutput(String, Connector, ScriptService, Map, CompiledScriptCache, String)}.
+     * @param modelResponse model response stream, not closed by this method
+     * @param charset charset of model response
+     * @param connector connector
+     * @param scriptService script service
+     * @param parameters request parameters
+     * @param scriptCache compiled script cache, can be null
+     * @param modelId model id used as script cache key
+     * @return model tensors
+     */
+    public static ModelTensors processOutput(
+        InputStream modelResponse,
+        Charset charset,
+        Connector connector,
+        ScriptService scriptService,
+        Map<String, String> parameters,
+        CompiledScriptCache scriptCache,
+        String modelId
+    ) throws IOException {
+        if (modelResponse == null) {
+            throw new IllegalArgumentException("model response is null");
+        }
+        Optional<ConnectorAction> predictAction = connector.findPredictAction();
+        if (predictAction.isEmpty()) {
+            throw new IllegalArgumentException("no predict action found");
+        }
+        String postProcessFunction = getPostProcessFunction(predictAction.get(), parameters, scriptCache);
+        if (MLPostProcessFunction.contains(postProcessFunction)) {
+            String responseFilter = parameters.get(RESPONSE_FILTER_FIELD);
+            if (StringUtils.isBlank(responseFilter))
+                responseFilter = MLPostProcessFunction.getResponseFilter(postProcessFunction);
+            StreamingVectorParser vectorParser = StreamingVectorParser.create(responseFilter);
+            if (vectorParser != null) {
+                List<float[]> vectors = vectorParser.parse(modelResponse);
+                List<ModelTensor> processedResponse = MLPostProcessFunction.getVectorFunction(postProcessFunction).apply(vectors);
+                return ModelTensors.builder().mlModelTensors(processedResponse).build();
+            }
+        }
+        String response = new String(modelResponse.readAllBytes(), charset);
+        return processOutput(response, connector, scriptService, parameters, scriptCache, modelId);
+    }
+
+    private static String getPostProcessFunction(
+        ConnectorAction connectorAction,
+        Map<String, String> parameters,
+        CompiledScriptCache scriptCache
+    ) {
+        String postProcessFunction = connectorAction.getPostProcessFunction();
+        if (scriptCache != null) {
+            // Script cache substitutes parameters when running the script.
+            return postProcessFunction;
+        } else if (postProcessFunction != null && postProcessFunction.contains("${parameters")) {
+            StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
+            return substitutor.replace(postProcessFunction);
+        }
+        return postProcessFunction;
+    }
+
     public static SdkHttpFullRequest signRequest(
         SdkHttpFullRequest request,
         String accessKey,
@@ -205,18 +331,34 @@ public class ConnectorUtils {
         String sessionToken,
         String signingName,
         String region
+    ) {
+        return signRequest(request, createSignerParams(accessKey, secretKey, sessionToken, signingName, region));
+    }
+
+    public static SdkHttpFullRequest signRequest(SdkHttpFullRequest request, Aws4SignerParams params) {
+        return signer.sign(request, params);
+    }
+
+    /**
+     * Create SigV4 signer params. The params are immutable and can be reused to sign all requests of a connector.
+     * @param accessKey AWS access key
+     * @param secretKey AWS secret key
+     * @param sessionToken AWS session token, null if credentials are not temporary
+     * @param signingName service name to sign for
+     * @param region AWS region
+     * @return signer params
+     */
+    public static Aws4SignerParams createSignerParams(
+        String accessKey,
+        String secretKey,
+        String sessionToken,
+        String signingName,
+        String region
     ) {
         AwsCredentials credentials = sessionToken == null
             ? AwsBasicCredentials.create(accessKey, secretKey)
             : AwsSessionCredentials.create(accessKey, secretKey, sessionToken);
 
-        Aws4SignerParams params = Aws4SignerParams
-            .builder()
-            .awsCredentials(credentials)
-            .signingName(signingName)
-            .signingRegion(Region.of(region))
-            .build();
-
-        return signer.sign(request, params);
+        return Aws4SignerParams.builder().awsCredentials(credentials).signingName(signingName).signingRegion(Region.of(region)).build();
     }
 }
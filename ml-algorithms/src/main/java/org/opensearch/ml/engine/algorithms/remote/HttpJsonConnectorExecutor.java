@@ -9,22 +9,38 @@ import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.HTTP;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
+import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.http.HttpEntity;
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.util.EntityUtils;
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.HttpConnector;
@@ -43,11 +59,33 @@ import lombok.extern.log4j.Log4j2;
 @ConnectorExecutor(HTTP)
 public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
 
+    public static final String MAX_CONNECTION_FIELD = "max_connection";
+    public static final String CONNECTION_TIMEOUT_FIELD = "connection_timeout";
+    public static final String READ_TIMEOUT_FIELD = "read_timeout";
+    public static final int DEFAULT_MAX_CONNECTION = 30;
+    public static final int DEFAULT_CONNECTION_TIMEOUT_IN_SECONDS = 30;
+    public static final int DEFAULT_READ_TIMEOUT_IN_SECONDS = 30;
+
     @Getter
     private HttpConnector connector;
     @Setter
     @Getter
     private ScriptService scriptService;
+    @Setter
+    @Getter
+    private CompiledScriptCache scriptCache;
+    @Setter
+    @Getter
+    private String modelId;
+    // Runs post-processing of remote model responses, so it doesn't block the I/O reactor threads of the http client.
+    @Setter
+    @Getter
+    private Executor predictExecutor;
+
+    private PoolingNHttpClientConnectionManager connectionManager;
+    private CloseableHttpAsyncClient httpClient;
+    private int inFlightRequests;
+    private boolean closed;
 
     public HttpJsonConnectorExecutor(Connector connector) {
         this.connector = (HttpConnector) connector;
@@ -55,77 +93,291 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
 
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        executeHttpRequest(mlInput, parameters, payload, ActionListener.wrap(future::complete, future::completeExceptionally));
+        try {
+            // The calling thread waits for the response anyway, so the response is processed here instead of on predict executor.
+            tensorOutputs.add(processResponse(future.get(), parameters));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Fail to execute http connector", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MLException("Fail to execute http connector", e.getCause());
+        } catch (IOException e) {
+            throw new MLException("Fail to execute http connector", e);
+        }
+    }
+
+    @Override
+    public boolean supportsAsyncInvoke() {
+        return true;
+    }
+
+    @Override
+    public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, ActionListener<ModelTensors> listener) {
+        executeHttpRequest(mlInput, parameters, payload, ActionListener.wrap(response -> {
+            if (predictExecutor == null) {
+                processResponse(response, parameters, listener);
+                return;
+            }
+            try {
+                predictExecutor.execute(() -> processResponse(response, parameters, listener));
+            } catch (Exception e) {
+                log.error("Fail to process response of remote model", e);
+                EntityUtils.consumeQuietly(response.getEntity());
+                listener.onFailure(e);
+            }
+        }, listener::onFailure));
+    }
+
+    private void processResponse(HttpResponse response, Map<String, String> parameters, ActionListener<ModelTensors> listener) {
+        ModelTensors tensors;
         try {
-            AtomicReference<String> responseRef = new AtomicReference<>("");
-            AtomicReference<Integer> statusCodeRef = new AtomicReference<>();
-
-            HttpUriRequest request;
-            switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
-                case "POST":
-                    try {
-                        String predictEndpoint = connector.getPredictEndpoint(parameters);
-                        request = new HttpPost(predictEndpoint);
-                        String charset = parameters.containsKey("charset") ? parameters.get("charset") : "UTF-8";
-                        HttpEntity entity = new StringEntity(payload, charset);
-                        ((HttpPost) request).setEntity(entity);
-                    } catch (Exception e) {
-                        throw new MLException("Failed to create http request for remote model", e);
+            tensors = processResponse(response, parameters);
+        } catch (Exception e) {
+            log.error("Fail to execute http connector", e);
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(tensors);
+    }
+
+    /**
+     * Send the http request to remote model with the async http client. The listener is completed on an I/O reactor thread
+     * of the client, so it must not run anything slow like post-process scripts.
+     */
+    private void executeHttpRequest(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<HttpResponse> listener
+    ) {
+        HttpRequestBase request;
+        CloseableHttpAsyncClient client;
+        try {
+            request = createHttpRequest(parameters, payload);
+            applyDeadline(request, mlInput);
+            client = acquireHttpClient();
+        } catch (RuntimeException e) {
+            log.error("Fail to execute http connector", e);
+            listener.onFailure(e);
+            return;
+        } catch (Throwable e) {
+            log.error("Fail to execute http connector", e);
+            listener.onFailure(new MLException("Fail to execute http connector", e));
+            return;
+        }
+
+        ActionListener<HttpResponse> releaseListener = ActionListener.runAfter(listener, this::releaseHttpClient);
+        try {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                client.execute(request, new FutureCallback<HttpResponse>() {
+                    @Override
+                    public void completed(HttpResponse response) {
+                        releaseListener.onResponse(response);
                     }
-                    break;
-                case "GET":
-                    try {
-                        request = new HttpGet(connector.getPredictEndpoint(parameters));
-                    } catch (Exception e) {
-                        throw new MLException("Failed to create http request for remote model", e);
+
+                    @Override
+                    public void failed(Exception e) {
+                        log.error("Fail to execute http connector", e);
+                        releaseListener.onFailure(new MLException("Fail to execute http connector", e));
                     }
-                    break;
-                default:
-                    throw new IllegalArgumentException("unsupported http method");
-            }
 
-            Map<String, ?> headers = connector.getDecryptedHeaders();
-            boolean hasContentTypeHeader = false;
-            if (headers != null) {
-                for (String key : headers.keySet()) {
-                    request.addHeader(key, (String) headers.get(key));
-                    if (key.toLowerCase().equals("Content-Type")) {
-                        hasContentTypeHeader = true;
+                    @Override
+                    public void cancelled() {
+                        releaseListener.onFailure(new MLException("Http request to remote model was cancelled"));
                     }
+                });
+                return null;
+            });
+        } catch (Throwable e) {
+            log.error("Fail to execute http connector", e);
+            releaseListener.onFailure(new MLException("Fail to execute http connector", e));
+        }
+    }
+
+    private HttpRequestBase createHttpRequest(Map<String, String> parameters, String payload) {
+        HttpRequestBase request;
+        switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
+            case "POST":
+                try {
+                    String predictEndpoint = connector.getPredictEndpoint(parameters);
+                    request = new HttpPost(predictEndpoint);
+                    String charset = parameters.containsKey("charset") ? parameters.get("charset") : "UTF-8";
+                    HttpEntity entity = new StringEntity(payload, charset);
+                    ((HttpPost) request).setEntity(entity);
+                } catch (Exception e) {
+                    throw new MLException("Failed to create http request for remote model", e);
+                }
+                break;
+            case "GET":
+                try {
+                    request = new HttpGet(connector.getPredictEndpoint(parameters));
+                } catch (Exception e) {
+                    throw new MLException("Failed to create http request for remote model", e);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported http method");
+        }
+
+        Map<String, ?> headers = connector.getDecryptedHeaders();
+        boolean hasContentTypeHeader = false;
+        if (headers != null) {
+            for (String key : headers.keySet()) {
+                request.addHeader(key, (String) headers.get(key));
+                if (key.toLowerCase().equals("Content-Type")) {
+                    hasContentTypeHeader = true;
                 }
             }
-            if (!hasContentTypeHeader) {
-                request.addHeader("Content-Type", "application/json");
+        }
+        if (!hasContentTypeHeader) {
+            request.addHeader("Content-Type", "application/json");
+        }
+        return request;
+    }
+
+    /**
+     * Bound timeouts of the http request by the time left until the deadline of the predict request, so the remote model
+     * isn't waited for after the caller gave up. Timeouts of the connector apply if the predict request has no deadline.
+     */
+    private void applyDeadline(HttpRequestBase request, MLInput mlInput) {
+        Long deadlineInNanos = mlInput == null ? null : mlInput.getDeadlineInNanos();
+        if (deadlineInNanos == null) {
+            return;
+        }
+        long remainingTimeInMillis = TimeUnit.NANOSECONDS.toMillis(deadlineInNanos - System.nanoTime());
+        if (remainingTimeInMillis <= 0) {
+            throw new OpenSearchTimeoutException("Predict request expired before invoking remote model");
+        }
+        Map<String, String> connectorParameters = connector.getParameters();
+        long connectionTimeout = TimeUnit.SECONDS
+            .toMillis(getIntParameter(connectorParameters, CONNECTION_TIMEOUT_FIELD, DEFAULT_CONNECTION_TIMEOUT_IN_SECONDS));
+        long readTimeout = TimeUnit.SECONDS
+            .toMillis(getIntParameter(connectorParameters, READ_TIMEOUT_FIELD, DEFAULT_READ_TIMEOUT_IN_SECONDS));
+        int remainingTimeout = (int) Math.min(Integer.MAX_VALUE, remainingTimeInMillis);
+        RequestConfig requestConfig = RequestConfig
+            .custom()
+            .setConnectTimeout((int) Math.min(connectionTimeout, remainingTimeout))
+            .setConnectionRequestTimeout((int) Math.min(connectionTimeout, remainingTimeout))
+            .setSocketTimeout((int) Math.min(readTimeout, remainingTimeout))
+            .build();
+        request.setConfig(requestConfig);
+    }
+
+    private ModelTensors processResponse(HttpResponse response, Map<String, String> parameters) throws IOException {
+        HttpEntity responseEntity = response.getEntity();
+        int statusCode = response.getStatusLine().getStatusCode();
+        if (statusCode < 200 || statusCode >= 300) {
+            String modelResponse = responseEntity == null ? "" : EntityUtils.toString(responseEntity);
+            EntityUtils.consume(responseEntity);
+            throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
+        }
+
+        ModelTensors tensors;
+        if (responseEntity == null) {
+            tensors = processOutput("", connector, scriptService, parameters, scriptCache, modelId);
+        } else {
+            ContentType contentType = ContentType.get(responseEntity);
+            Charset charset = contentType == null || contentType.getCharset() == null ? StandardCharsets.UTF_8 : contentType.getCharset();
+            // Read model response from entity stream, so embedding vectors are parsed without copying response into string.
+            try (InputStream content = responseEntity.getContent()) {
+                tensors = processOutput(content, charset, connector, scriptService, parameters, scriptCache, modelId);
             }
+        }
+        tensors.setStatusCode(statusCode);
+        return tensors;
+    }
 
+    /**
+     * Get the pooled http client of this connector and count the request as in flight, the client is created
+     * on first use. Must be paired with {@link #releaseHttpClient()} when the request completes.
+     * @return started async http client
+     */
+    private synchronized CloseableHttpAsyncClient acquireHttpClient() throws IOReactorException, PrivilegedActionException {
+        if (httpClient == null) {
+            CloseableHttpAsyncClient client = getHttpClient();
+            // Starting the client spawns the I/O reactor threads.
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                try (CloseableHttpClient httpClient = getHttpClient(); CloseableHttpResponse response = httpClient.execute(request)) {
-                    HttpEntity responseEntity = response.getEntity();
-                    String responseBody = EntityUtils.toString(responseEntity);
-                    EntityUtils.consume(responseEntity);
-                    responseRef.set(responseBody);
-                    statusCodeRef.set(response.getStatusLine().getStatusCode());
-                }
+                client.start();
                 return null;
             });
-            String modelResponse = responseRef.get();
-            Integer statusCode = statusCodeRef.get();
-            if (statusCode < 200 || statusCode >= 300) {
-                throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
-            }
+            httpClient = client;
+        }
+        inFlightRequests++;
+        return httpClient;
+    }
 
-            ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
-            tensors.setStatusCode(statusCode);
-            tensorOutputs.add(tensors);
-        } catch (RuntimeException e) {
-            log.error("Fail to execute http connector", e);
-            throw e;
-        } catch (Throwable e) {
-            log.error("Fail to execute http connector", e);
-            throw new MLException("Fail to execute http connector", e);
+    private synchronized void releaseHttpClient() {
+        inFlightRequests--;
+        if (closed && inFlightRequests == 0) {
+            closeHttpClient();
+        }
+    }
+
+    /**
+     * Create async http client with a connection pool. Pool size and timeouts are read from connector parameters
+     * max_connection, connection_timeout and read_timeout, timeouts are in seconds.
+     * @return async http client, not started
+     */
+    public CloseableHttpAsyncClient getHttpClient() throws IOReactorException {
+        Map<String, String> parameters = connector.getParameters();
+        int maxConnections = getIntParameter(parameters, MAX_CONNECTION_FIELD, DEFAULT_MAX_CONNECTION);
+        int connectionTimeout = (int) TimeUnit.SECONDS
+            .toMillis(getIntParameter(parameters, CONNECTION_TIMEOUT_FIELD, DEFAULT_CONNECTION_TIMEOUT_IN_SECONDS));
+        int readTimeout = (int) TimeUnit.SECONDS.toMillis(getIntParameter(parameters, READ_TIMEOUT_FIELD, DEFAULT_READ_TIMEOUT_IN_SECONDS));
+        connectionManager = MLHttpClientFactory.createConnectionManager(connectionTimeout, readTimeout, maxConnections);
+        return MLHttpClientFactory.getAsyncHttpClient(connectionManager, connectionTimeout, readTimeout);
+    }
+
+    private static int getIntParameter(Map<String, String> parameters, String name, int defaultValue) {
+        if (parameters == null || parameters.get(name) == null) {
+            return defaultValue;
+        }
+        int value;
+        try {
+            value = Integer.parseInt(parameters.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid parameter: " + name + ". It must be positive integer.");
+        }
+        if (value <= 0) {
+            throw new IllegalArgumentException("Invalid parameter: " + name + ". It must be positive integer.");
         }
+        return value;
     }
 
-    public CloseableHttpClient getHttpClient() {
-        return MLHttpClientFactory.getCloseableHttpClient();
+    @Override
+    public synchronized PoolStats getConnectionPoolStats() {
+        if (httpClient == null || connectionManager == null) {
+            return null;
+        }
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Close the pooled http client. Requests in flight are completed before the client is closed.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (inFlightRequests == 0) {
+            closeHttpClient();
+        }
+    }
+
+    private void closeHttpClient() {
+        if (httpClient == null) {
+            return;
+        }
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.error("Failed to close http client of connector " + connector.getName(), e);
+        }
+        httpClient = null;
+        connectionManager = null;
     }
 }
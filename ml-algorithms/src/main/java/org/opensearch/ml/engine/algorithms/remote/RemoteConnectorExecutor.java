@@ -11,9 +11,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
+import org.apache.http.pool.PoolStats;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.connector.Connector;
@@ -27,6 +30,10 @@ import org.opensearch.script.ScriptService;
 
 public interface RemoteConnectorExecutor {
 
+    String INPUT_DOCS_PROCESSED_STEP_SIZE_FIELD = "input_docs_processed_step_size";
+    // Only applies to executors which support async invoke, see supportsAsyncInvoke().
+    String INPUT_DOCS_MAX_CONCURRENCY_FIELD = "input_docs_max_concurrency";
+
     default ModelTensorOutput executePredict(MLInput mlInput) {
         List<ModelTensors> tensorOutputs = new ArrayList<>();
 
@@ -34,35 +41,9 @@ public interface RemoteConnectorExecutor {
             TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
             int processedDocs = 0;
             while (processedDocs < textDocsInputDataSet.getDocs().size()) {
-                List<String> textDocs = textDocsInputDataSet.getDocs().subList(processedDocs, textDocsInputDataSet.getDocs().size());
                 List<ModelTensors> tempTensorOutputs = new ArrayList<>();
-                preparePayloadAndInvokeRemoteModel(
-                    MLInput
-                        .builder()
-                        .algorithm(FunctionName.TEXT_EMBEDDING)
-                        .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
-                        .build(),
-                    tempTensorOutputs
-                );
-                int tensorCount = 0;
-                if (tempTensorOutputs.size() > 0 && tempTensorOutputs.get(0).getMlModelTensors() != null) {
-                    tensorCount = tempTensorOutputs.get(0).getMlModelTensors().size();
-                }
-                // This is to support some model which takes N text docs and embedding size is less than N.
-                // We need to tell executor what's the step size for each model run.
-                Map<String, String> parameters = getConnector().getParameters();
-                if (parameters != null && parameters.containsKey("input_docs_processed_step_size")) {
-                    int stepSize = Integer.parseInt(parameters.get("input_docs_processed_step_size"));
-                    // We need to check the parameter on runtime as parameter can be passed into predict request
-                    if (stepSize <= 0) {
-                        throw new IllegalArgumentException(
-                            "Invalid parameter: input_docs_processed_step_size. It must be positive integer."
-                        );
-                    }
-                    processedDocs += stepSize;
-                } else {
-                    processedDocs += Math.max(tensorCount, 1);
-                }
+                preparePayloadAndInvokeRemoteModel(textDocsSlice(textDocsInputDataSet, processedDocs), tempTensorOutputs);
+                processedDocs += processedDocsStep(tempTensorOutputs);
                 tensorOutputs.addAll(tempTensorOutputs);
             }
         } else {
@@ -71,10 +52,134 @@ public interface RemoteConnectorExecutor {
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * Non-blocking version of {@link #executePredict(MLInput)}. The listener is completed when all remote
+     * calls of the input finish, executors with async http client complete it from the I/O callback.
+     * @param mlInput ML input
+     * @param listener action listener
+     */
+    default void executePredict(MLInput mlInput, ActionListener<ModelTensorOutput> listener) {
+        if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
+            TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+            Integer stepSize;
+            int maxConcurrency;
+            try {
+                stepSize = getInputDocsStepSize();
+                maxConcurrency = getInputDocsMaxConcurrency();
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return;
+            }
+            // Slices can only be sent concurrently when slice boundaries are known before calling remote model.
+            // Blocking executors would run the slices one by one on the calling thread anyway, so they skip the fan-out.
+            if (supportsAsyncInvoke() && stepSize != null && maxConcurrency > 1 && textDocsInputDataSet.getDocs().size() > stepSize) {
+                List<MLInput> slices = new ArrayList<>();
+                for (int i = 0; i < textDocsInputDataSet.getDocs().size(); i += stepSize) {
+                    MLInput slice = textDocsSlice(textDocsInputDataSet, i, Math.min(i + stepSize, textDocsInputDataSet.getDocs().size()));
+                    slice.setDeadlineInNanos(mlInput.getDeadlineInNanos());
+                    slices.add(slice);
+                }
+                new TextDocsFanOut(this, slices, maxConcurrency, listener).start();
+            } else {
+                executeTextDocsPredict(textDocsInputDataSet, mlInput.getDeadlineInNanos(), 0, new ArrayList<>(), listener);
+            }
+        } else {
+            preparePayloadAndInvokeRemoteModel(
+                mlInput,
+                ActionListener.wrap(tensors -> listener.onResponse(new ModelTensorOutput(List.of(tensors))), listener::onFailure)
+            );
+        }
+    }
+
+    private void executeTextDocsPredict(
+        TextDocsInputDataSet textDocsInputDataSet,
+        Long deadlineInNanos,
+        int processedDocs,
+        List<ModelTensors> tensorOutputs,
+        ActionListener<ModelTensorOutput> listener
+    ) {
+        if (processedDocs >= textDocsInputDataSet.getDocs().size()) {
+            listener.onResponse(new ModelTensorOutput(tensorOutputs));
+            return;
+        }
+        MLInput slice = textDocsSlice(textDocsInputDataSet, processedDocs);
+        slice.setDeadlineInNanos(deadlineInNanos);
+        preparePayloadAndInvokeRemoteModel(slice, ActionListener.wrap(tensors -> {
+            List<ModelTensors> tempTensorOutputs = List.of(tensors);
+            int nextProcessedDocs = processedDocs + processedDocsStep(tempTensorOutputs);
+            tensorOutputs.addAll(tempTensorOutputs);
+            executeTextDocsPredict(textDocsInputDataSet, deadlineInNanos, nextProcessedDocs, tensorOutputs, listener);
+        }, listener::onFailure));
+    }
+
+    private MLInput textDocsSlice(TextDocsInputDataSet textDocsInputDataSet, int processedDocs) {
+        return textDocsSlice(textDocsInputDataSet, processedDocs, textDocsInputDataSet.getDocs().size());
+    }
+
+    private MLInput textDocsSlice(TextDocsInputDataSet textDocsInputDataSet, int fromIndex, int toIndex) {
+        List<String> textDocs = textDocsInputDataSet.getDocs().subList(fromIndex, toIndex);
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
+            .build();
+    }
+
+    private int processedDocsStep(List<ModelTensors> tempTensorOutputs) {
+        int tensorCount = 0;
+        if (tempTensorOutputs.size() > 0 && tempTensorOutputs.get(0).getMlModelTensors() != null) {
+            tensorCount = tempTensorOutputs.get(0).getMlModelTensors().size();
+        }
+        Integer stepSize = getInputDocsStepSize();
+        return stepSize != null ? stepSize : Math.max(tensorCount, 1);
+    }
+
+    private Integer getInputDocsStepSize() {
+        // This is to support some model which takes N text docs and embedding size is less than N.
+        // We need to tell executor what's the step size for each model run.
+        Map<String, String> parameters = getConnector().getParameters();
+        if (parameters != null && parameters.containsKey(INPUT_DOCS_PROCESSED_STEP_SIZE_FIELD)) {
+            int stepSize = Integer.parseInt(parameters.get(INPUT_DOCS_PROCESSED_STEP_SIZE_FIELD));
+            // We need to check the parameter on runtime as parameter can be passed into predict request
+            if (stepSize <= 0) {
+                throw new IllegalArgumentException("Invalid parameter: input_docs_processed_step_size. It must be positive integer.");
+            }
+            return stepSize;
+        }
+        return null;
+    }
+
+    private int getInputDocsMaxConcurrency() {
+        // Number of text docs slices sent to remote model concurrently, 1 means slices are sent one by one.
+        Map<String, String> parameters = getConnector().getParameters();
+        if (parameters != null && parameters.containsKey(INPUT_DOCS_MAX_CONCURRENCY_FIELD)) {
+            int maxConcurrency = Integer.parseInt(parameters.get(INPUT_DOCS_MAX_CONCURRENCY_FIELD));
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("Invalid parameter: input_docs_max_concurrency. It must be positive integer.");
+            }
+            return maxConcurrency;
+        }
+        return 1;
+    }
+
     default void setScriptService(ScriptService scriptService) {}
 
     ScriptService getScriptService();
 
+    default void setScriptCache(CompiledScriptCache scriptCache) {}
+
+    default CompiledScriptCache getScriptCache() {
+        return null;
+    }
+
+    default void setModelId(String modelId) {}
+
+    default void setPredictExecutor(Executor predictExecutor) {}
+
+    default String getModelId() {
+        return null;
+    }
+
     Connector getConnector();
 
     default void setClient(Client client) {}
@@ -84,9 +189,25 @@ public interface RemoteConnectorExecutor {
     default void setClusterService(ClusterService clusterService) {}
 
     default void preparePayloadAndInvokeRemoteModel(MLInput mlInput, List<ModelTensors> tensorOutputs) {
-        Connector connector = getConnector();
+        Map<String, String> parameters = new HashMap<>();
+        String payload = preparePayload(mlInput, parameters);
+        invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+    }
 
+    default void preparePayloadAndInvokeRemoteModel(MLInput mlInput, ActionListener<ModelTensors> listener) {
         Map<String, String> parameters = new HashMap<>();
+        String payload;
+        try {
+            payload = preparePayload(mlInput, parameters);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        invokeRemoteModel(mlInput, parameters, payload, listener);
+    }
+
+    private String preparePayload(MLInput mlInput, Map<String, String> parameters) {
+        Connector connector = getConnector();
         if (connector.getParameters() != null) {
             parameters.putAll(connector.getParameters());
         }
@@ -95,15 +216,65 @@ public interface RemoteConnectorExecutor {
             parameters.putAll(((RemoteInferenceInputDataSet) inputDataset).getParameters());
         }
 
-        RemoteInferenceInputDataSet inputData = processInput(mlInput, connector, parameters, getScriptService());
+        RemoteInferenceInputDataSet inputData = processInput(
+            mlInput,
+            connector,
+            parameters,
+            getScriptService(),
+            getScriptCache(),
+            getModelId()
+        );
         if (inputData.getParameters() != null) {
             parameters.putAll(inputData.getParameters());
         }
         String payload = connector.createPredictPayload(parameters);
         connector.validatePayload(payload);
-        invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+        return payload;
     }
 
     void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs);
 
+    /**
+     * Whether {@link #invokeRemoteModel(MLInput, Map, String, ActionListener)} is non-blocking. Text docs slices
+     * are only sent concurrently, up to input_docs_max_concurrency, by executors supporting async invoke.
+     * @return true if executor has a non-blocking client
+     */
+    default boolean supportsAsyncInvoke() {
+        return false;
+    }
+
+    /**
+     * Invoke remote model without blocking the calling thread. Executors without a non-blocking client
+     * fall back to the blocking call.
+     * @param mlInput ML input
+     * @param parameters request parameters
+     * @param payload request payload
+     * @param listener action listener to receive model tensors of the call
+     */
+    default void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, ActionListener<ModelTensors> listener) {
+        ModelTensors tensors;
+        try {
+            List<ModelTensors> tensorOutputs = new ArrayList<>();
+            invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+            tensors = tensorOutputs.get(0);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(tensors);
+    }
+
+    /**
+     * Get stats of the connection pool used to call remote model.
+     * @return connection pool stats, null if executor doesn't pool connections
+     */
+    default PoolStats getConnectionPoolStats() {
+        return null;
+    }
+
+    /**
+     * Release resources held by executor, like pooled http connections.
+     */
+    default void close() {}
+
 }
@@ -6,9 +6,12 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
+import org.apache.http.pool.PoolStats;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -34,6 +37,8 @@ public class RemoteModel implements Predictable {
     public static final String SCRIPT_SERVICE = "script_service";
     public static final String CLIENT = "client";
     public static final String XCONTENT_REGISTRY = "xcontent_registry";
+    public static final String SCRIPT_CACHE = "script_cache";
+    public static final String PREDICT_EXECUTOR = "predict_executor";
 
     private RemoteConnectorExecutor connectorExecutor;
 
@@ -42,6 +47,11 @@ public class RemoteModel implements Predictable {
         return this.connectorExecutor;
     }
 
+    @VisibleForTesting
+    void setConnectorExecutor(RemoteConnectorExecutor connectorExecutor) {
+        this.connectorExecutor = connectorExecutor;
+    }
+
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
         throw new IllegalArgumentException(
@@ -65,8 +75,49 @@ public class RemoteModel implements Predictable {
         }
     }
 
+    /**
+     * Predict without blocking the calling thread. The listener is completed from the I/O callback of
+     * the remote call.
+     * @param mlInput input data
+     * @param actionListener action listener
+     */
+    @Override
+    public void predictAsync(MLInput mlInput, ActionListener<MLOutput> actionListener) {
+        if (!isModelReady()) {
+            actionListener
+                .onFailure(
+                    new IllegalArgumentException("Model not ready yet. Please run this first: POST /_plugins/_ml/models/<model_id>/_deploy")
+                );
+            return;
+        }
+        try {
+            connectorExecutor.executePredict(mlInput, ActionListener.wrap(actionListener::onResponse, e -> {
+                log.error("Failed to call remote model", e);
+                actionListener.onFailure(e);
+            }));
+        } catch (Exception e) {
+            log.error("Failed to call remote model", e);
+            actionListener.onFailure(e);
+        }
+    }
+
+    /**
+     * Get stats of the connection pool used to call remote model.
+     * @return connection pool stats, null if no pooled connection created yet
+     */
+    public PoolStats getConnectionPoolStats() {
+        RemoteConnectorExecutor executor = this.connectorExecutor;
+        return executor == null ? null : executor.getConnectionPoolStats();
+    }
+
     @Override
     public void close() {
+        if (this.connectorExecutor != null) {
+            this.connectorExecutor.close();
+            if (this.connectorExecutor.getScriptCache() != null) {
+                this.connectorExecutor.getScriptCache().invalidate(this.connectorExecutor.getModelId());
+            }
+        }
         this.connectorExecutor = null;
     }
 
@@ -85,6 +136,9 @@ public class RemoteModel implements Predictable {
             this.connectorExecutor.setClusterService((ClusterService) params.get(CLUSTER_SERVICE));
             this.connectorExecutor.setClient((Client) params.get(CLIENT));
             this.connectorExecutor.setXContentRegistry((NamedXContentRegistry) params.get(XCONTENT_REGISTRY));
+            this.connectorExecutor.setScriptCache((CompiledScriptCache) params.get(SCRIPT_CACHE));
+            this.connectorExecutor.setModelId(model.getModelId());
+            this.connectorExecutor.setPredictExecutor((Executor) params.get(PREDICT_EXECUTOR));
         } catch (RuntimeException e) {
             log.error("Failed to init remote model", e);
             throw e;
@@ -0,0 +1,202 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+
+import com.jayway.jsonpath.PathNotFoundException;
+
+/**
+ * Extracts embedding vectors from remote model response while parsing the response stream, so large responses
+ * are not materialized as string or map before the vectors are read into float arrays.
+ * Supports the subset of JSON path used by response filters of embedding models: root "$" followed by
+ * ".field", "['field']", "[*]", ".*" and "[index]" segments. Same as {@link com.jayway.jsonpath.JsonPath#read},
+ * a definite path must point to an array of vectors, and each match of an indefinite path must be one vector.
+ */
+class StreamingVectorParser {
+
+    private static final Pattern SEGMENT_PATTERN = Pattern
+        .compile("\\.([A-Za-z0-9_\\-]+)|\\.\\*|\\[\\*]|\\[(\\d+)]|\\['([^']+)']|\\[\"([^\"]+)\"]");
+
+    private final List<Segment> segments;
+    private final boolean definite;
+
+    private StreamingVectorParser(List<Segment> segments) {
+        this.segments = segments;
+        this.definite = segments.stream().allMatch(segment -> segment.type != SegmentType.WILDCARD);
+    }
+
+    /**
+     * Create parser for a response filter.
+     * @param jsonPath JSON path of response filter
+     * @return parser, or null if the path uses syntax which can't be evaluated while streaming
+     */
+    static StreamingVectorParser create(String jsonPath) {
+        if (jsonPath == null || !jsonPath.startsWith("$")) {
+            return null;
+        }
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = SEGMENT_PATTERN.matcher(jsonPath);
+        int position = 1;
+        while (position < jsonPath.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                return null;
+            }
+            if (matcher.group(1) != null) {
+                segments.add(new Segment(SegmentType.FIELD, matcher.group(1), -1));
+            } else if (matcher.group(2) != null) {
+                segments.add(new Segment(SegmentType.INDEX, null, Integer.parseInt(matcher.group(2))));
+            } else if (matcher.group(3) != null || matcher.group(4) != null) {
+                segments.add(new Segment(SegmentType.FIELD, matcher.group(3) != null ? matcher.group(3) : matcher.group(4), -1));
+            } else {
+                segments.add(new Segment(SegmentType.WILDCARD, null, -1));
+            }
+            position = matcher.end();
+        }
+        return new StreamingVectorParser(segments);
+    }
+
+    /**
+     * Read vectors selected by the JSON path from response stream.
+     * @param response response stream, not closed by this method
+     * @return vectors in the order they appear in response
+     */
+    List<float[]> parse(InputStream response) throws IOException {
+        List<float[]> vectors = new ArrayList<>();
+        boolean found;
+        try (
+            XContentParser parser = XContentType.JSON
+                .xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, response)
+        ) {
+            if (parser.nextToken() == null) {
+                throw new IllegalArgumentException("model response is empty");
+            }
+            found = match(parser, 0, vectors);
+        }
+        if (definite && !found) {
+            throw new PathNotFoundException("No results for path: " + toString());
+        }
+        return vectors;
+    }
+
+    /**
+     * Match path segments from the given depth against the value at current token. The whole value is consumed.
+     * @return true if the value matched the remaining path
+     */
+    private boolean match(XContentParser parser, int depth, List<float[]> vectors) throws IOException {
+        if (depth == segments.size()) {
+            if (definite) {
+                readVectors(parser, vectors);
+            } else {
+                vectors.add(readVector(parser));
+            }
+            return true;
+        }
+        Segment segment = segments.get(depth);
+        XContentParser.Token token = parser.currentToken();
+        boolean found = false;
+        if (token == XContentParser.Token.START_OBJECT && segment.type != SegmentType.INDEX) {
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if (segment.type == SegmentType.WILDCARD || (!found && segment.name.equals(fieldName))) {
+                    found |= match(parser, depth + 1, vectors);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else if (token == XContentParser.Token.START_ARRAY && segment.type != SegmentType.FIELD) {
+            int index = 0;
+            while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                if (segment.type == SegmentType.WILDCARD || segment.index == index) {
+                    found |= match(parser, depth + 1, vectors);
+                } else {
+                    parser.skipChildren();
+                }
+                index++;
+            }
+        } else {
+            parser.skipChildren();
+        }
+        return found;
+    }
+
+    private void readVectors(XContentParser parser, List<float[]> vectors) throws IOException {
+        if (parser.currentToken() != XContentParser.Token.START_ARRAY) {
+            throw new IllegalArgumentException("The response filter doesn't point to a list of embeddings: " + toString());
+        }
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            vectors.add(readVector(parser));
+        }
+    }
+
+    private float[] readVector(XContentParser parser) throws IOException {
+        if (parser.currentToken() != XContentParser.Token.START_ARRAY) {
+            throw new IllegalArgumentException("The embedding is not a list of numbers: " + toString());
+        }
+        float[] vector = new float[16];
+        int size = 0;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+            if (token != XContentParser.Token.VALUE_NUMBER) {
+                throw new IllegalArgumentException("The embedding is not a list of numbers: " + toString());
+            }
+            if (size == vector.length) {
+                vector = Arrays.copyOf(vector, size * 2);
+            }
+            vector[size++] = parser.floatValue();
+        }
+        return size == vector.length ? vector : Arrays.copyOf(vector, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder path = new StringBuilder("$");
+        for (Segment segment : segments) {
+            switch (segment.type) {
+                case FIELD:
+                    path.append("['").append(segment.name).append("']");
+                    break;
+                case INDEX:
+                    path.append('[').append(segment.index).append(']');
+                    break;
+                default:
+                    path.append("[*]");
+            }
+        }
+        return path.toString();
+    }
+
+    private enum SegmentType {
+        FIELD,
+        INDEX,
+        WILDCARD
+    }
+
+    private static class Segment {
+        private final SegmentType type;
+        private final String name;
+        private final int index;
+
+        Segment(SegmentType type, String name, int index) {
+            this.type = type;
+            this.name = name;
+            this.index = index;
+        }
+    }
+}
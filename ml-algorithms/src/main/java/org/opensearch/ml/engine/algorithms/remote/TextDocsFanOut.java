@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Dispatches text docs slices of one predict request to remote model concurrently.
+ * At most max concurrency slices are in flight, the next slice is only sent when a previous one completes,
+ * so a large request can't flood the connection pool. Outputs are reassembled in slice order. The first
+ * failed slice fails the whole request and no more slices are sent.
+ */
+@Log4j2
+class TextDocsFanOut {
+
+    private final RemoteConnectorExecutor executor;
+    private final List<MLInput> slices;
+    private final int maxConcurrency;
+    private final ActionListener<ModelTensorOutput> listener;
+    private final AtomicReferenceArray<ModelTensors> sliceOutputs;
+    private final AtomicInteger nextSlice;
+    private final AtomicInteger completedSlices;
+    private final AtomicBoolean failed;
+
+    TextDocsFanOut(RemoteConnectorExecutor executor, List<MLInput> slices, int maxConcurrency, ActionListener<ModelTensorOutput> listener) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("max concurrency must be positive");
+        }
+        this.executor = executor;
+        this.slices = slices;
+        this.maxConcurrency = maxConcurrency;
+        this.listener = listener;
+        this.sliceOutputs = new AtomicReferenceArray<>(slices.size());
+        this.nextSlice = new AtomicInteger();
+        this.completedSlices = new AtomicInteger();
+        this.failed = new AtomicBoolean(false);
+    }
+
+    void start() {
+        if (slices.isEmpty()) {
+            listener.onResponse(new ModelTensorOutput(new ArrayList<>()));
+            return;
+        }
+        int initialSlices = Math.min(maxConcurrency, slices.size());
+        for (int i = 0; i < initialSlices; i++) {
+            dispatchNext();
+        }
+    }
+
+    private void dispatchNext() {
+        if (failed.get()) {
+            return;
+        }
+        int index = nextSlice.getAndIncrement();
+        if (index >= slices.size()) {
+            return;
+        }
+        try {
+            executor.preparePayloadAndInvokeRemoteModel(slices.get(index), ActionListener.wrap(tensors -> {
+                sliceOutputs.set(index, tensors);
+                if (completedSlices.incrementAndGet() == slices.size()) {
+                    onAllSlicesCompleted();
+                } else {
+                    dispatchNext();
+                }
+            }, this::onSliceFailure));
+        } catch (Exception e) {
+            onSliceFailure(e);
+        }
+    }
+
+    private void onAllSlicesCompleted() {
+        List<ModelTensors> tensorOutputs = new ArrayList<>(slices.size());
+        for (int i = 0; i < slices.size(); i++) {
+            tensorOutputs.add(sliceOutputs.get(i));
+        }
+        listener.onResponse(new ModelTensorOutput(tensorOutputs));
+    }
+
+    private void onSliceFailure(Exception e) {
+        if (failed.compareAndSet(false, true)) {
+            listener.onFailure(e);
+        } else {
+            log.debug("Ignore failure of text docs slice as predict request already failed", e);
+        }
+    }
+}
@@ -13,8 +13,13 @@
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.Map;
 
+import org.opensearch.ml.engine.algorithms.PaddingStackBatchifier;
+
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.ndarray.NDArray;
@@ -30,6 +35,7 @@ import ai.djl.translate.TranslatorContext;
 public class HuggingfaceTextEmbeddingTranslator implements Translator<String, float[]> {
 
     private static final int[] AXIS = { 0 };
+    private static final String ENCODINGS = "encodings";
 
     private HuggingFaceTokenizer tokenizer;
     private Batchifier batchifier;
@@ -62,7 +68,8 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     public NDList processInput(TranslatorContext ctx, String input) {
         NDManager manager = ctx.getNDManager();
         Encoding encoding = tokenizer.encode(input);
-        ctx.setAttachment("encoding", encoding);
+        // Inputs of a batch share the translator context, keep encodings in order to match outputs in processOutput.
+        getEncodings(ctx).addLast(encoding);
         long[] indices = encoding.getIds();
         long[] attentionMask = encoding.getAttentionMask();
         NDList ndList = new NDList(2);
@@ -82,8 +89,13 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         if (embeddings == null) {
             embeddings = list.get(0);
         }
-        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
+        Encoding encoding = getEncodings(ctx).pollFirst();
         long[] attentionMask = encoding.getAttentionMask();
+        long sequenceLength = embeddings.getShape().get(0);
+        if (attentionMask.length < sequenceLength) {
+            // Input was padded to the longest sequence of the batch, padding tokens are masked out.
+            attentionMask = Arrays.copyOf(attentionMask, (int) sequenceLength);
+        }
         NDManager manager = ctx.getNDManager();
         NDArray inputAttentionMask = manager.create(attentionMask).toType(DataType.FLOAT32, true);
         switch (pooling) {
@@ -146,6 +158,16 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         return embeddingSum.div(maskSum);
     }
 
+    @SuppressWarnings("unchecked")
+    private Deque<Encoding> getEncodings(TranslatorContext ctx) {
+        Deque<Encoding> encodings = (Deque<Encoding>) ctx.getAttachment(ENCODINGS);
+        if (encodings == null) {
+            encodings = new ArrayDeque<>();
+            ctx.setAttachment(ENCODINGS, encodings);
+        }
+        return encodings;
+    }
+
     /**
      * Creates a builder to build a {@code TextEmbeddingTranslator}.
      *
@@ -174,7 +196,7 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     public static final class Builder {
 
         private HuggingFaceTokenizer tokenizer;
-        private Batchifier batchifier = Batchifier.STACK;
+        private Batchifier batchifier = new PaddingStackBatchifier();
         private boolean normalize = false;
         private boolean inputTokenTypeIds = false;
         private String pooling = "mean";
@@ -237,8 +259,10 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
          * @param arguments the model arguments
          */
         public void configure(Map<String, ?> arguments) {
-            String batchifierStr = ArgumentsUtil.stringValue(arguments, "batchifier", "stack");
-            optBatchifier(Batchifier.fromString(batchifierStr));
+            String batchifierStr = ArgumentsUtil.stringValue(arguments, "batchifier");
+            if (batchifierStr != null) {
+                optBatchifier(Batchifier.fromString(batchifierStr));
+            }
             optNormalize(ArgumentsUtil.booleanValue(arguments, "normalize", false));
             optInputTokenTypeIds(ArgumentsUtil.booleanValue(arguments, "inputTokenTypeIds", false));
             optPoolingMode(ArgumentsUtil.stringValue(arguments, "pooling", "mean"));
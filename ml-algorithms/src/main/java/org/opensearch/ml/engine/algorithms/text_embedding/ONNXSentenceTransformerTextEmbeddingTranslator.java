@@ -9,7 +9,10 @@ import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDe
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +20,8 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsBytesSupplier;
+import org.opensearch.ml.engine.algorithms.PaddingStackBatchifier;
 
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
@@ -25,12 +30,15 @@ import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
 
 public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTranslator {
     private static final int[] AXIS = { 0 };
+    private static final String ENCODINGS = "encodings";
+    private static final Batchifier BATCHIFIER = new PaddingStackBatchifier();
     private HuggingFaceTokenizer tokenizer;
     private TextEmbeddingModelConfig.PoolingMode poolingMode;
     private boolean normalizeResult;
@@ -48,8 +56,7 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
 
     @Override
     public Batchifier getBatchifier() {
-        return null;
-
+        return BATCHIFIER;
     }
 
     @Override
@@ -65,19 +72,20 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         NDList ndList = new NDList();
 
         Encoding encode = tokenizer.encode(sentence);
-        ctx.setAttachment("encoding", encode);
+        // Inputs of a batch share the translator context, keep encodings in order to match outputs in processOutput.
+        getEncodings(ctx).addLast(encode);
         long[] indices = encode.getIds();
         long[] attentionMask = encode.getAttentionMask();
 
-        NDArray indicesArray = manager.create(indices).expandDims(0);
+        NDArray indicesArray = manager.create(indices);
         indicesArray.setName("input_ids");
-        NDArray attentionMaskArray = manager.create(attentionMask).expandDims(0);
+        NDArray attentionMaskArray = manager.create(attentionMask);
         attentionMaskArray.setName("attention_mask");
         ndList.add(indicesArray);
         ndList.add(attentionMaskArray);
         if ("bert".equalsIgnoreCase(modelType) || "albert".equalsIgnoreCase(modelType)) {
             long[] tokenTypeIds = encode.getTypeIds();
-            NDArray tokenTypeIdsArray = manager.create(tokenTypeIds).expandDims(0);
+            NDArray tokenTypeIdsArray = manager.create(tokenTypeIds);
             tokenTypeIdsArray.setName("token_type_ids");
             ndList.add(tokenTypeIdsArray);
         }
@@ -92,8 +100,13 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         if (shapeLength == 3) {
             embeddings = embeddings.get(0);
         }
-        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
+        Encoding encoding = getEncodings(ctx).pollFirst();
         long[] attentionMask = encoding.getAttentionMask();
+        long sequenceLength = embeddings.getShape().get(0);
+        if (attentionMask.length < sequenceLength) {
+            // Input was padded to the longest sequence of the batch, padding tokens are masked out.
+            attentionMask = Arrays.copyOf(attentionMask, (int) sequenceLength);
+        }
         NDManager manager = ctx.getNDManager();
         NDArray inputAttentionMask = manager.create(attentionMask);
         switch (this.poolingMode) {
@@ -120,13 +133,13 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
             embeddings = embeddings.normalize(2, 0);
         }
 
-        Number[] data = embeddings.toArray();
+        float[] data = embeddings.toType(DataType.FLOAT32, false).toFloatArray();
         List<ModelTensor> outputs = new ArrayList<>();
         long[] shape = embeddings.getShape().getShape();
         ModelTensor modelTensor = ModelTensor
             .builder()
             .name(SENTENCE_EMBEDDING)
-            .data(data)
+            .floatData(data)
             .shape(shape)
             .dataType(MLResultDataType.FLOAT32)
             .build();
@@ -134,7 +147,7 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
 
         Output output = new Output();
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsBytesSupplier(modelTensorOutput));
         return output;
     }
 
@@ -172,6 +185,16 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         return embeddingSum.div(maskSum);
     }
 
+    @SuppressWarnings("unchecked")
+    private Deque<Encoding> getEncodings(TranslatorContext ctx) {
+        Deque<Encoding> encodings = (Deque<Encoding>) ctx.getAttachment(ENCODINGS);
+        if (encodings == null) {
+            encodings = new ArrayDeque<>();
+            ctx.setAttachment(ENCODINGS, encodings);
+        }
+        return encodings;
+    }
+
     @Override
     public void setArguments(Map<String, ?> arguments) {}
 }
@@ -18,6 +18,7 @@
 package org.opensearch.ml.engine.algorithms.text_similarity;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -25,6 +26,7 @@ import java.util.List;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsBytesSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.huggingface.tokenizers.Encoding;
@@ -74,24 +76,28 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = SIMILARITY_NAME;
-            Number[] data = ndArray.toArray();
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
-            ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
+            // copy to heap, native memory of ndArray is freed when predictor manager is closed
+            ByteBuffer buffer = ByteBuffer.wrap(ndArray.toByteArray()).order(ByteOrder.nativeOrder());
+            ModelTensor.ModelTensorBuilder tensorBuilder = ModelTensor
                 .builder()
                 .name(name)
-                .data(data)
                 .shape(shape)
                 .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
+                .byteBuffer(buffer);
+            if (dataType == DataType.FLOAT32) {
+                tensorBuilder.floatData(ndArray.toFloatArray());
+            } else {
+                tensorBuilder.data(ndArray.toArray());
+            }
+            ModelTensor tensor = tensorBuilder.build();
             outputs.add(tensor);
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsBytesSupplier(modelTensorOutput));
         return output;
     }
 
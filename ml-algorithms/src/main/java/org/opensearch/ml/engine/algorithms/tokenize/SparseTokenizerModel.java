@@ -31,6 +31,7 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.ModelTensorsBytesSupplier;
 import org.opensearch.ml.engine.annotation.Function;
 
 import com.google.gson.reflect.TypeToken;
@@ -91,7 +92,7 @@ public class SparseTokenizerModel extends DLModel {
             ModelTensor tensor = ModelTensor.builder().dataAsMap(wrappedMap).build();
             outputs.add(tensor);
             ModelTensors modelTensorOutput = new ModelTensors(outputs);
-            output.add(modelTensorOutput.toBytes());
+            output.add(new ModelTensorsBytesSupplier(modelTensorOutput));
             tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
         }
         return new ModelTensorOutput(tensorOutputs);
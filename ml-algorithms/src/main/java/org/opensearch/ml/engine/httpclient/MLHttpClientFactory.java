@@ -9,16 +9,30 @@ import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.SchemePortResolver;
 import org.apache.http.conn.UnsupportedSchemeException;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.protocol.HttpContext;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -32,28 +46,102 @@ public class MLHttpClientFactory {
         return createHttpClient();
     }
 
+    /**
+     * Create a connection pool for async http client. The pool keeps connections alive between requests,
+     * so one pool should be shared by all requests to the same remote service.
+     * @param connectionTimeoutInMillis timeout to establish a connection
+     * @param readTimeoutInMillis socket timeout waiting for data
+     * @param maxConnections max connections per route and in total
+     * @return connection pool
+     * @throws IOReactorException if the I/O reactor can't be created
+     */
+    public static PoolingNHttpClientConnectionManager createConnectionManager(
+        int connectionTimeoutInMillis,
+        int readTimeoutInMillis,
+        int maxConnections
+    ) throws IOReactorException {
+        IOReactorConfig ioReactorConfig = IOReactorConfig
+            .custom()
+            .setConnectTimeout(connectionTimeoutInMillis)
+            .setSoTimeout(readTimeoutInMillis)
+            .setSoKeepAlive(true)
+            .build();
+        Registry<SchemeIOSessionStrategy> sessionStrategyRegistry = RegistryBuilder
+            .<SchemeIOSessionStrategy>create()
+            .register("http", NoopIOSessionStrategy.INSTANCE)
+            .register("https", SSLIOSessionStrategy.getDefaultStrategy())
+            .build();
+        PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(
+            new DefaultConnectingIOReactor(ioReactorConfig),
+            null,
+            sessionStrategyRegistry,
+            createSchemePortResolver(),
+            MLHttpClientFactory::validateIp,
+            -1,
+            TimeUnit.MILLISECONDS
+        );
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        return connectionManager;
+    }
+
+    /**
+     * Create async http client on top of a connection pool. Caller must start the client before use
+     * and close it when it's not needed any more, closing the client shuts down the connection pool.
+     * @param connectionManager connection pool
+     * @param connectionTimeoutInMillis timeout to establish a connection
+     * @param readTimeoutInMillis socket timeout waiting for data
+     * @return async http client
+     */
+    public static CloseableHttpAsyncClient getAsyncHttpClient(
+        PoolingNHttpClientConnectionManager connectionManager,
+        int connectionTimeoutInMillis,
+        int readTimeoutInMillis
+    ) {
+        RequestConfig requestConfig = RequestConfig
+            .custom()
+            .setConnectTimeout(connectionTimeoutInMillis)
+            .setConnectionRequestTimeout(connectionTimeoutInMillis)
+            .setSocketTimeout(readTimeoutInMillis)
+            .build();
+        return HttpAsyncClients
+            .custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .setRedirectStrategy(createNoRedirectStrategy())
+            .build();
+    }
+
     private static CloseableHttpClient createHttpClient() {
         HttpClientBuilder builder = HttpClientBuilder.create();
 
+        builder.setSchemePortResolver(createSchemePortResolver());
+
+        builder.setDnsResolver(MLHttpClientFactory::validateIp);
+
+        builder.setRedirectStrategy(createNoRedirectStrategy());
+        return builder.build();
+    }
+
+    private static SchemePortResolver createSchemePortResolver() {
         // Only allow HTTP and HTTPS schemes
-        builder.setSchemePortResolver(new DefaultSchemePortResolver() {
+        return new DefaultSchemePortResolver() {
             @Override
             public int resolve(HttpHost host) throws UnsupportedSchemeException {
                 validateSchemaAndPort(host);
                 return super.resolve(host);
             }
-        });
-
-        builder.setDnsResolver(MLHttpClientFactory::validateIp);
+        };
+    }
 
-        builder.setRedirectStrategy(new LaxRedirectStrategy() {
+    private static LaxRedirectStrategy createNoRedirectStrategy() {
+        return new LaxRedirectStrategy() {
             @Override
             public boolean isRedirected(HttpRequest request, HttpResponse response, HttpContext context) {
                 // Do not follow redirects
                 return false;
             }
-        });
-        return builder.build();
+        };
     }
 
     @VisibleForTesting
@@ -14,18 +14,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 
 import org.opensearch.ml.common.exception.MLException;
 
-import com.google.common.hash.HashCode;
-import com.google.common.hash.Hashing;
-import com.google.common.io.ByteSource;
-
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -34,40 +28,6 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class FileUtils {
 
-    /**
-     * Split file into smaller chunks evenly.
-     * @param file file to be split
-     * @param outputPath output path
-     * @param chunkSize chunk size
-     * @return a list of chunk file names
-     * @throws IOException
-     */
-    public static List<String> splitFileIntoChunks(File file, Path outputPath, int chunkSize) throws IOException {
-        int fileSize = (int) file.length();
-        ArrayList<String> nameList = new ArrayList<>();
-        try (InputStream inStream = new BufferedInputStream(new FileInputStream(file))) {
-            int numberOfChunk = 0;
-            int totalBytesRead = 0;
-            while (totalBytesRead < fileSize) {
-                String partName = numberOfChunk + "";
-                int bytesRemaining = fileSize - totalBytesRead;
-                if (bytesRemaining < chunkSize) {
-                    chunkSize = bytesRemaining;
-                }
-                byte[] temporary = new byte[chunkSize];
-                int bytesRead = inStream.read(temporary, 0, chunkSize);
-                if (bytesRead > 0) {
-                    totalBytesRead += bytesRead;
-                    numberOfChunk++;
-                }
-                Path partFileName = outputPath.resolve(partName + "");
-                write(temporary, partFileName.toString());
-                nameList.add(partFileName.toString());
-            }
-        }
-        return nameList;
-    }
-
     /**
      * Write bytes to a file.
      * @param data bytes data
@@ -131,18 +91,6 @@ public class FileUtils {
         }
     }
 
-    /**
-     * Calculate sha256 hash value of file.
-     * @param file file
-     * @return sha256 hash value
-     * @throws IOException
-     */
-    public static String calculateFileHash(File file) throws IOException {
-        ByteSource byteSource = com.google.common.io.Files.asByteSource(file);
-        HashCode hc = byteSource.hash(Hashing.sha256());
-        return hc.toString();
-    }
-
     /**
      * Delete file quietly.
      * @param path file path
@@ -47,7 +47,11 @@ public class ScriptUtils {
 
     public static String executeScript(ScriptService scriptService, String painlessScript, Map<String, Object> params) {
         Script script = new Script(ScriptType.INLINE, "painless", painlessScript, Collections.emptyMap());
-        TemplateScript templateScript = scriptService.compile(script, TemplateScript.CONTEXT).newInstance(params);
+        return executeScript(scriptService.compile(script, TemplateScript.CONTEXT), params);
+    }
+
+    public static String executeScript(TemplateScript.Factory scriptFactory, Map<String, Object> params) {
+        TemplateScript templateScript = scriptFactory.newInstance(params);
         return templateScript.execute();
     }
 }
@@ -9,6 +9,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.ml.engine.helper.LinearRegressionHelper.constructLinearRegressionPredictionDataFrame;
 import static org.opensearch.ml.engine.helper.LinearRegressionHelper.constructLinearRegressionTrainDataFrame;
 import static org.opensearch.ml.engine.helper.MLTestHelper.constructTestDataFrame;
@@ -24,6 +27,7 @@ import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.opensearch.core.action.ActionListener;
@@ -43,6 +47,7 @@ import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.input.parameter.regression.LinearRegressionParams;
 import org.opensearch.ml.common.model.MLModelFormat;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.output.Output;
 import org.opensearch.ml.common.output.execute.samplecalculator.LocalSampleCalculatorOutput;
@@ -91,6 +96,22 @@ public class MLEngineTest {
         predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
     }
 
+    @Test
+    public void predictKMeans_WithCache() {
+        MLModel model = trainKMeansModel();
+        model.setModelId("test_model_id");
+        PredictableCache cache = new PredictableCache(1024 * 1024);
+        DataFrame predictionDataFrame = constructTestDataFrame(10);
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(predictionDataFrame).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        MLPredictionOutput output = (MLPredictionOutput) mlEngine.predict(mlInput, model, 1, cache);
+        assertEquals(10, output.getPredictionResult().size());
+        output = (MLPredictionOutput) mlEngine.predict(mlInput, model, 1, cache);
+        assertEquals(10, output.getPredictionResult().size());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
     @Test
     public void predictLinearRegression() {
         MLModel model = trainLinearRegressionModel();
@@ -114,6 +135,40 @@ public class MLEngineTest {
         assertEquals(2, predictions.size());
     }
 
+    @Test
+    public void predictAsyncLinearRegressionModel() {
+        MLModel model = trainLinearRegressionModel();
+        Predictable predictor = mlEngine.deploy(model, null);
+        DataFrame predictionDataFrame = constructLinearRegressionPredictionDataFrame();
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(predictionDataFrame).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.LINEAR_REGRESSION).inputDataset(inputDataset).build();
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        mlEngine.predictAsync(mlInput, predictor, listener);
+        ArgumentCaptor<MLOutput> captor = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener).onResponse(captor.capture());
+        assertEquals(2, ((MLPredictionOutput) captor.getValue()).getPredictionResult().size());
+    }
+
+    @Test
+    public void predictAsync_NotDeployedModel() {
+        Predictable predictor = new LinearRegression();
+        DataFrame predictionDataFrame = constructLinearRegressionPredictionDataFrame();
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(predictionDataFrame).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.LINEAR_REGRESSION).inputDataset(inputDataset).build();
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        mlEngine.predictAsync(mlInput, predictor, listener);
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        assertEquals("model not deployed", captor.getValue().getMessage());
+    }
+
+    @Test
+    public void predictAsync_NullInput() {
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        mlEngine.predictAsync(null, new LinearRegression(), listener);
+        verify(listener).onFailure(any(IllegalArgumentException.class));
+    }
+
     @Test
     public void deployLinearRegressionModel_NullModel() {
         exceptionRule.expect(IllegalArgumentException.class);
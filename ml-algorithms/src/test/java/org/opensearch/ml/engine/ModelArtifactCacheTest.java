@@ -0,0 +1,247 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelArtifactCacheTest {
+
+    private static final String HASH_1 = "c446f747520bcc6af053813cb1e8d34944a7c4686bbb405aeaa23883b5a806c8";
+    private static final String HASH_2 = "14555a1b2c3d4e5f14555a1b2c3d4e5f14555a1b2c3d4e5f14555a1b2c3d4e5f";
+    private static final String HASH_3 = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    private static final String MODEL_ID = "modelId";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private Path rootPath;
+    private ModelArtifactCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        rootPath = tempFolder.newFolder("artifacts").toPath();
+        cache = new ModelArtifactCache(rootPath, 100);
+    }
+
+    @Test
+    public void putAndCopyTo() throws IOException {
+        Path modelPath = createModel("model", 10);
+        cache.put(HASH_1, MODEL_ID, modelPath);
+        assertTrue(cache.contains(HASH_1, MODEL_ID));
+        assertFalse(cache.contains(HASH_2, MODEL_ID));
+
+        Path targetPath = tempFolder.getRoot().toPath().resolve("target");
+        assertTrue(cache.copyTo(HASH_1, MODEL_ID, targetPath));
+        assertEquals("01234567", Files.readString(targetPath.resolve("model.pt")));
+        assertEquals("{}", Files.readString(targetPath.resolve("sub").resolve("tokenizer.json")));
+
+        // cached artifact is kept when deployed model files are deleted
+        FileUtils.deleteDirectory(modelPath.toFile());
+        FileUtils.deleteDirectory(targetPath.toFile());
+        assertTrue(cache.contains(HASH_1, MODEL_ID));
+    }
+
+    @Test
+    public void copyTo_NotCached() {
+        assertFalse(cache.copyTo(HASH_1, MODEL_ID, tempFolder.getRoot().toPath().resolve("target")));
+        assertFalse(cache.copyTo(null, MODEL_ID, tempFolder.getRoot().toPath().resolve("target")));
+        assertFalse(cache.copyTo("../model", MODEL_ID, tempFolder.getRoot().toPath().resolve("target")));
+    }
+
+    @Test
+    public void contains_OtherModelWithSameHash() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        // content hash of another model is not trusted until content of that model matched it
+        assertFalse(cache.contains(HASH_1, "otherModelId"));
+        assertFalse(cache.contains(HASH_1, null));
+        assertFalse(cache.copyTo(HASH_1, "otherModelId", tempFolder.getRoot().toPath().resolve("target")));
+
+        cache.put(HASH_1, "otherModelId", createModel("otherModel", 10));
+        assertTrue(cache.contains(HASH_1, "otherModelId"));
+        assertTrue(cache.contains(HASH_1, MODEL_ID));
+    }
+
+    @Test
+    public void contains_ChangedFile() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        Files.write(rootPath.resolve(HASH_1).resolve("model.pt"), "changed".getBytes(StandardCharsets.UTF_8));
+        assertFalse(cache.contains(HASH_1, MODEL_ID));
+        assertFalse(Files.exists(rootPath.resolve(HASH_1)));
+    }
+
+    @Test
+    public void copyTo_ChangedFileOfSameSize() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        Files.write(rootPath.resolve(HASH_1).resolve("model.pt"), "76543210".getBytes(StandardCharsets.UTF_8));
+        assertTrue(cache.contains(HASH_1, MODEL_ID));
+
+        Path targetPath = tempFolder.getRoot().toPath().resolve("target");
+        assertFalse(cache.copyTo(HASH_1, MODEL_ID, targetPath));
+        assertFalse(Files.exists(targetPath));
+        assertFalse(Files.exists(rootPath.resolve(HASH_1)));
+    }
+
+    @Test
+    public void copyTo_DeployedFilesChanged() throws IOException {
+        Path modelPath = createModel("model", 10);
+        cache.put(HASH_1, MODEL_ID, modelPath);
+        Path targetPath = tempFolder.getRoot().toPath().resolve("target");
+        assertTrue(cache.copyTo(HASH_1, MODEL_ID, targetPath));
+
+        // cached files are not shared with source or deployed model files
+        Files.write(modelPath.resolve("model.pt"), "76543210".getBytes(StandardCharsets.UTF_8));
+        Files.write(targetPath.resolve("model.pt"), "76543210".getBytes(StandardCharsets.UTF_8));
+        Path newTargetPath = tempFolder.getRoot().toPath().resolve("target2");
+        assertTrue(cache.copyTo(HASH_1, MODEL_ID, newTargetPath));
+        assertEquals("01234567", Files.readString(newTargetPath.resolve("model.pt")));
+    }
+
+    @Test
+    public void contains_ManifestWithoutHashes() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        byte[] manifest = "8 model.pt\n2 sub/tokenizer.json\n".getBytes(StandardCharsets.UTF_8);
+        Files.write(rootPath.resolve(HASH_1).resolve(ModelArtifactCache.MANIFEST_FILE), manifest);
+        assertFalse(cache.contains(HASH_1, MODEL_ID));
+        assertFalse(Files.exists(rootPath.resolve(HASH_1)));
+    }
+
+    @Test
+    public void put_Disabled() throws IOException {
+        cache.setMaxSizeInBytes(0);
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        assertFalse(Files.exists(rootPath.resolve(HASH_1)));
+        assertFalse(cache.contains(HASH_1, MODEL_ID));
+    }
+
+    @Test
+    public void put_TooLarge() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 200));
+        assertFalse(cache.contains(HASH_1, MODEL_ID));
+    }
+
+    @Test
+    public void put_EvictLeastRecentlyUsed() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model1", 40));
+        cache.put(HASH_2, MODEL_ID, createModel("model2", 40));
+        setLastAccessTime(HASH_1, 1000);
+        setLastAccessTime(HASH_2, 2000);
+
+        cache.put(HASH_3, MODEL_ID, createModel("model3", 40));
+        assertFalse(cache.contains(HASH_1, MODEL_ID));
+        assertTrue(cache.contains(HASH_2, MODEL_ID));
+        assertTrue(cache.contains(HASH_3, MODEL_ID));
+    }
+
+    @Test
+    public void put_RemoveLeftover() throws IOException {
+        Files.createDirectories(rootPath.resolve(HASH_2 + ".tmp"));
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        assertFalse(Files.exists(rootPath.resolve(HASH_2 + ".tmp")));
+        assertTrue(cache.contains(HASH_1, MODEL_ID));
+    }
+
+    @Test
+    public void remove() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        cache.remove(HASH_1);
+        assertFalse(cache.contains(HASH_1, MODEL_ID));
+    }
+
+    @Test
+    public void getFilesAndRead() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        Map<String, Long> files = cache.getFiles(HASH_1, MODEL_ID);
+        assertEquals(Long.valueOf(8), files.get("model.pt"));
+        assertEquals(Long.valueOf(2), files.get("sub/tokenizer.json"));
+        assertNull(cache.getFiles(HASH_2, MODEL_ID));
+        Map<String, String> fileHashes = cache.getFileHashes(HASH_1, MODEL_ID);
+        assertEquals("924592b9b103f14f833faafb67f480691f01988aa457c0061769f58cd47311bc", fileHashes.get("model.pt"));
+        assertEquals(2, fileHashes.size());
+        assertNull(cache.getFileHashes(HASH_2, MODEL_ID));
+
+        assertEquals("2345", new String(cache.read(HASH_1, MODEL_ID, "model.pt", 2, 4), StandardCharsets.UTF_8));
+        assertEquals("67", new String(cache.read(HASH_1, MODEL_ID, "model.pt", 6, 100), StandardCharsets.UTF_8));
+        assertEquals(0, cache.read(HASH_1, MODEL_ID, "model.pt", 8, 100).length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void read_Manifest() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        cache.read(HASH_1, MODEL_ID, ModelArtifactCache.MANIFEST_FILE, 0, 100);
+    }
+
+    @Test
+    public void getFilesAndRead_OtherModel() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        assertNull(cache.getFiles(HASH_1, "otherModelId"));
+        assertNull(cache.getFileHashes(HASH_1, "otherModelId"));
+        assertThrows(IllegalArgumentException.class, () -> cache.read(HASH_1, "otherModelId", "model.pt", 0, 100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void read_Models() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        cache.read(HASH_1, MODEL_ID, ModelArtifactCache.MODELS_FILE, 0, 100);
+    }
+
+    @Test
+    public void move() throws IOException {
+        Path modelPath = createModel("model", 10);
+        Map<String, String> fileHashes = Map
+            .of(
+                "model.pt",
+                "924592b9b103f14f833faafb67f480691f01988aa457c0061769f58cd47311bc",
+                "sub/tokenizer.json",
+                "44136fa355b3678a1146ad16f7e8649e94fb4fc21fe77e8310c060f61caaff8a"
+            );
+        cache.move(HASH_1, MODEL_ID, modelPath, fileHashes);
+        assertFalse(Files.exists(modelPath));
+        assertEquals(fileHashes, cache.getFileHashes(HASH_1, MODEL_ID));
+
+        Path targetPath = tempFolder.getRoot().toPath().resolve("target");
+        assertTrue(cache.copyTo(HASH_1, MODEL_ID, targetPath));
+        assertEquals("01234567", Files.readString(targetPath.resolve("model.pt")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void read_OutsideOfArtifact() throws IOException {
+        cache.put(HASH_1, MODEL_ID, createModel("model", 10));
+        cache.read(HASH_1, MODEL_ID, "../" + HASH_2 + "/model.pt", 0, 100);
+    }
+
+    private Path createModel(String name, int size) throws IOException {
+        Path modelPath = tempFolder.newFolder(name).toPath();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < size - 2; i++) {
+            content.append(i % 10);
+        }
+        Files.write(modelPath.resolve("model.pt"), content.toString().getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(modelPath.resolve("sub"));
+        Files.write(modelPath.resolve("sub").resolve("tokenizer.json"), "{}".getBytes(StandardCharsets.UTF_8));
+        return modelPath;
+    }
+
+    private void setLastAccessTime(String hash, long time) throws IOException {
+        Files.setLastModifiedTime(rootPath.resolve(hash).resolve(ModelArtifactCache.MANIFEST_FILE), FileTime.fromMillis(time));
+    }
+}
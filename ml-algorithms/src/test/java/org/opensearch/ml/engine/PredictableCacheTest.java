@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+
+public class PredictableCacheTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private PredictableCache cache;
+    private Predictable predictable;
+    private Predictable newPredictable;
+
+    @Before
+    public void setUp() {
+        cache = new PredictableCache(1024);
+        predictable = mock(Predictable.class);
+        newPredictable = mock(Predictable.class);
+    }
+
+    @Test
+    public void constructor_NegativeWeight() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max cache weight must not be negative");
+        new PredictableCache(-1);
+    }
+
+    @Test
+    public void isCacheable() {
+        assertTrue(cache.isCacheable(FunctionName.KMEANS));
+        assertFalse(cache.isCacheable(FunctionName.FIT_RCF));
+        assertFalse(cache.isCacheable(FunctionName.TEXT_EMBEDDING));
+        assertFalse(new PredictableCache(0).isCacheable(FunctionName.KMEANS));
+    }
+
+    @Test
+    public void get_Hit() {
+        assertSame(predictable, cache.get("model", 1, FunctionName.KMEANS, null, 10, () -> predictable));
+        assertSame(predictable, cache.get("model", 1, FunctionName.KMEANS, null, 10, () -> newPredictable));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_DifferentParameters() {
+        KMeansParams params = KMeansParams.builder().centroids(2).build();
+        assertSame(predictable, cache.get("model", 1, FunctionName.KMEANS, null, 10, () -> predictable));
+        assertSame(newPredictable, cache.get("model", 1, FunctionName.KMEANS, params, 10, () -> newPredictable));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_NewVersionEvictsOldVersion() {
+        cache.get("model", 1, FunctionName.KMEANS, null, 10, () -> predictable);
+        cache.get("other_model", 1, FunctionName.KMEANS, null, 10, () -> predictable);
+        Predictable result = cache.get("model", 2, FunctionName.KMEANS, null, 10, () -> newPredictable);
+        assertSame(newPredictable, result);
+        assertNotSame(predictable, result);
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void get_ExceedMaxWeight() {
+        cache.get("model", 1, FunctionName.KMEANS, null, 2048, () -> predictable);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void get_LoaderRuntimeException() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("wrong model");
+        cache.get("model", 1, FunctionName.KMEANS, null, 10, () -> { throw new IllegalArgumentException("wrong model"); });
+    }
+
+    @Test
+    public void get_LoaderCheckedException() {
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("Failed to load model model");
+        cache.get("model", 1, FunctionName.KMEANS, null, 10, () -> { throw new IOException("io error"); });
+    }
+
+    @Test
+    public void invalidate() {
+        cache.get("model", 1, FunctionName.KMEANS, null, 10, () -> predictable);
+        cache.get("other_model", 1, FunctionName.KMEANS, null, 10, () -> predictable);
+        cache.invalidate("model");
+        cache.invalidate(null);
+        assertEquals(1, cache.size());
+        assertSame(newPredictable, cache.get("model", 1, FunctionName.KMEANS, null, 10, () -> newPredictable));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.modality.Output;
+
+public class ModelTensorsBytesSupplierTest {
+
+    private ModelTensors modelTensors;
+
+    @Before
+    public void setUp() {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 1.0f, 2.0f })
+            .shape(new long[] { 2 })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        modelTensors = new ModelTensors(Arrays.asList(tensor));
+    }
+
+    @Test
+    public void toModelTensors_InProcess() {
+        Output output = new Output(200, "OK");
+        output.add(new ModelTensorsBytesSupplier(modelTensors));
+        assertSame(modelTensors, ModelTensorsBytesSupplier.toModelTensors(output));
+    }
+
+    @Test
+    public void toModelTensors_Bytes() {
+        Output output = new Output(200, "OK");
+        output.add(modelTensors.toBytes());
+        ModelTensors parsed = ModelTensorsBytesSupplier.toModelTensors(output);
+        assertEquals(1, parsed.getMlModelTensors().size());
+        assertArrayEquals(new float[] { 1.0f, 2.0f }, parsed.getMlModelTensors().get(0).getFloatData(), 0);
+    }
+
+    @Test
+    public void getAsBytes() {
+        ModelTensorsBytesSupplier supplier = new ModelTensorsBytesSupplier(modelTensors);
+        byte[] bytes = supplier.getAsBytes();
+        assertSame(bytes, supplier.getAsBytes());
+        assertEquals(bytes.length, supplier.toByteBuffer().remaining());
+        ModelTensors parsed = ModelTensors.fromBytes(bytes);
+        assertEquals("sentence_embedding", parsed.getMlModelTensors().get(0).getName());
+    }
+}
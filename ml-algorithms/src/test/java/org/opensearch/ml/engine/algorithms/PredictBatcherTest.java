@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLException;
+
+public class PredictBatcherTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private ScheduledExecutorService scheduler;
+    private AtomicInteger scheduledFlushes;
+    private PredictBatcher.FlushScheduler flushScheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newScheduledThreadPool(2);
+        scheduledFlushes = new AtomicInteger();
+        flushScheduler = (task, delayInMillis, onRejection) -> {
+            scheduledFlushes.incrementAndGet();
+            scheduler.schedule(task, delayInMillis, TimeUnit.MILLISECONDS);
+        };
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void constructor_InvalidBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max batch size must be positive");
+        new PredictBatcher<String, String>(0, 1, inputs -> inputs, flushScheduler);
+    }
+
+    @Test
+    public void constructor_InvalidWaitTime() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max wait time must not be negative");
+        new PredictBatcher<String, String>(1, -1, inputs -> inputs, flushScheduler);
+    }
+
+    @Test
+    public void constructor_NullFlushScheduler() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("flush scheduler is null");
+        new PredictBatcher<String, String>(1, 1, inputs -> inputs, null);
+    }
+
+    @Test
+    public void predict_SingleRequest() throws Exception {
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(4, 0, this::upperCase, flushScheduler);
+        assertEquals(Arrays.asList("A", "B"), predict(batcher, Arrays.asList("a", "b")).get(10, TimeUnit.SECONDS));
+        assertEquals(1, batcher.getBatchSizeStats().getCount());
+        assertEquals(2, batcher.getBatchSizeStats().getMax(), 0);
+        assertEquals(1, batcher.getBatchWaitTimeStats().getCount());
+    }
+
+    @Test
+    public void predict_EmptyInput() throws Exception {
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(4, 0, this::upperCase, flushScheduler);
+        assertEquals(0, predict(batcher, new ArrayList<>()).get(10, TimeUnit.SECONDS).size());
+        assertEquals(0, batcher.getBatchSizeStats().getCount());
+        assertEquals(0, scheduledFlushes.get());
+    }
+
+    @Test
+    public void predict_ReturnsBeforeBatchFlushed() throws Exception {
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(4, 60_000, this::upperCase, flushScheduler);
+        CompletableFuture<List<String>> first = predict(batcher, Arrays.asList("a"));
+        assertFalse(first.isDone());
+        assertEquals(1, scheduledFlushes.get());
+
+        // The batch is full, it's flushed without waiting for the delayed flush.
+        CompletableFuture<List<String>> second = predict(batcher, Arrays.asList("b", "c", "d"));
+        assertEquals(Arrays.asList("A"), first.get(10, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("B", "C", "D"), second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, batcher.getBatchSizeStats().getCount());
+        assertEquals(4, batcher.getBatchSizeStats().getMax(), 0);
+    }
+
+    @Test
+    public void predict_FlushedAfterMaxWaitTime() throws Exception {
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(16, 200, this::upperCase, flushScheduler);
+        CompletableFuture<List<String>> first = predict(batcher, Arrays.asList("a"));
+        CompletableFuture<List<String>> second = predict(batcher, Arrays.asList("b"));
+        assertEquals(Arrays.asList("A"), first.get(10, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("B"), second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, scheduledFlushes.get());
+        assertEquals(1, batcher.getBatchSizeStats().getCount());
+        assertEquals(2, batcher.getBatchSizeStats().getMax(), 0);
+    }
+
+    @Test
+    public void predict_RequestLargerThanBatchSize() throws Exception {
+        AtomicInteger modelRuns = new AtomicInteger();
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(2, 0, inputs -> {
+            assertTrue(inputs.size() <= 2);
+            modelRuns.incrementAndGet();
+            return upperCase(inputs);
+        }, flushScheduler);
+        List<String> outputs = predict(batcher, Arrays.asList("a", "b", "c", "d", "e")).get(10, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("A", "B", "C", "D", "E"), outputs);
+        assertEquals(3, modelRuns.get());
+    }
+
+    @Test
+    public void predict_ConcurrentRequests() throws Exception {
+        int requests = 8;
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(16, 20, this::upperCase, flushScheduler);
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            String doc = "doc" + i;
+            futures.add(predict(batcher, Arrays.asList(doc, doc + "_2")));
+        }
+        for (int i = 0; i < requests; i++) {
+            assertEquals(Arrays.asList("DOC" + i, "DOC" + i + "_2"), futures.get(i).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(requests * 2, batcher.getBatchSizeStats().getSum(), 0);
+        assertTrue(batcher.getBatchSizeStats().getMax() <= 16);
+    }
+
+    @Test
+    public void predict_Failure() throws Exception {
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(
+            4,
+            0,
+            inputs -> { throw new IllegalStateException("model failure"); },
+            flushScheduler
+        );
+        try {
+            predict(batcher, Arrays.asList("a")).get(10, TimeUnit.SECONDS);
+            fail("Expected predict to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals("model failure", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void predict_ErrorCompletesAllRequests() throws Exception {
+        int requests = 4;
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(
+            16,
+            50,
+            inputs -> { throw new AssertionError("model error"); },
+            flushScheduler
+        );
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(predict(batcher, Arrays.asList("doc" + i)));
+        }
+        for (CompletableFuture<List<String>> future : futures) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                fail("Expected predict to fail");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof MLException);
+                assertTrue(e.getCause().getCause() instanceof AssertionError);
+            }
+        }
+    }
+
+    @Test
+    public void predict_FlushRejected() throws Exception {
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(
+            4,
+            20,
+            this::upperCase,
+            (task, delayInMillis, onRejection) -> onRejection.accept(new IllegalStateException("rejected"))
+        );
+        try {
+            predict(batcher, Arrays.asList("a")).get(10, TimeUnit.SECONDS);
+            fail("Expected predict to fail");
+        } catch (ExecutionException e) {
+            assertEquals("rejected", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void predict_Sync() throws Exception {
+        PredictBatcher<String, String> batcher = new PredictBatcher<>(4, 60_000, this::upperCase, flushScheduler);
+        assertEquals(Arrays.asList("A", "B"), batcher.predict(Arrays.asList("a", "b")));
+        assertEquals(1, batcher.getBatchSizeStats().getCount());
+        assertEquals(0, scheduledFlushes.get());
+    }
+
+    private CompletableFuture<List<String>> predict(PredictBatcher<String, String> batcher, List<String> inputs) {
+        CompletableFuture<List<String>> future = new CompletableFuture<>();
+        batcher.predict(inputs, ActionListener.wrap(future::complete, future::completeExceptionally));
+        return future;
+    }
+
+    private List<String> upperCase(List<String> inputs) {
+        List<String> outputs = new ArrayList<>();
+        for (String input : inputs) {
+            outputs.add(input.toUpperCase(Locale.ROOT));
+        }
+        return outputs;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.repository.zoo.ZooModel;
+
+public class PredictorPoolTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private Predictor<Input, Output> predictor;
+    private Predictor<Input, Output> newPredictor;
+    private ZooModel<Input, Output> model;
+    private ZooModel<Input, Output>[] models;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        predictor = mock(Predictor.class);
+        newPredictor = mock(Predictor.class);
+        model = mock(ZooModel.class);
+        when(model.newPredictor()).thenReturn(newPredictor);
+        models = new ZooModel[] { model };
+    }
+
+    @Test
+    public void constructor_NoPredictor() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("predictor pool requires at least one predictor");
+        new PredictorPool("test_model", Collections.emptyList(), models, 2, null);
+    }
+
+    @Test
+    public void execute_IdlePredictorReused() throws Exception {
+        PredictorPool pool = new PredictorPool("test_model", Arrays.asList(predictor), models, 4, null);
+        assertSame(predictor, pool.execute(p -> p));
+        assertSame(predictor, pool.execute(p -> p));
+        assertEquals(1, pool.size());
+        verify(model, never()).newPredictor();
+    }
+
+    @Test
+    public void execute_GrowWhenBusy() throws Exception {
+        PredictorPool pool = new PredictorPool("test_model", Arrays.asList(predictor), models, 2, null);
+        List<Predictor<Input, Output>> used = new ArrayList<>();
+        pool.execute(outer -> {
+            used.add(outer);
+            // The first predictor is busy, a nested call gets a new predictor.
+            return pool.execute(inner -> {
+                used.add(inner);
+                // Pool is full, the least loaded predictor is shared.
+                return pool.execute(shared -> used.add(shared));
+            });
+        });
+        assertEquals(Arrays.asList(predictor, newPredictor, predictor), used);
+        assertEquals(2, pool.size());
+        verify(model, times(1)).newPredictor();
+    }
+
+    @Test
+    public void execute_GrowthCheckFailed() throws Exception {
+        AtomicBoolean memoryAvailable = new AtomicBoolean(false);
+        PredictorPool pool = new PredictorPool("test_model", Arrays.asList(predictor), models, 2, memoryAvailable::get);
+        assertSame(predictor, pool.execute(outer -> pool.execute(inner -> inner)));
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.getGrowthRejectedCount());
+
+        memoryAvailable.set(true);
+        assertSame(newPredictor, pool.execute(outer -> pool.execute(inner -> inner)));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void close() throws Exception {
+        PredictorPool pool = new PredictorPool("test_model", Arrays.asList(predictor), models, 2, null);
+        pool.execute(outer -> pool.execute(inner -> inner));
+        pool.close();
+        verify(predictor).close();
+        verify(newPredictor).close();
+        assertEquals(0, pool.size());
+
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("model not deployed");
+        pool.execute(p -> p);
+    }
+}
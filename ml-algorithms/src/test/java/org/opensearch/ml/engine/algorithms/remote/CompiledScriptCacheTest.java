@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.ingest.TestTemplateService;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.TemplateScript;
+
+import com.google.common.collect.ImmutableMap;
+
+public class CompiledScriptCacheTest {
+
+    @Mock
+    ScriptService scriptService;
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    CompiledScriptCache scriptCache;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(scriptService.compile(any(), any())).then(invocation -> new TestTemplateService.MockTemplateScript.Factory("test result"));
+        scriptCache = new CompiledScriptCache(10);
+    }
+
+    @Test
+    public void constructor_NegativeSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max cache size must not be negative");
+        new CompiledScriptCache(-1);
+    }
+
+    @Test
+    public void compile_CacheHit() {
+        TemplateScript.Factory factory = scriptCache.compile(scriptService, "model1", "return params.result;");
+        Assert.assertSame(factory, scriptCache.compile(scriptService, "model1", "return params.result;"));
+        verify(scriptService, times(1)).compile(any(), any());
+        Assert.assertEquals(1, scriptCache.getHitCount());
+        Assert.assertEquals(1, scriptCache.getMissCount());
+        Assert.assertEquals(1, scriptCache.size());
+
+        scriptCache.compile(scriptService, "model2", "return params.result;");
+        scriptCache.compile(scriptService, "model1", "return params.result + 1;");
+        verify(scriptService, times(3)).compile(any(), any());
+        Assert.assertEquals(3, scriptCache.getMissCount());
+
+        Map<String, Object> histogram = scriptCache.getCompileTimeHistogram();
+        Assert.assertEquals(8, histogram.size());
+        Assert.assertEquals(3L, histogram.values().stream().mapToLong(v -> (Long) v).sum());
+    }
+
+    @Test
+    public void compile_Failure() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("compile error");
+        when(scriptService.compile(any(), any())).thenThrow(new IllegalArgumentException("compile error"));
+        scriptCache.compile(scriptService, "model1", "wrong script");
+    }
+
+    @Test
+    public void compile_CacheDisabled() {
+        CompiledScriptCache disabledCache = new CompiledScriptCache(0);
+        disabledCache.compile(scriptService, "model1", "return params.result;");
+        disabledCache.compile(scriptService, "model1", "return params.result;");
+        verify(scriptService, times(2)).compile(any(), any());
+        Assert.assertEquals(0, disabledCache.size());
+    }
+
+    @Test
+    public void invalidate() {
+        scriptCache.compile(scriptService, "model1", "return params.result;");
+        scriptCache.compile(scriptService, "model2", "return params.result;");
+        scriptCache.invalidate("model1");
+        scriptCache.invalidate(null);
+        Assert.assertEquals(1, scriptCache.size());
+
+        scriptCache.compile(scriptService, "model1", "return params.result;");
+        scriptCache.compile(scriptService, "model2", "return params.result;");
+        verify(scriptService, times(3)).compile(any(), any());
+    }
+
+    @Test
+    public void execute_SubstituteParameters() {
+        TemplateScript.Factory factory = mock(TemplateScript.Factory.class);
+        when(factory.newInstance(any())).then(invocation -> new TemplateScript(invocation.getArgument(0)) {
+            @Override
+            public String execute() {
+                return "model " + getParams().get("text_docs");
+            }
+        });
+        when(scriptService.compile(any(), any())).thenReturn(factory);
+        String function = "return 'model: ${parameters.model}, input: ' + params.text_docs;";
+        Map<String, Object> scriptParams = ImmutableMap.of("text_docs", "doc");
+
+        String result = scriptCache.execute(scriptService, "model1", function, ImmutableMap.of("model", "m1"), scriptParams);
+        Assert.assertEquals("model doc", result);
+        scriptCache.execute(scriptService, "model1", function, ImmutableMap.of("model", "m1", "other", "x"), scriptParams);
+        scriptCache.execute(scriptService, "model1", function, ImmutableMap.of("model", "m\\n2"), scriptParams);
+        scriptCache.execute(scriptService, "model1", function, null, scriptParams);
+        ArgumentCaptor<Script> captor = ArgumentCaptor.forClass(Script.class);
+        verify(scriptService, times(3)).compile(captor.capture(), any());
+        // values are substituted into script text, so painless escapes in them are processed as without cache
+        Assert.assertEquals("return 'model: m1, input: ' + params.text_docs;", captor.getAllValues().get(0).getIdOrCode());
+        Assert.assertEquals("return 'model: m\\n2, input: ' + params.text_docs;", captor.getAllValues().get(1).getIdOrCode());
+        Assert.assertEquals(function, captor.getAllValues().get(2).getIdOrCode());
+        Assert.assertEquals(1, scriptCache.getHitCount());
+        Assert.assertEquals(3, scriptCache.getMissCount());
+    }
+
+    @Test
+    public void execute_ParametersInCode() {
+        String function = "return params.result * ${parameters.scale};";
+        scriptCache.execute(scriptService, "model1", function, ImmutableMap.of("scale", "2"), ImmutableMap.of());
+        scriptCache.execute(scriptService, "model1", function, ImmutableMap.of("scale", "2", "other", "x"), ImmutableMap.of());
+        scriptCache.execute(scriptService, "model1", function, ImmutableMap.of("scale", "3"), ImmutableMap.of());
+        ArgumentCaptor<Script> captor = ArgumentCaptor.forClass(Script.class);
+        verify(scriptService, times(2)).compile(captor.capture(), any());
+        Assert.assertEquals("return params.result * 2;", captor.getAllValues().get(0).getIdOrCode());
+        Assert.assertEquals("return params.result * 3;", captor.getAllValues().get(1).getIdOrCode());
+    }
+
+    @Test
+    public void compile_ScriptSource() {
+        scriptCache.compile(scriptService, "model1", "return params.result;");
+        ArgumentCaptor<Script> captor = ArgumentCaptor.forClass(Script.class);
+        verify(scriptService).compile(captor.capture(), any());
+        Assert.assertEquals("painless", captor.getValue().getLang());
+        Assert.assertEquals("return params.result;", captor.getValue().getIdOrCode());
+    }
+}
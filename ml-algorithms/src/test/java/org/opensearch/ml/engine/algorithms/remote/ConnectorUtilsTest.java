@@ -6,10 +6,14 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.utils.StringUtils.gson;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -22,6 +26,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.ingest.TestTemplateService;
@@ -35,6 +40,7 @@ import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.script.Script;
 import org.opensearch.script.ScriptService;
 
 import com.google.common.collect.ImmutableMap;
@@ -234,6 +240,79 @@ public class ConnectorUtilsTest {
         Assert.assertEquals(0.0035105038, tensors.getMlModelTensors().get(0).getData()[2]);
     }
 
+    @Test
+    public void processOutput_Stream_BuiltInPostprocessFunction() throws IOException {
+        Connector connector = createPredictConnector(MLPostProcessFunction.OPENAI_EMBEDDING);
+        String modelResponse = "{\"object\":\"list\",\"data\":[{\"object\":\"embedding\",\"index\":0,"
+            + "\"embedding\":[-0.014555434,0.0035105038]}]}";
+        ModelTensors tensors = ConnectorUtils
+            .processOutput(
+                new ByteArrayInputStream(modelResponse.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8,
+                connector,
+                scriptService,
+                ImmutableMap.of(),
+                null,
+                null
+            );
+        Assert.assertEquals(1, tensors.getMlModelTensors().size());
+        Assert.assertEquals("sentence_embedding", tensors.getMlModelTensors().get(0).getName());
+        Assert.assertArrayEquals(new long[] { 2 }, tensors.getMlModelTensors().get(0).getShape());
+        Assert.assertEquals(-0.014555434f, tensors.getMlModelTensors().get(0).getData()[0].floatValue(), 1e-6f);
+        verify(scriptService, times(0)).compile(any(), any());
+    }
+
+    @Test
+    public void processOutput_Stream_NoPostprocessFunction() throws IOException {
+        Connector connector = createPredictConnector(null);
+        String modelResponse = "{\"response\": \"test response\"}";
+        ModelTensors tensors = ConnectorUtils
+            .processOutput(
+                new ByteArrayInputStream(modelResponse.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8,
+                connector,
+                scriptService,
+                ImmutableMap.of(),
+                null,
+                null
+            );
+        Assert.assertEquals(1, tensors.getMlModelTensors().size());
+        Assert.assertEquals("test response", tensors.getMlModelTensors().get(0).getDataAsMap().get("response"));
+    }
+
+    @Test
+    public void processOutput_PostprocessFunction_ScriptCache() throws IOException {
+        String postprocessResult = "{\"name\":\"sentence_embedding\",\"data_type\":\"FLOAT32\",\"shape\":[1],\"data\":[2.0]}";
+        when(scriptService.compile(any(), any())).then(invocation -> new TestTemplateService.MockTemplateScript.Factory(postprocessResult));
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .postProcessFunction("return params.result * ${parameters.scale};")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+        CompiledScriptCache scriptCache = new CompiledScriptCache(10);
+        for (int i = 0; i < 3; i++) {
+            ModelTensors tensors = ConnectorUtils
+                .processOutput("{\"result\": 1}", connector, scriptService, ImmutableMap.of("scale", "2"), scriptCache, "model1");
+            Assert.assertEquals(1, tensors.getMlModelTensors().size());
+            Assert.assertEquals("sentence_embedding", tensors.getMlModelTensors().get(0).getName());
+        }
+        ArgumentCaptor<Script> captor = ArgumentCaptor.forClass(Script.class);
+        verify(scriptService, times(1)).compile(captor.capture(), any());
+        Assert.assertEquals("return params.result * 2;", captor.getValue().getIdOrCode());
+        Assert.assertEquals(2, scriptCache.getHitCount());
+        Assert.assertEquals(1, scriptCache.getMissCount());
+    }
+
     private void processInput_TextDocsInputDataSet_PreprocessFunction(
         String requestBody,
         List<String> inputs,
@@ -268,4 +347,16 @@ public class ConnectorUtilsTest {
         Assert.assertEquals(1, remoteInferenceInputDataSet.getParameters().size());
         Assert.assertEquals(expectedProcessedInput, remoteInferenceInputDataSet.getParameters().get(resultKey));
     }
+
+    private Connector createPredictConnector(String postProcessFunction) {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .postProcessFunction(postProcessFunction)
+            .build();
+        return HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+    }
 }
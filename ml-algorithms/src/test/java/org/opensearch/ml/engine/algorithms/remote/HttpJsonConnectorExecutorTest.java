@@ -6,28 +6,47 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
 import org.apache.http.ProtocolVersion;
 import org.apache.http.StatusLine;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.message.BasicStatusLine;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ingest.TestTemplateService;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.connector.Connector;
@@ -35,11 +54,13 @@ import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.script.ScriptService;
 
 import com.google.common.collect.ImmutableMap;
@@ -52,7 +73,7 @@ public class HttpJsonConnectorExecutorTest {
     ScriptService scriptService;
 
     @Mock
-    CloseableHttpClient httpClient;
+    CloseableHttpAsyncClient httpClient;
 
     @Mock
     CloseableHttpResponse response;
@@ -81,7 +102,7 @@ public class HttpJsonConnectorExecutorTest {
             .actions(Arrays.asList(predictAction))
             .build();
         HttpJsonConnectorExecutor executor = new HttpJsonConnectorExecutor(connector);
-        executor.invokeRemoteModel(null, null, null, null);
+        executor.invokeRemoteModel(null, null, null, (List<ModelTensors>) null);
     }
 
     @Test
@@ -101,12 +122,12 @@ public class HttpJsonConnectorExecutorTest {
             .actions(Arrays.asList(predictAction))
             .build();
         HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
-        when(httpClient.execute(any())).thenReturn(response);
+        mockHttpClientResponse();
         HttpEntity entity = new StringEntity("{\"response\": \"test result\"}");
         when(response.getEntity()).thenReturn(entity);
         StatusLine statusLine = new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK");
         when(response.getStatusLine()).thenReturn(statusLine);
-        when(executor.getHttpClient()).thenReturn(httpClient);
+        doReturn(httpClient).when(executor).getHttpClient();
         MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
         ModelTensorOutput modelTensorOutput = executor
             .executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
@@ -129,7 +150,7 @@ public class HttpJsonConnectorExecutorTest {
             .url("http://test.com/mock")
             .requestBody("{\"input\": ${parameters.input}}")
             .build();
-        when(httpClient.execute(any())).thenReturn(response);
+        mockHttpClientResponse();
         HttpEntity entity = new StringEntity("{\"response\": \"test result\"}");
         when(response.getEntity()).thenReturn(entity);
         StatusLine statusLine = new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK");
@@ -142,7 +163,7 @@ public class HttpJsonConnectorExecutorTest {
             .actions(Arrays.asList(predictAction))
             .build();
         HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
-        when(executor.getHttpClient()).thenReturn(httpClient);
+        doReturn(httpClient).when(executor).getHttpClient();
         MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("test doc1", "test doc2")).build();
         ModelTensorOutput modelTensorOutput = executor
             .executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
@@ -167,7 +188,7 @@ public class HttpJsonConnectorExecutorTest {
             .url("http://test.com/mock")
             .requestBody("{\"input\": ${parameters.input}}")
             .build();
-        when(httpClient.execute(any())).thenReturn(response);
+        mockHttpClientResponse();
         HttpEntity entity = new StringEntity("{\"message\": \"Too many requests\"}");
         when(response.getEntity()).thenReturn(entity);
         StatusLine statusLine = new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 429, "OK");
@@ -180,7 +201,7 @@ public class HttpJsonConnectorExecutorTest {
             .actions(Arrays.asList(predictAction))
             .build();
         HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
-        when(executor.getHttpClient()).thenReturn(httpClient);
+        doReturn(httpClient).when(executor).getHttpClient();
         MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("test doc1", "test doc2")).build();
         executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
     }
@@ -211,7 +232,7 @@ public class HttpJsonConnectorExecutorTest {
             .build();
         HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
         executor.setScriptService(scriptService);
-        when(httpClient.execute(any())).thenReturn(response);
+        mockHttpClientResponse();
         String modelResponse = "{\n"
             + "    \"object\": \"list\",\n"
             + "    \"data\": [\n"
@@ -244,7 +265,7 @@ public class HttpJsonConnectorExecutorTest {
         when(response.getStatusLine()).thenReturn(statusLine);
         HttpEntity entity = new StringEntity(modelResponse);
         when(response.getEntity()).thenReturn(entity);
-        when(executor.getHttpClient()).thenReturn(httpClient);
+        doReturn(httpClient).when(executor).getHttpClient();
         when(executor.getConnector()).thenReturn(connector);
         MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("test doc1", "test doc2")).build();
         ModelTensorOutput modelTensorOutput = executor
@@ -292,7 +313,7 @@ public class HttpJsonConnectorExecutorTest {
             .build();
         HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
         executor.setScriptService(scriptService);
-        when(httpClient.execute(any())).thenReturn(response);
+        mockHttpClientResponse();
         // model takes 2 input docs, but only output 1 embedding
         String modelResponse = "{\n"
             + "    \"object\": \"list\",\n"
@@ -316,7 +337,7 @@ public class HttpJsonConnectorExecutorTest {
         when(response.getStatusLine()).thenReturn(statusLine);
         HttpEntity entity = new StringEntity(modelResponse);
         when(response.getEntity()).thenReturn(entity);
-        when(executor.getHttpClient()).thenReturn(httpClient);
+        doReturn(httpClient).when(executor).getHttpClient();
         when(executor.getConnector()).thenReturn(connector);
         MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("test doc1", "test doc2")).build();
         ModelTensorOutput modelTensorOutput = executor
@@ -362,7 +383,7 @@ public class HttpJsonConnectorExecutorTest {
             .build();
         HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
         executor.setScriptService(scriptService);
-        when(httpClient.execute(any())).thenReturn(response);
+        mockHttpClientResponse();
         // model takes 2 input docs, but only output 1 embedding
         String modelResponse = "{\n"
             + "    \"object\": \"list\",\n"
@@ -386,10 +407,219 @@ public class HttpJsonConnectorExecutorTest {
         when(response.getStatusLine()).thenReturn(statusLine);
         HttpEntity entity = new StringEntity(modelResponse);
         when(response.getEntity()).thenReturn(entity);
-        when(executor.getHttpClient()).thenReturn(httpClient);
+        doReturn(httpClient).when(executor).getHttpClient();
         when(executor.getConnector()).thenReturn(connector);
         MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("test doc1", "test doc2")).build();
         ModelTensorOutput modelTensorOutput = executor
             .executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
     }
+
+    @Test
+    public void executePredict_Async_RemoteInferenceInput() throws IOException {
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(createConnector(null)));
+        mockHttpClientResponse();
+        HttpEntity entity = new StringEntity("{\"response\": \"test result\"}");
+        when(response.getEntity()).thenReturn(entity);
+        StatusLine statusLine = new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK");
+        when(response.getStatusLine()).thenReturn(statusLine);
+        doReturn(httpClient).when(executor).getHttpClient();
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(), listener);
+
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(listener).onResponse(captor.capture());
+        Assert.assertEquals(1, captor.getValue().getMlModelOutputs().size());
+        Assert.assertEquals(
+            "test result",
+            captor.getValue().getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().get("response")
+        );
+        Assert.assertEquals(200, captor.getValue().getMlModelOutputs().get(0).getStatusCode().intValue());
+    }
+
+    @Test
+    public void executePredict_Async_ProcessResponseOnPredictExecutor() throws IOException {
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(createConnector(null)));
+        List<Runnable> tasks = new ArrayList<>();
+        executor.setPredictExecutor(tasks::add);
+        mockHttpClientResponse();
+        HttpEntity entity = new StringEntity("{\"response\": \"test result\"}");
+        when(response.getEntity()).thenReturn(entity);
+        StatusLine statusLine = new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK");
+        when(response.getStatusLine()).thenReturn(statusLine);
+        doReturn(httpClient).when(executor).getHttpClient();
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(), listener);
+
+        // response isn't processed on the http client callback thread
+        Assert.assertEquals(1, tasks.size());
+        verify(listener, never()).onResponse(any());
+        tasks.get(0).run();
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(listener).onResponse(captor.capture());
+        Assert.assertEquals(
+            "test result",
+            captor.getValue().getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().get("response")
+        );
+    }
+
+    @Test
+    public void executePredict_Async_PredictExecutorRejected() throws IOException {
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(createConnector(null)));
+        executor.setPredictExecutor(task -> {
+            throw new RejectedExecutionException("predict queue is full");
+        });
+        mockHttpClientResponse();
+        when(response.getEntity()).thenReturn(new StringEntity("{\"response\": \"test result\"}"));
+        doReturn(httpClient).when(executor).getHttpClient();
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(), listener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        Assert.assertEquals("predict queue is full", captor.getValue().getMessage());
+    }
+
+    @Test
+    public void executePredict_Async_ConnectionFailure() throws IOException {
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(createConnector(null)));
+        doAnswer(invocation -> {
+            FutureCallback<HttpResponse> callback = invocation.getArgument(1);
+            callback.failed(new IOException("connection refused"));
+            return null;
+        }).when(httpClient).execute(any(HttpUriRequest.class), any());
+        doReturn(httpClient).when(executor).getHttpClient();
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(), listener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        Assert.assertEquals("Fail to execute http connector", captor.getValue().getMessage());
+        Assert.assertEquals("connection refused", captor.getValue().getCause().getMessage());
+    }
+
+    @Test
+    public void executePredict_Async_Deadline() throws IOException {
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(createConnector(null)));
+        mockHttpClientResponse();
+        when(response.getEntity()).thenReturn(new StringEntity("{\"response\": \"test result\"}"));
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK"));
+        doReturn(httpClient).when(executor).getHttpClient();
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+        mlInput.setDeadlineInNanos(System.nanoTime() + TimeUnit.SECONDS.toNanos(5));
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        executor.executePredict(mlInput, listener);
+
+        ArgumentCaptor<HttpUriRequest> requestCaptor = ArgumentCaptor.forClass(HttpUriRequest.class);
+        verify(httpClient).execute(requestCaptor.capture(), any());
+        RequestConfig requestConfig = ((HttpRequestBase) requestCaptor.getValue()).getConfig();
+        Assert.assertTrue(requestConfig.getSocketTimeout() > 0);
+        Assert.assertTrue(requestConfig.getSocketTimeout() <= 5000);
+        Assert.assertTrue(requestConfig.getConnectTimeout() <= 5000);
+        verify(listener).onResponse(any());
+    }
+
+    @Test
+    public void executePredict_Async_DeadlineExpired() throws IOException {
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(createConnector(null)));
+        doReturn(httpClient).when(executor).getHttpClient();
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+        mlInput.setDeadlineInNanos(System.nanoTime() - 1);
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        executor.executePredict(mlInput, listener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        Assert.assertTrue(captor.getValue() instanceof OpenSearchTimeoutException);
+        verify(httpClient, never()).execute(any(HttpUriRequest.class), any());
+    }
+
+    @Test
+    public void invokeRemoteModel_ReuseHttpClient() throws IOException {
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(createConnector(null)));
+        mockHttpClientResponse();
+        when(response.getEntity()).thenAnswer(invocation -> new StringEntity("{\"response\": \"test result\"}"));
+        StatusLine statusLine = new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK");
+        when(response.getStatusLine()).thenReturn(statusLine);
+        doReturn(httpClient).when(executor).getHttpClient();
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+        executor.executePredict(mlInput);
+        executor.executePredict(mlInput);
+
+        verify(executor, times(1)).getHttpClient();
+        verify(httpClient, times(1)).start();
+        verify(httpClient, times(2)).execute(any(HttpUriRequest.class), any());
+        executor.close();
+        verify(httpClient, times(1)).close();
+    }
+
+    @Test
+    public void close_WaitForInFlightRequest() throws IOException {
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(createConnector(null)));
+        AtomicReference<FutureCallback<HttpResponse>> callbackRef = new AtomicReference<>();
+        doAnswer(invocation -> {
+            callbackRef.set(invocation.getArgument(1));
+            return null;
+        }).when(httpClient).execute(any(HttpUriRequest.class), any());
+        doReturn(httpClient).when(executor).getHttpClient();
+        ActionListener<ModelTensors> listener = mock(ActionListener.class);
+        executor.invokeRemoteModel(null, ImmutableMap.of("input", "test input data"), "{\"input\": \"test\"}", listener);
+
+        executor.close();
+        verify(httpClient, never()).close();
+        callbackRef.get().cancelled();
+        verify(listener).onFailure(any(MLException.class));
+        verify(httpClient, times(1)).close();
+    }
+
+    @Test
+    public void getHttpClient_InvalidMaxConnection() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Invalid parameter: max_connection. It must be positive integer.");
+        HttpJsonConnectorExecutor executor = new HttpJsonConnectorExecutor(createConnector(ImmutableMap.of("max_connection", "0")));
+        executor.getHttpClient();
+    }
+
+    @Test
+    public void getHttpClient_PooledClient() throws IOException {
+        HttpJsonConnectorExecutor executor = new HttpJsonConnectorExecutor(
+            createConnector(ImmutableMap.of("max_connection", "5", "connection_timeout", "10", "read_timeout", "60"))
+        );
+        Assert.assertNull(executor.getConnectionPoolStats());
+        CloseableHttpAsyncClient client = executor.getHttpClient();
+        Assert.assertNotNull(client);
+        client.close();
+    }
+
+    private Connector createConnector(Map<String, String> parameters) {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        return HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(parameters)
+            .actions(Arrays.asList(predictAction))
+            .build();
+    }
+
+    private void mockHttpClientResponse() {
+        doAnswer(invocation -> {
+            FutureCallback<HttpResponse> callback = invocation.getArgument(1);
+            callback.completed(response);
+            return null;
+        }).when(httpClient).execute(any(HttpUriRequest.class), any());
+    }
 }
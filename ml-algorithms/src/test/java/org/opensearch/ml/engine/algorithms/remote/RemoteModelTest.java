@@ -7,7 +7,9 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -18,14 +20,17 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.ConnectorProtocols;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 
@@ -112,6 +117,40 @@ public class RemoteModelTest {
         Assert.assertNull(remoteModel.getConnectorExecutor());
     }
 
+    @Test
+    public void predictAsync_NullConnectorExecutor() {
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        remoteModel.predictAsync(mlInput, listener);
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        Assert.assertTrue(captor.getValue().getMessage().contains("Model not ready yet"));
+    }
+
+    @Test
+    public void predictAsync_ModelDeployed_WrongInput() {
+        Connector connector = createConnector(ImmutableMap.of("Authorization", "Bearer ${credential.key}"));
+        when(mlModel.getConnector()).thenReturn(connector);
+        remoteModel.initModel(mlModel, ImmutableMap.of(), encryptor);
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        remoteModel.predictAsync(mlInput, listener);
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        Assert.assertEquals("Wrong input type", captor.getValue().getMessage());
+        Assert.assertNull(remoteModel.getConnectionPoolStats());
+    }
+
+    @Test
+    public void close_CloseConnectorExecutor() {
+        Connector connector = createConnector(null);
+        when(mlModel.getConnector()).thenReturn(connector);
+        remoteModel.initModel(mlModel, ImmutableMap.of(), encryptor);
+        RemoteConnectorExecutor executor = spy(remoteModel.getConnectorExecutor());
+        remoteModel.setConnectorExecutor(executor);
+        remoteModel.close();
+        verify(executor).close();
+        Assert.assertNull(remoteModel.getConnectorExecutor());
+    }
+
     private Connector createConnector(Map<String, String> headers) {
         ConnectorAction predictAction = ConnectorAction
             .builder()
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.jayway.jsonpath.PathNotFoundException;
+
+public class StreamingVectorParserTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void create_UnsupportedPath() {
+        Assert.assertNull(StreamingVectorParser.create(null));
+        Assert.assertNull(StreamingVectorParser.create("data[*].embedding"));
+        Assert.assertNull(StreamingVectorParser.create("$..embedding"));
+        Assert.assertNull(StreamingVectorParser.create("$.data[?(@.index > 0)].embedding"));
+        Assert.assertNull(StreamingVectorParser.create("$.data[0:2].embedding"));
+    }
+
+    @Test
+    public void create_SupportedPath() {
+        Assert.assertEquals("$['data'][*]['embedding']", StreamingVectorParser.create("$.data[*].embedding").toString());
+        Assert.assertEquals("$['embeddings']", StreamingVectorParser.create("$['embeddings']").toString());
+        Assert.assertEquals("$[*]", StreamingVectorParser.create("$[*]").toString());
+        Assert.assertEquals("$['result'][0][*]", StreamingVectorParser.create("$.result[0].*").toString());
+        Assert.assertEquals("$", StreamingVectorParser.create("$").toString());
+    }
+
+    @Test
+    public void parse_OpenAIEmbedding() throws IOException {
+        String response = "{\"object\":\"list\",\"data\":[{\"object\":\"embedding\",\"index\":0,\"embedding\":[-0.014555434,0.0035105038]},"
+            + "{\"object\":\"embedding\",\"index\":1,\"embedding\":[1,2.5,3e-2]}],\"model\":\"text-embedding-ada-002-v2\","
+            + "\"usage\":{\"prompt_tokens\":5,\"total_tokens\":5}}";
+        List<float[]> vectors = StreamingVectorParser.create("$.data[*].embedding").parse(stream(response));
+        Assert.assertEquals(2, vectors.size());
+        Assert.assertArrayEquals(new float[] { -0.014555434f, 0.0035105038f }, vectors.get(0), 1e-6f);
+        Assert.assertArrayEquals(new float[] { 1f, 2.5f, 0.03f }, vectors.get(1), 1e-6f);
+    }
+
+    @Test
+    public void parse_CohereEmbedding() throws IOException {
+        String response = "{\"id\":\"test\",\"texts\":[\"a\",\"b\"],\"embeddings\":[[0.1,0.2],[0.3,0.4]],\"meta\":{\"api_version\":\"1\"}}";
+        List<float[]> vectors = StreamingVectorParser.create("$.embeddings").parse(stream(response));
+        Assert.assertEquals(2, vectors.size());
+        Assert.assertArrayEquals(new float[] { 0.3f, 0.4f }, vectors.get(1), 1e-6f);
+    }
+
+    @Test
+    public void parse_DefaultEmbedding() throws IOException {
+        List<float[]> vectors = StreamingVectorParser.create("$[*]").parse(stream("[[0.1,0.2,0.3],[],[0.4]]"));
+        Assert.assertEquals(3, vectors.size());
+        Assert.assertEquals(0, vectors.get(1).length);
+        Assert.assertArrayEquals(new float[] { 0.4f }, vectors.get(2), 1e-6f);
+    }
+
+    @Test
+    public void parse_LargeVector() throws IOException {
+        StringBuilder response = new StringBuilder("{\"embeddings\":[[");
+        for (int i = 0; i < 1536; i++) {
+            response.append(i > 0 ? "," : "").append(i);
+        }
+        response.append("]]}");
+        List<float[]> vectors = StreamingVectorParser.create("$.embeddings").parse(stream(response.toString()));
+        Assert.assertEquals(1536, vectors.get(0).length);
+        Assert.assertEquals(1535f, vectors.get(0)[1535], 0);
+    }
+
+    @Test
+    public void parse_IndexPath() throws IOException {
+        String response = "{\"result\":[{\"vectors\":[[1,2]]},{\"vectors\":[[3,4]]}]}";
+        List<float[]> vectors = StreamingVectorParser.create("$.result[1].vectors").parse(stream(response));
+        Assert.assertEquals(1, vectors.size());
+        Assert.assertArrayEquals(new float[] { 3f, 4f }, vectors.get(0), 1e-6f);
+    }
+
+    @Test
+    public void parse_IndefinitePathNoMatch() throws IOException {
+        List<float[]> vectors = StreamingVectorParser.create("$.data[*].embedding").parse(stream("{\"data\":[]}"));
+        Assert.assertEquals(0, vectors.size());
+    }
+
+    @Test
+    public void parse_DefinitePathNotFound() throws IOException {
+        exceptionRule.expect(PathNotFoundException.class);
+        exceptionRule.expectMessage("No results for path: $['embeddings']");
+        StreamingVectorParser.create("$.embeddings").parse(stream("{\"error\":{\"embeddings\":[[1]]}}"));
+    }
+
+    @Test
+    public void parse_NotNumber() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("The embedding is not a list of numbers");
+        StreamingVectorParser.create("$.embeddings").parse(stream("{\"embeddings\":[[1,\"2\"]]}"));
+    }
+
+    @Test
+    public void parse_NotListOfEmbeddings() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("The response filter doesn't point to a list of embeddings");
+        StreamingVectorParser.create("$.embedding").parse(stream("{\"embedding\":{\"values\":[1,2]}}"));
+    }
+
+    @Test
+    public void parse_EmptyResponse() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("model response is empty");
+        StreamingVectorParser.create("$.embeddings").parse(stream(""));
+    }
+
+    private InputStream stream(String response) {
+        return new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8));
+    }
+}
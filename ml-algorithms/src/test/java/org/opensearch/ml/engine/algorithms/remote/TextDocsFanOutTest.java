@@ -0,0 +1,206 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import com.google.common.collect.ImmutableMap;
+
+public class TextDocsFanOutTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private RemoteConnectorExecutor executor;
+    private List<MLInput> dispatchedSlices;
+    private List<ActionListener<ModelTensors>> inFlightListeners;
+
+    @Before
+    public void setUp() {
+        executor = mock(RemoteConnectorExecutor.class, CALLS_REAL_METHODS);
+        dispatchedSlices = new ArrayList<>();
+        inFlightListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            dispatchedSlices.add(invocation.getArgument(0));
+            inFlightListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(executor).preparePayloadAndInvokeRemoteModel(any(MLInput.class), any(ActionListener.class));
+    }
+
+    @Test
+    public void constructor_InvalidMaxConcurrency() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max concurrency must be positive");
+        new TextDocsFanOut(executor, new ArrayList<>(), 0, mock(ActionListener.class));
+    }
+
+    @Test
+    public void start_EmptySlices() {
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        new TextDocsFanOut(executor, new ArrayList<>(), 2, listener).start();
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(listener).onResponse(captor.capture());
+        Assert.assertEquals(0, captor.getValue().getMlModelOutputs().size());
+    }
+
+    @Test
+    public void start_OutOfOrderCompletion() {
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        new TextDocsFanOut(executor, slices("doc0", "doc1", "doc2", "doc3"), 2, listener).start();
+        // Only max concurrency slices are in flight before any of them completes.
+        Assert.assertEquals(2, inFlightListeners.size());
+
+        inFlightListeners.get(1).onResponse(tensors("doc1"));
+        Assert.assertEquals(3, inFlightListeners.size());
+        inFlightListeners.get(2).onResponse(tensors("doc2"));
+        Assert.assertEquals(4, inFlightListeners.size());
+        inFlightListeners.get(3).onResponse(tensors("doc3"));
+        verify(listener, never()).onResponse(any());
+        inFlightListeners.get(0).onResponse(tensors("doc0"));
+
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(listener).onResponse(captor.capture());
+        List<ModelTensors> outputs = captor.getValue().getMlModelOutputs();
+        Assert.assertEquals(4, outputs.size());
+        for (int i = 0; i < outputs.size(); i++) {
+            Assert.assertEquals("doc" + i, outputs.get(i).getMlModelTensors().get(0).getName());
+        }
+    }
+
+    @Test
+    public void start_FailFast() {
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        new TextDocsFanOut(executor, slices("doc0", "doc1", "doc2", "doc3"), 2, listener).start();
+        inFlightListeners.get(0).onFailure(new IllegalStateException("remote failure"));
+        inFlightListeners.get(1).onFailure(new IllegalStateException("another remote failure"));
+
+        // No more slices are sent after the first failure.
+        Assert.assertEquals(2, inFlightListeners.size());
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener, times(1)).onFailure(captor.capture());
+        Assert.assertEquals("remote failure", captor.getValue().getMessage());
+        verify(listener, never()).onResponse(any());
+    }
+
+    @Test
+    public void executePredict_ConcurrentSlices() {
+        Connector connector = mock(Connector.class);
+        when(connector.getParameters())
+            .thenReturn(ImmutableMap.of("input_docs_processed_step_size", "2", "input_docs_max_concurrency", "2"));
+        doReturn(connector).when(executor).getConnector();
+        doReturn(true).when(executor).supportsAsyncInvoke();
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("doc0", "doc1", "doc2", "doc3", "doc4")).build())
+            .build();
+        executor.executePredict(mlInput, listener);
+
+        Assert.assertEquals(2, dispatchedSlices.size());
+        Assert.assertEquals(Arrays.asList("doc0", "doc1"), ((TextDocsInputDataSet) dispatchedSlices.get(0).getInputDataset()).getDocs());
+        Assert.assertEquals(Arrays.asList("doc2", "doc3"), ((TextDocsInputDataSet) dispatchedSlices.get(1).getInputDataset()).getDocs());
+        inFlightListeners.get(0).onResponse(tensors("slice0"));
+        Assert.assertEquals(Arrays.asList("doc4"), ((TextDocsInputDataSet) dispatchedSlices.get(2).getInputDataset()).getDocs());
+        inFlightListeners.get(2).onResponse(tensors("slice2"));
+        inFlightListeners.get(1).onResponse(tensors("slice1"));
+
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(listener).onResponse(captor.capture());
+        Assert.assertEquals(3, captor.getValue().getMlModelOutputs().size());
+        Assert.assertEquals("slice1", captor.getValue().getMlModelOutputs().get(1).getMlModelTensors().get(0).getName());
+    }
+
+    @Test
+    public void executePredict_BlockingExecutorSendsSlicesSequentially() {
+        Connector connector = mock(Connector.class);
+        when(connector.getParameters())
+            .thenReturn(ImmutableMap.of("input_docs_processed_step_size", "2", "input_docs_max_concurrency", "2"));
+        doReturn(connector).when(executor).getConnector();
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("doc0", "doc1", "doc2")).build())
+            .build();
+        executor.executePredict(mlInput, listener);
+
+        Assert.assertEquals(1, dispatchedSlices.size());
+        inFlightListeners.get(0).onResponse(tensors("slice0"));
+        Assert.assertEquals(2, dispatchedSlices.size());
+        Assert.assertEquals(Arrays.asList("doc2"), ((TextDocsInputDataSet) dispatchedSlices.get(1).getInputDataset()).getDocs());
+        inFlightListeners.get(1).onResponse(tensors("slice1"));
+
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(listener).onResponse(captor.capture());
+        Assert.assertEquals(2, captor.getValue().getMlModelOutputs().size());
+    }
+
+    @Test
+    public void executePredict_InvalidMaxConcurrency() {
+        Connector connector = mock(Connector.class);
+        when(connector.getParameters()).thenReturn(ImmutableMap.of("input_docs_max_concurrency", "0"));
+        doReturn(connector).when(executor).getConnector();
+        ActionListener<ModelTensorOutput> listener = mock(ActionListener.class);
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("doc0", "doc1")).build())
+            .build();
+        executor.executePredict(mlInput, listener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        Assert.assertEquals("Invalid parameter: input_docs_max_concurrency. It must be positive integer.", captor.getValue().getMessage());
+        Assert.assertEquals(0, dispatchedSlices.size());
+    }
+
+    private List<MLInput> slices(String... docs) {
+        List<MLInput> slices = new ArrayList<>();
+        for (String doc : docs) {
+            slices
+                .add(
+                    MLInput
+                        .builder()
+                        .algorithm(FunctionName.TEXT_EMBEDDING)
+                        .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList(doc)).build())
+                        .build()
+                );
+        }
+        return slices;
+    }
+
+    private ModelTensors tensors(String name) {
+        return ModelTensors.builder().mlModelTensors(Arrays.asList(ModelTensor.builder().name(name).build())).build();
+    }
+}
@@ -3,6 +3,7 @@ package org.opensearch.ml.engine.algorithms.sparse_encoding;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.*;
+import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
 import static org.opensearch.ml.engine.algorithms.DLModel.*;
 
 import java.io.File;
@@ -37,6 +38,7 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.algorithms.PredictBatcher;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.utils.FileUtils;
@@ -170,6 +172,45 @@ public class TextEmbeddingSparseEncodingModelTest {
         textEmbeddingSparseEncodingModel.close();
     }
 
+    @Test
+    public void initModel_predict_TorchScript_SparseEncoding_BatchingMixedLength() {
+        TextDocsInputDataSet mixedLengthInput = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("sunny", "That is a happy dog playing in the park", "today is sunny"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.SPARSE_ENCODING).inputDataset(mixedLengthInput).build();
+        textEmbeddingSparseEncodingModel.initModel(model, params, encryptor);
+        ModelTensorOutput expected = (ModelTensorOutput) textEmbeddingSparseEncodingModel.predict(mlInput);
+        textEmbeddingSparseEncodingModel.close();
+
+        params.put(PREDICT_BATCH_SIZE, 8);
+        params.put(PREDICT_BATCH_WAIT_TIME_IN_MILLIS, 1L);
+        params.put(PREDICT_BATCH_FLUSH_SCHEDULER, (PredictBatcher.FlushScheduler) (task, delayInMillis, onRejection) -> task.run());
+        TextEmbeddingSparseEncodingModel batchModel = new TextEmbeddingSparseEncodingModel();
+        batchModel.initModel(model, params, encryptor);
+        assertNotNull(batchModel.getPredictBatcher());
+        ModelTensorOutput output = (ModelTensorOutput) batchModel.predict(mlInput);
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        assertEquals(3, mlModelOutputs.size());
+        for (int i = 0; i < mlModelOutputs.size(); i++) {
+            Map<String, ?> expectedWeights = getTokenWeights(expected.getMlModelOutputs().get(i));
+            Map<String, ?> weights = getTokenWeights(mlModelOutputs.get(i));
+            assertEquals(expectedWeights.keySet(), weights.keySet());
+            for (String token : weights.keySet()) {
+                assertEquals(((Number) expectedWeights.get(token)).floatValue(), ((Number) weights.get(token)).floatValue(), 1e-4);
+            }
+        }
+        assertEquals(1, batchModel.getPredictBatcher().getBatchSizeStats().getCount());
+        assertEquals(3, batchModel.getPredictBatcher().getBatchSizeStats().getMax(), 0);
+        batchModel.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> getTokenWeights(ModelTensors tensors) {
+        Map<String, ?> dataAsMap = tensors.getMlModelTensors().get(0).getDataAsMap();
+        return ((List<Map<String, ?>>) dataAsMap.get(ML_MAP_RESPONSE_KEY)).get(0);
+    }
+
     @Test
     public void initModel_predict_TorchScript_SparseEncoding_ResultFilter() {
         textEmbeddingSparseEncodingModel.initModel(model, params, encryptor);
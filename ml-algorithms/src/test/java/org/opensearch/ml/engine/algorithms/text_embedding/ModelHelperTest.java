@@ -5,17 +5,27 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
+import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
+import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.ModelHelper.TOTAL_CHUNKS;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -52,6 +62,9 @@ public class ModelHelperTest {
     @Mock
     ActionListener<MLRegisterModelInput> registerModelListener;
 
+    @Mock
+    ModelHelper.ModelChunkConsumer chunkConsumer;
+
     Encryptor encryptor;
 
     @Before
@@ -68,21 +81,75 @@ public class ModelHelperTest {
     public void testDownloadAndSplit_UrlFailure() {
         modelId = "url_failure_model_id";
         modelHelper
-            .downloadAndSplit(modelFormat, modelId, "model_name", "1", "http://testurl", null, FunctionName.TEXT_EMBEDDING, actionListener);
+            .downloadAndSplit(
+                modelFormat,
+                modelId,
+                "model_name",
+                "1",
+                "http://testurl",
+                null,
+                FunctionName.TEXT_EMBEDDING,
+                chunkConsumer,
+                actionListener
+            );
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(actionListener).onFailure(argumentCaptor.capture());
         assertEquals(PrivilegedActionException.class, argumentCaptor.getValue().getClass());
     }
 
     @Test
-    public void testDownloadAndSplit() throws URISyntaxException {
+    public void testDownloadAndSplit() throws URISyntaxException, IOException {
         String modelUrl = getClass().getResource("traced_small_model.zip").toURI().toString();
+        byte[] modelBytes = Files.readAllBytes(Path.of(getClass().getResource("traced_small_model.zip").toURI()));
+        ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+        List<Integer> chunkNumbers = new ArrayList<>();
         modelHelper
-            .downloadAndSplit(modelFormat, modelId, "model_name", "1", modelUrl, hashValue, FunctionName.TEXT_EMBEDDING, actionListener);
+            .downloadAndSplit(
+                modelFormat,
+                modelId,
+                "model_name",
+                "1",
+                modelUrl,
+                hashValue,
+                FunctionName.TEXT_EMBEDDING,
+                (chunkNumber, chunk, length, totalChunks) -> {
+                    chunkNumbers.add(chunkNumber);
+                    assertEquals(Integer.valueOf((modelBytes.length + CHUNK_SIZE - 1) / CHUNK_SIZE), totalChunks);
+                    chunks.write(chunk, 0, length);
+                },
+                actionListener
+            );
         ArgumentCaptor<Map> argumentCaptor = ArgumentCaptor.forClass(Map.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
-        assertNotNull(argumentCaptor.getValue());
-        assertNotEquals(0, argumentCaptor.getValue().size());
+        assertEquals((long) modelBytes.length, argumentCaptor.getValue().get(MODEL_SIZE_IN_BYTES));
+        assertEquals(chunkNumbers.size(), argumentCaptor.getValue().get(TOTAL_CHUNKS));
+        assertEquals(hashValue, argumentCaptor.getValue().get(MODEL_FILE_HASH));
+        assertArrayEquals(modelBytes, chunks.toByteArray());
+        assertFalse(Files.exists(Path.of(mlEngine.getRegisterModelPath(modelId, "model_name", "1") + ".zip")));
+    }
+
+    @Test
+    public void testDownloadAndSplit_ChunkConsumerFailure() throws URISyntaxException {
+        String modelUrl = getClass().getResource("traced_small_model.zip").toURI().toString();
+        ModelHelper.ModelChunkConsumer failingChunkConsumer = (chunkNumber, chunk, length, totalChunks) -> {
+            throw new IllegalStateException("test error");
+        };
+        modelHelper
+            .downloadAndSplit(
+                modelFormat,
+                modelId,
+                "model_name",
+                "1",
+                modelUrl,
+                hashValue,
+                FunctionName.TEXT_EMBEDDING,
+                failingChunkConsumer,
+                actionListener
+            );
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals("test error", argumentCaptor.getValue().getMessage());
+        verify(actionListener, never()).onResponse(any());
     }
 
     @Test
@@ -97,6 +164,7 @@ public class ModelHelperTest {
                 modelUrl,
                 "wrong_hash_value",
                 FunctionName.TEXT_EMBEDDING,
+                chunkConsumer,
                 actionListener
             );
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
@@ -108,7 +176,17 @@ public class ModelHelperTest {
     public void testDownloadAndSplit_Hash() throws URISyntaxException {
         String modelUrl = getClass().getResource("traced_small_model.zip").toURI().toString();
         modelHelper
-            .downloadAndSplit(modelFormat, modelId, "model_name", "1", modelUrl, hashValue, FunctionName.TEXT_EMBEDDING, actionListener);
+            .downloadAndSplit(
+                modelFormat,
+                modelId,
+                "model_name",
+                "1",
+                modelUrl,
+                hashValue,
+                FunctionName.TEXT_EMBEDDING,
+                chunkConsumer,
+                actionListener
+            );
         ArgumentCaptor<Map> argumentCaptor = ArgumentCaptor.forClass(Map.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
         assertNotNull(argumentCaptor.getValue());
@@ -6,8 +6,12 @@
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.FrameworkType.HUGGINGFACE_TRANSFORMERS;
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS;
+import static org.opensearch.ml.engine.algorithms.DLModel.PREDICT_BATCH_FLUSH_SCHEDULER;
+import static org.opensearch.ml.engine.algorithms.DLModel.PREDICT_BATCH_SIZE;
+import static org.opensearch.ml.engine.algorithms.DLModel.PREDICT_BATCH_WAIT_TIME_IN_MILLIS;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
@@ -21,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.junit.After;
@@ -29,6 +34,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.opensearch.ResourceNotFoundException;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
@@ -37,12 +43,14 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.algorithms.PredictBatcher;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.utils.FileUtils;
@@ -168,6 +176,46 @@ public class TextEmbeddingDenseModelTest {
         textEmbeddingDenseModel.close();
     }
 
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_BatchingMixedLength() {
+        TextDocsInputDataSet mixedLengthInput = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("sunny", "That is a happy dog playing in the park", "today is sunny"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(mixedLengthInput).build();
+        textEmbeddingDenseModel.initModel(model, params, encryptor);
+        ModelTensorOutput expected = (ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput);
+        textEmbeddingDenseModel.close();
+
+        params.put(PREDICT_BATCH_SIZE, 8);
+        params.put(PREDICT_BATCH_WAIT_TIME_IN_MILLIS, 1L);
+        params.put(PREDICT_BATCH_FLUSH_SCHEDULER, (PredictBatcher.FlushScheduler) (task, delayInMillis, onRejection) -> task.run());
+        TextEmbeddingDenseModel batchModel = new TextEmbeddingDenseModel();
+        batchModel.initModel(model, params, encryptor);
+        assertNotNull(batchModel.getPredictBatcher());
+        ModelTensorOutput output = (ModelTensorOutput) batchModel.predict(mlInput);
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        assertEquals(3, mlModelOutputs.size());
+        for (int i = 0; i < mlModelOutputs.size(); i++) {
+            ModelTensors expectedTensors = expected.getMlModelOutputs().get(i);
+            Number[] expectedData = expectedTensors.getMlModelTensors().get(findSentenceEmbeddingPosition(expectedTensors)).getData();
+            ModelTensors tensors = mlModelOutputs.get(i);
+            Number[] data = tensors.getMlModelTensors().get(findSentenceEmbeddingPosition(tensors)).getData();
+            assertEquals(dimension, data.length);
+            for (int j = 0; j < data.length; j++) {
+                assertEquals(expectedData[j].floatValue(), data[j].floatValue(), 1e-4);
+            }
+        }
+        assertEquals(1, batchModel.getPredictBatcher().getBatchSizeStats().getCount());
+        assertEquals(3, batchModel.getPredictBatcher().getBatchSizeStats().getMax(), 0);
+
+        AtomicReference<MLOutput> asyncOutput = new AtomicReference<>();
+        batchModel.predictAsync(mlInput, ActionListener.wrap(asyncOutput::set, e -> { throw new AssertionError(e); }));
+        assertEquals(3, ((ModelTensorOutput) asyncOutput.get()).getMlModelOutputs().size());
+        assertEquals(2, batchModel.getPredictBatcher().getBatchSizeStats().getCount());
+        batchModel.close();
+    }
+
     @Test
     public void initModel_predict_TorchScript_Huggingface() throws URISyntaxException {
         String modelFile = "all-MiniLM-L6-v2_torchscript_huggingface.zip";
@@ -201,6 +249,49 @@ public class TextEmbeddingDenseModelTest {
         initModel_predict_HuggingfaceModel(modelFile, modelType, poolingMode, normalize, modelMaxLength, modelFormat, 768);
     }
 
+    @Test
+    public void initModel_predict_ONNX_bert_Batching() throws URISyntaxException {
+        Map<String, Object> params = new HashMap<>();
+        params.put(MODEL_HELPER, modelHelper);
+        params.put(MODEL_ZIP_FILE, new File(getClass().getResource("all-MiniLM-L6-v2_onnx.zip").toURI()));
+        params.put(ML_ENGINE, mlEngine);
+        TextEmbeddingModelConfig onnxModelConfig = modelConfig
+            .toBuilder()
+            .frameworkType(HUGGINGFACE_TRANSFORMERS)
+            .modelType("bert")
+            .poolingMode(TextEmbeddingModelConfig.PoolingMode.MEAN)
+            .normalizeResult(true)
+            .modelMaxLength(512)
+            .build();
+        MLModel mlModel = model.toBuilder().modelFormat(MLModelFormat.ONNX).modelConfig(onnxModelConfig).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+
+        textEmbeddingDenseModel.initModel(mlModel, params, encryptor);
+        ModelTensorOutput expected = (ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput);
+        textEmbeddingDenseModel.close();
+
+        params.put(PREDICT_BATCH_SIZE, 8);
+        params.put(PREDICT_BATCH_WAIT_TIME_IN_MILLIS, 1L);
+        params.put(PREDICT_BATCH_FLUSH_SCHEDULER, (PredictBatcher.FlushScheduler) (task, delayInMillis, onRejection) -> task.run());
+        TextEmbeddingDenseModel batchModel = new TextEmbeddingDenseModel();
+        batchModel.initModel(mlModel, params, encryptor);
+        assertNotNull(batchModel.getPredictBatcher());
+        ModelTensorOutput output = (ModelTensorOutput) batchModel.predict(mlInput);
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        assertEquals(2, mlModelOutputs.size());
+        for (int i = 0; i < mlModelOutputs.size(); i++) {
+            Number[] expectedData = expected.getMlModelOutputs().get(i).getMlModelTensors().get(0).getData();
+            Number[] data = mlModelOutputs.get(i).getMlModelTensors().get(0).getData();
+            assertEquals(dimension, data.length);
+            for (int j = 0; j < data.length; j++) {
+                assertEquals(expectedData[j].floatValue(), data[j].floatValue(), 1e-4);
+            }
+        }
+        assertEquals(1, batchModel.getPredictBatcher().getBatchSizeStats().getCount());
+        assertEquals(2, batchModel.getPredictBatcher().getBatchSizeStats().getMax(), 0);
+        batchModel.close();
+    }
+
     private void initModel_predict_HuggingfaceModel(
         String modelFile,
         String modelType,
@@ -5,12 +5,16 @@
 
 package org.opensearch.ml.engine.httpclient;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.io.IOException;
 import java.net.UnknownHostException;
 
 import org.apache.http.HttpHost;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -26,6 +30,16 @@ public class MLHttpClientFactoryTests {
         assertNotNull(client);
     }
 
+    @Test
+    public void test_getAsyncHttpClient_success() throws IOException {
+        PoolingNHttpClientConnectionManager connectionManager = MLHttpClientFactory.createConnectionManager(1000, 1000, 10);
+        assertEquals(10, connectionManager.getMaxTotal());
+        assertEquals(10, connectionManager.getDefaultMaxPerRoute());
+        CloseableHttpAsyncClient client = MLHttpClientFactory.getAsyncHttpClient(connectionManager, 1000, 1000);
+        assertNotNull(client);
+        client.close();
+    }
+
     @Test
     public void test_validateIp_validIp_noException() throws UnknownHostException {
         MLHttpClientFactory.validateIp("api.openai.com");
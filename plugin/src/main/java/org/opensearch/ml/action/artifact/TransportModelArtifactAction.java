@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ARTIFACT_THREAD_POOL;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodeRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesResponse;
+import org.opensearch.ml.engine.ModelArtifactCache;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Serve cached model artifact of local node to other ML nodes deploying the same model. Artifact is only served to a
+ * model whose own content matched it on this node. Requests run on a small dedicated thread pool, so reads of large
+ * artifact chunks don't hold threads of other ML operations and probes don't wait for model deploys.
+ */
+@Log4j2
+public class TransportModelArtifactAction extends
+    TransportNodesAction<MLModelArtifactNodesRequest, MLModelArtifactNodesResponse, MLModelArtifactNodeRequest, MLModelArtifactNodeResponse> {
+    // Max bytes of model artifact sent in one transport message.
+    public static final int MAX_CONTENT_LENGTH = 16 * 1024 * 1024;
+
+    private final MLModelManager mlModelManager;
+    private final ClusterService clusterService;
+    private final MLStats mlStats;
+
+    @Inject
+    public TransportModelArtifactAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        MLModelManager mlModelManager,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        MLStats mlStats
+    ) {
+        super(
+            MLModelArtifactAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLModelArtifactNodesRequest::new,
+            MLModelArtifactNodeRequest::new,
+            ARTIFACT_THREAD_POOL,
+            MLModelArtifactNodeResponse.class
+        );
+        this.mlModelManager = mlModelManager;
+        this.clusterService = clusterService;
+        this.mlStats = mlStats;
+    }
+
+    @Override
+    protected MLModelArtifactNodesResponse newResponse(
+        MLModelArtifactNodesRequest nodesRequest,
+        List<MLModelArtifactNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLModelArtifactNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLModelArtifactNodeRequest newNodeRequest(MLModelArtifactNodesRequest request) {
+        return new MLModelArtifactNodeRequest(request);
+    }
+
+    @Override
+    protected MLModelArtifactNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLModelArtifactNodeResponse(in);
+    }
+
+    @Override
+    protected MLModelArtifactNodeResponse nodeOperation(MLModelArtifactNodeRequest request) {
+        MLModelArtifactNodesRequest artifactRequest = request.getModelArtifactNodesRequest();
+        ModelArtifactCache artifactCache = mlModelManager.getModelArtifactCache();
+        long load = (long) mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).getValue();
+        if (artifactRequest.getFileName() == null) {
+            String contentHash = artifactRequest.getContentHash();
+            String modelId = artifactRequest.getModelId();
+            Map<String, Long> files = artifactCache.isEnabled() ? artifactCache.getFiles(contentHash, modelId) : null;
+            Map<String, String> fileHashes = files == null ? null : artifactCache.getFileHashes(contentHash, modelId);
+            if (fileHashes == null) {
+                files = null;
+            }
+            return new MLModelArtifactNodeResponse(clusterService.localNode(), files, fileHashes, load, null);
+        }
+        try {
+            byte[] content = artifactCache
+                .read(
+                    artifactRequest.getContentHash(),
+                    artifactRequest.getModelId(),
+                    artifactRequest.getFileName(),
+                    artifactRequest.getOffset(),
+                    Math.min(artifactRequest.getLength(), MAX_CONTENT_LENGTH)
+                );
+            return new MLModelArtifactNodeResponse(clusterService.localNode(), null, null, load, new BytesArray(content));
+        } catch (IOException e) {
+            log.error("Failed to read model artifact " + artifactRequest.getContentHash(), e);
+            throw new UncheckedIOException(e);
+        }
+    }
+}
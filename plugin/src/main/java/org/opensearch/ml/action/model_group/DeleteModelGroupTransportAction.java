@@ -109,6 +109,7 @@ public class DeleteModelGroupTransportAction extends HandledTransportAction<Acti
             @Override
             public void onResponse(DeleteResponse deleteResponse) {
                 log.debug("Completed Delete Model Group Request, task id:{} deleted", modelGroupId);
+                modelAccessControlHelper.invalidateModelGroupCacheOnAllNodes(modelGroupId, client);
                 actionListener.onResponse(deleteResponse);
             }
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.model_group;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodeRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodesResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Removes a model group from the model group and access decision caches of every node.
+ */
+@Log4j2
+public class InvalidateModelGroupCacheTransportAction extends
+    TransportNodesAction<
+        MLModelGroupCacheInvalidateNodesRequest,
+        MLModelGroupCacheInvalidateNodesResponse,
+        MLModelGroupCacheInvalidateNodeRequest,
+        MLModelGroupCacheInvalidateNodeResponse> {
+    private final ClusterService clusterService;
+    private final ModelAccessControlHelper modelAccessControlHelper;
+
+    @Inject
+    public InvalidateModelGroupCacheTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        ModelAccessControlHelper modelAccessControlHelper
+    ) {
+        super(
+            MLModelGroupCacheInvalidateAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLModelGroupCacheInvalidateNodesRequest::new,
+            MLModelGroupCacheInvalidateNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLModelGroupCacheInvalidateNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.modelAccessControlHelper = modelAccessControlHelper;
+    }
+
+    @Override
+    protected MLModelGroupCacheInvalidateNodesResponse newResponse(
+        MLModelGroupCacheInvalidateNodesRequest nodesRequest,
+        List<MLModelGroupCacheInvalidateNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLModelGroupCacheInvalidateNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLModelGroupCacheInvalidateNodeRequest newNodeRequest(MLModelGroupCacheInvalidateNodesRequest request) {
+        return new MLModelGroupCacheInvalidateNodeRequest(request);
+    }
+
+    @Override
+    protected MLModelGroupCacheInvalidateNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLModelGroupCacheInvalidateNodeResponse(in);
+    }
+
+    @Override
+    protected MLModelGroupCacheInvalidateNodeResponse nodeOperation(MLModelGroupCacheInvalidateNodeRequest request) {
+        String modelGroupId = request.getInvalidateNodesRequest().getModelGroupId();
+        modelAccessControlHelper.invalidateModelGroupCache(modelGroupId);
+        log.debug("Invalidated cache of model group {} on node {}", modelGroupId, clusterService.localNode().getId());
+        return new MLModelGroupCacheInvalidateNodeResponse(clusterService.localNode());
+    }
+}
@@ -192,7 +192,10 @@ public class TransportUpdateModelGroupAction extends HandledTransportAction<Acti
             client
                 .update(
                     updateModelGroupRequest,
-                    ActionListener.wrap(r -> { wrappedListener.onResponse(new MLUpdateModelGroupResponse("Updated")); }, e -> {
+                    ActionListener.wrap(r -> {
+                        modelAccessControlHelper.invalidateModelGroupCacheOnAllNodes(modelGroupId, client);
+                        wrappedListener.onResponse(new MLUpdateModelGroupResponse("Updated"));
+                    }, e -> {
                         if (e instanceof IndexNotFoundException) {
                             wrappedListener.onFailure(new MLResourceNotFoundException("Fail to find model group"));
                         } else {
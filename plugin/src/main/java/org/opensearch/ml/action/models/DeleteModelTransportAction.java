@@ -41,6 +41,7 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
+import org.opensearch.ml.engine.PredictableCache;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -68,6 +69,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
     Settings settings;
 
     ModelAccessControlHelper modelAccessControlHelper;
+    PredictableCache predictableCache;
 
     @Inject
     public DeleteModelTransportAction(
@@ -77,13 +79,15 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         Settings settings,
         NamedXContentRegistry xContentRegistry,
         ClusterService clusterService,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        PredictableCache predictableCache
     ) {
         super(MLModelDeleteAction.NAME, transportService, actionFilters, MLModelDeleteRequest::new);
         this.client = client;
         this.xContentRegistry = xContentRegistry;
         this.clusterService = clusterService;
         this.modelAccessControlHelper = modelAccessControlHelper;
+        this.predictableCache = predictableCache;
     }
 
     @Override
@@ -214,6 +218,8 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         client.delete(deleteRequest, new ActionListener<DeleteResponse>() {
             @Override
             public void onResponse(DeleteResponse deleteResponse) {
+                // Other nodes can't hit cached model of deleted model document, their entries are evicted as least recently used.
+                predictableCache.invalidate(modelId);
                 deleteModelChunks(modelId, deleteResponse, actionListener);
             }
 
@@ -6,7 +6,9 @@
 package org.opensearch.ml.action.profile;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.nodes.BaseNodesResponse;
@@ -16,9 +18,16 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.profile.MLModelProfile;
+
+import lombok.Getter;
 
 public class MLProfileResponse extends BaseNodesResponse<MLProfileNodeResponse> implements ToXContentObject {
 
+    // Model latency stats merged from all nodes, keyed by model id.
+    @Getter
+    private final Map<String, MLModelProfile> clusterModelProfiles;
+
     /**
      * Constructor
      *
@@ -27,6 +36,7 @@ public class MLProfileResponse extends BaseNodesResponse<MLProfileNodeResponse>
      */
     public MLProfileResponse(StreamInput in) throws IOException {
         super(new ClusterName(in), in.readList(MLProfileNodeResponse::readProfile), in.readList(FailedNodeException::new));
+        this.clusterModelProfiles = in.readMap(StreamInput::readString, MLModelProfile::new);
     }
 
     /**
@@ -37,12 +47,31 @@ public class MLProfileResponse extends BaseNodesResponse<MLProfileNodeResponse>
      * @param failures List of failures from nodes
      */
     public MLProfileResponse(ClusterName clusterName, List<MLProfileNodeResponse> nodes, List<FailedNodeException> failures) {
+        this(clusterName, nodes, failures, Collections.emptyMap());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param clusterName name of cluster
+     * @param nodes List of MLTaskProfileNodeResponses from nodes
+     * @param failures List of failures from nodes
+     * @param clusterModelProfiles model latency stats merged from all nodes
+     */
+    public MLProfileResponse(
+        ClusterName clusterName,
+        List<MLProfileNodeResponse> nodes,
+        List<FailedNodeException> failures,
+        Map<String, MLModelProfile> clusterModelProfiles
+    ) {
         super(clusterName, nodes, failures);
+        this.clusterModelProfiles = clusterModelProfiles;
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
+        out.writeMap(clusterModelProfiles, StreamOutput::writeString, (o, r) -> r.writeTo(o));
     }
 
     @Override
@@ -68,6 +97,24 @@ public class MLProfileResponse extends BaseNodesResponse<MLProfileNodeResponse>
             builder.endObject();
         }
         builder.endObject();
+        return clusterModelStatsToXContent(builder, params);
+    }
+
+    /**
+     * Write model latency stats merged from all nodes, nothing is written if there is no stats.
+     * @param builder XContent builder
+     * @param params XContent params
+     * @return XContent builder
+     * @throws IOException thrown when unable to write stats
+     */
+    public XContentBuilder clusterModelStatsToXContent(XContentBuilder builder, Params params) throws IOException {
+        if (clusterModelProfiles.size() > 0) {
+            builder.startObject("cluster_model_stats");
+            for (Map.Entry<String, MLModelProfile> entry : clusterModelProfiles.entrySet()) {
+                builder.field(entry.getKey(), entry.getValue());
+            }
+            builder.endObject();
+        }
         return builder;
     }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.profile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +23,7 @@ import org.opensearch.env.Environment;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.profile.MLPredictRequestStats;
 import org.opensearch.ml.profile.MLProfileInput;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.monitor.jvm.JvmService;
@@ -79,7 +81,41 @@ public class MLProfileTransportAction extends
         List<MLProfileNodeResponse> responses,
         List<FailedNodeException> failures
     ) {
-        return new MLProfileResponse(clusterService.getClusterName(), responses, failures);
+        Map<String, MLModelProfile> clusterModelProfiles = mergeModelStats(responses, request.getMlProfileInput().getPercentiles());
+        return new MLProfileResponse(clusterService.getClusterName(), responses, failures, clusterModelProfiles);
+    }
+
+    /**
+     * Merge latency histograms of each model reported by all nodes into cluster level model stats.
+     * @param responses node responses
+     * @param percentiles percentiles of model latency to calculate
+     * @return merged model stats keyed by model id, models without latency stats are skipped
+     */
+    Map<String, MLModelProfile> mergeModelStats(List<MLProfileNodeResponse> responses, List<Double> percentiles) {
+        Map<String, List<MLPredictRequestStats>> inferenceStats = new HashMap<>();
+        Map<String, List<MLPredictRequestStats>> requestStats = new HashMap<>();
+        for (MLProfileNodeResponse response : responses) {
+            if (response.getMlNodeModels() == null) {
+                continue;
+            }
+            for (Map.Entry<String, MLModelProfile> entry : response.getMlNodeModels().entrySet()) {
+                inferenceStats.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue().getModelInferenceStats());
+                requestStats.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue().getPredictRequestStats());
+            }
+        }
+        Map<String, MLModelProfile> clusterModelProfiles = new HashMap<>();
+        for (String modelId : inferenceStats.keySet()) {
+            MLPredictRequestStats modelInferenceStats = MLPredictRequestStats.merge(inferenceStats.get(modelId), percentiles);
+            MLPredictRequestStats predictRequestStats = MLPredictRequestStats.merge(requestStats.get(modelId), percentiles);
+            if (modelInferenceStats != null || predictRequestStats != null) {
+                clusterModelProfiles
+                    .put(
+                        modelId,
+                        MLModelProfile.builder().modelInferenceStats(modelInferenceStats).predictRequestStats(predictRequestStats).build()
+                    );
+            }
+        }
+        return clusterModelProfiles;
     }
 
     @Override
@@ -117,7 +153,7 @@ public class MLProfileTransportAction extends
         Arrays.stream(mlModelManager.getAllModelIds()).forEach(modelId -> {
             if (mlProfileInput.isReturnAllModels() || (!mlProfileInput.emptyModels() && targetModelIds.contains(modelId))) {
                 log.debug("Runtime model profile is found for model {}", modelId);
-                MLModelProfile modelProfile = mlModelManager.getModelProfile(modelId);
+                MLModelProfile modelProfile = mlModelManager.getModelProfile(modelId, mlProfileInput.getPercentiles());
                 if (modelProfile != null) {
                     mlLocalModels.put(modelId, modelProfile);
                 }
@@ -7,10 +7,11 @@ package org.opensearch.ml.action.upload_chunk;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
+import static org.opensearch.ml.utils.MLNodeUtils.createModelChunkSource;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
-import java.util.Base64;
 import java.util.concurrent.Semaphore;
 
 import org.opensearch.action.get.GetRequest;
@@ -18,7 +19,9 @@ import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
@@ -47,18 +50,25 @@ public class MLModelChunkUploader {
     private final Client client;
     private final NamedXContentRegistry xContentRegistry;
     ModelAccessControlHelper modelAccessControlHelper;
+    private volatile boolean binaryModelChunkEnabled;
 
     @Inject
     public MLModelChunkUploader(
         MLIndicesHandler mlIndicesHandler,
         Client client,
         final NamedXContentRegistry xContentRegistry,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        ClusterService clusterService,
+        Settings settings
     ) {
         this.mlIndicesHandler = mlIndicesHandler;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
         this.modelAccessControlHelper = modelAccessControlHelper;
+        this.binaryModelChunkEnabled = ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED, it -> binaryModelChunkEnabled = it);
     }
 
     public void uploadModelChunk(MLUploadModelChunkInput uploadModelChunkInput, ActionListener<MLUploadModelChunkResponse> listener) {
@@ -114,18 +124,11 @@ public class MLModelChunkUploader {
                                             .totalChunks(existingModel.getTotalChunks())
                                             .algorithm(existingModel.getAlgorithm())
                                             .chunkNumber(chunkNum)
-                                            .content(Base64.getEncoder().encodeToString(bytes))
+                                            .binaryContent(bytes)
                                             .build();
                                         IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
                                         indexRequest.id(uploadModelChunkInput.getModelId() + "_" + uploadModelChunkInput.getChunkNumber());
-                                        indexRequest
-                                            .source(
-                                                mlModel
-                                                    .toXContent(
-                                                        XContentBuilder.builder(XContentType.JSON.xContent()),
-                                                        ToXContent.EMPTY_PARAMS
-                                                    )
-                                            );
+                                        indexRequest.source(createModelChunkSource(mlModel, binaryModelChunkEnabled));
                                         indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
                                         client.index(indexRequest, ActionListener.wrap(response -> {
                                             log
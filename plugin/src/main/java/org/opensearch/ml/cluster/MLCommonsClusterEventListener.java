@@ -5,7 +5,7 @@
 
 package org.opensearch.ml.cluster;
 
-import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_LATENCY_ENABLED;
 
 import java.util.List;
 import java.util.Set;
@@ -21,6 +21,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
 
 import lombok.extern.log4j.Log4j2;
@@ -32,6 +33,7 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
     private final MLModelManager mlModelManager;
     private final MLTaskManager mlTaskManager;
     private final MLModelCacheHelper modelCacheHelper;
+    private final MLTaskDispatcher mlTaskDispatcher;
 
     private final MLModelAutoReDeployer mlModelAutoReDeployer;
 
@@ -40,6 +42,7 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
         MLModelManager mlModelManager,
         MLTaskManager mlTaskManager,
         MLModelCacheHelper modelCacheHelper,
+        MLTaskDispatcher mlTaskDispatcher,
         MLModelAutoReDeployer mlModelAutoReDeployer
     ) {
         this.clusterService = clusterService;
@@ -47,6 +50,7 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
         this.mlModelManager = mlModelManager;
         this.mlTaskManager = mlTaskManager;
         this.modelCacheHelper = modelCacheHelper;
+        this.mlTaskDispatcher = mlTaskDispatcher;
         this.mlModelAutoReDeployer = mlModelAutoReDeployer;
     }
 
@@ -56,15 +60,16 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
         ClusterState state = event.state();
         Settings previousSettings = previousState.getMetadata().settings();
         Settings settings = state.getMetadata().settings();
-        long previousMonitoringReqCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(previousSettings);
-        long monitoringReqCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(settings);
-        if (previousMonitoringReqCount > monitoringReqCount) {
-            modelCacheHelper.resizeMonitoringQueue(monitoringReqCount);
+        boolean previousMonitoringLatencyEnabled = ML_COMMONS_MONITORING_LATENCY_ENABLED.get(previousSettings);
+        boolean monitoringLatencyEnabled = ML_COMMONS_MONITORING_LATENCY_ENABLED.get(settings);
+        if (previousMonitoringLatencyEnabled && !monitoringLatencyEnabled) {
+            modelCacheHelper.clearMonitoringStats();
         }
         DiscoveryNodes.Delta delta = event.nodesDelta();
         if (delta.removed()) {
             Set<String> removedNodeIds = delta.removedNodes().stream().map(DiscoveryNode::getId).collect(Collectors.toSet());
             mlModelManager.removeWorkerNodes(removedNodeIds, false);
+            mlTaskDispatcher.removeNodeLoads(removedNodeIds);
         } else if (delta.added()) {
             List<String> addedNodesIds = delta.addedNodes().stream().map(DiscoveryNode::getId).collect(Collectors.toList());
             mlModelAutoReDeployer.buildAutoReloadArrangement(addedNodesIds, state.getNodes().getClusterManagerNodeId());
@@ -10,14 +10,21 @@ package org.opensearch.ml.helper;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_DECISION_CACHE_TTL_IN_SECONDS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_GROUP_CACHE_SIZE;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.lucene.search.join.ScoreMode;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -43,23 +50,57 @@ import org.opensearch.ml.common.AccessMode;
 import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodesRequest;
 import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 
+import lombok.EqualsAndHashCode;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class ModelAccessControlHelper {
 
+    // Cached model groups are invalidated when updated or deleted, expiring them bounds staleness if an invalidation is lost.
+    private static final long MODEL_GROUP_CACHE_EXPIRE_IN_MINUTES = 10;
+
     private volatile Boolean modelAccessControlEnabled;
+    private final ClusterService clusterService;
+    private final Cache<String, MLModelGroup> modelGroupCache;
+    private final Cache<AccessDecisionKey, Boolean> accessDecisionCache;
+    // Bumped on every invalidation, so a model group read before an invalidation is not cached after it.
+    private final AtomicLong invalidationVersion;
+    private final LongAdder modelGroupCacheHitCount;
+    private final LongAdder modelGroupCacheMissCount;
+    private final LongAdder accessDecisionCacheHitCount;
+    private final LongAdder accessDecisionCacheMissCount;
 
     public ModelAccessControlHelper(ClusterService clusterService, Settings settings) {
+        this.clusterService = clusterService;
         modelAccessControlEnabled = ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.get(settings);
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED, it -> modelAccessControlEnabled = it);
+        modelGroupCache = CacheBuilder
+            .newBuilder()
+            .maximumSize(ML_COMMONS_MODEL_GROUP_CACHE_SIZE.get(settings))
+            .expireAfterWrite(MODEL_GROUP_CACHE_EXPIRE_IN_MINUTES, TimeUnit.MINUTES)
+            .build();
+        int decisionTtl = ML_COMMONS_MODEL_ACCESS_DECISION_CACHE_TTL_IN_SECONDS.get(settings);
+        accessDecisionCache = CacheBuilder
+            .newBuilder()
+            .maximumSize(decisionTtl == 0 ? 0 : ML_COMMONS_MODEL_GROUP_CACHE_SIZE.get(settings))
+            .expireAfterWrite(decisionTtl, TimeUnit.SECONDS)
+            .build();
+        invalidationVersion = new AtomicLong();
+        modelGroupCacheHitCount = new LongAdder();
+        modelGroupCacheMissCount = new LongAdder();
+        accessDecisionCacheHitCount = new LongAdder();
+        accessDecisionCacheMissCount = new LongAdder();
     }
 
     private static final List<Class<?>> SUPPORTED_QUERY_TYPES = ImmutableList
@@ -80,48 +121,48 @@ public class ModelAccessControlHelper {
             return;
         }
 
-        List<String> userBackendRoles = user.getBackendRoles();
+        AccessDecisionKey decisionKey = new AccessDecisionKey(modelGroupId, user.getName(), user.getBackendRoles());
+        Boolean cachedDecision = accessDecisionCache.getIfPresent(decisionKey);
+        if (cachedDecision != null) {
+            accessDecisionCacheHitCount.increment();
+            listener.onResponse(cachedDecision);
+            return;
+        }
+        accessDecisionCacheMissCount.increment();
+
+        long version = invalidationVersion.get();
+        MLModelGroup cachedModelGroup = modelGroupCache.getIfPresent(modelGroupId);
+        if (cachedModelGroup != null) {
+            modelGroupCacheHitCount.increment();
+            respondWithAccess(user, cachedModelGroup, decisionKey, version, listener);
+            return;
+        }
+        modelGroupCacheMissCount.increment();
+
         GetRequest getModelGroupRequest = new GetRequest(ML_MODEL_GROUP_INDEX).id(modelGroupId);
 
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
             client.get(getModelGroupRequest, ActionListener.wrap(r -> {
                 if (r != null && r.isExists()) {
+                    MLModelGroup mlModelGroup;
                     try (
                         XContentParser parser = MLNodeUtils
                             .createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, r.getSourceAsBytesRef())
                     ) {
                         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
-                        MLModelGroup mlModelGroup = MLModelGroup.parse(parser);
-                        AccessMode modelAccessMode = AccessMode.from(mlModelGroup.getAccess());
-                        if (mlModelGroup.getOwner() == null) {
-                            // previous security plugin not enabled, model defaults to public.
-                            wrappedListener.onResponse(true);
-                        } else if (AccessMode.RESTRICTED == modelAccessMode) {
-                            if (mlModelGroup.getBackendRoles() == null || mlModelGroup.getBackendRoles().size() == 0) {
-                                throw new IllegalStateException("Backend roles shouldn't be null");
-                            } else {
-                                wrappedListener
-                                    .onResponse(
-                                        Optional
-                                            .ofNullable(userBackendRoles)
-                                            .orElse(ImmutableList.of())
-                                            .stream()
-                                            .anyMatch(mlModelGroup.getBackendRoles()::contains)
-                                    );
-                            }
-                        } else if (AccessMode.PUBLIC == modelAccessMode) {
-                            wrappedListener.onResponse(true);
-                        } else if (AccessMode.PRIVATE == modelAccessMode) {
-                            if (isOwner(mlModelGroup.getOwner(), user))
-                                wrappedListener.onResponse(true);
-                            else
-                                wrappedListener.onResponse(false);
-                        }
+                        mlModelGroup = MLModelGroup.parse(parser);
                     } catch (Exception e) {
                         log.error("Failed to parse ml model group");
                         wrappedListener.onFailure(e);
+                        return;
+                    }
+                    synchronized (this) {
+                        if (version == invalidationVersion.get()) {
+                            modelGroupCache.put(modelGroupId, mlModelGroup);
+                        }
                     }
+                    respondWithAccess(user, mlModelGroup, decisionKey, version, wrappedListener);
                 } else {
                     wrappedListener.onFailure(new MLResourceNotFoundException("Fail to find model group"));
                 }
@@ -139,6 +180,105 @@ public class ModelAccessControlHelper {
         }
     }
 
+    private void respondWithAccess(
+        User user,
+        MLModelGroup mlModelGroup,
+        AccessDecisionKey decisionKey,
+        long version,
+        ActionListener<Boolean> listener
+    ) {
+        boolean access;
+        try {
+            access = hasModelGroupAccess(user, mlModelGroup);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        synchronized (this) {
+            if (version == invalidationVersion.get()) {
+                accessDecisionCache.put(decisionKey, access);
+            }
+        }
+        listener.onResponse(access);
+    }
+
+    private boolean hasModelGroupAccess(User user, MLModelGroup mlModelGroup) {
+        AccessMode modelAccessMode = AccessMode.from(mlModelGroup.getAccess());
+        if (mlModelGroup.getOwner() == null) {
+            // previous security plugin not enabled, model defaults to public.
+            return true;
+        } else if (AccessMode.RESTRICTED == modelAccessMode) {
+            if (mlModelGroup.getBackendRoles() == null || mlModelGroup.getBackendRoles().size() == 0) {
+                throw new IllegalStateException("Backend roles shouldn't be null");
+            }
+            return Optional
+                .ofNullable(user.getBackendRoles())
+                .orElse(ImmutableList.of())
+                .stream()
+                .anyMatch(mlModelGroup.getBackendRoles()::contains);
+        } else if (AccessMode.PUBLIC == modelAccessMode) {
+            return true;
+        } else if (AccessMode.PRIVATE == modelAccessMode) {
+            return isOwner(mlModelGroup.getOwner(), user);
+        }
+        throw new IllegalStateException("Access shouldn't be null");
+    }
+
+    /**
+     * Remove cached model group and access decisions of it on this node.
+     * Called on every node when the model group is updated or deleted.
+     * @param modelGroupId model group id
+     */
+    public void invalidateModelGroupCache(String modelGroupId) {
+        if (modelGroupId == null) {
+            return;
+        }
+        synchronized (this) {
+            invalidationVersion.incrementAndGet();
+            modelGroupCache.invalidate(modelGroupId);
+            accessDecisionCache.asMap().keySet().removeIf(key -> modelGroupId.equals(key.modelGroupId));
+        }
+    }
+
+    /**
+     * Remove cached model group on this node right away, then on all other nodes in background.
+     * Nodes which miss the invalidation drop the model group when cache entry expires.
+     * @param modelGroupId model group id
+     * @param client client to send invalidation to all nodes
+     */
+    public void invalidateModelGroupCacheOnAllNodes(String modelGroupId, Client client) {
+        invalidateModelGroupCache(modelGroupId);
+        List<String> nodeIds = new ArrayList<>();
+        for (DiscoveryNode node : clusterService.state().nodes()) {
+            nodeIds.add(node.getId());
+        }
+        MLModelGroupCacheInvalidateNodesRequest request = new MLModelGroupCacheInvalidateNodesRequest(
+            nodeIds.toArray(new String[0]),
+            modelGroupId
+        );
+        client.execute(MLModelGroupCacheInvalidateAction.INSTANCE, request, ActionListener.wrap(r -> {
+            if (r.hasFailures()) {
+                log.warn("Failed to invalidate cache of model group {} on {} nodes", modelGroupId, r.failures().size());
+            }
+        }, e -> log.error("Failed to invalidate cache of model group " + modelGroupId, e)));
+    }
+
+    public long getModelGroupCacheHitCount() {
+        return modelGroupCacheHitCount.sum();
+    }
+
+    public long getModelGroupCacheMissCount() {
+        return modelGroupCacheMissCount.sum();
+    }
+
+    public long getAccessDecisionCacheHitCount() {
+        return accessDecisionCacheHitCount.sum();
+    }
+
+    public long getAccessDecisionCacheMissCount() {
+        return accessDecisionCacheMissCount.sum();
+    }
+
     public boolean skipModelAccessControl(User user) {
         // Case 1: user == null when 1. Security is disabled. 2. When user is super-admin
         // Case 2: If Security is enabled and filter is disabled, proceed with search as
@@ -232,4 +372,17 @@ public class ModelAccessControlHelper {
     public SearchSourceBuilder createSearchSourceBuilder(User user) {
         return addUserBackendRolesFilter(user, new SearchSourceBuilder());
     }
+
+    @EqualsAndHashCode
+    private static class AccessDecisionKey {
+        private final String modelGroupId;
+        private final String userName;
+        private final List<String> backendRoles;
+
+        AccessDecisionKey(String modelGroupId, String userName, List<String> backendRoles) {
+            this.modelGroupId = modelGroupId;
+            this.userName = userName;
+            this.backendRoles = backendRoles;
+        }
+    }
 }
@@ -0,0 +1,430 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+
+import lombok.EqualsAndHashCode;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level LRU cache of embeddings of text docs predicted by deployed embedding models.
+ * Entries are keyed by model id, the SHA-256 hash of the predict input without its docs (algorithm, parameters and
+ * result filter) and the text of one doc. Docs of a request found in the cache are not sent to the model, only the
+ * other docs are, and the output is assembled from the embeddings of all docs in request order.
+ * Each entry holds float vectors of one doc: dense embeddings as float arrays and sparse embeddings as tokens with
+ * their weights. Local models are cached if they return one output per doc, remote models if they return one output
+ * with one tensor per doc, which is what the built-in embedding post-process functions return.
+ * Cache is bounded by approximate total entry size and by entry count: each entry weighs at least its share of the
+ * size limit per entry, so neither limit can be exceeded. Changing either limit rebuilds the cache without entries.
+ * No entry is added while the memory circuit breaker is open.
+ */
+@Log4j2
+public class EmbeddingResultCache {
+
+    // Remote models are only cached for text docs input, which is what neural search sends to embedding models.
+    private static final Set<FunctionName> CACHEABLE_FUNCTIONS = ImmutableSet
+        .of(FunctionName.TEXT_EMBEDDING, FunctionName.SPARSE_ENCODING, FunctionName.REMOTE);
+    // Rough size of object headers, references and array lengths of an entry.
+    private static final int ENTRY_OVERHEAD_IN_BYTES = 128;
+    private static final int TENSOR_OVERHEAD_IN_BYTES = 64;
+
+    private final MLCircuitBreakerService mlCircuitBreakerService;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private volatile Cache<DocKey, DocResult> cache;
+    private volatile int maxEntries;
+    private volatile long maxSizeInBytes;
+    private volatile boolean enabledSetting;
+    private volatile boolean enabled;
+
+    public EmbeddingResultCache(ClusterService clusterService, Settings settings, MLCircuitBreakerService mlCircuitBreakerService) {
+        this.mlCircuitBreakerService = mlCircuitBreakerService;
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.enabledSetting = ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED.get(settings);
+        setLimits(ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES.get(settings), ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED, it -> {
+            enabledSetting = it;
+            updateEnabled();
+        });
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES,
+                ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB,
+                this::setLimits
+            );
+    }
+
+    private synchronized void setLimits(int maxEntries, int sizeInMB) {
+        this.maxEntries = maxEntries;
+        this.maxSizeInBytes = sizeInMB * 1024L * 1024L;
+        int minWeight = maxEntries == 0 ? 1 : (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxSizeInBytes / maxEntries));
+        Cache<DocKey, DocResult> previousCache = cache;
+        cache = CacheBuilder
+            .newBuilder()
+            .maximumWeight(maxEntries == 0 ? 0 : maxSizeInBytes)
+            .<DocKey, DocResult>weigher((key, value) -> (int) Math.min(Integer.MAX_VALUE, Math.max(key.weight() + value.weight, minWeight)))
+            .build();
+        if (previousCache != null) {
+            previousCache.invalidateAll();
+        }
+        updateEnabled();
+    }
+
+    private synchronized void updateEnabled() {
+        enabled = enabledSetting && maxEntries > 0 && maxSizeInBytes > 0;
+        if (!enabled) {
+            cache.invalidateAll();
+        }
+    }
+
+    public boolean isCacheable(FunctionName functionName, MLInput mlInput) {
+        return enabled
+            && CACHEABLE_FUNCTIONS.contains(functionName)
+            && mlInput != null
+            && mlInput.getInputDataset() instanceof TextDocsInputDataSet;
+    }
+
+    /**
+     * Get embeddings of cached docs, and run inference for the other docs and cache their embeddings.
+     * @param modelId model id
+     * @param functionName function name of model
+     * @param mlInput predict input
+     * @param listener listener of predict output
+     * @param inference runs inference of the given input and completes the given listener
+     */
+    public void predict(
+        String modelId,
+        FunctionName functionName,
+        MLInput mlInput,
+        ActionListener<MLOutput> listener,
+        BiConsumer<MLInput, ActionListener<MLOutput>> inference
+    ) {
+        if (modelId == null || !isCacheable(functionName, mlInput)) {
+            inference.accept(mlInput, listener);
+            return;
+        }
+        TextDocsInputDataSet dataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+        List<String> docs = dataSet.getDocs();
+        String inputHash;
+        try {
+            inputHash = hashWithoutDocs(mlInput, dataSet);
+        } catch (IOException e) {
+            log.debug("Failed to hash predict input of model {}, predict without cache", modelId, e);
+            inference.accept(mlInput, listener);
+            return;
+        }
+        Cache<DocKey, DocResult> cache = this.cache;
+        DocKey[] keys = new DocKey[docs.size()];
+        DocResult[] results = new DocResult[docs.size()];
+        List<Integer> missIndices = new ArrayList<>();
+        for (int i = 0; i < docs.size(); i++) {
+            keys[i] = new DocKey(modelId, inputHash, docs.get(i));
+            results[i] = docs.get(i) == null ? null : cache.getIfPresent(keys[i]);
+            if (results[i] == null) {
+                missIndices.add(i);
+            }
+        }
+        hitCount.add(docs.size() - missIndices.size());
+        missCount.add(missIndices.size());
+        if (missIndices.isEmpty()) {
+            listener.onResponse(assemble(functionName, results));
+            return;
+        }
+
+        boolean partialHit = missIndices.size() < docs.size();
+        MLInput missInput = mlInput;
+        if (partialHit) {
+            List<String> missDocs = new ArrayList<>(missIndices.size());
+            missIndices.forEach(i -> missDocs.add(docs.get(i)));
+            missInput = mlInput.toBuilder().inputDataset(dataSet.toBuilder().docs(missDocs).build()).build();
+            missInput.setDeadlineInNanos(mlInput.getDeadlineInNanos());
+        }
+        inference.accept(missInput, ActionListener.wrap(output -> {
+            DocResult[] missResults = split(functionName, output, missIndices.size());
+            if (missResults == null) {
+                if (partialHit) {
+                    // Output of the missed docs can't be merged with cached embeddings, predict all docs instead.
+                    log.debug("Output of model {} can't be split by doc, predict without cache", modelId);
+                    inference.accept(mlInput, listener);
+                } else {
+                    listener.onResponse(output);
+                }
+                return;
+            }
+            boolean breakerOpen = isMemoryBreakerOpen();
+            for (int i = 0; i < missIndices.size(); i++) {
+                int index = missIndices.get(i);
+                results[index] = missResults[i];
+                if (!breakerOpen && docs.get(index) != null && missResults[i].weight <= maxSizeInBytes) {
+                    cache.put(keys[index], missResults[i]);
+                }
+            }
+            listener.onResponse(partialHit ? assemble(functionName, results) : output);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Remove all cached results of a model.
+     * @param modelId model id
+     */
+    public void invalidate(String modelId) {
+        if (modelId == null) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> modelId.equals(key.modelId));
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private boolean isMemoryBreakerOpen() {
+        CircuitBreaker memoryBreaker = mlCircuitBreakerService.getBreaker(BreakerName.MEMORY);
+        return memoryBreaker != null && memoryBreaker.isOpen();
+    }
+
+    private String hashWithoutDocs(MLInput mlInput, TextDocsInputDataSet dataSet) throws IOException {
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.writeEnum(mlInput.getAlgorithm());
+        out.writeOptionalWriteable(mlInput.getParameters());
+        out.writeOptionalWriteable(dataSet.getResultFilter());
+        return Hashing.sha256().hashBytes(BytesReference.toBytes(out.bytes())).toString();
+    }
+
+    /**
+     * Split predict output into results of each doc.
+     * @return results of docs, null if output doesn't have one output per doc for local models or one tensor per doc
+     * for remote models, or has tensors which aren't float vectors
+     */
+    private DocResult[] split(FunctionName functionName, MLOutput output, int docCount) {
+        if (!(output instanceof ModelTensorOutput) || ((ModelTensorOutput) output).getMlModelOutputs() == null) {
+            return null;
+        }
+        List<ModelTensors> outputs = ((ModelTensorOutput) output).getMlModelOutputs();
+        DocResult[] results = new DocResult[docCount];
+        if (functionName == FunctionName.REMOTE) {
+            if (outputs.size() != 1 || outputs.get(0).getMlModelTensors() == null) {
+                return null;
+            }
+            List<ModelTensor> tensors = outputs.get(0).getMlModelTensors();
+            if (tensors.size() != docCount) {
+                return null;
+            }
+            for (int i = 0; i < docCount; i++) {
+                results[i] = DocResult.of(Collections.singletonList(tensors.get(i)), outputs.get(0).getStatusCode());
+            }
+        } else {
+            if (outputs.size() != docCount) {
+                return null;
+            }
+            for (int i = 0; i < docCount; i++) {
+                results[i] = DocResult.of(outputs.get(i).getMlModelTensors(), outputs.get(i).getStatusCode());
+            }
+        }
+        return Arrays.stream(results).anyMatch(it -> it == null) ? null : results;
+    }
+
+    private ModelTensorOutput assemble(FunctionName functionName, DocResult[] results) {
+        List<ModelTensors> outputs = new ArrayList<>();
+        if (functionName == FunctionName.REMOTE) {
+            List<ModelTensor> tensors = new ArrayList<>(results.length);
+            for (DocResult result : results) {
+                tensors.addAll(result.toModelTensors());
+            }
+            ModelTensors modelTensors = new ModelTensors(tensors);
+            modelTensors.setStatusCode(results[0].statusCode);
+            outputs.add(modelTensors);
+        } else {
+            for (DocResult result : results) {
+                ModelTensors modelTensors = new ModelTensors(result.toModelTensors());
+                modelTensors.setStatusCode(result.statusCode);
+                outputs.add(modelTensors);
+            }
+        }
+        return ModelTensorOutput.builder().mlModelOutputs(outputs).build();
+    }
+
+    @EqualsAndHashCode
+    private static class DocKey {
+        private final String modelId;
+        private final String inputHash;
+        private final String doc;
+
+        DocKey(String modelId, String inputHash, String doc) {
+            this.modelId = modelId;
+            this.inputHash = inputHash;
+            this.doc = doc;
+        }
+
+        long weight() {
+            return ENTRY_OVERHEAD_IN_BYTES + 2L * (modelId.length() + inputHash.length() + (doc == null ? 0 : doc.length()));
+        }
+    }
+
+    /**
+     * Float vectors of one doc, each hit builds new tensors from them.
+     */
+    private static class DocResult {
+        private final CachedTensor[] tensors;
+        private final Integer statusCode;
+        private final long weight;
+
+        DocResult(CachedTensor[] tensors, Integer statusCode) {
+            this.tensors = tensors;
+            this.statusCode = statusCode;
+            this.weight = Arrays.stream(tensors).mapToLong(CachedTensor::weight).sum();
+        }
+
+        static DocResult of(List<ModelTensor> modelTensors, Integer statusCode) {
+            if (modelTensors == null) {
+                return null;
+            }
+            CachedTensor[] tensors = new CachedTensor[modelTensors.size()];
+            for (int i = 0; i < tensors.length; i++) {
+                tensors[i] = CachedTensor.of(modelTensors.get(i));
+                if (tensors[i] == null) {
+                    return null;
+                }
+            }
+            return new DocResult(tensors, statusCode);
+        }
+
+        List<ModelTensor> toModelTensors() {
+            List<ModelTensor> modelTensors = new ArrayList<>(tensors.length);
+            for (CachedTensor tensor : tensors) {
+                modelTensors.add(tensor.toModelTensor());
+            }
+            return modelTensors;
+        }
+    }
+
+    /**
+     * Dense embedding as float data, or sparse embedding as tokens and their weights.
+     */
+    private static class CachedTensor {
+        private final String name;
+        private final MLResultDataType dataType;
+        private final long[] shape;
+        private final float[] values;
+        private final String[] tokens;
+
+        CachedTensor(String name, MLResultDataType dataType, long[] shape, float[] values, String[] tokens) {
+            this.name = name;
+            this.dataType = dataType;
+            this.shape = shape;
+            this.values = values;
+            this.tokens = tokens;
+        }
+
+        static CachedTensor of(ModelTensor tensor) {
+            if (tensor == null || tensor.getByteBuffer() != null || tensor.getResult() != null) {
+                return null;
+            }
+            if (tensor.getDataAsMap() == null) {
+                float[] data = tensor.getFloatData();
+                if (data == null) {
+                    return null;
+                }
+                // Copied, so changes to the output of the request don't change the cached embedding.
+                return new CachedTensor(tensor.getName(), tensor.getDataType(), copy(tensor.getShape()), data.clone(), null);
+            }
+            // Sparse embedding is a single map of token weights wrapped in a list, see SparseEncodingTranslator.
+            if (tensor.getDataType() != null || tensor.getDataAsMap().size() != 1) {
+                return null;
+            }
+            Object response = tensor.getDataAsMap().get(ML_MAP_RESPONSE_KEY);
+            if (!(response instanceof List) || ((List<?>) response).size() != 1 || !(((List<?>) response).get(0) instanceof Map)) {
+                return null;
+            }
+            Map<?, ?> tokenWeights = (Map<?, ?>) ((List<?>) response).get(0);
+            String[] tokens = new String[tokenWeights.size()];
+            float[] weights = new float[tokenWeights.size()];
+            int i = 0;
+            for (Map.Entry<?, ?> entry : tokenWeights.entrySet()) {
+                if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof Number)) {
+                    return null;
+                }
+                tokens[i] = (String) entry.getKey();
+                weights[i] = ((Number) entry.getValue()).floatValue();
+                i++;
+            }
+            return new CachedTensor(tensor.getName(), null, copy(tensor.getShape()), weights, tokens);
+        }
+
+        private static long[] copy(long[] shape) {
+            return shape == null ? null : shape.clone();
+        }
+
+        ModelTensor toModelTensor() {
+            if (tokens == null) {
+                return ModelTensor.builder().name(name).dataType(dataType).shape(copy(shape)).floatData(values.clone()).build();
+            }
+            Map<String, Float> tokenWeights = new HashMap<>();
+            for (int i = 0; i < tokens.length; i++) {
+                tokenWeights.put(tokens[i], values[i]);
+            }
+            Map<String, ?> dataAsMap = Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(tokenWeights));
+            return ModelTensor.builder().name(name).shape(copy(shape)).dataAsMap(dataAsMap).build();
+        }
+
+        long weight() {
+            long weight = TENSOR_OVERHEAD_IN_BYTES + 4L * values.length;
+            if (tokens != null) {
+                for (String token : tokens) {
+                    weight += TENSOR_OVERHEAD_IN_BYTES / 2 + 2L * token.length();
+                }
+            }
+            return weight;
+        }
+    }
+}
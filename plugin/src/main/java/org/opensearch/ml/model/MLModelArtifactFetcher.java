@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.opensearch.client.Client;
+import org.opensearch.common.Randomness;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesResponse;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fetch cached model artifact from peer ML nodes, so nodes deploying a model don't all retrieve model chunks from model
+ * index. Peers are asked for the artifact files at once, then files are read in chunks from the least loaded peer
+ * which has the artifact. Each file is checked against the size and SHA-256 hash sent by the peer while it's written.
+ * If reading from a peer fails or a file doesn't match, the next peer is tried. Peers only serve artifact which content
+ * of the same model matched on them. Listener gets null if no peer could serve the artifact, then caller falls back to
+ * model index.
+ */
+@Log4j2
+public class MLModelArtifactFetcher {
+    public static final String PEER_FETCH_PHASE = "peer_fetch";
+    // Bytes of model artifact requested in one transport message.
+    public static final int TRANSFER_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private final Client client;
+    private final Function<ActionListener<MLModelArtifactNodeResponse>, ActionListener<MLModelArtifactNodeResponse>> threadedListener;
+
+    /**
+     * @param client client
+     * @param threadedListener wraps listener of chunk response to write the chunk off the transport thread
+     */
+    public MLModelArtifactFetcher(
+        Client client,
+        Function<ActionListener<MLModelArtifactNodeResponse>, ActionListener<MLModelArtifactNodeResponse>> threadedListener
+    ) {
+        this.client = client;
+        this.threadedListener = threadedListener;
+    }
+
+    /**
+     * Fetch artifact of model content from peer nodes into target folder.
+     * @param contentHash model content hash
+     * @param modelId id of model to deploy
+     * @param nodeIds peer node ids
+     * @param targetPath target folder of artifact files
+     * @param listener listener of verified SHA-256 hashes of fetched files by relative path, null if artifact is not fetched
+     */
+    public void fetch(String contentHash, String modelId, String[] nodeIds, Path targetPath, ActionListener<Map<String, String>> listener) {
+        if (contentHash == null || modelId == null || nodeIds == null || nodeIds.length == 0) {
+            listener.onResponse(null);
+            return;
+        }
+        Path artifactPath = targetPath.toAbsolutePath().normalize();
+        MLModelArtifactNodesRequest probeRequest = new MLModelArtifactNodesRequest(nodeIds, contentHash, modelId);
+        client.execute(MLModelArtifactAction.INSTANCE, probeRequest, ActionListener.wrap(response -> {
+            List<MLModelArtifactNodeResponse> sources = response
+                .getNodes()
+                .stream()
+                .filter(r -> r.getFiles() != null && !r.getFiles().isEmpty() && r.getFileHashes() != null)
+                .collect(Collectors.toCollection(ArrayList::new));
+            // shuffle first so nodes with the same load share the transfers
+            Randomness.shuffle(sources);
+            sources.sort(Comparator.comparingLong(MLModelArtifactNodeResponse::getLoad));
+            fetchFromSource(contentHash, modelId, sources, 0, artifactPath, listener);
+        }, e -> {
+            log.warn("Failed to find model artifact {} on peer nodes", contentHash, e);
+            listener.onResponse(null);
+        }));
+    }
+
+    private void fetchFromSource(
+        String contentHash,
+        String modelId,
+        List<MLModelArtifactNodeResponse> sources,
+        int sourceIndex,
+        Path targetPath,
+        ActionListener<Map<String, String>> listener
+    ) {
+        deleteFileQuietly(targetPath);
+        if (sourceIndex >= sources.size()) {
+            listener.onResponse(null);
+            return;
+        }
+        MLModelArtifactNodeResponse source = sources.get(sourceIndex);
+        String nodeId = source.getNode().getId();
+        List<Map.Entry<String, Long>> files = new ArrayList<>(source.getFiles().entrySet());
+        Map<String, String> fileHashes = source.getFileHashes();
+        log.info("Fetch model artifact {} from node {}", contentHash, nodeId);
+        ActionListener<Void> fileListener = ActionListener.wrap(r -> listener.onResponse(fileHashes), e -> {
+            log.warn("Failed to fetch model artifact " + contentHash + " from node " + nodeId, e);
+            fetchFromSource(contentHash, modelId, sources, sourceIndex + 1, targetPath, listener);
+        });
+        fetchFile(contentHash, modelId, nodeId, files, fileHashes, 0, 0, Hashing.sha256().newHasher(), targetPath, fileListener);
+    }
+
+    private void fetchFile(
+        String contentHash,
+        String modelId,
+        String nodeId,
+        List<Map.Entry<String, Long>> files,
+        Map<String, String> fileHashes,
+        int fileIndex,
+        long offset,
+        Hasher hasher,
+        Path targetPath,
+        ActionListener<Void> listener
+    ) {
+        if (fileIndex >= files.size()) {
+            listener.onResponse(null);
+            return;
+        }
+        String fileName = files.get(fileIndex).getKey();
+        long fileSize = files.get(fileIndex).getValue();
+        Path file = targetPath.resolve(fileName).normalize();
+        if (!file.startsWith(targetPath)) {
+            listener.onFailure(new IllegalArgumentException("invalid model artifact file: " + fileName));
+            return;
+        }
+        if (offset >= fileSize) {
+            try {
+                if (!Files.exists(file)) {
+                    // empty file
+                    Files.createDirectories(file.getParent());
+                    Files.createFile(file);
+                }
+                if (Files.size(file) != fileSize) {
+                    throw new MLException("model artifact file size doesn't match: " + fileName);
+                }
+                if (!hasher.hash().toString().equals(fileHashes.get(fileName))) {
+                    throw new MLException("model artifact file hash doesn't match: " + fileName);
+                }
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return;
+            }
+            Hasher nextHasher = Hashing.sha256().newHasher();
+            fetchFile(contentHash, modelId, nodeId, files, fileHashes, fileIndex + 1, 0, nextHasher, targetPath, listener);
+            return;
+        }
+        int length = (int) Math.min(TRANSFER_CHUNK_SIZE, fileSize - offset);
+        String[] nodeIds = new String[] { nodeId };
+        MLModelArtifactNodesRequest request = new MLModelArtifactNodesRequest(nodeIds, contentHash, modelId, fileName, offset, length);
+        client.execute(MLModelArtifactAction.INSTANCE, request, ActionListener.wrap(response -> {
+            MLModelArtifactNodeResponse chunk = getNodeResponse(response);
+            threadedListener.apply(ActionListener.wrap(r -> {
+                BytesReference content = r.getContent();
+                if (content == null || content.length() == 0) {
+                    throw new MLException("model artifact file is shorter than expected: " + fileName);
+                }
+                byte[] bytes = BytesReference.toBytes(content);
+                hasher.putBytes(bytes);
+                Files.createDirectories(file.getParent());
+                Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                long nextOffset = offset + bytes.length;
+                fetchFile(contentHash, modelId, nodeId, files, fileHashes, fileIndex, nextOffset, hasher, targetPath, listener);
+            }, listener::onFailure)).onResponse(chunk);
+        }, listener::onFailure));
+    }
+
+    private MLModelArtifactNodeResponse getNodeResponse(MLModelArtifactNodesResponse response) {
+        if (response.hasFailures()) {
+            throw new MLException("Failed to read model artifact", response.failures().get(0));
+        }
+        if (response.getNodes().isEmpty()) {
+            throw new MLException("No response to model artifact request");
+        }
+        return response.getNodes().get(0);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+
+/**
+ * Admission control of inference requests of one deployed model.
+ * At most max concurrent requests run at the same time, more requests wait in a bounded queue without holding a
+ * thread, and requests beyond the queue are rejected. Setting the queue size to 0 rejects requests as soon as the
+ * concurrency limit is reached. A max concurrent requests of 0 means no limit.
+ */
+public class MLModelBulkhead {
+
+    private final Deque<QueuedTask> queue;
+    private final LongAdder rejectedCount;
+    private int running;
+    private volatile int maxConcurrentRequests;
+    private volatile int maxQueuedRequests;
+
+    public MLModelBulkhead(int maxConcurrentRequests, int maxQueuedRequests) {
+        this.queue = new ArrayDeque<>();
+        this.rejectedCount = new LongAdder();
+        setLimits(maxConcurrentRequests, maxQueuedRequests);
+    }
+
+    public void setLimits(int maxConcurrentRequests, int maxQueuedRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    public boolean isLimited() {
+        return maxConcurrentRequests > 0;
+    }
+
+    /**
+     * Run task in current thread if the model is below its concurrency limit, otherwise queue the task.
+     * An admitted task must call {@link #release()} exactly once when its inference completes.
+     * @param task inference task
+     * @param executor executor to run the task if it's queued
+     * @return false if the task is rejected
+     */
+    public boolean execute(AbstractRunnable task, Executor executor) {
+        synchronized (this) {
+            if (maxConcurrentRequests > 0 && running >= maxConcurrentRequests) {
+                if (queue.size() >= maxQueuedRequests) {
+                    rejectedCount.increment();
+                    return false;
+                }
+                queue.addLast(new QueuedTask(task, executor));
+                return true;
+            }
+            running++;
+        }
+        task.run();
+        return true;
+    }
+
+    /**
+     * Release the slot of a completed task, the slot goes to the oldest queued task if any.
+     */
+    public void release() {
+        QueuedTask next;
+        synchronized (this) {
+            next = queue.pollFirst();
+            if (next == null) {
+                running = Math.max(0, running - 1);
+                return;
+            }
+        }
+        try {
+            next.executor.execute(next.task);
+        } catch (Exception e) {
+            next.task.onRejection(e);
+        }
+    }
+
+    /**
+     * Fail all queued tasks, e.g. when model is undeployed.
+     * @param e failure of queued tasks
+     */
+    public void failQueuedTasks(Exception e) {
+        List<QueuedTask> tasks;
+        synchronized (this) {
+            tasks = new ArrayList<>(queue);
+            queue.clear();
+            // failed tasks release their slot like admitted tasks
+            running += tasks.size();
+        }
+        for (QueuedTask task : tasks) {
+            task.task.onFailure(e);
+        }
+    }
+
+    public synchronized int getRunningCount() {
+        return running;
+    }
+
+    public synchronized int getQueuedCount() {
+        return queue.size();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private static class QueuedTask {
+        private final AbstractRunnable task;
+        private final Executor executor;
+
+        QueuedTask(AbstractRunnable task, Executor executor) {
+            this.task = task;
+            this.executor = executor;
+        }
+    }
+}
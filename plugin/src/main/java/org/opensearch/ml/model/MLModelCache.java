@@ -5,23 +5,19 @@
 
 package org.opensearch.ml.model;
 
-import java.util.DoubleSummaryStatistics;
 import java.util.List;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.DoubleStream;
 
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.profile.MLLatencyRecorder;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 
-import com.google.common.math.Quantiles;
-
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -36,8 +32,10 @@ public class MLModelCache {
     private final Set<String> targetWorkerNodes;
     private final Set<String> workerNodes;
     private MLModel modelInfo;
-    private final Queue<Double> modelInferenceDurationQueue;
-    private final Queue<Double> predictRequestDurationQueue;
+    private final MLLatencyRecorder modelInferenceLatency;
+    private final MLLatencyRecorder predictRequestLatency;
+    @Getter
+    private final MLModelBulkhead bulkhead;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
 
@@ -48,8 +46,9 @@ public class MLModelCache {
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
-        modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
-        predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        modelInferenceLatency = new MLLatencyRecorder();
+        predictRequestLatency = new MLLatencyRecorder();
+        bulkhead = new MLModelBulkhead(0, 0);
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -147,8 +146,8 @@ public class MLModelCache {
         functionName = null;
         workerNodes.clear();
         modelInfo = null;
-        modelInferenceDurationQueue.clear();
-        predictRequestDurationQueue.clear();
+        clearMonitoringStats();
+        bulkhead.failQueuedTasks(new MLException("Model undeployed"));
         if (predictor != null) {
             predictor.close();
         }
@@ -159,56 +158,22 @@ public class MLModelCache {
         }
     }
 
-    public void addModelInferenceDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, modelInferenceDurationQueue);
-    }
-
-    public void addPredictRequestDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
-    }
-
-    private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
-        resizeInferenceQueue(maxRequestCount, queue);
-        if (maxRequestCount > 0) {
-            queue.add(duration);
-        }
+    public void addModelInferenceDuration(double duration, long windowInMillis) {
+        modelInferenceLatency.record(duration, windowInMillis);
     }
 
-    public void resizeMonitoringQueue(long maxRequestCount) {
-        log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
-        resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
-        resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
+    public void addPredictRequestDuration(double duration, long windowInMillis) {
+        predictRequestLatency.record(duration, windowInMillis);
     }
 
-    private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
-        if (maxRequestCount <= 0) {
-            queue.clear();
-        } else {
-            while (queue.size() >= maxRequestCount) {
-                queue.poll();
-            }
-        }
+    public void clearMonitoringStats() {
+        modelInferenceLatency.clear();
+        predictRequestLatency.clear();
     }
 
-    public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
-        if (queue.size() > 0) {
-            MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
-            DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
-            DoubleSummaryStatistics doubleSummaryStatistics = doubleStream.summaryStatistics();
-            statsBuilder.count(doubleSummaryStatistics.getCount());
-            statsBuilder.max(doubleSummaryStatistics.getMax());
-            statsBuilder.min(doubleSummaryStatistics.getMin());
-            statsBuilder.average(doubleSummaryStatistics.getAverage());
-
-            Quantiles.Scale percentiles = Quantiles.percentiles();
-            statsBuilder.p50(percentiles.index(50).compute(queue));
-            statsBuilder.p90(percentiles.index(90).compute(queue));
-            statsBuilder.p99(percentiles.index(99).compute(queue));
-
-            return statsBuilder.build();
-        }
-        return null;
+    public MLPredictRequestStats getInferenceStats(boolean modelInference, long windowInMillis, List<Double> percentiles) {
+        MLLatencyRecorder recorder = modelInference ? modelInferenceLatency : predictRequestLatency;
+        return MLPredictRequestStats.fromHistogram(recorder.snapshot(windowInMillis), percentiles);
     }
 
     public boolean isValidCache() {
@@ -5,8 +5,12 @@
 
 package org.opensearch.ml.model;
 
-import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_PREDICT_REQUESTS_PER_MODEL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_QUEUED_PREDICT_REQUESTS_PER_MODEL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_LATENCY_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_WINDOW_IN_SECONDS;
 
+import java.util.DoubleSummaryStatistics;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -15,6 +19,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.apache.http.pool.PoolStats;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.ml.common.FunctionName;
@@ -24,20 +29,48 @@ import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.PredictBatcher;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.profile.MLPredictRequestStats;
 
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class MLModelCacheHelper {
     private final Map<String, MLModelCache> modelCaches;
-    private volatile Long maxRequestCount;
+    private volatile boolean monitoringLatencyEnabled;
+    private volatile long monitoringWindowInMillis;
+    private volatile int maxConcurrentPredictRequests;
+    private volatile int maxQueuedPredictRequests;
 
     public MLModelCacheHelper(ClusterService clusterService, Settings settings) {
         this.modelCaches = new ConcurrentHashMap<>();
 
-        maxRequestCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(settings);
-        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MONITORING_REQUEST_COUNT, it -> maxRequestCount = it);
+        monitoringLatencyEnabled = ML_COMMONS_MONITORING_LATENCY_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MONITORING_LATENCY_ENABLED, it -> monitoringLatencyEnabled = it);
+        monitoringWindowInMillis = ML_COMMONS_MONITORING_WINDOW_IN_SECONDS.get(settings) * 1000L;
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MONITORING_WINDOW_IN_SECONDS, it -> monitoringWindowInMillis = it * 1000L);
+        maxConcurrentPredictRequests = ML_COMMONS_MAX_CONCURRENT_PREDICT_REQUESTS_PER_MODEL.get(settings);
+        maxQueuedPredictRequests = ML_COMMONS_MAX_QUEUED_PREDICT_REQUESTS_PER_MODEL.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_MAX_CONCURRENT_PREDICT_REQUESTS_PER_MODEL,
+                ML_COMMONS_MAX_QUEUED_PREDICT_REQUESTS_PER_MODEL,
+                this::setPredictRequestLimits
+            );
+    }
+
+    private void setPredictRequestLimits(int maxConcurrentPredictRequests, int maxQueuedPredictRequests) {
+        this.maxConcurrentPredictRequests = maxConcurrentPredictRequests;
+        this.maxQueuedPredictRequests = maxQueuedPredictRequests;
+        modelCaches.values().forEach(it -> it.getBulkhead().setLimits(maxConcurrentPredictRequests, maxQueuedPredictRequests));
     }
 
     /**
@@ -57,7 +90,7 @@ public class MLModelCacheHelper {
             throw new MLLimitExceededException("Duplicate deploy model task");
         }
         log.debug("init model state for model {}, state: {}", modelId, state);
-        MLModelCache modelCache = new MLModelCache();
+        MLModelCache modelCache = newModelCache();
         modelCache.setModelState(state);
         modelCache.setFunctionName(functionName);
         modelCache.setTargetWorkerNodes(targetWorkerNodes);
@@ -180,13 +213,18 @@ public class MLModelCacheHelper {
     }
 
     /**
-     * Set predictor of model.
+     * Set predictor of model. The previous predictor is closed when it's replaced, so resources
+     * like pooled remote connections are released on model update.
      * @param modelId model id
      * @param predictor predictor
      */
     public synchronized void setPredictor(String modelId, Predictable predictor) {
         MLModelCache modelCache = getExistingModelCache(modelId);
+        Predictable previousPredictor = modelCache.getPredictor();
         modelCache.setPredictor(predictor);
+        if (previousPredictor != null && previousPredictor != predictor) {
+            previousPredictor.close();
+        }
     }
 
     public synchronized void setMLExecutor(String modelId, MLExecutable mlExecutor) {
@@ -202,6 +240,16 @@ public class MLModelCacheHelper {
         return modelCache.getExecutor();
     }
 
+    /**
+     * Get admission control of predict requests of model.
+     * @param modelId model id
+     * @return bulkhead of model, null if model not exists in cache
+     */
+    public MLModelBulkhead getBulkhead(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        return modelCache == null ? null : modelCache.getBulkhead();
+    }
+
     /**
      * Get predictor of model.
      * @param modelId model id
@@ -215,6 +263,29 @@ public class MLModelCacheHelper {
         return modelCache.getPredictor();
     }
 
+    /**
+     * Get connection pool stats summed over all remote models deployed on this node.
+     * @return connection pool stats
+     */
+    public PoolStats getRemoteConnectionPoolStats() {
+        int leased = 0;
+        int pending = 0;
+        int available = 0;
+        int max = 0;
+        for (MLModelCache modelCache : modelCaches.values()) {
+            if (modelCache.getPredictor() instanceof RemoteModel) {
+                PoolStats poolStats = ((RemoteModel) modelCache.getPredictor()).getConnectionPoolStats();
+                if (poolStats != null) {
+                    leased += poolStats.getLeased();
+                    pending += poolStats.getPending();
+                    available += poolStats.getAvailable();
+                    max += poolStats.getMax();
+                }
+            }
+        }
+        return new PoolStats(leased, pending, available, max);
+    }
+
     /**
      * Set target worker nodes of model.
      * @param modelId model id
@@ -350,11 +421,21 @@ public class MLModelCacheHelper {
     }
 
     /**
-     * Get model profile.
+     * Get model profile with default percentiles of model latency.
      * @param modelId model id
      * @return model profile
      */
     public MLModelProfile getModelProfile(String modelId) {
+        return getModelProfile(modelId, null);
+    }
+
+    /**
+     * Get model profile.
+     * @param modelId model id
+     * @param percentiles percentiles of model latency to calculate, default percentiles are used if null or empty
+     * @return model profile
+     */
+    public MLModelProfile getModelProfile(String modelId, List<Double> percentiles) {
         MLModelCache modelCache = modelCaches.get(modelId);
         if (modelCache == null) {
             return null;
@@ -373,13 +454,39 @@ public class MLModelCacheHelper {
         if (workerNodes.length > 0) {
             builder.workerNodes(workerNodes);
         }
-        builder.modelInferenceStats(modelCache.getInferenceStats(true));
-        builder.predictRequestStats(modelCache.getInferenceStats(false));
+        builder.modelInferenceStats(modelCache.getInferenceStats(true, monitoringWindowInMillis, percentiles));
+        builder.predictRequestStats(modelCache.getInferenceStats(false, monitoringWindowInMillis, percentiles));
+        MLModelBulkhead bulkhead = modelCache.getBulkhead();
+        if (bulkhead.isLimited()) {
+            builder.runningPredictRequests(bulkhead.getRunningCount());
+            builder.queuedPredictRequests(bulkhead.getQueuedCount());
+            builder.rejectedPredictRequests(bulkhead.getRejectedCount());
+        }
         builder.memSizeEstimationCPU(modelCache.getMemSizeEstimationCPU());
         builder.memSizeEstimationGPU(modelCache.getMemSizeEstimationGPU());
+        if (modelCache.getPredictor() instanceof DLModel) {
+            PredictBatcher<?, ?> predictBatcher = ((DLModel) modelCache.getPredictor()).getPredictBatcher();
+            if (predictBatcher != null) {
+                builder.predictBatchSizeStats(toPredictRequestStats(predictBatcher.getBatchSizeStats()));
+                builder.predictBatchWaitTimeStats(toPredictRequestStats(predictBatcher.getBatchWaitTimeStats()));
+            }
+        }
         return builder.build();
     }
 
+    private MLPredictRequestStats toPredictRequestStats(DoubleSummaryStatistics statistics) {
+        if (statistics.getCount() == 0) {
+            return null;
+        }
+        return MLPredictRequestStats
+            .builder()
+            .count(statistics.getCount())
+            .max(statistics.getMax())
+            .min(statistics.getMin())
+            .average(statistics.getAverage())
+            .build();
+    }
+
     /**
      * Add model inference duration.
      * @param modelId model id
@@ -387,17 +494,21 @@ public class MLModelCacheHelper {
      */
     public void addModelInferenceDuration(String modelId, double duration) {
         MLModelCache modelCache = getOrCreateModelCache(modelId);
-        modelCache.addModelInferenceDuration(duration, maxRequestCount);
+        if (monitoringLatencyEnabled) {
+            modelCache.addModelInferenceDuration(duration, monitoringWindowInMillis);
+        }
     }
 
     public void addPredictRequestDuration(String modelId, double duration) {
         MLModelCache modelCache = getOrCreateModelCache(modelId);
-        modelCache.addPredictRequestDuration(duration, maxRequestCount);
+        if (monitoringLatencyEnabled) {
+            modelCache.addPredictRequestDuration(duration, monitoringWindowInMillis);
+        }
     }
 
-    public void resizeMonitoringQueue(long monitoringReqCount) {
+    public void clearMonitoringStats() {
         for (Map.Entry<String, MLModelCache> entry : modelCaches.entrySet()) {
-            entry.getValue().resizeMonitoringQueue(monitoringReqCount);
+            entry.getValue().clearMonitoringStats();
         }
     }
 
@@ -454,7 +565,13 @@ public class MLModelCacheHelper {
     }
 
     private MLModelCache getOrCreateModelCache(String modelId) {
-        return modelCaches.computeIfAbsent(modelId, it -> new MLModelCache());
+        return modelCaches.computeIfAbsent(modelId, it -> newModelCache());
+    }
+
+    private MLModelCache newModelCache() {
+        MLModelCache modelCache = new MLModelCache();
+        modelCache.getBulkhead().setLimits(maxConcurrentPredictRequests, maxQueuedPredictRequests);
+        return modelCache;
     }
 
 }
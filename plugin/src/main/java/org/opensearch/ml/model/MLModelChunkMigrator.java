@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED;
+import static org.opensearch.ml.utils.MLNodeUtils.createModelChunkSource;
+import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
+
+import java.util.List;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.ml.common.MLModel;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Rewrite chunks of models registered by old versions, whose content is stored as Base64 string in JSON source, with
+ * binary content in CBOR source. Chunks are migrated one at a time after the model is deployed, when their content has
+ * been verified against the model content hash. A chunk is only replaced if it's unchanged since it was read, so nodes
+ * deploying the same model at the same time don't overwrite each other.
+ */
+@Log4j2
+public class MLModelChunkMigrator {
+
+    private final Client client;
+    private final NamedXContentRegistry xContentRegistry;
+    private volatile boolean enabled;
+
+    public MLModelChunkMigrator(Client client, NamedXContentRegistry xContentRegistry, ClusterService clusterService, Settings settings) {
+        this.client = client;
+        this.xContentRegistry = xContentRegistry;
+        this.enabled = ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED, it -> enabled = it);
+    }
+
+    /**
+     * Migrate model chunks to binary format.
+     * @param modelId model id
+     * @param algorithm algorithm name of model
+     * @param chunkIds ids of chunks stored as Base64 string
+     * @param listener listener of migrated chunk count
+     */
+    public void migrate(String modelId, String algorithm, List<String> chunkIds, ActionListener<Integer> listener) {
+        if (!enabled || chunkIds == null || chunkIds.isEmpty()) {
+            listener.onResponse(0);
+            return;
+        }
+        log.info("Migrate {} chunks of model {} to binary format", chunkIds.size(), modelId);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            migrateChunk(algorithm, chunkIds, 0, 0, ActionListener.runBefore(listener, context::restore));
+        }
+    }
+
+    private void migrateChunk(String algorithm, List<String> chunkIds, int index, int migrated, ActionListener<Integer> listener) {
+        if (index >= chunkIds.size() || !enabled) {
+            listener.onResponse(migrated);
+            return;
+        }
+        String chunkId = chunkIds.get(index);
+        client.get(new GetRequest(ML_MODEL_INDEX, chunkId), ActionListener.wrap(r -> {
+            MLModel chunk = parseChunk(r, algorithm);
+            if (chunk == null || chunk.getBinaryContent() != null || chunk.getContent() == null) {
+                migrateChunk(algorithm, chunkIds, index + 1, migrated, listener);
+                return;
+            }
+            MLModel binaryChunk = chunk.toBuilder().content(null).binaryContent(chunk.getContentBytes()).build();
+            IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX)
+                .id(chunkId)
+                .source(createModelChunkSource(binaryChunk, true))
+                .setIfSeqNo(r.getSeqNo())
+                .setIfPrimaryTerm(r.getPrimaryTerm());
+            client
+                .index(
+                    indexRequest,
+                    ActionListener.wrap(response -> migrateChunk(algorithm, chunkIds, index + 1, migrated + 1, listener), e -> {
+                        if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
+                            // chunk is migrated by another node
+                            migrateChunk(algorithm, chunkIds, index + 1, migrated, listener);
+                        } else {
+                            log.error("Failed to migrate model chunk " + chunkId, e);
+                            listener.onFailure(e);
+                        }
+                    })
+                );
+        }, e -> {
+            log.error("Failed to get model chunk " + chunkId, e);
+            listener.onFailure(e);
+        }));
+    }
+
+    private MLModel parseChunk(GetResponse response, String algorithm) throws Exception {
+        if (response == null || !response.isExists()) {
+            return null;
+        }
+        try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, response.getSourceAsBytesRef())) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            return MLModel.parse(parser, algorithm);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Retrieve model chunks from model index into one model zip file.
+ * Up to max concurrent chunk requests are in flight at the same time. Each chunk is read on the thread which receives
+ * it, Base64 content of chunks registered by old versions is decoded there too, then the chunk is written straight
+ * into the zip file with a positional write. Chunks may have different sizes, so
+ * they are written in chunk order: out of order chunks wait in a reorder buffer, and no chunk beyond max concurrent
+ * chunks after the next chunk to write is requested, which bounds the decoded chunks held in memory. Content hash is
+ * updated as chunks are written, so the zip file is not read again to verify it.
+ */
+@Log4j2
+public class MLModelChunkRetriever {
+    public static final String FETCH_PHASE = "fetch";
+    public static final String DECODE_PHASE = "decode";
+    public static final String WRITE_PHASE = "write";
+
+    private final String modelId;
+    private final int totalChunks;
+    private final int maxConcurrentRequests;
+    private final IntFunction<String> chunkIdFunction;
+    private final BiConsumer<String, ActionListener<MLModel>> chunkReader;
+    private final File modelZipFile;
+    private final Long modelContentSizeInBytes;
+    private final String modelContentHash;
+    private final Map<String, Long> phaseTimings;
+    private final ActionListener<File> listener;
+
+    private final TreeMap<Integer, byte[]> decodedChunks;
+    private final Hasher hasher;
+    private final LongAdder decodeTimeInNanos;
+    private final LongAdder writeTimeInNanos;
+    private FileChannel channel;
+    private long position;
+    private long startTime;
+    private int nextChunkToFetch;
+    private int nextChunkToWrite;
+    private boolean writing;
+    private boolean done;
+
+    /**
+     * @param modelId model id
+     * @param totalChunks total chunks of model
+     * @param maxConcurrentRequests max chunk requests in flight
+     * @param chunkIdFunction get chunk id of chunk number
+     * @param chunkReader read chunk of chunk id
+     * @param modelZipFile target model zip file
+     * @param modelContentSizeInBytes model content size to preallocate the zip file, null if unknown
+     * @param modelContentHash expected SHA-256 hash of model content, hash is not checked if null
+     * @param phaseTimings map to put fetch, decode and write time in milliseconds
+     * @param listener action listener of model zip file
+     */
+    public MLModelChunkRetriever(
+        String modelId,
+        int totalChunks,
+        int maxConcurrentRequests,
+        IntFunction<String> chunkIdFunction,
+        BiConsumer<String, ActionListener<MLModel>> chunkReader,
+        File modelZipFile,
+        Long modelContentSizeInBytes,
+        String modelContentHash,
+        Map<String, Long> phaseTimings,
+        ActionListener<File> listener
+    ) {
+        this.modelId = modelId;
+        this.totalChunks = totalChunks;
+        this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+        this.chunkIdFunction = chunkIdFunction;
+        this.chunkReader = chunkReader;
+        this.modelZipFile = modelZipFile;
+        this.modelContentSizeInBytes = modelContentSizeInBytes;
+        this.modelContentHash = modelContentHash;
+        this.phaseTimings = phaseTimings;
+        this.listener = listener;
+        this.decodedChunks = new TreeMap<>();
+        this.hasher = Hashing.sha256().newHasher();
+        this.decodeTimeInNanos = new LongAdder();
+        this.writeTimeInNanos = new LongAdder();
+    }
+
+    public void retrieve() {
+        startTime = System.nanoTime();
+        try {
+            Files.createDirectories(modelZipFile.toPath().getParent());
+            RandomAccessFile file = new RandomAccessFile(modelZipFile, "rw");
+            if (modelContentSizeInBytes != null && modelContentSizeInBytes > 0) {
+                file.setLength(modelContentSizeInBytes);
+            }
+            channel = file.getChannel();
+        } catch (Exception e) {
+            fail(new MLException("Failed to create model file of model " + modelId, e));
+            return;
+        }
+        if (totalChunks <= 0) {
+            complete();
+            return;
+        }
+        fetchChunks();
+    }
+
+    private void fetchChunks() {
+        while (true) {
+            int chunkNumber;
+            synchronized (this) {
+                if (done || nextChunkToFetch >= totalChunks || nextChunkToFetch >= nextChunkToWrite + maxConcurrentRequests) {
+                    return;
+                }
+                chunkNumber = nextChunkToFetch++;
+            }
+            String chunkId = chunkIdFunction.apply(chunkNumber);
+            try {
+                chunkReader
+                    .accept(chunkId, ActionListener.wrap(chunk -> onChunk(chunkNumber, chunk), e -> onChunkFailure(chunkId, e)));
+            } catch (Exception e) {
+                onChunkFailure(chunkId, e);
+            }
+        }
+    }
+
+    private void onChunk(int chunkNumber, MLModel chunk) {
+        if (isDone()) {
+            return;
+        }
+        long decodeStartTime = System.nanoTime();
+        byte[] bytes;
+        try {
+            bytes = chunk.getContentBytes();
+            if (bytes == null) {
+                throw new IllegalArgumentException("model chunk has no content");
+            }
+        } catch (Exception e) {
+            onChunkFailure(chunkIdFunction.apply(chunkNumber), e);
+            return;
+        }
+        decodeTimeInNanos.add(System.nanoTime() - decodeStartTime);
+        synchronized (this) {
+            decodedChunks.put(chunkNumber, bytes);
+            if (writing) {
+                // the writing thread picks up this chunk when its turn comes
+                return;
+            }
+            writing = true;
+        }
+        writeChunks();
+        fetchChunks();
+    }
+
+    private void writeChunks() {
+        while (true) {
+            byte[] bytes;
+            synchronized (this) {
+                if (done || decodedChunks.isEmpty() || decodedChunks.firstKey() != nextChunkToWrite) {
+                    writing = false;
+                    return;
+                }
+                bytes = decodedChunks.pollFirstEntry().getValue();
+            }
+            long writeStartTime = System.nanoTime();
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            } catch (IOException e) {
+                synchronized (this) {
+                    writing = false;
+                }
+                fail(new MLException("Failed to write model chunk " + chunkIdFunction.apply(nextChunkToWrite), e));
+                return;
+            }
+            hasher.putBytes(bytes);
+            writeTimeInNanos.add(System.nanoTime() - writeStartTime);
+            boolean lastChunk;
+            synchronized (this) {
+                nextChunkToWrite++;
+                lastChunk = nextChunkToWrite == totalChunks;
+                if (lastChunk) {
+                    writing = false;
+                }
+            }
+            if (lastChunk) {
+                complete();
+                return;
+            }
+        }
+    }
+
+    private void complete() {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+        }
+        phaseTimings.put(FETCH_PHASE, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        phaseTimings.put(DECODE_PHASE, TimeUnit.NANOSECONDS.toMillis(decodeTimeInNanos.sum()));
+        phaseTimings.put(WRITE_PHASE, TimeUnit.NANOSECONDS.toMillis(writeTimeInNanos.sum()));
+        try {
+            // drop preallocated space if model content size is larger than the real content
+            channel.truncate(position);
+            channel.close();
+        } catch (IOException e) {
+            onFailure(new MLException("Failed to write model file of model " + modelId, e));
+            return;
+        }
+        String hash = hasher.hash().toString();
+        if (modelContentHash != null && !modelContentHash.equals(hash)) {
+            log.error("Model content hash can't match original hash value");
+            onFailure(new IllegalArgumentException("model content changed"));
+            return;
+        }
+        log.debug("Model content matches original hash value, continue deploying");
+        listener.onResponse(modelZipFile);
+    }
+
+    private void onChunkFailure(String chunkId, Exception e) {
+        log.error("Failed to retrieve model chunk " + chunkId, e);
+        fail(new MLResourceNotFoundException("Fail to find model chunk " + chunkId));
+    }
+
+    private void fail(Exception e) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+            decodedChunks.clear();
+        }
+        onFailure(e);
+    }
+
+    private void onFailure(Exception e) {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ioException) {
+            log.debug("Failed to close model file of model {}", modelId, ioException);
+        }
+        modelZipFile.delete();
+        listener.onFailure(e);
+    }
+
+    private synchronized boolean isDone() {
+        return done;
+    }
+}
@@ -19,28 +19,51 @@ import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.ModelHelper.TOTAL_CHUNKS;
+import static org.opensearch.ml.engine.algorithms.DLModel.DEPLOY_PHASE_TIMINGS;
+import static org.opensearch.ml.engine.algorithms.DLModel.LOAD_PHASE;
+import static org.opensearch.ml.engine.algorithms.DLModel.MODEL_ARTIFACT_CACHE;
+import static org.opensearch.ml.engine.algorithms.DLModel.MODEL_CONTENT_HASH;
+import static org.opensearch.ml.engine.algorithms.DLModel.PREDICTOR_NUM_THREADS;
+import static org.opensearch.ml.engine.algorithms.DLModel.PREDICTOR_POOL_GROWTH_CHECK;
+import static org.opensearch.ml.engine.algorithms.DLModel.PREDICTOR_POOL_SIZE;
+import static org.opensearch.ml.engine.algorithms.DLModel.PREDICT_BATCH_FLUSH_SCHEDULER;
+import static org.opensearch.ml.engine.algorithms.DLModel.PREDICT_BATCH_SIZE;
+import static org.opensearch.ml.engine.algorithms.DLModel.PREDICT_BATCH_WAIT_TIME_IN_MILLIS;
+import static org.opensearch.ml.engine.algorithms.DLModel.UNZIP_PHASE;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLIENT;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLUSTER_SERVICE;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.PREDICT_EXECUTOR;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SCRIPT_CACHE;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SCRIPT_SERVICE;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_REGISTRY;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.model.MLModelArtifactFetcher.PEER_FETCH_PHASE;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_PEER_TRANSFER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICTOR_NUM_THREADS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICTOR_POOL_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_WAIT_TIME_IN_MILLIS;
 import static org.opensearch.ml.stats.ActionName.REGISTER;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
 import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
+import static org.opensearch.ml.utils.MLNodeUtils.createModelChunkSource;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
@@ -48,17 +71,18 @@ import java.nio.file.Path;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.apache.logging.log4j.util.Strings;
@@ -75,6 +99,8 @@ import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
@@ -85,6 +111,8 @@ import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.CommonValue;
@@ -107,10 +135,12 @@ import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLExecutable;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.PredictBatcher;
+import org.opensearch.ml.engine.algorithms.remote.CompiledScriptCache;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -126,7 +156,6 @@ import org.opensearch.threadpool.ThreadPool;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.io.Files;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -153,10 +182,22 @@ public class MLModelManager {
     private final MLTaskManager mlTaskManager;
     private final MLEngine mlEngine;
     private final DiscoveryNodeHelper nodeHelper;
+    private final CompiledScriptCache compiledScriptCache;
+    private final EmbeddingResultCache embeddingResultCache;
+    private final MLModelChunkMigrator modelChunkMigrator;
+    private final ModelArtifactCache modelArtifactCache;
+    private final MLModelArtifactFetcher modelArtifactFetcher;
 
     private volatile Integer maxModelPerNode;
     private volatile Integer maxRegisterTasksPerNode;
     private volatile Integer maxDeployTasksPerNode;
+    private volatile Integer predictBatchSize;
+    private volatile Long predictBatchWaitTimeInMillis;
+    private volatile Integer predictorPoolSize;
+    private volatile Integer predictorNumThreads;
+    private volatile Integer maxConcurrentModelChunkRequests;
+    private volatile boolean modelArtifactPeerTransferEnabled;
+    private volatile boolean binaryModelChunkEnabled;
 
     public static final ImmutableSet MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -182,7 +223,9 @@ public class MLModelManager {
         MLTaskManager mlTaskManager,
         MLModelCacheHelper modelCacheHelper,
         MLEngine mlEngine,
-        DiscoveryNodeHelper nodeHelper
+        DiscoveryNodeHelper nodeHelper,
+        CompiledScriptCache compiledScriptCache,
+        EmbeddingResultCache embeddingResultCache
     ) {
         this.client = client;
         this.threadPool = threadPool;
@@ -197,6 +240,28 @@ public class MLModelManager {
         this.mlTaskManager = mlTaskManager;
         this.mlEngine = mlEngine;
         this.nodeHelper = nodeHelper;
+        this.compiledScriptCache = compiledScriptCache;
+        this.embeddingResultCache = embeddingResultCache;
+        this.modelChunkMigrator = new MLModelChunkMigrator(client, xContentRegistry, clusterService, settings);
+        this.binaryModelChunkEnabled = ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED, it -> binaryModelChunkEnabled = it);
+        this.modelArtifactCache = new ModelArtifactCache(
+            mlEngine.getModelArtifactCacheRootPath(),
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB.get(settings) * 1024L * 1024L
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB,
+                it -> modelArtifactCache.setMaxSizeInBytes(it * 1024L * 1024L)
+            );
+        this.modelArtifactFetcher = new MLModelArtifactFetcher(client, l -> threadedActionListener(DEPLOY_THREAD_POOL, l));
+        this.modelArtifactPeerTransferEnabled = ML_COMMONS_MODEL_ARTIFACT_PEER_TRANSFER_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ARTIFACT_PEER_TRANSFER_ENABLED, it -> modelArtifactPeerTransferEnabled = it);
 
         this.maxModelPerNode = ML_COMMONS_MAX_MODELS_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_MODELS_PER_NODE, it -> maxModelPerNode = it);
@@ -210,6 +275,25 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE, it -> maxDeployTasksPerNode = it);
+
+        predictBatchSize = ML_COMMONS_PREDICT_BATCH_SIZE.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_BATCH_SIZE, it -> predictBatchSize = it);
+
+        predictBatchWaitTimeInMillis = ML_COMMONS_PREDICT_BATCH_WAIT_TIME_IN_MILLIS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_BATCH_WAIT_TIME_IN_MILLIS, it -> predictBatchWaitTimeInMillis = it);
+
+        predictorPoolSize = ML_COMMONS_PREDICTOR_POOL_SIZE.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICTOR_POOL_SIZE, it -> predictorPoolSize = it);
+
+        predictorNumThreads = ML_COMMONS_PREDICTOR_NUM_THREADS.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICTOR_NUM_THREADS, it -> predictorNumThreads = it);
+
+        maxConcurrentModelChunkRequests = ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS, it -> maxConcurrentModelChunkRequests = it);
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -682,6 +766,10 @@ public class MLModelManager {
         String version,
         String modelId
     ) {
+        // chunks are indexed while model is downloaded, at most maxChunkRequests index requests are in flight
+        int maxChunkRequests = maxConcurrentModelChunkRequests;
+        Semaphore chunkRequests = new Semaphore(maxChunkRequests);
+        AtomicReference<Exception> chunkFailure = new AtomicReference<>();
         modelHelper
             .downloadAndSplit(
                 registerModelInput.getModelFormat(),
@@ -691,25 +779,16 @@ public class MLModelManager {
                 registerModelInput.getUrl(),
                 registerModelInput.getHashValue(),
                 functionName,
-                ActionListener.wrap(result -> {
-                    Long modelSizeInBytes = (Long) result.get(MODEL_SIZE_IN_BYTES);
+                (chunkNum, chunk, length, totalChunks) -> {
+                    long modelSizeInBytes = (long) chunkNum * CHUNK_SIZE + length;
                     if (modelSizeInBytes >= MODEL_FILE_SIZE_LIMIT) {
                         throw new MLException("Model file size exceeds the limit of 4GB: " + modelSizeInBytes);
                     }
-                    List<String> chunkFiles = (List<String>) result.get(CHUNK_FILES);
-                    String hashValue = (String) result.get(MODEL_FILE_HASH);
-                    Semaphore semaphore = new Semaphore(1);
-                    AtomicInteger uploaded = new AtomicInteger(0);
-                    AtomicBoolean failedToUploadChunk = new AtomicBoolean(false);
-                    // upload chunks
-                    for (String name : chunkFiles) {
-                        semaphore.tryAcquire(10, TimeUnit.SECONDS);
-                        if (failedToUploadChunk.get()) {
-                            throw new MLException("Failed to save model chunk");
+                    chunkRequests.acquire();
+                    try {
+                        if (chunkFailure.get() != null) {
+                            throw new MLException("Failed to save model chunk", chunkFailure.get());
                         }
-                        File file = new File(name);
-                        byte[] bytes = Files.toByteArray(file);
-                        int chunkNum = Integer.parseInt(file.getName());
                         Instant now = Instant.now();
                         MLModel mlModel = MLModel
                             .builder()
@@ -719,49 +798,44 @@ public class MLModelManager {
                             .version(version)
                             .modelFormat(registerModelInput.getModelFormat())
                             .chunkNumber(chunkNum)
-                            .totalChunks(chunkFiles.size())
-                            .content(Base64.getEncoder().encodeToString(bytes))
+                            .totalChunks(totalChunks)
+                            .binaryContent(length == chunk.length ? chunk : Arrays.copyOf(chunk, length))
                             .createdTime(now)
                             .lastUpdateTime(now)
                             .isHidden(registerModelInput.getIsHidden())
                             .build();
-                        IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
-                        if (registerModelInput.getIsHidden()) {
-                            indexRequest.id(modelName);
-                        }
                         String chunkId = getModelChunkId(modelId, chunkNum);
+                        IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
                         indexRequest.id(chunkId);
-                        indexRequest.source(mlModel.toXContent(XContentBuilder.builder(JSON.xContent()), EMPTY_PARAMS));
+                        // chunk bytes are copied into the request source, so chunk buffer can be reused
+                        indexRequest.source(createModelChunkSource(mlModel, binaryModelChunkEnabled));
                         indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                        client.index(indexRequest, ActionListener.wrap(r -> {
-                            uploaded.getAndIncrement();
-                            if (uploaded.get() == chunkFiles.size()) {
-                                updateModelRegisterStateAsDone(
-                                    registerModelInput,
-                                    taskId,
-                                    modelId,
-                                    modelSizeInBytes,
-                                    chunkFiles,
-                                    hashValue,
-                                    version
-                                );
-                            } else {
-                                deleteFileQuietly(file);
-                            }
-                            semaphore.release();
-                        }, e -> {
+                        client.index(indexRequest, ActionListener.runAfter(ActionListener.wrap(r -> {}, e -> {
                             log.error("Failed to index model chunk " + chunkId, e);
-                            failedToUploadChunk.set(true);
-                            handleException(functionName, taskId, e);
-                            deleteFileQuietly(file);
-                            // remove model doc as failed to upload model
-                            deleteModel(modelId, registerModelInput, version);
-                            semaphore.release();
-                            deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
-                        }));
+                            chunkFailure.compareAndSet(null, e);
+                        }), chunkRequests::release));
+                    } catch (Exception e) {
+                        chunkRequests.release();
+                        throw e;
                     }
+                },
+                ActionListener.wrap(result -> {
+                    awaitModelChunkRequests(chunkRequests, maxChunkRequests);
+                    if (chunkFailure.get() != null) {
+                        throw new MLException("Failed to save model chunk", chunkFailure.get());
+                    }
+                    Long modelSizeInBytes = (Long) result.get(MODEL_SIZE_IN_BYTES);
+                    Integer totalChunks = (Integer) result.get(TOTAL_CHUNKS);
+                    String hashValue = (String) result.get(MODEL_FILE_HASH);
+                    updateModelRegisterStateAsDone(registerModelInput, taskId, modelId, modelSizeInBytes, totalChunks, hashValue, version);
                 }, e -> {
                     log.error("Failed to index chunk file", e);
+                    try {
+                        // wait for in flight chunk requests, so no chunk is left after model is deleted
+                        awaitModelChunkRequests(chunkRequests, maxChunkRequests);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
                     deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
                     deleteModel(modelId, registerModelInput, version);
                     handleException(functionName, taskId, e);
@@ -769,6 +843,11 @@ public class MLModelManager {
             );
     }
 
+    private void awaitModelChunkRequests(Semaphore chunkRequests, int maxChunkRequests) throws InterruptedException {
+        chunkRequests.acquire(maxChunkRequests);
+        chunkRequests.release(maxChunkRequests);
+    }
+
     private void registerPrebuiltModel(MLRegisterModelInput registerModelInput, MLTask mlTask, String modelVersion)
         throws PrivilegedActionException {
         String taskId = mlTask.getTaskId();
@@ -792,6 +871,10 @@ public class MLModelManager {
         }));
     }
 
+    public ModelArtifactCache getModelArtifactCache() {
+        return modelArtifactCache;
+    }
+
     private <T> ThreadedActionListener<T> threadedActionListener(String threadPoolName, ActionListener<T> listener) {
         return new ThreadedActionListener<>(log, threadPool, threadPoolName, listener, false);
     }
@@ -811,7 +894,7 @@ public class MLModelManager {
         String taskId,
         String modelId,
         Long modelSizeInBytes,
-        List<String> chunkFiles,
+        Integer totalChunks,
         String hashValue,
         String version
     ) {
@@ -824,7 +907,7 @@ public class MLModelManager {
                 MLModel.LAST_REGISTERED_TIME_FIELD,
                 Instant.now().toEpochMilli(),
                 MLModel.TOTAL_CHUNKS_FIELD,
-                chunkFiles.size(),
+                totalChunks,
                 MLModel.MODEL_CONTENT_HASH_VALUE_FIELD,
                 hashValue,
                 MLModel.MODEL_CONTENT_SIZE_IN_BYTES_FIELD,
@@ -925,7 +1008,11 @@ public class MLModelManager {
                             XCONTENT_REGISTRY,
                             xContentRegistry,
                             CLUSTER_SERVICE,
-                            clusterService
+                            clusterService,
+                            SCRIPT_CACHE,
+                            compiledScriptCache,
+                            PREDICT_EXECUTOR,
+                            threadPool.executor(PREDICT_THREAD_POOL)
                         );
                     if (mlModel.getConnector() != null) {
                         Predictable predictable = mlEngine.deploy(mlModel, params);
@@ -1003,7 +1090,11 @@ public class MLModelManager {
                             XCONTENT_REGISTRY,
                             xContentRegistry,
                             CLUSTER_SERVICE,
-                            clusterService
+                            clusterService,
+                            SCRIPT_CACHE,
+                            compiledScriptCache,
+                            PREDICT_EXECUTOR,
+                            threadPool.executor(PREDICT_THREAD_POOL)
                         );
                     // deploy remote model with internal connector or model trained by built-in algorithm like kmeans
                     if (mlModel.getConnector() != null || FunctionName.REMOTE != mlModel.getAlgorithm()) {
@@ -1022,23 +1113,35 @@ public class MLModelManager {
                 }
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
-                    if (modelContentHash != null && !modelContentHash.equals(hash)) {
-                        log.error("Model content hash can't match original hash value");
-                        removeModel(modelId);
-                        wrappedListener.onFailure(new IllegalArgumentException("model content changed"));
-                        return;
+                Map<String, Long> deployPhaseTimings = new ConcurrentHashMap<>();
+                List<String> base64ChunkIds = new CopyOnWriteArrayList<>();
+                boolean useArtifactCache = modelArtifactCache.isEnabled()
+                    && modelContentHash != null
+                    && !FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm());
+                ActionListener<File> modelFileListener = ActionListener.wrap(modelZipFile -> {
+                    // model zip file is null if model is deployed from cached model artifact
+                    Map<String, Object> params = new HashMap<>();
+                    params.put(MODEL_ZIP_FILE, modelZipFile);
+                    params.put(MODEL_HELPER, modelHelper);
+                    params.put(ML_ENGINE, mlEngine);
+                    params.put(PREDICT_BATCH_SIZE, predictBatchSize);
+                    params.put(PREDICT_BATCH_WAIT_TIME_IN_MILLIS, predictBatchWaitTimeInMillis);
+                    params.put(PREDICT_BATCH_FLUSH_SCHEDULER, (PredictBatcher.FlushScheduler) this::schedulePredictBatchFlush);
+                    params.put(PREDICTOR_POOL_SIZE, predictorPoolSize);
+                    params.put(PREDICTOR_NUM_THREADS, predictorNumThreads);
+                    params.put(PREDICTOR_POOL_GROWTH_CHECK, (BooleanSupplier) this::canGrowPredictorPool);
+                    params.put(DEPLOY_PHASE_TIMINGS, deployPhaseTimings);
+                    if (useArtifactCache) {
+                        params.put(MODEL_ARTIFACT_CACHE, modelArtifactCache);
+                        params.put(MODEL_CONTENT_HASH, modelContentHash);
                     }
-                    log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = ImmutableMap
-                        .of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
                             modelCacheHelper.setMLExecutor(modelId, mlExecutable);
                             mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
                             modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+                            migrateModelChunks(mlModel, base64ChunkIds);
                             wrappedListener.onResponse("successful");
                         } catch (Exception e) {
                             log.error("Failed to add predictor to cache", e);
@@ -1047,7 +1150,10 @@ public class MLModelManager {
                         }
 
                     } else {
+                        long deployStartTime = System.nanoTime();
                         Predictable predictable = mlEngine.deploy(mlModel, params);
+                        long deployTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - deployStartTime);
+                        deployPhaseTimings.put(LOAD_PHASE, Math.max(0, deployTime - deployPhaseTimings.getOrDefault(UNZIP_PHASE, 0L)));
                         try {
                             modelCacheHelper.setPredictor(modelId, predictable);
                             mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
@@ -1057,6 +1163,8 @@ public class MLModelManager {
                                 ? mlModel.getTotalChunks() * CHUNK_SIZE
                                 : modelContentSizeInBytes;
                             modelCacheHelper.setMemSizeEstimation(modelId, mlModel.getModelFormat(), contentSize);
+                            reportDeployPhaseTimings(modelId, mlTask.getTaskId(), deployPhaseTimings);
+                            migrateModelChunks(mlModel, base64ChunkIds);
                             wrappedListener.onResponse("successful");
                         } catch (Exception e) {
                             log.error("Failed to add predictor to cache", e);
@@ -1067,7 +1175,15 @@ public class MLModelManager {
                 }, e -> {
                     log.error("Failed to retrieve model " + modelId, e);
                     handleDeployModelException(modelId, functionName, wrappedListener, e);
-                }));
+                });
+                if (useArtifactCache && modelArtifactCache.contains(modelContentHash, modelId)) {
+                    log.info("Found cached artifact of model {}, skip retrieving model chunks", modelId);
+                    modelFileListener.onResponse(null);
+                } else if (useArtifactCache && modelArtifactPeerTransferEnabled) {
+                    fetchModelArtifactFromPeers(mlModel, modelContentHash, deployPhaseTimings, base64ChunkIds, modelFileListener);
+                } else {
+                    retrieveModelChunks(mlModel, modelContentHash, deployPhaseTimings, base64ChunkIds, modelFileListener);
+                }
             }, e -> {
                 log.error("Failed to deploy model " + modelId, e);
                 handleDeployModelException(modelId, functionName, wrappedListener, e);
@@ -1079,6 +1195,36 @@ public class MLModelManager {
         }
     }
 
+    /**
+     * Batches of concurrent predict requests are flushed on the predict thread pool, callers never wait for a batch to fill.
+     */
+    private void schedulePredictBatchFlush(Runnable flush, long delayInMillis, Consumer<Exception> onRejection) {
+        threadPool.schedule(new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                onRejection.accept(e);
+            }
+
+            @Override
+            protected void doRun() {
+                // A batch serves several requests, don't leak the context of the request which scheduled it.
+                try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+                    flush.run();
+                }
+            }
+        }, TimeValue.timeValueMillis(delayInMillis), PREDICT_THREAD_POOL);
+    }
+
+    /**
+     * Predictors added to a pool share weights of the deployed model, so a pool only grows while the JVM memory
+     * circuit breaker, which also guards deploy and predict requests, is closed. OS used memory isn't checked as
+     * page cache keeps it high on busy nodes.
+     */
+    private boolean canGrowPredictorPool() {
+        CircuitBreaker memoryBreaker = mlCircuitBreakerService.getBreaker(BreakerName.MEMORY);
+        return memoryBreaker == null || !memoryBreaker.isOpen();
+    }
+
     private void handleDeployModelException(String modelId, FunctionName functionName, ActionListener<String> listener, Exception e) {
 
         if (!(e instanceof MLLimitExceededException)
@@ -1163,44 +1309,96 @@ public class MLModelManager {
         }));
     }
 
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelChunks(
+        MLModel mlModelMeta,
+        String modelContentHash,
+        Map<String, Long> deployPhaseTimings,
+        List<String> base64ChunkIds,
+        ActionListener<File> listener
+    ) {
         String modelId = mlModelMeta.getModelId();
-        String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
-        AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
-            }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
-                }
-                semaphore.release();
-            }, e -> {
-                stopNow.set(true);
-                semaphore.release();
-                log.error("Failed to retrieve model chunk " + modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
-                    listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, mlModelMeta.getName()));
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            modelId,
+            mlModelMeta.getTotalChunks(),
+            maxConcurrentModelChunkRequests,
+            chunkNumber -> getModelChunkId(modelId, chunkNumber),
+            (chunkId, chunkListener) -> this.getModel(chunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(chunk -> {
+                if (chunk.getBinaryContent() == null) {
+                    base64ChunkIds.add(chunkId);
                 }
-            })));
+                chunkListener.onResponse(chunk);
+            }, chunkListener::onFailure))),
+            modelZipFile,
+            mlModelMeta.getModelContentSizeInBytes(),
+            modelContentHash,
+            deployPhaseTimings,
+            listener
+        );
+        retriever.retrieve();
+    }
+
+    /**
+     * Fetch cached model artifact from peer ML nodes and add it to local artifact cache, so the model is deployed
+     * from the cache. Model chunks are retrieved from model index if no peer has the artifact.
+     */
+    private void fetchModelArtifactFromPeers(
+        MLModel mlModelMeta,
+        String modelContentHash,
+        Map<String, Long> deployPhaseTimings,
+        List<String> base64ChunkIds,
+        ActionListener<File> listener
+    ) {
+        String modelId = mlModelMeta.getModelId();
+        String localNodeId = clusterService.localNode().getId();
+        String[] peerNodeIds = Arrays
+            .stream(nodeHelper.getEligibleNodeIds(mlModelMeta.getAlgorithm()))
+            .filter(nodeId -> !localNodeId.equals(nodeId))
+            .toArray(String[]::new);
+        Path artifactPath = mlEngine.getDeployModelPath(modelId).resolve("artifact");
+        long startTime = System.nanoTime();
+        ActionListener<Map<String, String>> fetchListener = ActionListener.wrap(fileHashes -> {
+            boolean fetched = fileHashes != null;
+            if (fetched) {
+                // fetched files are verified, move them into the cache instead of copying them
+                modelArtifactCache.move(modelContentHash, modelId, artifactPath, fileHashes);
+                deleteFileQuietly(artifactPath);
+            }
+            if (fetched && modelArtifactCache.contains(modelContentHash, modelId)) {
+                deployPhaseTimings.put(PEER_FETCH_PHASE, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                log.info("Fetched artifact of model {} from peer node", modelId);
+                listener.onResponse(null);
+            } else {
+                retrieveModelChunks(mlModelMeta, modelContentHash, deployPhaseTimings, base64ChunkIds, listener);
+            }
+        }, e -> {
+            log.warn("Failed to fetch artifact of model " + modelId + " from peer nodes", e);
+            deleteFileQuietly(artifactPath);
+            retrieveModelChunks(mlModelMeta, modelContentHash, deployPhaseTimings, base64ChunkIds, listener);
+        });
+        modelArtifactFetcher
+            .fetch(modelContentHash, modelId, peerNodeIds, artifactPath, threadedActionListener(DEPLOY_THREAD_POOL, fetchListener));
+    }
+
+    private void migrateModelChunks(MLModel mlModel, List<String> base64ChunkIds) {
+        if (base64ChunkIds.isEmpty()) {
+            return;
+        }
+        String modelId = mlModel.getModelId();
+        modelChunkMigrator.migrate(modelId, mlModel.getAlgorithm().name(), base64ChunkIds, ActionListener.wrap(migrated -> {
+            log.debug("Migrated {} chunks of model {} to binary format", migrated, modelId);
+        }, e -> log.error("Failed to migrate chunks of model " + modelId + " to binary format", e)));
+    }
+
+    private void reportDeployPhaseTimings(String modelId, String taskId, Map<String, Long> deployPhaseTimings) {
+        log.info("Deployed model {} on local node, deploy phase timings in milliseconds: {}", modelId, deployPhaseTimings);
+        if (taskId == null) {
+            return;
+        }
+        try {
+            mlTaskManager.updateDeployPhaseTimings(taskId, clusterService.localNode().getId(), deployPhaseTimings);
+        } catch (Exception e) {
+            log.error("Failed to report deploy phase timings of model " + modelId, e);
         }
     }
 
@@ -1344,6 +1542,8 @@ public class MLModelManager {
 
     private void removeModel(String modelId) {
         modelCacheHelper.removeModel(modelId);
+        mlTaskManager.clearRunningSyncPredict(modelId);
+        embeddingResultCache.invalidate(modelId);
         modelHelper.deleteFileCache(modelId);
     }
 
@@ -1400,6 +1600,16 @@ public class MLModelManager {
         return modelCacheHelper.getPredictor(modelId);
     }
 
+    /**
+     * Get admission control of predict requests of model deployed on this node.
+     *
+     * @param modelId model id
+     * @return bulkhead of model, null if model is not in cache
+     */
+    public MLModelBulkhead getBulkhead(String modelId) {
+        return modelCacheHelper.getBulkhead(modelId);
+    }
+
     /**
      * Get all model ids in cache, both local model id and remote model in routing table.
      *
@@ -1434,17 +1644,32 @@ public class MLModelManager {
         modelCacheHelper.clearWorkerNodes();
     }
 
-    public MLModelProfile getModelProfile(String modelId) {
-        return modelCacheHelper.getModelProfile(modelId);
+    /**
+     * Get model profile.
+     * @param modelId model id
+     * @param percentiles percentiles of model latency to calculate, default percentiles are used if null or empty
+     * @return model profile
+     */
+    public MLModelProfile getModelProfile(String modelId, List<Double> percentiles) {
+        return modelCacheHelper.getModelProfile(modelId, percentiles);
     }
 
     public <T> T trackPredictDuration(String modelId, Supplier<T> supplier) {
         long start = System.nanoTime();
         T t = supplier.get();
+        trackPredictDuration(modelId, start);
+        return t;
+    }
+
+    /**
+     * Track duration of an async predict which started at the given time and completes now.
+     * @param modelId model id
+     * @param startTimeInNanos start time from System.nanoTime()
+     */
+    public void trackPredictDuration(String modelId, long startTimeInNanos) {
         long end = System.nanoTime();
-        double durationInMs = (end - start) / 1e6;
+        double durationInMs = (end - startTimeInNanos) / 1e6;
         modelCacheHelper.addModelInferenceDuration(modelId, durationInMs);
-        return t;
     }
 
     public FunctionName getModelFunctionName(String modelId) {
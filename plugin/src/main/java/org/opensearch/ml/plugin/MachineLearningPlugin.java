@@ -9,6 +9,8 @@ import static org.opensearch.ml.common.CommonValue.ML_CONFIG_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_CONNECTOR_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DESERIALIZED_MODEL_CACHE_SIZE_IN_MB;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_SCRIPT_CACHE_SIZE;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -39,6 +41,7 @@ import org.opensearch.env.NodeEnvironment;
 import org.opensearch.ml.action.agents.DeleteAgentTransportAction;
 import org.opensearch.ml.action.agents.GetAgentTransportAction;
 import org.opensearch.ml.action.agents.TransportRegisterAgentAction;
+import org.opensearch.ml.action.artifact.TransportModelArtifactAction;
 import org.opensearch.ml.action.connector.DeleteConnectorTransportAction;
 import org.opensearch.ml.action.connector.GetConnectorTransportAction;
 import org.opensearch.ml.action.connector.SearchConnectorTransportAction;
@@ -51,6 +54,7 @@ import org.opensearch.ml.action.forward.TransportForwardAction;
 import org.opensearch.ml.action.handler.MLSearchHandler;
 import org.opensearch.ml.action.model_group.DeleteModelGroupTransportAction;
 import org.opensearch.ml.action.model_group.GetModelGroupTransportAction;
+import org.opensearch.ml.action.model_group.InvalidateModelGroupCacheTransportAction;
 import org.opensearch.ml.action.model_group.SearchModelGroupTransportAction;
 import org.opensearch.ml.action.model_group.TransportRegisterModelGroupAction;
 import org.opensearch.ml.action.model_group.TransportUpdateModelGroupAction;
@@ -101,6 +105,7 @@ import org.opensearch.ml.common.spi.tools.ToolAnnotation;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentGetAction;
 import org.opensearch.ml.common.transport.agent.MLRegisterAgentAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorGetAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorSearchAction;
@@ -114,6 +119,7 @@ import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
 import org.opensearch.ml.common.transport.model.MLModelGetAction;
 import org.opensearch.ml.common.transport.model.MLModelSearchAction;
 import org.opensearch.ml.common.transport.model.MLUpdateModelAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupDeleteAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupGetAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupSearchAction;
@@ -135,9 +141,11 @@ import org.opensearch.ml.common.transport.upload_chunk.MLUploadModelChunkAction;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.PredictableCache;
 import org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor;
 import org.opensearch.ml.engine.algorithms.anomalylocalization.AnomalyLocalizerImpl;
 import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelation;
+import org.opensearch.ml.engine.algorithms.remote.CompiledScriptCache;
 import org.opensearch.ml.engine.algorithms.sample.LocalSampleCalculator;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
@@ -177,6 +185,7 @@ import org.opensearch.ml.memory.action.conversation.UpdateInteractionAction;
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionTransportAction;
 import org.opensearch.ml.memory.index.ConversationMetaIndex;
 import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
+import org.opensearch.ml.model.EmbeddingResultCache;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableList;
@@ -232,6 +241,7 @@ import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.stats.suppliers.IndexStatusSupplier;
 import org.opensearch.ml.task.MLExecuteTaskRunner;
+import org.opensearch.ml.task.MLPredictRequestCoalescer;
 import org.opensearch.ml.task.MLPredictTaskRunner;
 import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
@@ -273,10 +283,15 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
     public static final String PREDICT_THREAD_POOL = "opensearch_ml_predict";
     public static final String REGISTER_THREAD_POOL = "opensearch_ml_register";
     public static final String DEPLOY_THREAD_POOL = "opensearch_ml_deploy";
+    public static final String ARTIFACT_THREAD_POOL = "opensearch_ml_artifact";
     public static final String ML_BASE_URI = "/_plugins/_ml";
 
     private MLStats mlStats;
     private MLModelCacheHelper modelCacheHelper;
+    private CompiledScriptCache compiledScriptCache;
+    private PredictableCache predictableCache;
+    private MLPredictRequestCoalescer predictRequestCoalescer;
+    private EmbeddingResultCache embeddingResultCache;
     private MLTaskManager mlTaskManager;
     private MLModelManager mlModelManager;
     private MLIndicesHandler mlIndicesHandler;
@@ -341,6 +356,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 new ActionHandler<>(MLUploadModelChunkAction.INSTANCE, TransportUploadModelChunkAction.class),
                 new ActionHandler<>(MLUpdateModelAction.INSTANCE, UpdateModelTransportAction.class),
                 new ActionHandler<>(MLUpdateModelCacheAction.INSTANCE, UpdateModelCacheTransportAction.class),
+                new ActionHandler<>(MLModelArtifactAction.INSTANCE, TransportModelArtifactAction.class),
                 new ActionHandler<>(MLForwardAction.INSTANCE, TransportForwardAction.class),
                 new ActionHandler<>(MLSyncUpAction.INSTANCE, TransportSyncUpOnNodeAction.class),
                 new ActionHandler<>(MLRegisterModelGroupAction.INSTANCE, TransportRegisterModelGroupAction.class),
@@ -348,6 +364,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 new ActionHandler<>(MLModelGroupGetAction.INSTANCE, GetModelGroupTransportAction.class),
                 new ActionHandler<>(MLModelGroupSearchAction.INSTANCE, SearchModelGroupTransportAction.class),
                 new ActionHandler<>(MLModelGroupDeleteAction.INSTANCE, DeleteModelGroupTransportAction.class),
+                new ActionHandler<>(MLModelGroupCacheInvalidateAction.INSTANCE, InvalidateModelGroupCacheTransportAction.class),
                 new ActionHandler<>(MLCreateConnectorAction.INSTANCE, TransportCreateConnectorAction.class),
                 new ActionHandler<>(MLConnectorGetAction.INSTANCE, GetConnectorTransportAction.class),
                 new ActionHandler<>(MLConnectorDeleteAction.INSTANCE, DeleteConnectorTransportAction.class),
@@ -400,12 +417,16 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         mlEngine = new MLEngine(dataPath, encryptor);
         nodeHelper = new DiscoveryNodeHelper(clusterService, settings);
         modelCacheHelper = new MLModelCacheHelper(clusterService, settings);
+        compiledScriptCache = new CompiledScriptCache(ML_COMMONS_REMOTE_SCRIPT_CACHE_SIZE.get(settings));
+        predictableCache = new PredictableCache(ML_COMMONS_DESERIALIZED_MODEL_CACHE_SIZE_IN_MB.get(settings) * 1024L * 1024L);
+        predictRequestCoalescer = new MLPredictRequestCoalescer(clusterService, settings);
         cmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService);
 
         JvmService jvmService = new JvmService(environment.settings());
         OsService osService = new OsService(environment.settings());
         MLCircuitBreakerService mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService)
             .init(dataPath);
+        embeddingResultCache = new EmbeddingResultCache(clusterService, settings, mlCircuitBreakerService);
 
         Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
         // cluster level stats
@@ -422,6 +443,53 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats
+            .put(
+                MLNodeLevelStat.ML_REMOTE_CONNECTION_LEASED_COUNT,
+                new MLStat<>(false, () -> (long) modelCacheHelper.getRemoteConnectionPoolStats().getLeased())
+            );
+        stats
+            .put(
+                MLNodeLevelStat.ML_REMOTE_CONNECTION_PENDING_COUNT,
+                new MLStat<>(false, () -> (long) modelCacheHelper.getRemoteConnectionPoolStats().getPending())
+            );
+        stats
+            .put(
+                MLNodeLevelStat.ML_REMOTE_CONNECTION_AVAILABLE_COUNT,
+                new MLStat<>(false, () -> (long) modelCacheHelper.getRemoteConnectionPoolStats().getAvailable())
+            );
+        stats.put(MLNodeLevelStat.ML_REMOTE_SCRIPT_CACHE_HIT_COUNT, new MLStat<>(false, compiledScriptCache::getHitCount));
+        stats.put(MLNodeLevelStat.ML_REMOTE_SCRIPT_CACHE_MISS_COUNT, new MLStat<>(false, compiledScriptCache::getMissCount));
+        stats
+            .put(MLNodeLevelStat.ML_REMOTE_SCRIPT_COMPILE_TIME_HISTOGRAM, new MLStat<>(false, compiledScriptCache::getCompileTimeHistogram));
+        stats.put(MLNodeLevelStat.ML_DESERIALIZED_MODEL_CACHE_HIT_COUNT, new MLStat<>(false, predictableCache::getHitCount));
+        stats.put(MLNodeLevelStat.ML_DESERIALIZED_MODEL_CACHE_MISS_COUNT, new MLStat<>(false, predictableCache::getMissCount));
+        stats.put(MLNodeLevelStat.ML_COALESCED_PREDICT_REQUEST_COUNT, new MLStat<>(false, predictRequestCoalescer::getCoalescedCount));
+        stats.put(MLNodeLevelStat.ML_EMBEDDING_RESULT_CACHE_HIT_COUNT, new MLStat<>(false, embeddingResultCache::getHitCount));
+        stats.put(MLNodeLevelStat.ML_EMBEDDING_RESULT_CACHE_MISS_COUNT, new MLStat<>(false, embeddingResultCache::getMissCount));
+        stats.put(MLNodeLevelStat.ML_EXPIRED_PREDICT_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_LOCAL_DISPATCHED_PREDICT_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_REMOTE_DISPATCHED_PREDICT_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats
+            .put(
+                MLNodeLevelStat.ML_MODEL_GROUP_CACHE_HIT_COUNT,
+                new MLStat<>(false, () -> modelAccessControlHelper.getModelGroupCacheHitCount())
+            );
+        stats
+            .put(
+                MLNodeLevelStat.ML_MODEL_GROUP_CACHE_MISS_COUNT,
+                new MLStat<>(false, () -> modelAccessControlHelper.getModelGroupCacheMissCount())
+            );
+        stats
+            .put(
+                MLNodeLevelStat.ML_MODEL_ACCESS_DECISION_CACHE_HIT_COUNT,
+                new MLStat<>(false, () -> modelAccessControlHelper.getAccessDecisionCacheHitCount())
+            );
+        stats
+            .put(
+                MLNodeLevelStat.ML_MODEL_ACCESS_DECISION_CACHE_MISS_COUNT,
+                new MLStat<>(false, () -> modelAccessControlHelper.getAccessDecisionCacheMissCount())
+            );
         this.mlStats = new MLStats(stats);
 
         mlIndicesHandler = new MLIndicesHandler(clusterService, client);
@@ -441,14 +509,23 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             mlTaskManager,
             modelCacheHelper,
             mlEngine,
-            nodeHelper
+            nodeHelper,
+            compiledScriptCache,
+            embeddingResultCache
         );
         mlInputDatasetHandler = new MLInputDatasetHandler(client);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         connectorAccessControlHelper = new ConnectorAccessControlHelper(clusterService, settings);
         mlFeatureEnabledSetting = new MLFeatureEnabledSetting(clusterService, settings);
 
-        mlModelChunkUploader = new MLModelChunkUploader(mlIndicesHandler, client, xContentRegistry, modelAccessControlHelper);
+        mlModelChunkUploader = new MLModelChunkUploader(
+            mlIndicesHandler,
+            client,
+            xContentRegistry,
+            modelAccessControlHelper,
+            clusterService,
+            settings
+        );
 
         MLTaskDispatcher mlTaskDispatcher = new MLTaskDispatcher(clusterService, client, settings, nodeHelper);
         mlTrainingTaskRunner = new MLTrainingTaskRunner(
@@ -476,7 +553,10 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             xContentRegistry,
             mlModelManager,
             nodeHelper,
-            mlEngine
+            mlEngine,
+            predictableCache,
+            predictRequestCoalescer,
+            embeddingResultCache
         );
         mlTrainAndPredictTaskRunner = new MLTrainAndPredictTaskRunner(
             threadPool,
@@ -555,6 +635,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             mlModelManager,
             mlTaskManager,
             modelCacheHelper,
+            mlTaskDispatcher,
             mlModelAutoRedeployer
         );
         MLCommonsClusterManagerEventListener clusterManagerEventListener = new MLCommonsClusterManagerEventListener(
@@ -582,6 +663,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 mlStats,
                 mlTaskManager,
                 mlModelManager,
+                predictableCache,
                 mlIndicesHandler,
                 mlInputDatasetHandler,
                 mlTrainingTaskRunner,
@@ -734,6 +816,15 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             ML_THREAD_POOL_PREFIX + DEPLOY_THREAD_POOL,
             false
         );
+        // Serves cached model artifacts to peer nodes, separate from deploy threads so probes don't wait for deploys.
+        FixedExecutorBuilder artifactThreadPool = new FixedExecutorBuilder(
+            settings,
+            ARTIFACT_THREAD_POOL,
+            Math.max(1, Math.min(4, OpenSearchExecutors.allocatedProcessors(settings) / 2)),
+            100,
+            ML_THREAD_POOL_PREFIX + ARTIFACT_THREAD_POOL,
+            false
+        );
         FixedExecutorBuilder executeThreadPool = new FixedExecutorBuilder(
             settings,
             EXECUTE_THREAD_POOL,
@@ -760,7 +851,15 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         );
 
         return ImmutableList
-            .of(generalThreadPool, registerModelThreadPool, deployModelThreadPool, executeThreadPool, trainThreadPool, predictThreadPool);
+            .of(
+                generalThreadPool,
+                registerModelThreadPool,
+                deployModelThreadPool,
+                artifactThreadPool,
+                executeThreadPool,
+                trainThreadPool,
+                predictThreadPool
+            );
     }
 
     @Override
@@ -787,14 +886,37 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         List<Setting<?>> settings = ImmutableList
             .of(
                 MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY,
+                MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS,
+                MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_PREFER_LOCAL_NODE,
+                MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOCAL_NODE_MAX_EXECUTING_TASKS,
                 MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE,
                 MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS,
                 MLCommonsSettings.ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS,
                 MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT,
+                MLCommonsSettings.ML_COMMONS_MONITORING_LATENCY_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MONITORING_WINDOW_IN_SECONDS,
+                MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_SIZE,
+                MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_WAIT_TIME_IN_MILLIS,
+                MLCommonsSettings.ML_COMMONS_PREDICTOR_POOL_SIZE,
+                MLCommonsSettings.ML_COMMONS_PREDICTOR_NUM_THREADS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_SCRIPT_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_DESERIALIZED_MODEL_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED,
+                MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED,
+                MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES,
+                MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_PREDICT_REQUESTS_PER_MODEL,
+                MLCommonsSettings.ML_COMMONS_MAX_QUEUED_PREDICT_REQUESTS_PER_MODEL,
+                MLCommonsSettings.ML_COMMONS_MODEL_GROUP_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_DECISION_CACHE_TTL_IN_SECONDS,
                 MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_PEER_TRANSFER_ENABLED,
                 MLCommonsSettings.ML_COMMONS_TRUSTED_URL_REGEX,
                 MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD,
                 MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD,
@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import lombok.Getter;
+
+/**
+ * Immutable latency histogram with log-linear buckets, similar to HDR histogram.
+ * Values are recorded in microseconds. Values below {@link #SUB_BUCKET_COUNT} have their own bucket; larger values
+ * are bucketed by highest bit and the next {@link #SUB_BUCKET_BITS} bits, so bucket width is at most 1/16 of its
+ * lower bound and percentiles are accurate to about 3%. Histograms of different nodes can be merged by adding up
+ * bucket counts.
+ */
+public class MLLatencyHistogram implements Writeable {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Values larger than about 19 hours are recorded into the last bucket.
+    static final int MAX_VALUE_BITS = 36;
+    static final long MAX_VALUE_IN_MICROS = (1L << MAX_VALUE_BITS) - 1;
+    public static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final long[] counts;
+    @Getter
+    private final long count;
+    private final long minInMicros;
+    private final long maxInMicros;
+    private final long sumInMicros;
+
+    MLLatencyHistogram(long[] counts, long minInMicros, long maxInMicros, long sumInMicros) {
+        if (counts.length != BUCKET_COUNT) {
+            throw new IllegalArgumentException("wrong histogram bucket count " + counts.length);
+        }
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.counts = counts;
+        this.count = total;
+        this.minInMicros = minInMicros;
+        this.maxInMicros = maxInMicros;
+        this.sumInMicros = sumInMicros;
+    }
+
+    public MLLatencyHistogram(StreamInput in) throws IOException {
+        long[] counts = new long[BUCKET_COUNT];
+        int nonEmptyBuckets = in.readVInt();
+        long total = 0;
+        for (int i = 0; i < nonEmptyBuckets; i++) {
+            int index = in.readVInt();
+            counts[index] = in.readVLong();
+            total += counts[index];
+        }
+        this.counts = counts;
+        this.count = total;
+        this.minInMicros = in.readVLong();
+        this.maxInMicros = in.readVLong();
+        this.sumInMicros = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        // Only non-empty buckets are written, latencies of one model usually fall into a few dozen buckets.
+        int nonEmptyBuckets = 0;
+        for (long bucketCount : counts) {
+            if (bucketCount > 0) {
+                nonEmptyBuckets++;
+            }
+        }
+        out.writeVInt(nonEmptyBuckets);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                out.writeVInt(i);
+                out.writeVLong(counts[i]);
+            }
+        }
+        out.writeVLong(minInMicros);
+        out.writeVLong(maxInMicros);
+        out.writeVLong(sumInMicros);
+    }
+
+    static long toMicros(double valueInMillis) {
+        return Math.min(Math.max(Math.round(valueInMillis * 1000), 0), MAX_VALUE_IN_MICROS);
+    }
+
+    static int bucketIndex(long valueInMicros) {
+        long value = Math.min(Math.max(valueInMicros, 0), MAX_VALUE_IN_MICROS);
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        return (long) (index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+    }
+
+    static long bucketWidth(int index) {
+        return index < SUB_BUCKET_COUNT ? 1 : 1L << (index / SUB_BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Merge with histogram of same or other node.
+     * @param other other histogram
+     * @return new histogram with values of both histograms
+     */
+    public MLLatencyHistogram merge(MLLatencyHistogram other) {
+        if (other == null || other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        long[] merged = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            merged[i] = counts[i] + other.counts[i];
+        }
+        return new MLLatencyHistogram(
+            merged,
+            Math.min(minInMicros, other.minInMicros),
+            Math.max(maxInMicros, other.maxInMicros),
+            sumInMicros + other.sumInMicros
+        );
+    }
+
+    /**
+     * Get value at percentile in milliseconds. Value is the middle of the bucket holding the percentile, bounded by
+     * min and max recorded values.
+     * @param percentile percentile between 0 and 100
+     * @return value in milliseconds, null if histogram is empty
+     */
+    public Double getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        // smallest and largest values are known exactly
+        if (rank == 1) {
+            return getMin();
+        }
+        if (rank >= count) {
+            return getMax();
+        }
+        long seen = 0;
+        int index = 0;
+        for (; index < BUCKET_COUNT - 1; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                break;
+            }
+        }
+        double value = bucketLowerBound(index) + (bucketWidth(index) - 1) / 2.0;
+        return Math.min(Math.max(value, minInMicros), maxInMicros) / 1000;
+    }
+
+    public Double getMin() {
+        return count == 0 ? null : minInMicros / 1000.0;
+    }
+
+    public Double getMax() {
+        return count == 0 ? null : maxInMicros / 1000.0;
+    }
+
+    public Double getAverage() {
+        return count == 0 ? null : (double) sumInMicros / count / 1000;
+    }
+}
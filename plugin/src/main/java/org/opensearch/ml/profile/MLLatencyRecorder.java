@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free recorder of latencies in a sliding time window.
+ * The window is split into {@link #SLOT_COUNT} slots, each slot holds a histogram of latencies recorded in its time
+ * range. A slot is replaced by a new one when its time range expires, so memory is fixed no matter how many requests
+ * are recorded, and recording is a few atomic increments.
+ */
+public class MLLatencyRecorder {
+
+    static final int SLOT_COUNT = 6;
+
+    private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(SLOT_COUNT);
+
+    /**
+     * Record latency.
+     * @param valueInMillis latency in milliseconds
+     * @param windowInMillis sliding window size
+     */
+    public void record(double valueInMillis, long windowInMillis) {
+        long slotInMillis = slotInMillis(windowInMillis);
+        long epoch = System.currentTimeMillis() / slotInMillis;
+        getSlot(epoch, slotInMillis).record(MLLatencyHistogram.toMicros(valueInMillis));
+    }
+
+    /**
+     * Get histogram of latencies recorded in sliding window.
+     * @param windowInMillis sliding window size
+     * @return histogram, null if no latency recorded in window
+     */
+    public MLLatencyHistogram snapshot(long windowInMillis) {
+        long slotInMillis = slotInMillis(windowInMillis);
+        long epoch = System.currentTimeMillis() / slotInMillis;
+        long[] counts = new long[MLLatencyHistogram.BUCKET_COUNT];
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        long sum = 0;
+        boolean empty = true;
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            Slot slot = slots.get(i);
+            if (slot == null || slot.slotInMillis != slotInMillis || slot.epoch > epoch || epoch - slot.epoch >= SLOT_COUNT) {
+                continue;
+            }
+            for (int j = 0; j < counts.length; j++) {
+                long bucketCount = slot.counts.get(j);
+                if (bucketCount > 0) {
+                    counts[j] += bucketCount;
+                    empty = false;
+                }
+            }
+            min = Math.min(min, slot.min.get());
+            max = Math.max(max, slot.max.get());
+            sum += slot.sum.sum();
+        }
+        return empty ? null : new MLLatencyHistogram(counts, min, max, sum);
+    }
+
+    public void clear() {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private Slot getSlot(long epoch, long slotInMillis) {
+        int index = (int) (epoch % SLOT_COUNT);
+        while (true) {
+            Slot slot = slots.get(index);
+            if (slot != null && slot.epoch == epoch && slot.slotInMillis == slotInMillis) {
+                return slot;
+            }
+            Slot newSlot = new Slot(epoch, slotInMillis);
+            if (slots.compareAndSet(index, slot, newSlot)) {
+                return newSlot;
+            }
+        }
+    }
+
+    private static long slotInMillis(long windowInMillis) {
+        return Math.max(1, windowInMillis / SLOT_COUNT);
+    }
+
+    private static class Slot {
+        private final long epoch;
+        private final long slotInMillis;
+        private final AtomicLongArray counts;
+        private final LongAccumulator min;
+        private final LongAccumulator max;
+        private final LongAdder sum;
+
+        Slot(long epoch, long slotInMillis) {
+            this.epoch = epoch;
+            this.slotInMillis = slotInMillis;
+            this.counts = new AtomicLongArray(MLLatencyHistogram.BUCKET_COUNT);
+            this.min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+            this.max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+            this.sum = new LongAdder();
+        }
+
+        void record(long valueInMicros) {
+            // update bucket count last, so a reader seeing the count also sees min and max
+            min.accumulate(valueInMicros);
+            max.accumulate(valueInMicros);
+            sum.add(valueInMicros);
+            counts.incrementAndGet(MLLatencyHistogram.bucketIndex(valueInMicros));
+        }
+    }
+}
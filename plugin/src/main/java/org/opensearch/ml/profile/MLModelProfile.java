@@ -30,8 +30,13 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final MLPredictRequestStats predictRequestStats;
     private final Long memSizeEstimationCPU;
     private final Long memSizeEstimationGPU;
+    private final MLPredictRequestStats predictBatchSizeStats;
+    private final MLPredictRequestStats predictBatchWaitTimeStats;
+    private final Integer runningPredictRequests;
+    private final Integer queuedPredictRequests;
+    private final Long rejectedPredictRequests;
 
-    @Builder
+    @Builder(toBuilder = true)
     public MLModelProfile(
         MLModelState modelState,
         String predictor,
@@ -40,7 +45,12 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         MLPredictRequestStats modelInferenceStats,
         MLPredictRequestStats predictRequestStats,
         Long memSizeEstimationCPU,
-        Long memSizeEstimationGPU
+        Long memSizeEstimationGPU,
+        MLPredictRequestStats predictBatchSizeStats,
+        MLPredictRequestStats predictBatchWaitTimeStats,
+        Integer runningPredictRequests,
+        Integer queuedPredictRequests,
+        Long rejectedPredictRequests
     ) {
         this.modelState = modelState;
         this.predictor = predictor;
@@ -50,6 +60,11 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         this.predictRequestStats = predictRequestStats;
         this.memSizeEstimationCPU = memSizeEstimationCPU;
         this.memSizeEstimationGPU = memSizeEstimationGPU;
+        this.predictBatchSizeStats = predictBatchSizeStats;
+        this.predictBatchWaitTimeStats = predictBatchWaitTimeStats;
+        this.runningPredictRequests = runningPredictRequests;
+        this.queuedPredictRequests = queuedPredictRequests;
+        this.rejectedPredictRequests = rejectedPredictRequests;
     }
 
     @Override
@@ -79,6 +94,21 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (memSizeEstimationGPU != null) {
             builder.field("memory_size_estimation_gpu", memSizeEstimationGPU);
         }
+        if (predictBatchSizeStats != null) {
+            builder.field("predict_batch_size_stats", predictBatchSizeStats);
+        }
+        if (predictBatchWaitTimeStats != null) {
+            builder.field("predict_batch_wait_time_stats", predictBatchWaitTimeStats);
+        }
+        if (runningPredictRequests != null) {
+            builder.field("running_predict_requests", runningPredictRequests);
+        }
+        if (queuedPredictRequests != null) {
+            builder.field("queued_predict_requests", queuedPredictRequests);
+        }
+        if (rejectedPredictRequests != null) {
+            builder.field("rejected_predict_requests", rejectedPredictRequests);
+        }
         builder.endObject();
         return builder;
     }
@@ -104,6 +134,19 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         this.memSizeEstimationCPU = in.readOptionalLong();
         this.memSizeEstimationGPU = in.readOptionalLong();
+        if (in.readBoolean()) {
+            this.predictBatchSizeStats = new MLPredictRequestStats(in);
+        } else {
+            this.predictBatchSizeStats = null;
+        }
+        if (in.readBoolean()) {
+            this.predictBatchWaitTimeStats = new MLPredictRequestStats(in);
+        } else {
+            this.predictBatchWaitTimeStats = null;
+        }
+        this.runningPredictRequests = in.readOptionalInt();
+        this.queuedPredictRequests = in.readOptionalInt();
+        this.rejectedPredictRequests = in.readOptionalLong();
     }
 
     @Override
@@ -131,5 +174,20 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         out.writeOptionalLong(memSizeEstimationCPU);
         out.writeOptionalLong(memSizeEstimationGPU);
+        if (predictBatchSizeStats != null) {
+            out.writeBoolean(true);
+            predictBatchSizeStats.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+        if (predictBatchWaitTimeStats != null) {
+            out.writeBoolean(true);
+            predictBatchWaitTimeStats.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeOptionalInt(runningPredictRequests);
+        out.writeOptionalInt(queuedPredictRequests);
+        out.writeOptionalLong(rejectedPredictRequests);
     }
 }
@@ -6,6 +6,11 @@
 package org.opensearch.ml.profile;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -21,23 +26,97 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class MLPredictRequestStats implements ToXContentFragment, Writeable {
 
+    // Percentiles shown when profile request doesn't ask for any.
+    public static final List<Double> DEFAULT_PERCENTILES = Arrays.asList(50d, 90d, 99d);
+
     private final Long count;
     private final Double max;
     private final Double min;
     private final Double average;
-    private final Double p50;
-    private final Double p90;
-    private final Double p99;
+    // Latency at percentile keyed by percentile name like "p50" or "p99.9".
+    private final Map<String, Double> percentiles;
+    // Kept to merge stats of multiple nodes, not shown in response.
+    private final MLLatencyHistogram histogram;
 
     @Builder
-    public MLPredictRequestStats(Long count, Double max, Double min, Double average, Double p50, Double p90, Double p99) {
+    public MLPredictRequestStats(
+        Long count,
+        Double max,
+        Double min,
+        Double average,
+        Map<String, Double> percentiles,
+        MLLatencyHistogram histogram
+    ) {
         this.count = count;
         this.max = max;
         this.min = min;
         this.average = average;
-        this.p50 = p50;
-        this.p90 = p90;
-        this.p99 = p99;
+        this.percentiles = percentiles;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Create stats with default percentiles from latency histogram.
+     * @param histogram latency histogram
+     * @return stats, null if histogram is null or empty
+     */
+    public static MLPredictRequestStats fromHistogram(MLLatencyHistogram histogram) {
+        return fromHistogram(histogram, null);
+    }
+
+    /**
+     * Create stats from latency histogram.
+     * @param histogram latency histogram
+     * @param percentiles percentiles between 0 and 100 to calculate, default percentiles are used if null or empty
+     * @return stats, null if histogram is null or empty
+     */
+    public static MLPredictRequestStats fromHistogram(MLLatencyHistogram histogram, List<Double> percentiles) {
+        if (histogram == null || histogram.getCount() == 0) {
+            return null;
+        }
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (Double percentile : percentiles == null || percentiles.isEmpty() ? DEFAULT_PERCENTILES : percentiles) {
+            values.put(percentileName(percentile), histogram.getValueAtPercentile(percentile));
+        }
+        return MLPredictRequestStats
+            .builder()
+            .count(histogram.getCount())
+            .max(histogram.getMax())
+            .min(histogram.getMin())
+            .average(histogram.getAverage())
+            .percentiles(values)
+            .histogram(histogram)
+            .build();
+    }
+
+    /**
+     * Merge stats of multiple nodes. Only stats backed by latency histogram can be merged.
+     * @param stats stats to merge, may contain null
+     * @param percentiles percentiles to calculate from merged histogram, default percentiles are used if null or empty
+     * @return merged stats, null if none of the stats has a histogram
+     */
+    public static MLPredictRequestStats merge(Iterable<MLPredictRequestStats> stats, List<Double> percentiles) {
+        MLLatencyHistogram merged = null;
+        for (MLPredictRequestStats stat : stats) {
+            if (stat == null || stat.getHistogram() == null) {
+                continue;
+            }
+            merged = merged == null ? stat.getHistogram() : merged.merge(stat.getHistogram());
+        }
+        return fromHistogram(merged, percentiles);
+    }
+
+    /**
+     * Get latency at percentile.
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds, null if the percentile is not calculated
+     */
+    public Double getPercentile(double percentile) {
+        return percentiles == null ? null : percentiles.get(percentileName(percentile));
+    }
+
+    static String percentileName(double percentile) {
+        return "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
     }
 
     @Override
@@ -55,14 +134,10 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         if (average != null) {
             builder.field("average", average);
         }
-        if (p50 != null) {
-            builder.field("p50", p50);
-        }
-        if (p90 != null) {
-            builder.field("p90", p90);
-        }
-        if (p99 != null) {
-            builder.field("p99", p99);
+        if (percentiles != null) {
+            for (Map.Entry<String, Double> entry : percentiles.entrySet()) {
+                builder.field(entry.getKey(), entry.getValue());
+            }
         }
         builder.endObject();
         return builder;
@@ -73,9 +148,16 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         this.max = in.readOptionalDouble();
         this.min = in.readOptionalDouble();
         this.average = in.readOptionalDouble();
-        this.p50 = in.readOptionalDouble();
-        this.p90 = in.readOptionalDouble();
-        this.p99 = in.readOptionalDouble();
+        if (in.readBoolean()) {
+            int size = in.readVInt();
+            this.percentiles = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                percentiles.put(in.readString(), in.readOptionalDouble());
+            }
+        } else {
+            this.percentiles = null;
+        }
+        this.histogram = in.readOptionalWriteable(MLLatencyHistogram::new);
     }
 
     @Override
@@ -84,8 +166,16 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         out.writeOptionalDouble(max);
         out.writeOptionalDouble(min);
         out.writeOptionalDouble(average);
-        out.writeOptionalDouble(p50);
-        out.writeOptionalDouble(p90);
-        out.writeOptionalDouble(p99);
+        if (percentiles != null) {
+            out.writeBoolean(true);
+            out.writeVInt(percentiles.size());
+            for (Map.Entry<String, Double> entry : percentiles.entrySet()) {
+                out.writeString(entry.getKey());
+                out.writeOptionalDouble(entry.getValue());
+            }
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeOptionalWriteable(histogram);
     }
 }
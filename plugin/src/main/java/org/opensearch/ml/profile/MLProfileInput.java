@@ -9,7 +9,9 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.utils.MLNodeUtils.parseArrayField;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -31,6 +33,7 @@ public class MLProfileInput implements ToXContentObject, Writeable {
     public static final String NODE_IDS = "node_ids";
     public static final String RETURN_ALL_TASKS = "return_all_tasks";
     public static final String RETURN_ALL_MODELS = "return_all_models";
+    public static final String PERCENTILES = "percentiles";
 
     /**
      * Which models profiles will be retrieved
@@ -52,19 +55,36 @@ public class MLProfileInput implements ToXContentObject, Writeable {
     private boolean returnAllTasks;
     @Setter
     private boolean returnAllModels;
+    /**
+     * Percentiles of model latency to return, default percentiles are returned if empty.
+     */
+    private List<Double> percentiles;
 
     /**
      * Constructor
      * @param modelIds
      * @param taskIds
      */
-    @Builder
     public MLProfileInput(Set<String> modelIds, Set<String> taskIds, Set<String> nodeIds, boolean returnAllTasks, boolean returnAllModels) {
+        this(modelIds, taskIds, nodeIds, returnAllTasks, returnAllModels, null);
+    }
+
+    @Builder
+    public MLProfileInput(
+        Set<String> modelIds,
+        Set<String> taskIds,
+        Set<String> nodeIds,
+        boolean returnAllTasks,
+        boolean returnAllModels,
+        List<Double> percentiles
+    ) {
         this.modelIds = modelIds;
         this.taskIds = taskIds;
         this.nodeIds = nodeIds;
         this.returnAllTasks = returnAllTasks;
         this.returnAllModels = returnAllModels;
+        this.percentiles = percentiles == null ? new ArrayList<>() : percentiles;
+        this.percentiles.forEach(MLProfileInput::validatePercentile);
     }
 
     public MLProfileInput() {
@@ -73,6 +93,7 @@ public class MLProfileInput implements ToXContentObject, Writeable {
         this.nodeIds = new HashSet<>();
         returnAllTasks = false;
         returnAllModels = false;
+        percentiles = new ArrayList<>();
     }
 
     @Override
@@ -82,6 +103,7 @@ public class MLProfileInput implements ToXContentObject, Writeable {
         out.writeOptionalStringCollection(nodeIds);
         out.writeBoolean(returnAllTasks);
         out.writeBoolean(returnAllModels);
+        out.writeCollection(percentiles, StreamOutput::writeDouble);
     }
 
     public MLProfileInput(StreamInput input) throws IOException {
@@ -90,6 +112,7 @@ public class MLProfileInput implements ToXContentObject, Writeable {
         nodeIds = input.readBoolean() ? new HashSet<>(input.readStringList()) : new HashSet<>();
         this.returnAllTasks = input.readBoolean();
         this.returnAllModels = input.readBoolean();
+        this.percentiles = input.readList(StreamInput::readDouble);
     }
 
     public static MLProfileInput parse(XContentParser parser) throws IOException {
@@ -98,6 +121,7 @@ public class MLProfileInput implements ToXContentObject, Writeable {
         Set<String> nodeIds = new HashSet<>();
         boolean returnALlTasks = false;
         boolean returnAllModels = false;
+        List<Double> percentiles = new ArrayList<>();
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
 
@@ -121,6 +145,12 @@ public class MLProfileInput implements ToXContentObject, Writeable {
                 case RETURN_ALL_MODELS:
                     returnAllModels = parser.booleanValue();
                     break;
+                case PERCENTILES:
+                    ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        percentiles.add(parser.doubleValue());
+                    }
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -134,6 +164,7 @@ public class MLProfileInput implements ToXContentObject, Writeable {
             .nodeIds(nodeIds)
             .returnAllTasks(returnALlTasks)
             .returnAllModels(returnAllModels)
+            .percentiles(percentiles)
             .build();
     }
 
@@ -151,10 +182,24 @@ public class MLProfileInput implements ToXContentObject, Writeable {
         }
         builder.field(RETURN_ALL_TASKS, returnAllTasks);
         builder.field(RETURN_ALL_MODELS, returnAllModels);
+        if (percentiles != null && !percentiles.isEmpty()) {
+            builder.field(PERCENTILES, percentiles);
+        }
         builder.endObject();
         return builder;
     }
 
+    /**
+     * Validate percentile of model latency.
+     * @param percentile percentile
+     * @throws IllegalArgumentException if percentile is not between 0 and 100
+     */
+    public static void validatePercentile(Double percentile) {
+        if (percentile == null || percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+    }
+
     public boolean retrieveProfileOnAllNodes() {
         return nodeIds == null || nodeIds.size() == 0;
     }
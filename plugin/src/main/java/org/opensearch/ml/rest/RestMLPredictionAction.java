@@ -10,6 +10,7 @@ import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_ALGORITHM;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_TIMEOUT;
 import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
 
 import java.io.IOException;
@@ -77,6 +78,8 @@ public class RestMLPredictionAction extends BaseRestHandler {
         String algorithm = request.param(PARAMETER_ALGORITHM);
         String modelId = getParameterId(request, PARAMETER_MODEL_ID);
         Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
+        // Validate timeout before fetching the model, as parameters must be consumed before the channel consumer runs.
+        request.paramAsTime(PARAMETER_TIMEOUT, null);
 
         if (algorithm == null && functionName.isPresent()) {
             algorithm = functionName.get().name();
@@ -125,7 +128,9 @@ public class RestMLPredictionAction extends BaseRestHandler {
         XContentParser parser = request.contentParser();
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
         MLInput mlInput = MLInput.parse(parser, algorithm);
-        return new MLPredictionTaskRequest(modelId, mlInput, null);
+        MLPredictionTaskRequest mlPredictionTaskRequest = new MLPredictionTaskRequest(modelId, mlInput, null);
+        mlPredictionTaskRequest.setTimeout(request.paramAsTime(PARAMETER_TIMEOUT, null));
+        return mlPredictionTaskRequest;
     }
 
 }
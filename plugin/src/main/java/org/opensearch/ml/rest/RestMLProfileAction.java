@@ -14,6 +14,7 @@ import static org.opensearch.ml.utils.RestActionUtils.onFailure;
 import static org.opensearch.ml.utils.RestActionUtils.splitCommaSeparatedParam;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -52,6 +53,7 @@ public class RestMLProfileAction extends BaseRestHandler {
     private static final String VIEW = "view";
     private static final String MODEL_VIEW = "model";
     private static final String NODE_VIEW = "node";
+    private static final String PERCENTILES = "percentiles";
 
     private ClusterService clusterService;
 
@@ -91,6 +93,10 @@ public class RestMLProfileAction extends BaseRestHandler {
         } else {
             mlProfileInput = createMLProfileInputFromRequestParams(request);
         }
+        Optional<String[]> percentiles = splitCommaSeparatedParam(request, PERCENTILES);
+        if (percentiles.isPresent()) {
+            mlProfileInput.getPercentiles().addAll(parsePercentiles(percentiles.get()));
+        }
         String view = RestActionUtils.getStringParam(request, VIEW).orElse(NODE_VIEW);
         String[] nodeIds = mlProfileInput.retrieveProfileOnAllNodes()
             ? getAllNodes(clusterService)
@@ -114,6 +120,7 @@ public class RestMLProfileAction extends BaseRestHandler {
                             builder.field(entry.getKey(), entry.getValue());
                         }
                         builder.endObject();
+                        r.clusterModelStatsToXContent(builder, ToXContent.EMPTY_PARAMS);
                     }
                 }
                 builder.endObject();
@@ -155,16 +162,7 @@ public class RestMLProfileAction extends BaseRestHandler {
                     mlProfileModelResponse.setWorkerNodes(entry.getValue().getWorkerNodes());
                 }
                 // Create a new object and remove targetWorkerNodes and workerNodes.
-                MLModelProfile modelProfile = new MLModelProfile(
-                    entry.getValue().getModelState(),
-                    entry.getValue().getPredictor(),
-                    null,
-                    null,
-                    entry.getValue().getModelInferenceStats(),
-                    entry.getValue().getPredictRequestStats(),
-                    entry.getValue().getMemSizeEstimationCPU(),
-                    entry.getValue().getMemSizeEstimationGPU()
-                );
+                MLModelProfile modelProfile = entry.getValue().toBuilder().targetWorkerNodes(null).workerNodes(null).build();
                 mlProfileModelResponse.getMlModelProfileMap().putAll(ImmutableMap.of(nodeId, modelProfile));
             }
 
@@ -181,6 +179,21 @@ public class RestMLProfileAction extends BaseRestHandler {
         return modelCentricMap;
     }
 
+    private List<Double> parsePercentiles(String[] values) {
+        List<Double> percentiles = new ArrayList<>();
+        for (String value : values) {
+            double percentile;
+            try {
+                percentile = Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid percentile: " + value);
+            }
+            MLProfileInput.validatePercentile(percentile);
+            percentiles.add(percentile);
+        }
+        return percentiles;
+    }
+
     MLProfileInput createMLProfileInputFromRequestParams(RestRequest request) {
         MLProfileInput mlProfileInput = new MLProfileInput();
         Optional<String[]> modelIds = splitCommaSeparatedParam(request, PARAMETER_MODEL_ID);
@@ -21,6 +21,32 @@ public final class MLCommonsSettings {
     public static final Setting<String> ML_COMMONS_TASK_DISPATCH_POLICY = Setting
         .simpleString("plugins.ml_commons.task_dispatch_policy", "round_robin", Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // How often least load dispatch refreshes its cached view of worker node load.
+    public static final Setting<Long> ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS = Setting
+        .longSetting(
+            "plugins.ml_commons.task_dispatch.load_refresh_interval_in_millis",
+            1000,
+            100,
+            60_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Predict requests run on the node receiving them if it's a worker node of the model, without a transport hop.
+    public static final Setting<Boolean> ML_COMMONS_TASK_DISPATCH_PREFER_LOCAL_NODE = Setting
+        .boolSetting("plugins.ml_commons.task_dispatch.prefer_local_node", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Predict requests go to other worker nodes once the local node executes this many ML tasks.
+    public static final Setting<Integer> ML_COMMONS_TASK_DISPATCH_LOCAL_NODE_MAX_EXECUTING_TASKS = Setting
+        .intSetting(
+            "plugins.ml_commons.task_dispatch.local_node_max_executing_tasks",
+            100,
+            0,
+            100_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Integer> ML_COMMONS_MAX_MODELS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_model_on_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Integer> ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE = Setting
@@ -34,6 +60,46 @@ public final class MLCommonsSettings {
         );
     public static final Setting<Integer> ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_deploy_model_tasks_per_node", 10, 0, 10, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Max number of model chunk requests in flight when a node retrieves chunks of a model to deploy it, or indexes chunks of a
+    // model while downloading it to register it.
+    public static final Setting<Integer> ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS = Setting
+        .intSetting(
+            "plugins.ml_commons.max_concurrent_model_chunk_requests",
+            4,
+            1,
+            32,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Store model chunks in binary format when registering models, and rewrite chunks of models registered by old versions
+    // in binary format after the model is deployed. Only enable it when all nodes of the cluster can read binary chunks, as
+    // nodes of old versions fail to load them, so chunks are stored as Base64 string in JSON by default.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED = Setting
+        .boolSetting(
+            "plugins.ml_commons.model_chunk_binary_format_enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Max total size of model artifacts cached on disk of a node to deploy models again without retrieving model chunks.
+    // 0 disables the cache.
+    public static final Setting<Integer> ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB = Setting
+        .intSetting(
+            "plugins.ml_commons.model_artifact_cache_size_in_mb",
+            10240,
+            0,
+            1_048_576,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Fetch cached model artifact from peer ML nodes before retrieving model chunks from model index.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_ARTIFACT_PEER_TRANSFER_ENABLED = Setting
+        .boolSetting(
+            "plugins.ml_commons.model_artifact_peer_transfer_enabled",
+            true,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Integer> ML_COMMONS_MAX_ML_TASK_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_ml_task_per_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Boolean> ML_COMMONS_ONLY_RUN_ON_ML_NODE = Setting
@@ -62,6 +128,105 @@ public final class MLCommonsSettings {
             Setting.Property.NodeScope,
             Setting.Property.Dynamic
         );
+    // Monitor latency of predict requests and model inference per model in a sliding time window.
+    public static final Setting<Boolean> ML_COMMONS_MONITORING_LATENCY_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.monitoring_latency_enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Sliding time window of monitored predict request latency.
+    public static final Setting<Integer> ML_COMMONS_MONITORING_WINDOW_IN_SECONDS = Setting
+        .intSetting("plugins.ml_commons.monitoring_window_in_seconds", 300, 1, 86400, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Max number of docs from concurrent predict requests batched into one local model inference. 1 means batching is disabled.
+    public static final Setting<Integer> ML_COMMONS_PREDICT_BATCH_SIZE = Setting
+        .intSetting("plugins.ml_commons.predict_batch.max_batch_size", 1, 1, 1024, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Long> ML_COMMONS_PREDICT_BATCH_WAIT_TIME_IN_MILLIS = Setting
+        .longSetting(
+            "plugins.ml_commons.predict_batch.max_wait_time_in_millis",
+            5,
+            0,
+            1000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max number of predictors of a deployed local model, predictors are added when all existing ones are busy.
+    // Applied to models deployed after the change.
+    public static final Setting<Integer> ML_COMMONS_PREDICTOR_POOL_SIZE = Setting
+        .intSetting("plugins.ml_commons.predictor_pool.max_size", 1, 1, 64, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Intra-op threads of each local model predictor. Applied to models deployed after the change.
+    public static final Setting<Integer> ML_COMMONS_PREDICTOR_NUM_THREADS = Setting
+        .intSetting("plugins.ml_commons.predictor_pool.num_threads", 1, 1, 256, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Max number of compiled connector pre/post process scripts cached on a node. 0 means caching is disabled.
+    public static final Setting<Integer> ML_COMMONS_REMOTE_SCRIPT_CACHE_SIZE = Setting
+        .intSetting("plugins.ml_commons.remote_inference.script_cache_size", 1000, 0, 100000, Setting.Property.NodeScope);
+
+    // Max total size in MB of serialized content of models whose deserialized form is cached on a node to predict without deploy.
+    // 0 means caching is disabled.
+    public static final Setting<Integer> ML_COMMONS_DESERIALIZED_MODEL_CACHE_SIZE_IN_MB = Setting
+        .intSetting("plugins.ml_commons.deserialized_model_cache_size_in_mb", 100, 0, 10240, Setting.Property.NodeScope);
+
+    // Share one inference among concurrent predict requests with the same input to the same deployed model.
+    // Remote models are only coalesced for text docs input, disable it if such requests are expected to get different results.
+    public static final Setting<Boolean> ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.predict_request_coalescing_enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Cache predict results of deployed embedding models, disable it when model results are not expected to repeat.
+    public static final Setting<Boolean> ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.embedding_result_cache_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Max number of text doc embeddings cached on a node. Changing it drops cached embeddings.
+    public static final Setting<Integer> ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES = Setting
+        .intSetting(
+            "plugins.ml_commons.embedding_result_cache_max_entries",
+            10000,
+            0,
+            10000000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max total size of text doc embeddings cached on a node. Changing it drops cached embeddings.
+    public static final Setting<Integer> ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB = Setting
+        .intSetting(
+            "plugins.ml_commons.embedding_result_cache_size_in_mb",
+            100,
+            0,
+            10240,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max number of inference requests of one deployed model running at the same time on a node, 0 means no limit.
+    // It keeps a slow model from taking all predict threads of a node.
+    public static final Setting<Integer> ML_COMMONS_MAX_CONCURRENT_PREDICT_REQUESTS_PER_MODEL = Setting
+        .intSetting(
+            "plugins.ml_commons.max_concurrent_predict_requests_per_model",
+            0,
+            0,
+            10000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max number of inference requests of one deployed model waiting for the concurrency limit, more are rejected.
+    // 0 rejects requests as soon as the concurrency limit is reached.
+    public static final Setting<Integer> ML_COMMONS_MAX_QUEUED_PREDICT_REQUESTS_PER_MODEL = Setting
+        .intSetting(
+            "plugins.ml_commons.max_queued_predict_requests_per_model",
+            100,
+            0,
+            100000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max number of model groups cached on a node for model access control. 0 means caching is disabled.
+    public static final Setting<Integer> ML_COMMONS_MODEL_GROUP_CACHE_SIZE = Setting
+        .intSetting("plugins.ml_commons.model_group_cache_size", 10000, 0, 1000000, Setting.Property.NodeScope);
+
+    // How long a model group access decision of a user is cached. 0 means caching is disabled.
+    public static final Setting<Integer> ML_COMMONS_MODEL_ACCESS_DECISION_CACHE_TTL_IN_SECONDS = Setting
+        .intSetting("plugins.ml_commons.model_access_decision_cache_ttl_in_seconds", 10, 0, 3600, Setting.Property.NodeScope);
 
     public static final Setting<String> ML_COMMONS_TRUSTED_URL_REGEX = Setting
         .simpleString(
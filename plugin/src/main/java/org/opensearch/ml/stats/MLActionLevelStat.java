@@ -13,7 +13,8 @@ package org.opensearch.ml.stats;
  */
 public enum MLActionLevelStat {
     ML_ACTION_REQUEST_COUNT,
-    ML_ACTION_FAILURE_COUNT;
+    ML_ACTION_FAILURE_COUNT,
+    ML_ACTION_REJECTED_COUNT;
 
     public static MLActionLevelStat from(String value) {
         try {
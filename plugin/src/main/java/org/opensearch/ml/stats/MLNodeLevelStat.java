@@ -16,7 +16,25 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_REMOTE_CONNECTION_LEASED_COUNT, // Connections to remote services currently serving requests
+    ML_REMOTE_CONNECTION_PENDING_COUNT, // Requests waiting for a connection to remote services
+    ML_REMOTE_CONNECTION_AVAILABLE_COUNT, // Idle keep-alive connections to remote services
+    ML_REMOTE_SCRIPT_CACHE_HIT_COUNT,
+    ML_REMOTE_SCRIPT_CACHE_MISS_COUNT,
+    ML_REMOTE_SCRIPT_COMPILE_TIME_HISTOGRAM, // Count of connector script compilations per compile time bucket
+    ML_MODEL_GROUP_CACHE_HIT_COUNT, // Model access checks served by a cached model group instead of a model group index read
+    ML_MODEL_GROUP_CACHE_MISS_COUNT,
+    ML_MODEL_ACCESS_DECISION_CACHE_HIT_COUNT, // Model access checks served by a cached access decision of the same user
+    ML_MODEL_ACCESS_DECISION_CACHE_MISS_COUNT,
+    ML_DESERIALIZED_MODEL_CACHE_HIT_COUNT, // Predict requests of models not deployed which reused a cached deserialized model
+    ML_DESERIALIZED_MODEL_CACHE_MISS_COUNT,
+    ML_COALESCED_PREDICT_REQUEST_COUNT, // Predict requests which got result of a concurrent identical request
+    ML_EMBEDDING_RESULT_CACHE_HIT_COUNT, // Predict requests of deployed embedding models served by a cached result
+    ML_EMBEDDING_RESULT_CACHE_MISS_COUNT,
+    ML_EXPIRED_PREDICT_REQUEST_COUNT, // Predict requests dropped because their deadline passed before inference started
+    ML_LOCAL_DISPATCHED_PREDICT_REQUEST_COUNT, // Predict requests received by this node and run on this node
+    ML_REMOTE_DISPATCHED_PREDICT_REQUEST_COUNT; // Predict requests received by this node and forwarded to another worker node
 
     public static MLNodeLevelStat from(String value) {
         try {
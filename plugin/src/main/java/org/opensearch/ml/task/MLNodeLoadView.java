@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.naming.LimitExceededException;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.ml.action.stats.MLStatsNodeResponse;
+import org.opensearch.ml.action.stats.MLStatsNodesResponse;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+
+/**
+ * Locally cached load of ML worker nodes, used by least load dispatch to pick a node without calling other nodes.
+ * Load reported by nodes is refreshed in the background; tasks dispatched by this node since the last refresh are
+ * added on top, so a burst of requests between two refreshes doesn't pile up on the same node.
+ * A node is picked with power of two choices: two random candidates are compared and the less loaded one wins.
+ */
+public class MLNodeLoadView {
+
+    private final Map<String, NodeLoad> nodeLoads = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /**
+     * Get nodes whose load is unknown or older than refresh interval.
+     * @param nodes candidate nodes
+     * @param refreshIntervalInMillis refresh interval
+     * @return nodes to refresh; empty if all loads are fresh
+     */
+    public DiscoveryNode[] getStaleNodes(DiscoveryNode[] nodes, long refreshIntervalInMillis) {
+        long now = System.currentTimeMillis();
+        List<DiscoveryNode> staleNodes = new ArrayList<>();
+        for (DiscoveryNode node : nodes) {
+            NodeLoad load = nodeLoads.get(node.getId());
+            if (load == null || now - load.updateTimeInMillis >= refreshIntervalInMillis) {
+                staleNodes.add(node);
+            }
+        }
+        return staleNodes.toArray(new DiscoveryNode[0]);
+    }
+
+    /**
+     * Mark start of a load refresh. Only one refresh runs at a time.
+     * @return true if caller should run the refresh; false if another refresh is running
+     */
+    public boolean startRefresh() {
+        return refreshing.compareAndSet(false, true);
+    }
+
+    /**
+     * Update cached load with node stats and finish the running refresh.
+     * @param response node stats with executing task count and JVM heap usage
+     */
+    public void update(MLStatsNodesResponse response) {
+        try {
+            long now = System.currentTimeMillis();
+            for (MLStatsNodeResponse nodeResponse : response.getNodes()) {
+                Object taskCount = nodeResponse.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT);
+                Object heapUsage = nodeResponse.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE);
+                if (taskCount == null || heapUsage == null) {
+                    continue;
+                }
+                nodeLoads
+                    .put(
+                        nodeResponse.getNode().getId(),
+                        new NodeLoad(((Number) taskCount).longValue(), ((Number) heapUsage).longValue(), now)
+                    );
+            }
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Finish the running refresh without updating cached load.
+     */
+    public void refreshFailed() {
+        refreshing.set(false);
+    }
+
+    /**
+     * Remove cached load of nodes which left the cluster.
+     * @param nodeIds removed node ids
+     */
+    public void removeNodes(Set<String> nodeIds) {
+        nodeLoads.keySet().removeAll(nodeIds);
+    }
+
+    /**
+     * Pick node to run task. Nodes without cached load are treated as idle.
+     * @param nodes candidate nodes
+     * @param maxTaskPerNode max executing ML task count of one node
+     * @param jvmHeapUsageThreshold max JVM heap usage percentage of one node
+     * @return picked node
+     * @throws LimitExceededException if all nodes exceed JVM heap or task count limit
+     */
+    public DiscoveryNode choose(DiscoveryNode[] nodes, int maxTaskPerNode, short jvmHeapUsageThreshold) throws LimitExceededException {
+        List<DiscoveryNode> candidates = new ArrayList<>();
+        for (DiscoveryNode node : nodes) {
+            NodeLoad load = nodeLoads.get(node.getId());
+            if (load == null || load.jvmHeapUsage < jvmHeapUsageThreshold) {
+                candidates.add(node);
+            }
+        }
+        if (candidates.size() == 0) {
+            throw new LimitExceededException(
+                "All nodes' memory usage exceeds limitation " + jvmHeapUsageThreshold + ". No eligible node available to run ml jobs "
+            );
+        }
+        candidates.removeIf(node -> getTaskCount(node) >= maxTaskPerNode);
+        if (candidates.size() == 0) {
+            throw new LimitExceededException("All nodes' executing ML task count reach limitation.");
+        }
+
+        DiscoveryNode target = candidates.get(0);
+        if (candidates.size() > 1) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(candidates.size());
+            int second = random.nextInt(candidates.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            target = lessLoaded(candidates.get(first), candidates.get(second));
+        }
+        NodeLoad load = nodeLoads.get(target.getId());
+        if (load != null) {
+            load.dispatchedTaskCount.incrementAndGet();
+        }
+        return target;
+    }
+
+    private DiscoveryNode lessLoaded(DiscoveryNode node1, DiscoveryNode node2) {
+        int result = Long.compare(getTaskCount(node1), getTaskCount(node2));
+        if (result == 0) {
+            // if both nodes have same task count, choose the one with less JVM heap usage.
+            result = Long.compare(getJvmHeapUsage(node1), getJvmHeapUsage(node2));
+        }
+        return result <= 0 ? node1 : node2;
+    }
+
+    private long getTaskCount(DiscoveryNode node) {
+        NodeLoad load = nodeLoads.get(node.getId());
+        return load == null ? 0 : load.executingTaskCount + load.dispatchedTaskCount.get();
+    }
+
+    private long getJvmHeapUsage(DiscoveryNode node) {
+        NodeLoad load = nodeLoads.get(node.getId());
+        return load == null ? 0 : load.jvmHeapUsage;
+    }
+
+    private static class NodeLoad {
+        private final long executingTaskCount;
+        private final long jvmHeapUsage;
+        private final long updateTimeInMillis;
+        private final AtomicLong dispatchedTaskCount;
+
+        NodeLoad(long executingTaskCount, long jvmHeapUsage, long updateTimeInMillis) {
+            this.executingTaskCount = executingTaskCount;
+            this.jvmHeapUsage = jvmHeapUsage;
+            this.updateTimeInMillis = updateTimeInMillis;
+            this.dispatchedTaskCount = new AtomicLong();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+
+import com.google.common.collect.ImmutableSet;
+
+import lombok.EqualsAndHashCode;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Single-flight coalescing of predict requests to deployed models.
+ * Concurrent requests with the same model id and the same input share one in-flight inference: the first request runs
+ * the inference, requests arriving before it completes wait for its result. Nothing is cached after the inference
+ * completes. Inputs are compared by their serialized form, so the same docs and parameters match no matter which
+ * client or ingest pipeline sent them. Each waiting request gets its own copy of the output.
+ */
+@Log4j2
+public class MLPredictRequestCoalescer {
+
+    // Functions whose result is expected to only depend on model and input.
+    private static final Set<FunctionName> COALESCING_FUNCTIONS = ImmutableSet
+        .of(
+            FunctionName.TEXT_EMBEDDING,
+            FunctionName.SPARSE_ENCODING,
+            FunctionName.SPARSE_TOKENIZE,
+            FunctionName.TEXT_SIMILARITY
+        );
+
+    private final Map<InFlightKey, InFlight> inFlights;
+    private final LongAdder coalescedCount;
+    private volatile boolean enabled;
+
+    public MLPredictRequestCoalescer(ClusterService clusterService, Settings settings) {
+        this.inFlights = new ConcurrentHashMap<>();
+        this.coalescedCount = new LongAdder();
+        this.enabled = ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED, it -> enabled = it);
+    }
+
+    /**
+     * Run inference, or wait for the result of a running inference with the same model and input.
+     * @param modelId model id
+     * @param functionName function name of model
+     * @param mlInput predict input
+     * @param listener listener of predict output
+     * @param inference runs inference and completes the given listener
+     */
+    public void predict(
+        String modelId,
+        FunctionName functionName,
+        MLInput mlInput,
+        ActionListener<MLOutput> listener,
+        Consumer<ActionListener<MLOutput>> inference
+    ) {
+        if (!enabled || modelId == null || !isCoalescing(functionName, mlInput)) {
+            inference.accept(listener);
+            return;
+        }
+        InFlightKey key;
+        try {
+            key = new InFlightKey(modelId, serialize(mlInput));
+        } catch (IOException e) {
+            log.debug("Failed to serialize predict input of model {}, predict without coalescing", modelId, e);
+            inference.accept(listener);
+            return;
+        }
+        while (true) {
+            InFlight inFlight = new InFlight(listener);
+            InFlight running = inFlights.putIfAbsent(key, inFlight);
+            if (running == null) {
+                ActionListener<MLOutput> inFlightListener = ActionListener.wrap(output -> {
+                    inFlights.remove(key, inFlight);
+                    inFlight.complete(output, null);
+                }, e -> {
+                    inFlights.remove(key, inFlight);
+                    inFlight.complete(null, e);
+                });
+                try {
+                    inference.accept(inFlightListener);
+                } catch (Exception e) {
+                    inFlightListener.onFailure(e);
+                }
+                return;
+            }
+            if (running.join(retryOnTimeout(modelId, functionName, mlInput, listener, inference))) {
+                coalescedCount.increment();
+                return;
+            }
+            // running inference completed before this request joined, it's removed right after completion
+            inFlights.remove(key, running);
+        }
+    }
+
+    /**
+     * Remote models are only coalesced for text docs input, e.g. embedding connectors. Other remote inputs like LLM
+     * prompts may be expected to get different results for the same input.
+     */
+    private boolean isCoalescing(FunctionName functionName, MLInput mlInput) {
+        if (functionName == FunctionName.REMOTE) {
+            return mlInput.getInputDataset() instanceof TextDocsInputDataSet;
+        }
+        return COALESCING_FUNCTIONS.contains(functionName);
+    }
+
+    /**
+     * The running inference may time out with the deadline of the request which started it. A joined request with
+     * a later deadline predicts again instead of failing with the timeout of another request.
+     */
+    private ActionListener<MLOutput> retryOnTimeout(
+        String modelId,
+        FunctionName functionName,
+        MLInput mlInput,
+        ActionListener<MLOutput> listener,
+        Consumer<ActionListener<MLOutput>> inference
+    ) {
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(MLOutput output) {
+                listener.onResponse(output);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Long deadlineInNanos = mlInput.getDeadlineInNanos();
+                if (e instanceof OpenSearchTimeoutException && (deadlineInNanos == null || deadlineInNanos - System.nanoTime() > 0)) {
+                    log.debug("Coalesced predict request of model {} timed out, predict again", modelId);
+                    predict(modelId, functionName, mlInput, listener, inference);
+                } else {
+                    listener.onFailure(e);
+                }
+            }
+        };
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlights.size();
+    }
+
+    private static BytesReference serialize(Writeable writeable) throws IOException {
+        BytesStreamOutput out = new BytesStreamOutput();
+        writeable.writeTo(out);
+        return out.bytes();
+    }
+
+    private static class InFlight {
+        private final List<ActionListener<MLOutput>> listeners;
+        private boolean completed;
+
+        InFlight(ActionListener<MLOutput> listener) {
+            this.listeners = new ArrayList<>();
+            this.listeners.add(listener);
+        }
+
+        synchronized boolean join(ActionListener<MLOutput> listener) {
+            if (completed) {
+                return false;
+            }
+            listeners.add(listener);
+            return true;
+        }
+
+        void complete(MLOutput output, Exception e) {
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                completed = true;
+            }
+            // no listener joins after completed is set
+            BytesReference serializedOutput = null;
+            Exception failure = e;
+            if (failure == null && output != null && listeners.size() > 1) {
+                // output may be changed by the request it's returned to, joined requests read their own copy of it
+                try {
+                    serializedOutput = serialize(output);
+                } catch (IOException ex) {
+                    failure = ex;
+                }
+            }
+            for (int i = 0; i < listeners.size(); i++) {
+                ActionListener<MLOutput> listener = listeners.get(i);
+                try {
+                    if (i == 0 && e == null) {
+                        listener.onResponse(output);
+                    } else if (failure != null) {
+                        listener.onFailure(failure);
+                    } else if (serializedOutput == null) {
+                        listener.onResponse(output);
+                    } else {
+                        listener.onResponse(MLOutput.fromStream(serializedOutput.streamInput()));
+                    }
+                } catch (Exception ex) {
+                    log.error("Failed to notify coalesced predict request", ex);
+                }
+            }
+        }
+    }
+
+    @EqualsAndHashCode
+    private static class InFlightKey {
+        private final String modelId;
+        private final BytesReference input;
+
+        InFlightKey(String modelId, BytesReference input) {
+            this.modelId = modelId;
+            this.input = input;
+        }
+    }
+}
@@ -14,16 +14,20 @@ import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.OpenSearchTimeoutException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
@@ -40,6 +44,7 @@ import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
@@ -48,13 +53,17 @@ import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.PredictableCache;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.model.EmbeddingResultCache;
+import org.opensearch.ml.model.MLModelBulkhead;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
@@ -75,6 +84,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     private final MLModelManager mlModelManager;
     private final DiscoveryNodeHelper nodeHelper;
     private final MLEngine mlEngine;
+    private final PredictableCache predictableCache;
+    private final MLPredictRequestCoalescer predictRequestCoalescer;
+    private final EmbeddingResultCache embeddingResultCache;
 
     public MLPredictTaskRunner(
         ThreadPool threadPool,
@@ -88,7 +100,10 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         NamedXContentRegistry xContentRegistry,
         MLModelManager mlModelManager,
         DiscoveryNodeHelper nodeHelper,
-        MLEngine mlEngine
+        MLEngine mlEngine,
+        PredictableCache predictableCache,
+        MLPredictRequestCoalescer predictRequestCoalescer,
+        EmbeddingResultCache embeddingResultCache
     ) {
         super(mlTaskManager, mlStats, nodeHelper, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
         this.threadPool = threadPool;
@@ -99,6 +114,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         this.mlModelManager = mlModelManager;
         this.nodeHelper = nodeHelper;
         this.mlEngine = mlEngine;
+        this.predictableCache = predictableCache;
+        this.predictRequestCoalescer = predictRequestCoalescer;
+        this.embeddingResultCache = embeddingResultCache;
     }
 
     @Override
@@ -123,12 +141,20 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             ActionListener<DiscoveryNode> actionListener = ActionListener.wrap(node -> {
                 if (clusterService.localNode().getId().equals(node.getId())) {
                     log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
+                    mlStats.getStat(MLNodeLevelStat.ML_LOCAL_DISPATCHED_PREDICT_REQUEST_COUNT).increment();
                     request.setDispatchTask(false);
                     executeTask(request, listener);
                 } else {
                     log.debug("Execute ML predict request {} remotely on node {}", request.getRequestID(), node.getId());
+                    mlStats.getStat(MLNodeLevelStat.ML_REMOTE_DISPATCHED_PREDICT_REQUEST_COUNT).increment();
                     request.setDispatchTask(false);
-                    transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+                    if (request.getDeadlineInNanos() == null) {
+                        transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+                    } else if (!failIfExpired(modelId, request.getDeadlineInNanos(), listener)) {
+                        // Caller stops waiting for the worker node once the remaining time of the request is used up.
+                        TransportRequestOptions options = TransportRequestOptions.builder().withTimeout(request.getRemainingTime()).build();
+                        transportService.sendRequest(node, getTransportActionName(), request, options, getResponseHandler(listener));
+                    }
                 }
             }, e -> { listener.onFailure(e); });
             String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName, true);
@@ -145,7 +171,8 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     workerNodes = nodeHelper.getEligibleNodeIds(functionName);
                 }
             }
-            mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
+            long localExecutingTasks = (long) mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).getValue();
+            mlTaskDispatcher.dispatchPredictTask(workerNodes, localExecutingTasks, actionListener);
         } catch (Exception e) {
             log.error("Failed to predict model " + modelId, e);
             listener.onFailure(e);
@@ -160,24 +187,12 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     @Override
     protected void executeTask(MLPredictionTaskRequest request, ActionListener<MLTaskResponse> listener) {
         MLInputDataType inputDataType = request.getMlInput().getInputDataset().getInputDataType();
-        Instant now = Instant.now();
         String modelId = request.getModelId();
-        MLTask mlTask = MLTask
-            .builder()
-            .taskId(UUID.randomUUID().toString())
-            .modelId(modelId)
-            .taskType(MLTaskType.PREDICTION)
-            .inputType(inputDataType)
-            .functionName(request.getMlInput().getFunctionName())
-            .state(MLTaskState.CREATED)
-            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
-            .createTime(now)
-            .lastUpdateTime(now)
-            .async(false)
-            .build();
         MLInput mlInput = request.getMlInput();
+        mlInput.setDeadlineInNanos(request.getDeadlineInNanos());
         switch (inputDataType) {
             case SEARCH_QUERY:
+                MLTask mlTask = createPredictTask(modelId, mlInput);
                 ActionListener<MLInputDataset> dataFrameActionListener = ActionListener.wrap(dataSet -> {
                     MLInput newInput = mlInput.toBuilder().inputDataset(dataSet).build();
                     predict(modelId, mlTask, newInput, listener);
@@ -191,22 +206,158 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             case DATA_FRAME:
             case TEXT_DOCS:
             default:
-                threadPool.executor(PREDICT_THREAD_POOL).execute(() -> { predict(modelId, mlTask, mlInput, listener); });
+                threadPool.executor(PREDICT_THREAD_POOL).execute(() -> {
+                    if (failIfExpired(modelId, request.getDeadlineInNanos(), listener)) {
+                        return;
+                    }
+                    Predictable predictor = modelId == null ? null : mlModelManager.getPredictor(modelId);
+                    if (predictor != null) {
+                        predictDeployedModel(modelId, predictor, mlInput, listener);
+                    } else {
+                        predict(modelId, createPredictTask(modelId, mlInput), mlInput, listener);
+                    }
+                });
                 break;
         }
     }
 
-    private void predict(String modelId, MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
-        ActionListener<MLTaskResponse> internalListener = wrappedCleanupListener(listener, mlTask.getTaskId());
-        // track ML task count and add ML task into cache
+    private MLTask createPredictTask(String modelId, MLInput mlInput) {
+        Instant now = Instant.now();
+        return MLTask
+            .builder()
+            .taskId(UUID.randomUUID().toString())
+            .modelId(modelId)
+            .taskType(MLTaskType.PREDICTION)
+            .inputType(mlInput.getInputDataset().getInputDataType())
+            .functionName(mlInput.getFunctionName())
+            .state(MLTaskState.CREATED)
+            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
+            .createTime(now)
+            .lastUpdateTime(now)
+            .async(false)
+            .build();
+    }
+
+    /**
+     * Fast path of sync predict with a model deployed on this node. No ML task is created or added to task cache,
+     * the running request is only counted in {@link MLTaskManager} without locking.
+     */
+    private void predictDeployedModel(String modelId, Predictable predictor, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
+        ActionListener<MLTaskResponse> internalListener = ActionListener.runAfter(listener, () -> {
+            mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).decrement();
+            mlTaskManager.removeRunningSyncPredict(modelId);
+        });
+        trackPredictRequest(modelId, mlInput.getFunctionName());
+        mlTaskManager.addRunningSyncPredict(modelId);
+        runDeployedModel(modelId, predictor, mlInput, internalListener);
+    }
+
+    private void trackPredictRequest(String modelId, FunctionName functionName) {
         mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
         mlStats.getStat(MLNodeLevelStat.ML_REQUEST_COUNT).increment();
-        mlStats
-            .createCounterStatIfAbsent(mlTask.getFunctionName(), ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REQUEST_COUNT)
-            .increment();
+        mlStats.createCounterStatIfAbsent(functionName, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REQUEST_COUNT).increment();
         if (modelId != null) {
             mlStats.createModelCounterStatIfAbsent(modelId, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REQUEST_COUNT).increment();
         }
+    }
+
+    private void runDeployedModel(String modelId, Predictable predictor, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
+        try {
+            if (!predictor.isModelReady()) {
+                throw new IllegalArgumentException("Model not ready: " + modelId);
+            }
+            // Output of a coalesced request may be completed by the thread running the same request of another user.
+            ActionListener<MLOutput> responseListener = ActionListener
+                .wrap(output -> listener.onResponse(MLTaskResponse.builder().output(output).build()), listener::onFailure);
+            ActionListener<MLOutput> outputListener = ContextPreservingActionListener
+                .wrapPreservingContext(responseListener, threadPool.getThreadContext());
+            FunctionName functionName = mlInput.getAlgorithm();
+            // Requests joining a running identical request get its result without looking up the result cache.
+            predictRequestCoalescer
+                .predict(
+                    modelId,
+                    functionName,
+                    mlInput,
+                    outputListener,
+                    it -> embeddingResultCache
+                        .predict(modelId, functionName, mlInput, it, (input, l) -> runAdmittedInference(modelId, predictor, input, l))
+                );
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Run inference within the concurrency limit of the model. Requests beyond the limit wait in the queue of the
+     * model without holding a predict thread, requests beyond the queue are rejected.
+     */
+    private void runAdmittedInference(String modelId, Predictable predictor, MLInput mlInput, ActionListener<MLOutput> listener) {
+        MLModelBulkhead bulkhead = mlModelManager.getBulkhead(modelId);
+        if (bulkhead == null) {
+            runInference(modelId, predictor, mlInput, listener);
+            return;
+        }
+        ActionListener<MLOutput> releasingListener = ActionListener.notifyOnce(ActionListener.runAfter(listener, bulkhead::release));
+        // A queued request is started by the thread releasing its slot, so it runs in the context of this request.
+        Supplier<ThreadContext.StoredContext> context = threadPool.getThreadContext().newRestorableContext(false);
+        AbstractRunnable inference = new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                releasingListener.onFailure(e);
+            }
+
+            @Override
+            protected void doRun() {
+                try (ThreadContext.StoredContext ignored = context.get()) {
+                    if (failIfExpired(modelId, mlInput.getDeadlineInNanos(), releasingListener)) {
+                        return;
+                    }
+                    runInference(modelId, predictor, mlInput, releasingListener);
+                }
+            }
+        };
+        if (!bulkhead.execute(inference, threadPool.executor(PREDICT_THREAD_POOL))) {
+            FunctionName functionName = mlInput.getAlgorithm();
+            mlStats.createCounterStatIfAbsent(functionName, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REJECTED_COUNT).increment();
+            mlStats.createModelCounterStatIfAbsent(modelId, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REJECTED_COUNT).increment();
+            listener
+                .onFailure(
+                    new MLLimitExceededException(
+                        "Too many predict requests of model " + modelId + " on node " + clusterService.localNode().getId()
+                    )
+                );
+        }
+    }
+
+    /**
+     * Fail request whose deadline passed before its inference started, as the caller doesn't wait for the result any more.
+     * @return true if the request expired
+     */
+    private boolean failIfExpired(String modelId, Long deadlineInNanos, ActionListener<?> listener) {
+        if (deadlineInNanos == null || deadlineInNanos - System.nanoTime() > 0) {
+            return false;
+        }
+        mlStats.getStat(MLNodeLevelStat.ML_EXPIRED_PREDICT_REQUEST_COUNT).increment();
+        listener.onFailure(new OpenSearchTimeoutException("Predict request of model " + modelId + " expired before execution"));
+        return true;
+    }
+
+    private void runInference(String modelId, Predictable predictor, MLInput mlInput, ActionListener<MLOutput> listener) {
+        // Remote models don't block predict thread, the listener is completed from the http I/O callback.
+        long startTime = System.nanoTime();
+        mlEngine.predictAsync(mlInput, predictor, ActionListener.wrap(output -> {
+            mlModelManager.trackPredictDuration(modelId, startTime);
+            if (output instanceof MLPredictionOutput) {
+                ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+            }
+            listener.onResponse(output);
+        }, listener::onFailure));
+    }
+
+    private void predict(String modelId, MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
+        ActionListener<MLTaskResponse> internalListener = wrappedCleanupListener(listener, mlTask.getTaskId());
+        // track ML task count and add ML task into cache
+        trackPredictRequest(modelId, mlTask.getFunctionName());
         mlTask.setState(MLTaskState.RUNNING);
         mlTaskManager.add(mlTask);
 
@@ -215,24 +366,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         if (modelId != null) {
             Predictable predictor = mlModelManager.getPredictor(modelId);
             if (predictor != null) {
-                try {
-                    if (!predictor.isModelReady()) {
-                        throw new IllegalArgumentException("Model not ready: " + modelId);
-                    }
-                    MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
-                    if (output instanceof MLPredictionOutput) {
-                        ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
-                    }
-
-                    // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                    handleAsyncMLTaskComplete(mlTask);
-                    MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                    internalListener.onResponse(response);
-                    return;
-                } catch (Exception e) {
-                    handlePredictFailure(mlTask, internalListener, e, false, modelId);
-                    return;
-                }
+                // Predict tasks are sync, there is no task state to update once prediction completes.
+                runDeployedModel(modelId, predictor, mlInput, internalListener);
+                return;
             } else if (algorithm == FunctionName.TEXT_EMBEDDING || algorithm == FunctionName.REMOTE) {
                 throw new IllegalArgumentException("Model not ready to be used: " + modelId);
             }
@@ -268,7 +404,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                         if (mlTaskManager.contains(mlTask.getTaskId())) {
                             mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
                         }
-                        MLOutput output = mlEngine.predict(mlInput, mlModel);
+                        MLOutput output = mlEngine.predict(mlInput, mlModel, getResponse.getVersion(), predictableCache);
                         if (output instanceof MLPredictionOutput) {
                             ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
                         }
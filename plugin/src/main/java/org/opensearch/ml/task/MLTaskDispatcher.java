@@ -6,12 +6,14 @@
 package org.opensearch.ml.task;
 
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOCAL_NODE_MAX_EXECUTING_TASKS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_PREFER_LOCAL_NODE;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import javax.naming.LimitExceededException;
 
@@ -20,7 +22,6 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.ml.action.stats.MLStatsNodeResponse;
 import org.opensearch.ml.action.stats.MLStatsNodesAction;
 import org.opensearch.ml.action.stats.MLStatsNodesRequest;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
@@ -46,7 +47,11 @@ public class MLTaskDispatcher {
     private AtomicInteger nextNode;
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
+    private volatile Long loadRefreshIntervalInMillis;
+    private volatile boolean preferLocalNode;
+    private volatile Integer localNodeMaxExecutingTasks;
     private DiscoveryNodeHelper nodeHelper;
+    private final MLNodeLoadView nodeLoadView;
 
     public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
         this.clusterService = clusterService;
@@ -55,8 +60,29 @@ public class MLTaskDispatcher {
         this.maxMLBatchTaskPerNode = ML_COMMONS_MAX_ML_TASK_PER_NODE.get(settings);
         this.nextNode = new AtomicInteger(0);
         this.dispatchPolicy = ML_COMMONS_TASK_DISPATCH_POLICY.get(settings);
+        this.loadRefreshIntervalInMillis = ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS.get(settings);
+        this.preferLocalNode = ML_COMMONS_TASK_DISPATCH_PREFER_LOCAL_NODE.get(settings);
+        this.localNodeMaxExecutingTasks = ML_COMMONS_TASK_DISPATCH_LOCAL_NODE_MAX_EXECUTING_TASKS.get(settings);
+        this.nodeLoadView = new MLNodeLoadView();
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_POLICY, it -> dispatchPolicy = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_ML_TASK_PER_NODE, it -> maxMLBatchTaskPerNode = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS, it -> loadRefreshIntervalInMillis = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_PREFER_LOCAL_NODE, it -> preferLocalNode = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_LOCAL_NODE_MAX_EXECUTING_TASKS, it -> localNodeMaxExecutingTasks = it);
+    }
+
+    /**
+     * Remove cached load of nodes which left the cluster.
+     * @param removedNodeIds removed node ids
+     */
+    public void removeNodeLoads(Set<String> removedNodeIds) {
+        nodeLoadView.removeNodes(removedNodeIds);
     }
 
     /**
@@ -90,6 +116,31 @@ public class MLTaskDispatcher {
         }
     }
 
+    /**
+     * Dispatch predict request to local node if it's one of the worker nodes and executes fewer ML tasks than the local
+     * node limit, which saves a transport hop and serialization of the input. Otherwise dispatch to the other worker
+     * nodes with the dispatch policy, local node is only picked again if it's the only worker node.
+     * @param nodeIds worker node ids
+     * @param localExecutingTasks count of ML tasks executing on local node
+     * @param actionListener action listener
+     */
+    public void dispatchPredictTask(String[] nodeIds, long localExecutingTasks, ActionListener<DiscoveryNode> actionListener) {
+        if (nodeIds == null || nodeIds.length == 0) {
+            throw new IllegalArgumentException("no eligible node to run predict request");
+        }
+        DiscoveryNode localNode = clusterService.localNode();
+        if (preferLocalNode && Arrays.asList(nodeIds).contains(localNode.getId())) {
+            if (localExecutingTasks < localNodeMaxExecutingTasks) {
+                actionListener.onResponse(localNode);
+                return;
+            }
+            if (nodeIds.length > 1) {
+                nodeIds = Arrays.stream(nodeIds).filter(nodeId -> !localNode.getId().equals(nodeId)).toArray(String[]::new);
+            }
+        }
+        dispatchPredictTask(nodeIds, actionListener);
+    }
+
     private <T> void dispatchTaskWithRoundRobin(T[] nodes, ActionListener<T> listener) {
         int currentNode = nextNode.getAndIncrement();
         if (currentNode > nodes.length - 1) {
@@ -104,59 +155,36 @@ public class MLTaskDispatcher {
         dispatchTaskWithLeastLoad(nodes, listener);
     }
 
+    /**
+     * Pick the less loaded of two random nodes from the locally cached load view. Node load is refreshed in
+     * background when it's stale, so no request waits for stats of other nodes.
+     */
     private void dispatchTaskWithLeastLoad(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
-        MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
-        MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-
-        client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
-            // Check JVM pressure
-            List<MLStatsNodeResponse> candidateNodeResponse = mlStatsResponse
-                .getNodes()
-                .stream()
-                .filter(stat -> (long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE) < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
-                .collect(Collectors.toList());
-
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' memory usage exceeds limitation "
-                    + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
-                    + ". No eligible node available to run ml jobs ";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
-            }
-
-            // Check # of executing ML task
-            candidateNodeResponse = candidateNodeResponse
-                .stream()
-                .filter(stat -> (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT) < maxMLBatchTaskPerNode)
-                .collect(Collectors.toList());
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' executing ML task count reach limitation.";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
-            }
+        refreshNodeLoad(nodes);
+        try {
+            listener.onResponse(nodeLoadView.choose(nodes, maxMLBatchTaskPerNode, DEFAULT_JVM_HEAP_USAGE_THRESHOLD));
+        } catch (LimitExceededException e) {
+            log.warn(e.getMessage());
+            listener.onFailure(e);
+        }
+    }
 
-            // sort nodes by JVM usage percentage and # of executing ML task
-            Optional<MLStatsNodeResponse> targetNode = candidateNodeResponse
-                .stream()
-                .sorted((MLStatsNodeResponse r1, MLStatsNodeResponse r2) -> {
-                    int result = ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT))
-                        .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT));
-                    if (result == 0) {
-                        // if multiple nodes have same running task count, choose the one with least
-                        // JVM heap usage.
-                        return ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE))
-                            .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-                    }
-                    return result;
-                })
-                .findFirst();
-            listener.onResponse(targetNode.get().getNode());
-        }, exception -> {
-            log.error("Failed to get node's task stats", exception);
-            listener.onFailure(exception);
-        }));
+    private void refreshNodeLoad(DiscoveryNode[] nodes) {
+        DiscoveryNode[] staleNodes = nodeLoadView.getStaleNodes(nodes, loadRefreshIntervalInMillis);
+        if (staleNodes.length == 0 || !nodeLoadView.startRefresh()) {
+            return;
+        }
+        MLStatsNodesRequest statsRequest = new MLStatsNodesRequest(staleNodes);
+        statsRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
+        try {
+            client.execute(MLStatsNodesAction.INSTANCE, statsRequest, ActionListener.wrap(nodeLoadView::update, exception -> {
+                log.error("Failed to get node's task stats", exception);
+                nodeLoadView.refreshFailed();
+            }));
+        } catch (Exception e) {
+            log.error("Failed to refresh node's task stats", e);
+            nodeLoadView.refreshFailed();
+        }
     }
 
     private void dispatchTaskWithLeastLoad(FunctionName functionName, ActionListener<DiscoveryNode> listener) {
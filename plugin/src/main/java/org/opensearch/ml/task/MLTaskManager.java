@@ -6,6 +6,7 @@
 package org.opensearch.ml.task;
 
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.DEPLOY_PHASE_TIMINGS_FIELD;
 import static org.opensearch.ml.common.MLTask.LAST_UPDATE_TIME_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
@@ -22,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
@@ -61,6 +63,9 @@ public class MLTaskManager {
     private final ThreadPool threadPool;
     private final MLIndicesHandler mlIndicesHandler;
     private final Map<MLTaskType, AtomicInteger> runningTasksCount;
+    // Sync predict requests of deployed models are not added to task cache, they are only counted per model.
+    private final Map<String, LongAdder> runningSyncPredictCount;
+    private final LongAdder totalRunningSyncPredictCount;
 
     public static final ImmutableSet TASK_DONE_STATES = ImmutableSet
         .of(MLTaskState.COMPLETED, MLTaskState.COMPLETED_WITH_ERROR, MLTaskState.FAILED, MLTaskState.CANCELLED);
@@ -77,6 +82,8 @@ public class MLTaskManager {
         this.mlIndicesHandler = mlIndicesHandler;
         taskCaches = new ConcurrentHashMap<>();
         runningTasksCount = new ConcurrentHashMap<>();
+        runningSyncPredictCount = new ConcurrentHashMap<>();
+        totalRunningSyncPredictCount = new LongAdder();
     }
 
     public synchronized void checkLimitAndAddRunningTask(MLTask mlTask, Integer limit) {
@@ -197,12 +204,64 @@ public class MLTaskManager {
     }
 
     /**
-     * Get running task count in cache.
+     * Track start of a sync predict request of deployed model. Unlike {@link #add(MLTask)}, no ML task is created and
+     * no lock is taken, so concurrent predict requests don't contend on task cache.
+     *
+     * @param modelId model id
+     */
+    public void addRunningSyncPredict(String modelId) {
+        // Update inside compute, so the count can't be removed by undeploy between lookup and increment.
+        runningSyncPredictCount.compute(modelId, (id, count) -> {
+            LongAdder runningCount = count == null ? new LongAdder() : count;
+            runningCount.increment();
+            totalRunningSyncPredictCount.increment();
+            return runningCount;
+        });
+    }
+
+    /**
+     * Track end of a sync predict request added by {@link #addRunningSyncPredict(String)}.
+     *
+     * @param modelId model id
+     */
+    public void removeRunningSyncPredict(String modelId) {
+        runningSyncPredictCount.computeIfPresent(modelId, (id, count) -> {
+            count.decrement();
+            totalRunningSyncPredictCount.decrement();
+            return count;
+        });
+    }
+
+    /**
+     * Stop tracking sync predict requests of undeployed model. Requests still running are no longer counted.
+     *
+     * @param modelId model id
+     */
+    public void clearRunningSyncPredict(String modelId) {
+        LongAdder count = runningSyncPredictCount.remove(modelId);
+        if (count != null) {
+            totalRunningSyncPredictCount.add(-count.sum());
+        }
+    }
+
+    /**
+     * Get running sync predict request count of model.
+     *
+     * @param modelId model id
+     * @return running sync predict request count
+     */
+    public long getRunningSyncPredictCount(String modelId) {
+        LongAdder count = runningSyncPredictCount.get(modelId);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Get running task count in cache, including running sync predict requests.
      *
      * @return running task count
      */
     public int getRunningTaskCount() {
-        int res = 0;
+        int res = (int) totalRunningSyncPredictCount.sum();
         for (Map.Entry<String, MLTaskCache> entry : taskCaches.entrySet()) {
             MLTask mlTask = entry.getValue().getMlTask();
             if (mlTask.getState() != null && mlTask.getState() == MLTaskState.RUNNING) {
@@ -373,7 +432,36 @@ public class MLTaskManager {
         }
     }
 
+    /**
+     * Add deploy phase timings of one worker node to deploy model task. Worker nodes of the same task update it
+     * concurrently, so the update retries on version conflict.
+     *
+     * @param taskId deploy model task id
+     * @param nodeId worker node id
+     * @param deployPhaseTimings time of each deploy phase in milliseconds
+     */
+    public void updateDeployPhaseTimings(String taskId, String nodeId, Map<String, Long> deployPhaseTimings) {
+        try {
+            UpdateRequest updateRequest = new UpdateRequest(ML_TASK_INDEX, taskId);
+            Map<String, Object> updatedContent = new HashMap<>();
+            updatedContent.put(DEPLOY_PHASE_TIMINGS_FIELD, ImmutableMap.of(nodeId, new HashMap<>(deployPhaseTimings)));
+            updatedContent.put(LAST_UPDATE_TIME_FIELD, Instant.now().toEpochMilli());
+            updateRequest.doc(updatedContent);
+            updateRequest.retryOnConflict(3);
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                client.update(updateRequest, ActionListener.runBefore(ActionListener.wrap(r -> {
+                    log.debug("Updated deploy phase timings of node {} in ML task {}", nodeId, taskId);
+                }, e -> { log.error("Failed to update deploy phase timings of ML task " + taskId, e); }), context::restore));
+            }
+        } catch (Exception e) {
+            log.error("Failed to update deploy phase timings of ML task " + taskId, e);
+        }
+    }
+
     public boolean containsModel(String modelId) {
+        if (getRunningSyncPredictCount(modelId) > 0) {
+            return true;
+        }
         for (Map.Entry<String, MLTaskCache> entry : taskCaches.entrySet()) {
             if (modelId.equals(entry.getValue().mlTask.getModelId())) {
                 return true;
@@ -17,10 +17,15 @@ import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
@@ -35,7 +40,28 @@ public class MLNodeUtils {
 
     public static XContentParser createXContentParserFromRegistry(NamedXContentRegistry xContentRegistry, BytesReference bytesReference)
         throws IOException {
-        return XContentHelper.createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, bytesReference, XContentType.JSON);
+        // model chunk docs are stored in CBOR, other docs in JSON
+        MediaType mediaType = MediaTypeRegistry.xContentType(bytesReference);
+        return XContentHelper
+            .createParser(
+                xContentRegistry,
+                LoggingDeprecationHandler.INSTANCE,
+                bytesReference,
+                mediaType == null ? XContentType.JSON : mediaType
+            );
+    }
+
+    /**
+     * Create source of model chunk doc. In binary format chunk content is stored as raw bytes in CBOR, rather than as a
+     * Base64 string in JSON which is a third larger and has to be decoded on every read. Nodes of old versions can only
+     * read JSON chunks.
+     * @param modelChunk model chunk doc
+     * @param binary store chunk in binary format
+     * @return source of model chunk doc
+     */
+    public static XContentBuilder createModelChunkSource(MLModel modelChunk, boolean binary) throws IOException {
+        XContentType xContentType = binary ? XContentType.CBOR : XContentType.JSON;
+        return modelChunk.toXContent(XContentBuilder.builder(xContentType.xContent()), ToXContent.EMPTY_PARAMS);
     }
 
     public static void parseArrayField(XContentParser parser, Set<String> set) throws IOException {
@@ -48,6 +48,7 @@ public class RestActionUtils {
 
     public static final String PARAMETER_ALGORITHM = "algorithm";
     public static final String PARAMETER_ASYNC = "async";
+    public static final String PARAMETER_TIMEOUT = "timeout";
     public static final String PARAMETER_RETURN_CONTENT = "return_content";
     public static final String PARAMETER_MODEL_ID = "model_id";
     public static final String PARAMETER_AGENT_ID = "agent_id";
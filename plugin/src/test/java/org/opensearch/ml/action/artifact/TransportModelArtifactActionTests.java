@@ -0,0 +1,207 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.when;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodeRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesResponse;
+import org.opensearch.ml.engine.ModelArtifactCache;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.suppliers.CounterSupplier;
+import org.opensearch.transport.TransportService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TransportModelArtifactActionTests {
+
+    private static final String HASH = "c446f747520bcc6af053813cb1e8d34944a7c4686bbb405aeaa23883b5a806c8";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Mock
+    private TransportService transportService;
+
+    @Mock
+    private ActionFilters actionFilters;
+
+    @Mock
+    private MLModelManager mlModelManager;
+
+    @Mock
+    private ClusterService clusterService;
+
+    private ModelArtifactCache artifactCache;
+
+    private TransportModelArtifactAction action;
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() throws Exception {
+        MLStat<Long> executingTaskCount = new MLStat<>(false, new CounterSupplier());
+        executingTaskCount.increment();
+        executingTaskCount.increment();
+        Map<Enum, MLStat<?>> stats = new HashMap<>();
+        stats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, executingTaskCount);
+        MLStats mlStats = new MLStats(stats);
+        action = new TransportModelArtifactAction(transportService, actionFilters, mlModelManager, clusterService, null, mlStats);
+
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+
+        artifactCache = new ModelArtifactCache(tempFolder.newFolder("artifacts").toPath(), 1024);
+        Path modelPath = tempFolder.newFolder("model").toPath();
+        Files.write(modelPath.resolve("model.pt"), "0123456789".getBytes(StandardCharsets.UTF_8));
+        artifactCache.put(HASH, "modelId", modelPath);
+    }
+
+    @Test
+    public void testNewResponse() {
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("Local Cluster"));
+        MLModelArtifactNodesRequest nodesRequest = new MLModelArtifactNodesRequest(new String[] { "foo0" }, HASH, "modelId");
+        MLModelArtifactNodesResponse response = action.newResponse(nodesRequest, List.of(), List.of());
+        assertEquals(0, response.getNodes().size());
+    }
+
+    @Test
+    public void testNodeOperation_Probe() {
+        mockNodeOperation();
+        MLModelArtifactNodesRequest nodesRequest = new MLModelArtifactNodesRequest(new String[] { "foo0" }, HASH, "modelId");
+        MLModelArtifactNodeResponse response = action.nodeOperation(action.newNodeRequest(nodesRequest));
+        assertEquals(Map.of("model.pt", 10L), response.getFiles());
+        assertEquals(
+            Map.of("model.pt", "84d89877f0d4041efb6bf91a16f0248f2fd573e6af05c19f96bedb9f882f7882"),
+            response.getFileHashes()
+        );
+        assertEquals(2L, response.getLoad());
+        assertNull(response.getContent());
+    }
+
+    @Test
+    public void testNodeOperation_ProbeNotCached() {
+        mockNodeOperation();
+        String[] nodeIds = new String[] { "foo0" };
+        MLModelArtifactNodesRequest nodesRequest = new MLModelArtifactNodesRequest(nodeIds, "0123456789abcdef", "modelId");
+        MLModelArtifactNodeResponse response = action.nodeOperation(new MLModelArtifactNodeRequest(nodesRequest));
+        assertNull(response.getFiles());
+        assertNull(response.getFileHashes());
+    }
+
+    @Test
+    public void testNodeOperation_ProbeOtherModel() {
+        mockNodeOperation();
+        MLModelArtifactNodesRequest nodesRequest = new MLModelArtifactNodesRequest(new String[] { "foo0" }, HASH, "otherModelId");
+        MLModelArtifactNodeResponse response = action.nodeOperation(new MLModelArtifactNodeRequest(nodesRequest));
+        // artifact is only served to models whose own content matched it
+        assertNull(response.getFiles());
+        assertNull(response.getFileHashes());
+    }
+
+    @Test
+    public void testNodeOperation_ReadOtherModel() {
+        when(mlModelManager.getModelArtifactCache()).thenReturn(artifactCache);
+        MLModelArtifactNodesRequest nodesRequest = new MLModelArtifactNodesRequest(
+            new String[] { "foo0" },
+            HASH,
+            "otherModelId",
+            "model.pt",
+            0,
+            100
+        );
+        assertThrows(IllegalArgumentException.class, () -> action.nodeOperation(new MLModelArtifactNodeRequest(nodesRequest)));
+    }
+
+    @Test
+    public void testNodeOperation_ProbeCacheDisabled() {
+        mockNodeOperation();
+        artifactCache.setMaxSizeInBytes(0);
+        MLModelArtifactNodesRequest nodesRequest = new MLModelArtifactNodesRequest(new String[] { "foo0" }, HASH, "modelId");
+        MLModelArtifactNodeResponse response = action.nodeOperation(new MLModelArtifactNodeRequest(nodesRequest));
+        assertNull(response.getFiles());
+    }
+
+    @Test
+    public void testNodeOperation_Read() {
+        mockNodeOperation();
+        String[] nodeIds = new String[] { "foo0" };
+        MLModelArtifactNodesRequest nodesRequest = new MLModelArtifactNodesRequest(nodeIds, HASH, "modelId", "model.pt", 4, 100);
+        MLModelArtifactNodeResponse response = action.nodeOperation(new MLModelArtifactNodeRequest(nodesRequest));
+        assertArrayEquals("456789".getBytes(StandardCharsets.UTF_8), BytesReference.toBytes(response.getContent()));
+    }
+
+    @Test
+    public void testNodeOperation_ReadInvalidFile() {
+        when(mlModelManager.getModelArtifactCache()).thenReturn(artifactCache);
+        MLModelArtifactNodesRequest nodesRequest = new MLModelArtifactNodesRequest(
+            new String[] { "foo0" },
+            HASH,
+            "modelId",
+            ModelArtifactCache.MANIFEST_FILE,
+            0,
+            100
+        );
+        assertThrows(IllegalArgumentException.class, () -> action.nodeOperation(new MLModelArtifactNodeRequest(nodesRequest)));
+    }
+
+    @Test
+    public void testNewNodeResponse() throws IOException {
+        Map<String, String> fileHashes = Map.of("model.pt", "hash");
+        MLModelArtifactNodeResponse response = new MLModelArtifactNodeResponse(localNode, Map.of("model.pt", 10L), fileHashes, 1L, null);
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLModelArtifactNodeResponse newResponse = action.newNodeResponse(output.bytes().streamInput());
+        assertEquals(Map.of("model.pt", 10L), newResponse.getFiles());
+        assertEquals(Map.of("model.pt", "hash"), newResponse.getFileHashes());
+        assertEquals(1L, newResponse.getLoad());
+    }
+
+    private void mockNodeOperation() {
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(mlModelManager.getModelArtifactCache()).thenReturn(artifactCache);
+    }
+}
@@ -119,6 +119,7 @@ public class DeleteModelGroupTransportActionTests extends OpenSearchTestCase {
 
         deleteModelGroupTransportAction.doExecute(null, mlModelGroupDeleteRequest, actionListener);
         verify(actionListener).onResponse(deleteResponse);
+        verify(modelAccessControlHelper).invalidateModelGroupCacheOnAllNodes("test_id", client);
     }
 
     public void test_AssociatedModelsExistException() throws IOException {
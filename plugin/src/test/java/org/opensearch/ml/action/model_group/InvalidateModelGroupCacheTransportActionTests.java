@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.model_group;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodeRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodesResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.transport.TransportService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InvalidateModelGroupCacheTransportActionTests {
+
+    @Mock
+    private TransportService transportService;
+
+    @Mock
+    private ActionFilters actionFilters;
+
+    @Mock
+    private ClusterService clusterService;
+
+    @Mock
+    private ModelAccessControlHelper modelAccessControlHelper;
+
+    private InvalidateModelGroupCacheTransportAction action;
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() {
+        action = new InvalidateModelGroupCacheTransportAction(
+            transportService,
+            actionFilters,
+            clusterService,
+            null,
+            modelAccessControlHelper
+        );
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testNodeOperation() {
+        when(clusterService.localNode()).thenReturn(localNode);
+        MLModelGroupCacheInvalidateNodesRequest nodesRequest = new MLModelGroupCacheInvalidateNodesRequest(
+            new String[] { "foo0" },
+            "testModelGroupId"
+        );
+        MLModelGroupCacheInvalidateNodeResponse response = action
+            .nodeOperation(new MLModelGroupCacheInvalidateNodeRequest(nodesRequest));
+        verify(modelAccessControlHelper).invalidateModelGroupCache("testModelGroupId");
+        assertEquals(localNode, response.getNode());
+    }
+
+    @Test
+    public void testNewResponse() {
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("Local Cluster"));
+        MLModelGroupCacheInvalidateNodesRequest nodesRequest = new MLModelGroupCacheInvalidateNodesRequest(
+            new String[] { "foo0" },
+            "testModelGroupId"
+        );
+        List<MLModelGroupCacheInvalidateNodeResponse> responses = new ArrayList<>();
+        responses.add(new MLModelGroupCacheInvalidateNodeResponse(localNode));
+        List<FailedNodeException> failures = new ArrayList<>();
+        MLModelGroupCacheInvalidateNodesResponse response = action.newResponse(nodesRequest, responses, failures);
+        assertEquals(1, response.getNodes().size());
+    }
+}
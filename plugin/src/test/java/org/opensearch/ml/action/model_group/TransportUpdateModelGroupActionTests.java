@@ -293,6 +293,7 @@ public class TransportUpdateModelGroupActionTests extends OpenSearchTestCase {
         transportUpdateModelGroupAction.doExecute(task, actionRequest, actionListener);
         ArgumentCaptor<MLUpdateModelGroupResponse> argumentCaptor = ArgumentCaptor.forClass(MLUpdateModelGroupResponse.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
+        verify(modelAccessControlHelper).invalidateModelGroupCacheOnAllNodes(any(), any());
     }
 
     public void test_SuccessRestricedWithOwnerAsUser() {
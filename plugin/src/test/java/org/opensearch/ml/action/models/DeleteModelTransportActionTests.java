@@ -50,6 +50,7 @@ import org.opensearch.index.reindex.ScrollableHitSource;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
+import org.opensearch.ml.engine.PredictableCache;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.test.OpenSearchTestCase;
@@ -98,6 +99,9 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
     @Mock
     private ModelAccessControlHelper modelAccessControlHelper;
 
+    @Mock
+    private PredictableCache predictableCache;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -113,7 +117,8 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
                 settings,
                 xContentRegistry,
                 clusterService,
-                modelAccessControlHelper
+                modelAccessControlHelper,
+                predictableCache
             )
         );
 
@@ -152,6 +157,7 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
 
         deleteModelTransportAction.doExecute(null, mlModelDeleteRequest, actionListener);
         verify(actionListener).onResponse(deleteResponse);
+        verify(predictableCache).invalidate("test_id");
     }
 
     public void testDeleteHiddenModel_Success() throws IOException {
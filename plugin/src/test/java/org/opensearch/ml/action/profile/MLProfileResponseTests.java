@@ -79,6 +79,30 @@ public class MLProfileResponseTests extends OpenSearchTestCase {
         Assert.assertEquals(newResponse.getNodes().size(), mlTaskProfileResponse.getNodes().size());
     }
 
+    public void testSerializationDeserialization_ClusterModelProfiles() throws IOException {
+        Map<String, MLModelProfile> clusterModelProfiles = new HashMap<>();
+        clusterModelProfiles.put("model1", mlModelProfile);
+        ClusterName clusterName = new ClusterName("test");
+        MLProfileResponse response = new MLProfileResponse(clusterName, new ArrayList<>(), new ArrayList<>(), clusterModelProfiles);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLProfileResponse newResponse = new MLProfileResponse(output.bytes().streamInput());
+        assertEquals(1, newResponse.getClusterModelProfiles().size());
+        assertEquals(10L, newResponse.getClusterModelProfiles().get("model1").getModelInferenceStats().getCount().longValue());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        builder.startObject();
+        newResponse.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        assertEquals(
+            "{\"nodes\":{},\"cluster_model_stats\":{\"model1\":{\"model_state\":\"DEPLOYED\",\"predictor\":\"test_predictor\","
+                + "\"worker_nodes\":[\"node1\",\"node2\"],\"model_inference_stats\":{\"count\":10,\"max\":20.0,"
+                + "\"min\":5.0,\"average\":11.0}}}}",
+            TestHelper.xContentBuilderToString(builder)
+        );
+    }
+
     public void testToXContent() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
         ClusterName clusterName = new ClusterName("test");
@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.action.profile;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Assert;
@@ -33,6 +36,7 @@ import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.profile.MLLatencyRecorder;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 import org.opensearch.ml.profile.MLProfileInput;
@@ -41,6 +45,8 @@ import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.transport.TransportService;
 
+import com.google.common.collect.ImmutableMap;
+
 public class MLProfileTransportActionTests extends OpenSearchIntegTestCase {
     private MLProfileTransportAction action;
     private Environment environment;
@@ -94,7 +100,7 @@ public class MLProfileTransportActionTests extends OpenSearchIntegTestCase {
         testModelId = "test_model_id";
         mlModelManager = mock(MLModelManager.class);
         when(mlModelManager.getAllModelIds()).thenReturn(new String[] { testModelId });
-        when(mlModelManager.getModelProfile(testModelId)).thenReturn(mlModelProfile);
+        when(mlModelManager.getModelProfile(eq(testModelId), any())).thenReturn(mlModelProfile);
 
         action = new MLProfileTransportAction(
             client().threadPool(),
@@ -115,6 +121,47 @@ public class MLProfileTransportActionTests extends OpenSearchIntegTestCase {
         assertNotNull(mlProfileResponse.getNodes());
     }
 
+    public void testNewResponse_MergeModelStats() {
+        MLLatencyRecorder recorder1 = new MLLatencyRecorder();
+        MLLatencyRecorder recorder2 = new MLLatencyRecorder();
+        for (int i = 1; i <= 10; i++) {
+            recorder1.record(i, 60_000);
+            recorder2.record(i + 10, 60_000);
+        }
+        DiscoveryNode node1 = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode node2 = new DiscoveryNode("node2", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode node3 = new DiscoveryNode("node3", buildNewFakeTransportAddress(), Version.CURRENT);
+        MLModelProfile profile1 = MLModelProfile
+            .builder()
+            .modelInferenceStats(MLPredictRequestStats.fromHistogram(recorder1.snapshot(60_000)))
+            .build();
+        MLModelProfile profile2 = MLModelProfile
+            .builder()
+            .modelInferenceStats(MLPredictRequestStats.fromHistogram(recorder2.snapshot(60_000)))
+            .build();
+        String partialModelId = "partial_model_id";
+        List<MLProfileNodeResponse> responses = Arrays
+            .asList(
+                new MLProfileNodeResponse(node1, new HashMap<>(), ImmutableMap.of(testModelId, profile1, partialModelId, profile1)),
+                new MLProfileNodeResponse(node2, new HashMap<>(), ImmutableMap.of(testModelId, profile2, partialModelId, mlModelProfile)),
+                new MLProfileNodeResponse(node3, new HashMap<>(), null)
+            );
+        MLProfileRequest request = new MLProfileRequest(new String[] { "node1", "node2", "node3" }, new MLProfileInput());
+
+        MLProfileResponse mlProfileResponse = action.newResponse(request, responses, new ArrayList<>());
+        MLPredictRequestStats stats = mlProfileResponse.getClusterModelProfiles().get(testModelId).getModelInferenceStats();
+        assertEquals(20, stats.getCount().longValue());
+        assertEquals(1.0, stats.getMin(), 1e-5);
+        assertEquals(20.0, stats.getMax(), 1e-5);
+        assertEquals(10.5, stats.getAverage(), 1e-5);
+        assertEquals(10.0, stats.getPercentile(50), 0.5);
+        assertEquals(20.0, stats.getPercentile(99), 0.5);
+        assertNull(mlProfileResponse.getClusterModelProfiles().get(testModelId).getPredictRequestStats());
+        // stats without histogram are not merged
+        stats = mlProfileResponse.getClusterModelProfiles().get(partialModelId).getModelInferenceStats();
+        assertEquals(10, stats.getCount().longValue());
+    }
+
     public void testNewNodeRequest() {
         String nodeId = "nodeId1";
         MLProfileRequest mlTaskProfileRequest = new MLProfileRequest(new String[] { nodeId }, new MLProfileInput());
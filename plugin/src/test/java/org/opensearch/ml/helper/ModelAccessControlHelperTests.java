@@ -7,6 +7,7 @@ package org.opensearch.ml.helper;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
@@ -20,8 +21,13 @@ import org.junit.Before;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -39,6 +45,8 @@ import org.opensearch.ml.common.AccessMode;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.MLModelGroup.MLModelGroupBuilder;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupCacheInvalidateNodesRequest;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -161,6 +169,63 @@ public class ModelAccessControlHelperTests extends OpenSearchTestCase {
         assertFalse(argumentCaptor.getValue());
     }
 
+    public void test_CachedAccessDecision() throws IOException {
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PRIVATE.getValue(), Arrays.asList("IT", "HR"));
+        User user = User.parse("owner|IT,HR|myTenant");
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        verify(client, times(1)).get(any(), any());
+        verify(actionListener, times(2)).onResponse(true);
+        assertEquals(1, modelAccessControlHelper.getAccessDecisionCacheHitCount());
+        assertEquals(1, modelAccessControlHelper.getAccessDecisionCacheMissCount());
+    }
+
+    public void test_CachedModelGroup() throws IOException {
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PRIVATE.getValue(), Arrays.asList("IT", "HR"));
+        modelAccessControlHelper.validateModelGroupAccess(User.parse("owner|IT,HR|myTenant"), "testGroupID", client, actionListener);
+        modelAccessControlHelper.validateModelGroupAccess(User.parse("user|IT,HR|myTenant"), "testGroupID", client, actionListener);
+        verify(client, times(1)).get(any(), any());
+        verify(actionListener).onResponse(true);
+        verify(actionListener).onResponse(false);
+        assertEquals(1, modelAccessControlHelper.getModelGroupCacheHitCount());
+        assertEquals(1, modelAccessControlHelper.getModelGroupCacheMissCount());
+    }
+
+    public void test_InvalidateModelGroupCache() throws IOException {
+        User user = User.parse("user|IT,HR|myTenant");
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PUBLIC.getValue(), Arrays.asList("IT", "HR"));
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PRIVATE.getValue(), Arrays.asList("IT", "HR"));
+        modelAccessControlHelper.invalidateModelGroupCache("testGroupID");
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        verify(client, times(2)).get(any(), any());
+        verify(actionListener).onResponse(true);
+        verify(actionListener).onResponse(false);
+    }
+
+    public void test_InvalidateModelGroupCacheOnAllNodes() throws IOException {
+        DiscoveryNode node = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT);
+        ClusterState clusterState = ClusterState
+            .builder(new ClusterName("test cluster"))
+            .nodes(DiscoveryNodes.builder().add(node).build())
+            .build();
+        when(clusterService.state()).thenReturn(clusterState);
+        User user = User.parse("user|IT,HR|myTenant");
+        setupModelGroup("owner|IT,HR|myTenant", AccessMode.PUBLIC.getValue(), Arrays.asList("IT", "HR"));
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+
+        modelAccessControlHelper.invalidateModelGroupCacheOnAllNodes("testGroupID", client);
+        ArgumentCaptor<MLModelGroupCacheInvalidateNodesRequest> requestCaptor = ArgumentCaptor
+            .forClass(MLModelGroupCacheInvalidateNodesRequest.class);
+        verify(client).execute(any(MLModelGroupCacheInvalidateAction.class), requestCaptor.capture(), any());
+        assertEquals("testGroupID", requestCaptor.getValue().getModelGroupId());
+        assertArrayEquals(new String[] { "node1" }, requestCaptor.getValue().nodesIds());
+
+        modelAccessControlHelper.validateModelGroupAccess(user, "testGroupID", client, actionListener);
+        verify(client, times(2)).get(any(), any());
+    }
+
     public void test_SkipModelAccessControl() {
         User admin = User.parse("owner|IT,HR|all_access");
         User user = User.parse("owner|IT,HR|myTenant");
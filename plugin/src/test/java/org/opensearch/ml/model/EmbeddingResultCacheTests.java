@@ -0,0 +1,299 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EmbeddingResultCacheTests extends OpenSearchTestCase {
+
+    private ClusterService clusterService;
+    private ClusterSettings clusterSettings;
+    private CircuitBreaker memoryBreaker;
+    private MLCircuitBreakerService mlCircuitBreakerService;
+    private EmbeddingResultCache cache;
+    private Settings settings;
+    private List<ActionListener<MLOutput>> inferenceListeners;
+    private List<MLInput> inferenceInputs;
+
+    @Before
+    public void setup() {
+        settings = Settings.builder().put(ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED.getKey(), true).build();
+        clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED,
+            ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES,
+            ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB
+        );
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        memoryBreaker = mock(CircuitBreaker.class);
+        mlCircuitBreakerService = mock(MLCircuitBreakerService.class);
+        when(mlCircuitBreakerService.getBreaker(BreakerName.MEMORY)).thenReturn(memoryBreaker);
+        cache = new EmbeddingResultCache(clusterService, settings, mlCircuitBreakerService);
+        inferenceListeners = new ArrayList<>();
+        inferenceInputs = new ArrayList<>();
+    }
+
+    private void inference(MLInput mlInput, ActionListener<MLOutput> listener) {
+        inferenceInputs.add(mlInput);
+        inferenceListeners.add(listener);
+    }
+
+    public void testPredict_CacheHit() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener1, this::inference);
+        assertEquals(1, inferenceListeners.size());
+        inferenceListeners.get(0).onResponse(embeddingOutput(1.0f, 2.0f));
+        verify(listener1).onResponse(any());
+        assertEquals(1, cache.size());
+
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener2, this::inference);
+        assertEquals(1, inferenceListeners.size());
+        ArgumentCaptor<MLOutput> captor = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener2).onResponse(captor.capture());
+        ModelTensor tensor = ((ModelTensorOutput) captor.getValue()).getMlModelOutputs().get(0).getMlModelTensors().get(0);
+        assertArrayEquals(new float[] { 1.0f, 2.0f }, tensor.getFloatData(), 1e-6f);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    public void testPredict_PartialHit() {
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("a", "b"), mock(ActionListener.class), this::inference);
+        inferenceListeners.get(0).onResponse(embeddingOutput(new float[] { 1.0f }, new float[] { 2.0f }));
+        assertEquals(2, cache.size());
+
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("b", "c", "a"), listener, this::inference);
+        // only the new doc is sent to the model
+        assertEquals(2, inferenceInputs.size());
+        assertEquals(Arrays.asList("c"), ((TextDocsInputDataSet) inferenceInputs.get(1).getInputDataset()).getDocs());
+        inferenceListeners.get(1).onResponse(embeddingOutput(new float[] { 3.0f }));
+
+        ArgumentCaptor<MLOutput> captor = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener).onResponse(captor.capture());
+        List<ModelTensors> outputs = ((ModelTensorOutput) captor.getValue()).getMlModelOutputs();
+        assertEquals(3, outputs.size());
+        assertArrayEquals(new float[] { 2.0f }, outputs.get(0).getMlModelTensors().get(0).getFloatData(), 1e-6f);
+        assertArrayEquals(new float[] { 3.0f }, outputs.get(1).getMlModelTensors().get(0).getFloatData(), 1e-6f);
+        assertArrayEquals(new float[] { 1.0f }, outputs.get(2).getMlModelTensors().get(0).getFloatData(), 1e-6f);
+        assertEquals(3, cache.size());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    public void testPredict_RemoteModel() {
+        MLInput mlInput = textDocsInput("a", "b");
+        ModelTensors tensors = ModelTensors.builder().mlModelTensors(Arrays.asList(floatTensor(1.0f), floatTensor(2.0f))).build();
+        tensors.setStatusCode(200);
+        cache.predict("modelId", FunctionName.REMOTE, mlInput, mock(ActionListener.class), this::inference);
+        inferenceListeners.get(0).onResponse(ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(tensors)).build());
+        assertEquals(2, cache.size());
+
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        cache.predict("modelId", FunctionName.REMOTE, textDocsInput("b", "a"), listener, this::inference);
+        assertEquals(1, inferenceListeners.size());
+        ArgumentCaptor<MLOutput> captor = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener).onResponse(captor.capture());
+        List<ModelTensors> outputs = ((ModelTensorOutput) captor.getValue()).getMlModelOutputs();
+        assertEquals(1, outputs.size());
+        assertEquals(200, outputs.get(0).getStatusCode().intValue());
+        assertArrayEquals(new float[] { 2.0f }, outputs.get(0).getMlModelTensors().get(0).getFloatData(), 1e-6f);
+        assertArrayEquals(new float[] { 1.0f }, outputs.get(0).getMlModelTensors().get(1).getFloatData(), 1e-6f);
+    }
+
+    public void testPredict_OutputNotSplitByDoc() {
+        // one output for two docs can't be split, so a later request with a cached doc predicts all of its docs
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("a"), mock(ActionListener.class), this::inference);
+        inferenceListeners.get(0).onResponse(embeddingOutput(1.0f));
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("a", "b", "c"), listener, this::inference);
+        ModelTensorOutput output = embeddingOutput(2.0f);
+        inferenceListeners.get(1).onResponse(output);
+        assertEquals(3, inferenceInputs.size());
+        assertEquals(3, ((TextDocsInputDataSet) inferenceInputs.get(2).getInputDataset()).getDocs().size());
+        inferenceListeners.get(2).onResponse(output);
+        verify(listener).onResponse(output);
+        assertEquals(1, cache.size());
+    }
+
+    public void testPredict_SparseEncoding() {
+        Map<String, Float> tokenWeights = new HashMap<>();
+        tokenWeights.put("hello", 0.5f);
+        tokenWeights.put("world", 1.5f);
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("output")
+            .dataAsMap(Map.of("response", Arrays.asList(tokenWeights)))
+            .build();
+        ModelTensors tensors = ModelTensors.builder().mlModelTensors(Arrays.asList(tensor)).build();
+        cache.predict("modelId", FunctionName.SPARSE_ENCODING, textDocsInput("hello world"), mock(ActionListener.class), this::inference);
+        inferenceListeners.get(0).onResponse(ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(tensors)).build());
+
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        cache.predict("modelId", FunctionName.SPARSE_ENCODING, textDocsInput("hello world"), listener, this::inference);
+        assertEquals(1, inferenceListeners.size());
+        ArgumentCaptor<MLOutput> captor = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener).onResponse(captor.capture());
+        ModelTensor cached = ((ModelTensorOutput) captor.getValue()).getMlModelOutputs().get(0).getMlModelTensors().get(0);
+        assertEquals("output", cached.getName());
+        assertEquals(tokenWeights, ((List<?>) cached.getDataAsMap().get("response")).get(0));
+    }
+
+    public void testPredict_DifferentInputs() {
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), mock(ActionListener.class), this::inference);
+        inferenceListeners.get(0).onResponse(embeddingOutput(1.0f));
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("world"), mock(ActionListener.class), this::inference);
+        cache.predict("modelId2", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), mock(ActionListener.class), this::inference);
+        assertEquals(3, inferenceListeners.size());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    public void testPredict_FailureNotCached() {
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        cache.predict("modelId", FunctionName.SPARSE_ENCODING, textDocsInput("hello"), listener, this::inference);
+        RuntimeException exception = new RuntimeException("test error");
+        inferenceListeners.get(0).onFailure(exception);
+        verify(listener).onFailure(exception);
+        assertEquals(0, cache.size());
+    }
+
+    public void testPredict_NotCacheable() {
+        MLInput remoteInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(new HashMap<>()).build())
+            .build();
+        assertFalse(cache.isCacheable(FunctionName.REMOTE, remoteInput));
+        assertTrue(cache.isCacheable(FunctionName.REMOTE, textDocsInput("hello")));
+        assertFalse(cache.isCacheable(FunctionName.BATCH_RCF, textDocsInput("hello")));
+
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        cache.predict("modelId", FunctionName.BATCH_RCF, textDocsInput("hello"), listener, this::inference);
+        assertSame(listener, inferenceListeners.get(0));
+    }
+
+    public void testPredict_Disabled() {
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), mock(ActionListener.class), this::inference);
+        inferenceListeners.get(0).onResponse(embeddingOutput(1.0f));
+        assertEquals(1, cache.size());
+
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED.getKey(), false).build());
+        assertEquals(0, cache.size());
+        assertFalse(cache.isCacheable(FunctionName.TEXT_EMBEDDING, textDocsInput("hello")));
+    }
+
+    public void testPredict_MemoryBreakerOpen() {
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), mock(ActionListener.class), this::inference);
+        inferenceListeners.get(0).onResponse(embeddingOutput(1.0f));
+        assertEquals(1, cache.size());
+
+        when(memoryBreaker.isOpen()).thenReturn(true);
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("world"), listener, this::inference);
+        inferenceListeners.get(1).onResponse(embeddingOutput(2.0f));
+        verify(listener).onResponse(any());
+        verify(listener, never()).onFailure(any());
+        assertEquals(1, cache.size());
+    }
+
+    public void testPredict_MaxEntries() {
+        Settings settings = Settings.builder().put(this.settings).put(ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES.getKey(), 2).build();
+        cache = new EmbeddingResultCache(clusterService, settings, mlCircuitBreakerService);
+        for (int i = 0; i < 5; i++) {
+            MLInput mlInput = textDocsInput("doc" + i);
+            cache.predict("modelId", FunctionName.TEXT_EMBEDDING, mlInput, mock(ActionListener.class), this::inference);
+            inferenceListeners.get(i).onResponse(embeddingOutput((float) i));
+        }
+        assertTrue(cache.size() <= 2);
+    }
+
+    public void testPredict_LimitsChanged() {
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), mock(ActionListener.class), this::inference);
+        inferenceListeners.get(0).onResponse(embeddingOutput(1.0f));
+        assertEquals(1, cache.size());
+
+        Settings sizeSettings = Settings.builder().put(settings).put(ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB.getKey(), 10).build();
+        clusterSettings.applySettings(sizeSettings);
+        assertEquals(0, cache.size());
+        assertTrue(cache.isCacheable(FunctionName.TEXT_EMBEDDING, textDocsInput("hello")));
+
+        Settings entriesSettings = Settings.builder().put(settings).put(ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES.getKey(), 0).build();
+        clusterSettings.applySettings(entriesSettings);
+        assertFalse(cache.isCacheable(FunctionName.TEXT_EMBEDDING, textDocsInput("hello")));
+    }
+
+    public void testInvalidate() {
+        cache.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), mock(ActionListener.class), this::inference);
+        inferenceListeners.get(0).onResponse(embeddingOutput(1.0f));
+        cache.predict("modelId2", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), mock(ActionListener.class), this::inference);
+        inferenceListeners.get(1).onResponse(embeddingOutput(1.0f));
+        cache.invalidate(null);
+        cache.invalidate("modelId");
+        assertEquals(1, cache.size());
+    }
+
+    private MLInput textDocsInput(String... docs) {
+        TextDocsInputDataSet dataSet = TextDocsInputDataSet.builder().docs(Arrays.asList(docs)).build();
+        return MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(dataSet).build();
+    }
+
+    private ModelTensorOutput embeddingOutput(float... values) {
+        return embeddingOutput(new float[][] { values });
+    }
+
+    private ModelTensorOutput embeddingOutput(float[]... docValues) {
+        List<ModelTensors> outputs = new ArrayList<>();
+        for (float[] values : docValues) {
+            outputs.add(ModelTensors.builder().mlModelTensors(Arrays.asList(floatTensor(values))).build());
+        }
+        return ModelTensorOutput.builder().mlModelOutputs(outputs).build();
+    }
+
+    private ModelTensor floatTensor(float... values) {
+        return ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(values)
+            .shape(new long[] { values.length })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesResponse;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.google.common.hash.Hashing;
+
+public class MLModelArtifactFetcherTests extends OpenSearchTestCase {
+
+    private static final String HASH = "c446f747520bcc6af053813cb1e8d34944a7c4686bbb405aeaa23883b5a806c8";
+
+    private Client client;
+    private MLModelArtifactFetcher fetcher;
+    private Path targetPath;
+    private byte[] model;
+    private byte[] tokenizer;
+    private Map<String, Long> loads;
+    private Set<String> failingNodes;
+    private Set<String> corruptNodes;
+    private List<String> readNodes;
+
+    @Before
+    public void setup() {
+        client = mock(Client.class);
+        fetcher = new MLModelArtifactFetcher(client, l -> l);
+        targetPath = createTempDir().resolve("artifact");
+        model = randomByteArrayOfLength(MLModelArtifactFetcher.TRANSFER_CHUNK_SIZE + 100);
+        tokenizer = randomByteArrayOfLength(10);
+        loads = new HashMap<>();
+        failingNodes = ConcurrentHashMap.newKeySet();
+        corruptNodes = ConcurrentHashMap.newKeySet();
+        readNodes = Collections.synchronizedList(new ArrayList<>());
+        mockPeers();
+    }
+
+    public void testFetch_LeastLoadedNode() throws IOException {
+        loads.put("node1", 5L);
+        loads.put("node2", 1L);
+        ActionListener<Map<String, String>> listener = mock(ActionListener.class);
+        fetcher.fetch(HASH, "modelId", new String[] { "node1", "node2", "node3" }, targetPath, listener);
+        verify(listener).onResponse(fileHashes());
+        assertArrayEquals(model, Files.readAllBytes(targetPath.resolve("model.pt")));
+        assertArrayEquals(tokenizer, Files.readAllBytes(targetPath.resolve("sub").resolve("tokenizer.json")));
+        assertEquals(List.of("node2", "node2", "node2"), readNodes);
+    }
+
+    public void testFetch_FallbackToNextNode() throws IOException {
+        loads.put("node1", 5L);
+        loads.put("node2", 1L);
+        failingNodes.add("node2");
+        ActionListener<Map<String, String>> listener = mock(ActionListener.class);
+        fetcher.fetch(HASH, "modelId", new String[] { "node1", "node2" }, targetPath, listener);
+        verify(listener).onResponse(fileHashes());
+        assertArrayEquals(model, Files.readAllBytes(targetPath.resolve("model.pt")));
+        assertEquals("node1", readNodes.get(readNodes.size() - 1));
+    }
+
+    public void testFetch_HashMismatchFallbackToNextNode() throws IOException {
+        loads.put("node1", 5L);
+        loads.put("node2", 1L);
+        corruptNodes.add("node2");
+        ActionListener<Map<String, String>> listener = mock(ActionListener.class);
+        fetcher.fetch(HASH, "modelId", new String[] { "node1", "node2" }, targetPath, listener);
+        verify(listener).onResponse(fileHashes());
+        assertArrayEquals(model, Files.readAllBytes(targetPath.resolve("model.pt")));
+        assertEquals("node1", readNodes.get(readNodes.size() - 1));
+    }
+
+    public void testFetch_HashMismatch() {
+        loads.put("node1", 5L);
+        corruptNodes.add("node1");
+        ActionListener<Map<String, String>> listener = mock(ActionListener.class);
+        fetcher.fetch(HASH, "modelId", new String[] { "node1" }, targetPath, listener);
+        verify(listener).onResponse(null);
+        assertFalse(Files.exists(targetPath));
+    }
+
+    public void testFetch_NoSource() {
+        loads.put("node1", 5L);
+        failingNodes.add("node1");
+        ActionListener<Map<String, String>> listener = mock(ActionListener.class);
+        fetcher.fetch(HASH, "modelId", new String[] { "node1", "node3" }, targetPath, listener);
+        verify(listener).onResponse(null);
+        assertFalse(Files.exists(targetPath));
+    }
+
+    public void testFetch_NoPeer() {
+        ActionListener<Map<String, String>> listener = mock(ActionListener.class);
+        fetcher.fetch(HASH, "modelId", new String[0], targetPath, listener);
+        verify(listener).onResponse(null);
+    }
+
+    public void testFetch_ProbeFailure() {
+        doAnswer(invocation -> {
+            ActionListener<MLModelArtifactNodesResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("test error"));
+            return null;
+        }).when(client).execute(eq(MLModelArtifactAction.INSTANCE), any(), any());
+        ActionListener<Map<String, String>> listener = mock(ActionListener.class);
+        fetcher.fetch(HASH, "modelId", new String[] { "node1" }, targetPath, listener);
+        verify(listener).onResponse(null);
+    }
+
+    /**
+     * Nodes in loads have the artifact, nodes in failingNodes fail to read it, nodes in corruptNodes return changed content.
+     */
+    private void mockPeers() {
+        doAnswer(invocation -> {
+            MLModelArtifactNodesRequest request = invocation.getArgument(1);
+            ActionListener<MLModelArtifactNodesResponse> listener = invocation.getArgument(2);
+            List<MLModelArtifactNodeResponse> responses = new ArrayList<>();
+            List<FailedNodeException> failures = new ArrayList<>();
+            assertEquals("modelId", request.getModelId());
+            for (String nodeId : request.nodesIds()) {
+                DiscoveryNode node = node(nodeId);
+                if (request.getFileName() == null) {
+                    Map<String, Long> files = loads.containsKey(nodeId)
+                        ? Map.of("model.pt", (long) model.length, "sub/tokenizer.json", (long) tokenizer.length)
+                        : null;
+                    Map<String, String> fileHashes = loads.containsKey(nodeId) ? fileHashes() : null;
+                    responses.add(new MLModelArtifactNodeResponse(node, files, fileHashes, loads.getOrDefault(nodeId, 0L), null));
+                } else if (failingNodes.contains(nodeId)) {
+                    failures.add(new FailedNodeException(nodeId, "test error", new RuntimeException("test error")));
+                } else {
+                    readNodes.add(nodeId);
+                    byte[] file = request.getFileName().equals("model.pt") ? model : tokenizer;
+                    int offset = (int) request.getOffset();
+                    byte[] content = Arrays.copyOfRange(file, offset, Math.min(file.length, offset + request.getLength()));
+                    if (corruptNodes.contains(nodeId)) {
+                        content[0] ^= 1;
+                    }
+                    responses.add(new MLModelArtifactNodeResponse(node, null, null, 0L, new BytesArray(content)));
+                }
+            }
+            listener.onResponse(new MLModelArtifactNodesResponse(ClusterName.DEFAULT, responses, failures));
+            return null;
+        }).when(client).execute(eq(MLModelArtifactAction.INSTANCE), any(), any());
+    }
+
+    private Map<String, String> fileHashes() {
+        return Map.of("model.pt", sha256(model), "sub/tokenizer.json", sha256(tokenizer));
+    }
+
+    private String sha256(byte[] content) {
+        return Hashing.sha256().hashBytes(content).toString();
+    }
+
+    private DiscoveryNode node(String nodeId) {
+        return new DiscoveryNode(
+            nodeId,
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.emptySet(),
+            Version.CURRENT
+        );
+    }
+}
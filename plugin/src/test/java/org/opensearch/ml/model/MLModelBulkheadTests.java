@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Before;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelBulkheadTests extends OpenSearchTestCase {
+
+    private List<String> events;
+
+    @Before
+    public void setup() {
+        events = new ArrayList<>();
+    }
+
+    public void testExecute_NoLimit() {
+        MLModelBulkhead bulkhead = new MLModelBulkhead(0, 0);
+        assertFalse(bulkhead.isLimited());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bulkhead.execute(task("task" + i), Runnable::run));
+        }
+        assertEquals(5, events.size());
+        assertEquals(5, bulkhead.getRunningCount());
+        assertEquals(0, bulkhead.getRejectedCount());
+    }
+
+    public void testExecute_QueueAndReject() {
+        MLModelBulkhead bulkhead = new MLModelBulkhead(1, 1);
+        List<Runnable> executed = new ArrayList<>();
+        assertTrue(bulkhead.execute(task("task1"), executed::add));
+        assertTrue(bulkhead.execute(task("task2"), executed::add));
+        assertFalse(bulkhead.execute(task("task3"), executed::add));
+        assertEquals(List.of("run task1"), events);
+        assertEquals(1, bulkhead.getRunningCount());
+        assertEquals(1, bulkhead.getQueuedCount());
+        assertEquals(1, bulkhead.getRejectedCount());
+
+        // slot of task1 goes to queued task2, which runs on the executor
+        bulkhead.release();
+        assertEquals(1, executed.size());
+        assertEquals(1, bulkhead.getRunningCount());
+        assertEquals(0, bulkhead.getQueuedCount());
+        executed.get(0).run();
+        assertEquals(List.of("run task1", "run task2"), events);
+
+        bulkhead.release();
+        assertEquals(0, bulkhead.getRunningCount());
+        assertTrue(bulkhead.execute(task("task4"), executed::add));
+        assertEquals(List.of("run task1", "run task2", "run task4"), events);
+    }
+
+    public void testExecute_RejectWithoutQueue() {
+        MLModelBulkhead bulkhead = new MLModelBulkhead(1, 0);
+        assertTrue(bulkhead.execute(task("task1"), Runnable::run));
+        assertFalse(bulkhead.execute(task("task2"), Runnable::run));
+        assertEquals(1, bulkhead.getRejectedCount());
+    }
+
+    public void testRelease_ExecutorRejected() {
+        MLModelBulkhead bulkhead = new MLModelBulkhead(1, 1);
+        assertTrue(bulkhead.execute(task("task1"), Runnable::run));
+        assertTrue(bulkhead.execute(task("task2"), it -> { throw new RejectedExecutionException("rejected"); }));
+        bulkhead.release();
+        assertEquals(List.of("run task1", "fail task2"), events);
+    }
+
+    public void testSetLimits() {
+        MLModelBulkhead bulkhead = new MLModelBulkhead(1, 0);
+        assertTrue(bulkhead.execute(task("task1"), Runnable::run));
+        assertFalse(bulkhead.execute(task("task2"), Runnable::run));
+        bulkhead.setLimits(2, 0);
+        assertTrue(bulkhead.execute(task("task3"), Runnable::run));
+        assertEquals(2, bulkhead.getRunningCount());
+    }
+
+    public void testFailQueuedTasks() {
+        MLModelBulkhead bulkhead = new MLModelBulkhead(1, 10);
+        assertTrue(bulkhead.execute(task("task1"), Runnable::run));
+        assertTrue(bulkhead.execute(task("task2"), Runnable::run));
+        assertTrue(bulkhead.execute(task("task3"), Runnable::run));
+        bulkhead.failQueuedTasks(new RuntimeException("undeployed"));
+        assertEquals(List.of("run task1", "fail task2", "fail task3"), events);
+        assertEquals(0, bulkhead.getQueuedCount());
+    }
+
+    private AbstractRunnable task(String name) {
+        return new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                events.add("fail " + name);
+            }
+
+            @Override
+            protected void doRun() {
+                events.add("run " + name);
+            }
+        };
+    }
+}
@@ -6,19 +6,25 @@
 package org.opensearch.ml.model;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_PREDICT_REQUESTS_PER_MODEL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_QUEUED_PREDICT_REQUESTS_PER_MODEL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_LATENCY_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_WINDOW_IN_SECONDS;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.http.pool.PoolStats;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
@@ -26,11 +32,13 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
@@ -58,8 +66,14 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
     public void setup() {
         MockitoAnnotations.openMocks(this);
         maxMonitoringRequests = 10;
-        settings = Settings.builder().put(ML_COMMONS_MONITORING_REQUEST_COUNT.getKey(), maxMonitoringRequests).build();
-        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_MONITORING_REQUEST_COUNT);
+        settings = Settings.builder().put(ML_COMMONS_MONITORING_LATENCY_ENABLED.getKey(), true).build();
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MONITORING_LATENCY_ENABLED,
+            ML_COMMONS_MONITORING_WINDOW_IN_SECONDS,
+            ML_COMMONS_MAX_CONCURRENT_PREDICT_REQUESTS_PER_MODEL,
+            ML_COMMONS_MAX_QUEUED_PREDICT_REQUESTS_PER_MODEL
+        );
         clusterService = spy(new ClusterService(settings, clusterSettings, null));
 
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
@@ -129,6 +143,35 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(predictor, cacheHelper.getPredictor(modelId));
     }
 
+    public void testPredictor_ReplaceClosesPreviousPredictor() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        RemoteModel previousPredictor = mock(RemoteModel.class);
+        RemoteModel newPredictor = mock(RemoteModel.class);
+        cacheHelper.setPredictor(modelId, previousPredictor);
+        cacheHelper.setPredictor(modelId, previousPredictor);
+        verify(previousPredictor, never()).close();
+        cacheHelper.setPredictor(modelId, newPredictor);
+        verify(previousPredictor, times(1)).close();
+        verify(newPredictor, never()).close();
+        assertEquals(newPredictor, cacheHelper.getPredictor(modelId));
+    }
+
+    public void testGetRemoteConnectionPoolStats() {
+        assertEquals(0, cacheHelper.getRemoteConnectionPoolStats().getLeased());
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        RemoteModel remoteModel = mock(RemoteModel.class);
+        when(remoteModel.getConnectionPoolStats()).thenReturn(new PoolStats(2, 1, 3, 30));
+        cacheHelper.setPredictor(modelId, remoteModel);
+        cacheHelper.initModelState("model_id2", MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        cacheHelper.setPredictor("model_id2", mock(RemoteModel.class));
+
+        PoolStats poolStats = cacheHelper.getRemoteConnectionPoolStats();
+        assertEquals(2, poolStats.getLeased());
+        assertEquals(1, poolStats.getPending());
+        assertEquals(3, poolStats.getAvailable());
+        assertEquals(30, poolStats.getMax());
+    }
+
     public void testGetAndRemoveModel() {
         assertFalse(cacheHelper.isModelRunningOnNode(modelId));
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
@@ -297,12 +340,77 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         }
         MLPredictRequestStats predictStats = cacheHelper.getModelProfile(modelId).getModelInferenceStats();
         assertNotNull(predictStats);
+        assertEquals(1, predictStats.getMin(), 1e-5);
+        assertEquals(maxMonitoringRequests * 2, predictStats.getMax(), 1e-5);
+        assertEquals((1 + maxMonitoringRequests * 2) / 2.0, predictStats.getAverage(), 1e-5);
+        assertEquals(maxMonitoringRequests * 2, predictStats.getCount().longValue());
+        assertEquals(maxMonitoringRequests, predictStats.getPercentile(50), maxMonitoringRequests * 0.05);
+        assertEquals(maxMonitoringRequests * 2, predictStats.getPercentile(99), maxMonitoringRequests * 0.1);
+        assertNotNull(predictStats.getHistogram());
+        assertNull(cacheHelper.getModelProfile(modelId).getPredictRequestStats());
+
+        predictStats = cacheHelper.getModelProfile(modelId, Arrays.asList(25d, 99.9)).getModelInferenceStats();
+        assertEquals(2, predictStats.getPercentiles().size());
+        assertEquals(maxMonitoringRequests / 2.0, predictStats.getPercentile(25), maxMonitoringRequests * 0.05);
+        assertEquals(maxMonitoringRequests * 2, predictStats.getPercentile(99.9), maxMonitoringRequests * 0.1);
+        assertNull(predictStats.getPercentile(50));
+
+        cacheHelper.clearMonitoringStats();
+        assertNull(cacheHelper.getModelProfile(modelId).getModelInferenceStats());
+    }
+
+    public void testGetModelProfile_MonitoringWindowChanged() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        for (int i = 1; i <= maxMonitoringRequests; i++) {
+            cacheHelper.addModelInferenceDuration(modelId, i);
+        }
+        // latency recorded in the previous window is not counted after the window changes
+        Settings windowSettings = Settings.builder().put(ML_COMMONS_MONITORING_WINDOW_IN_SECONDS.getKey(), 600).build();
+        clusterService.getClusterSettings().applySettings(windowSettings);
+        for (int i = maxMonitoringRequests + 1; i <= maxMonitoringRequests * 2; i++) {
+            cacheHelper.addModelInferenceDuration(modelId, i);
+        }
+        MLPredictRequestStats predictStats = cacheHelper.getModelProfile(modelId).getModelInferenceStats();
+        assertNotNull(predictStats);
         assertEquals(maxMonitoringRequests + 1, predictStats.getMin(), 1e-5);
         assertEquals(maxMonitoringRequests * 2, predictStats.getMax(), 1e-5);
         assertEquals((maxMonitoringRequests + 1 + maxMonitoringRequests * 2) / 2.0, predictStats.getAverage(), 1e-5);
         assertEquals(maxMonitoringRequests, predictStats.getCount().longValue());
     }
 
+    public void testGetModelProfile_MonitoringDisabled() {
+        Settings monitoringSettings = Settings.builder().put(ML_COMMONS_MONITORING_LATENCY_ENABLED.getKey(), false).build();
+        clusterService.getClusterSettings().applySettings(monitoringSettings);
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.addModelInferenceDuration(modelId, 10);
+        cacheHelper.addPredictRequestDuration(modelId, 10);
+        MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
+        assertNull(modelProfile.getModelInferenceStats());
+        assertNull(modelProfile.getPredictRequestStats());
+    }
+
+    public void testGetModelProfile_PredictRequestLimits() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        assertNull(cacheHelper.getModelProfile(modelId).getRunningPredictRequests());
+        assertNull(cacheHelper.getBulkhead("wrong_model_id"));
+
+        Settings limits = Settings
+            .builder()
+            .put(ML_COMMONS_MAX_CONCURRENT_PREDICT_REQUESTS_PER_MODEL.getKey(), 1)
+            .put(ML_COMMONS_MAX_QUEUED_PREDICT_REQUESTS_PER_MODEL.getKey(), 0)
+            .build();
+        clusterService.getClusterSettings().applySettings(limits);
+        MLModelBulkhead bulkhead = cacheHelper.getBulkhead(modelId);
+        assertTrue(bulkhead.isLimited());
+        assertTrue(bulkhead.execute(mock(AbstractRunnable.class), Runnable::run));
+        assertFalse(bulkhead.execute(mock(AbstractRunnable.class), Runnable::run));
+
+        MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
+        assertEquals(1, modelProfile.getRunningPredictRequests().intValue());
+        assertEquals(0, modelProfile.getQueuedPredictRequests().intValue());
+        assertEquals(1, modelProfile.getRejectedPredictRequests().longValue());
+    }
+
     public void testGetModelProfile_Deploying() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.utils.MLNodeUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLModelChunkMigratorTests extends OpenSearchTestCase {
+
+    private Client client;
+    private ClusterSettings clusterSettings;
+    private MLModelChunkMigrator migrator;
+    private byte[] bytes;
+
+    @Before
+    public void setup() {
+        client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED.getKey(), true).build();
+        clusterSettings = clusterSetting(settings, ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        migrator = new MLModelChunkMigrator(client, NamedXContentRegistry.EMPTY, clusterService, settings);
+        bytes = randomByteArrayOfLength(100);
+    }
+
+    public void testMigrate() throws IOException {
+        mockGetBase64Chunk();
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(IndexResponse.class));
+            return null;
+        }).when(client).index(any(), any());
+
+        ActionListener<Integer> listener = mock(ActionListener.class);
+        migrator.migrate("modelId", FunctionName.TEXT_EMBEDDING.name(), List.of("modelId_0", "modelId_1"), listener);
+        verify(listener).onResponse(2);
+
+        ArgumentCaptor<IndexRequest> indexRequest = ArgumentCaptor.forClass(IndexRequest.class);
+        verify(client, times(2)).index(indexRequest.capture(), any());
+        assertEquals("modelId_1", indexRequest.getValue().id());
+        assertEquals(5L, indexRequest.getValue().ifSeqNo());
+        assertEquals(2L, indexRequest.getValue().ifPrimaryTerm());
+        try (
+            XContentParser parser = MLNodeUtils
+                .createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, indexRequest.getValue().source())
+        ) {
+            parser.nextToken();
+            MLModel chunk = MLModel.parse(parser, FunctionName.TEXT_EMBEDDING.name());
+            assertArrayEquals(bytes, chunk.getBinaryContent());
+            assertNull(chunk.getContent());
+        }
+    }
+
+    public void testMigrate_VersionConflict() throws IOException {
+        mockGetBase64Chunk();
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new VersionConflictEngineException(new ShardId(ML_MODEL_INDEX, "_na_", 0), "modelId_0", "conflict"));
+            return null;
+        }).when(client).index(any(), any());
+
+        ActionListener<Integer> listener = mock(ActionListener.class);
+        migrator.migrate("modelId", FunctionName.TEXT_EMBEDDING.name(), List.of("modelId_0", "modelId_1"), listener);
+        verify(listener).onResponse(0);
+        verify(client, times(2)).index(any(), any());
+    }
+
+    public void testMigrate_IndexFailure() throws IOException {
+        mockGetBase64Chunk();
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("test error"));
+            return null;
+        }).when(client).index(any(), any());
+
+        ActionListener<Integer> listener = mock(ActionListener.class);
+        migrator.migrate("modelId", FunctionName.TEXT_EMBEDDING.name(), List.of("modelId_0", "modelId_1"), listener);
+        verify(listener).onFailure(any());
+        verify(client, times(1)).index(any(), any());
+    }
+
+    public void testMigrate_Disabled() {
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED.getKey(), false).build());
+        ActionListener<Integer> listener = mock(ActionListener.class);
+        migrator.migrate("modelId", FunctionName.TEXT_EMBEDDING.name(), List.of("modelId_0"), listener);
+        verify(listener).onResponse(0);
+        verify(client, never()).get(any(), any());
+    }
+
+    public void testMigrate_DisabledByDefault() {
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterSettings defaultSettings = clusterSetting(Settings.EMPTY, ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED);
+        when(clusterService.getClusterSettings()).thenReturn(defaultSettings);
+        MLModelChunkMigrator defaultMigrator = new MLModelChunkMigrator(
+            client,
+            NamedXContentRegistry.EMPTY,
+            clusterService,
+            Settings.EMPTY
+        );
+        ActionListener<Integer> listener = mock(ActionListener.class);
+        defaultMigrator.migrate("modelId", FunctionName.TEXT_EMBEDDING.name(), List.of("modelId_0"), listener);
+        verify(listener).onResponse(0);
+        verify(client, never()).get(any(), any());
+    }
+
+    private void mockGetBase64Chunk() throws IOException {
+        MLModel chunk = MLModel
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelId("modelId")
+            .version("1")
+            .chunkNumber(0)
+            .content(Base64.getEncoder().encodeToString(bytes))
+            .build();
+        BytesReference source = BytesReference.bytes(chunk.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new GetResponse(new GetResult(ML_MODEL_INDEX, "modelId_0", 5L, 2L, 1L, true, source, null, null)));
+            return null;
+        }).when(client).get(any(), any());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.google.common.hash.Hashing;
+
+public class MLModelChunkRetrieverTests extends OpenSearchTestCase {
+
+    private static final String[] CHUNKS = new String[] { "chunk 0,", "chunk 1 is longer,", "c2,", "chunk 3,", "chunk 4" };
+    private static final String CONTENT = String.join("", CHUNKS);
+
+    private Map<String, ActionListener<MLModel>> pendingChunks;
+    private File modelZipFile;
+    private Map<String, Long> phaseTimings;
+    private ActionListener<File> listener;
+
+    @Before
+    public void setup() {
+        pendingChunks = new LinkedHashMap<>();
+        modelZipFile = createTempDir().resolve("deploy").resolve("model.zip").toFile();
+        phaseTimings = new ConcurrentHashMap<>();
+        listener = mock(ActionListener.class);
+    }
+
+    public void testRetrieve_OutOfOrder() throws Exception {
+        createRetriever(3, null, hash(CONTENT)).retrieve();
+        assertEquals(List.of("model_0", "model_1", "model_2"), new ArrayList<>(pendingChunks.keySet()));
+
+        // chunk 2 and 1 wait for chunk 0 in reorder buffer
+        respond(2);
+        respond(1);
+        assertEquals(3, pendingChunks.size());
+        respond(0);
+        assertEquals(List.of("model_0", "model_1", "model_2", "model_3", "model_4"), new ArrayList<>(pendingChunks.keySet()));
+        respond(4);
+        verify(listener, never()).onResponse(any());
+        respond(3);
+
+        verify(listener).onResponse(modelZipFile);
+        assertEquals(CONTENT, Files.readString(modelZipFile.toPath()));
+        assertTrue(phaseTimings.containsKey(MLModelChunkRetriever.FETCH_PHASE));
+        assertTrue(phaseTimings.containsKey(MLModelChunkRetriever.DECODE_PHASE));
+        assertTrue(phaseTimings.containsKey(MLModelChunkRetriever.WRITE_PHASE));
+    }
+
+    public void testRetrieve_FetchWindow() {
+        createRetriever(2, null, null).retrieve();
+        assertEquals(2, pendingChunks.size());
+        // chunk 1 can't be written before chunk 0, so no more chunk is fetched
+        respond(1);
+        assertEquals(2, pendingChunks.size());
+        respond(0);
+        assertEquals(4, pendingChunks.size());
+    }
+
+    public void testRetrieve_PreallocatedFileTruncated() throws Exception {
+        createRetriever(4, 1000L, hash(CONTENT)).retrieve();
+        for (int i = 0; i < CHUNKS.length; i++) {
+            respond(i);
+        }
+        verify(listener).onResponse(modelZipFile);
+        assertEquals(CONTENT.length(), modelZipFile.length());
+    }
+
+    public void testRetrieve_WrongHash() {
+        createRetriever(4, null, hash("wrong content")).retrieve();
+        for (int i = 0; i < CHUNKS.length; i++) {
+            respond(i);
+        }
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertTrue(exception.getValue() instanceof IllegalArgumentException);
+        assertEquals("model content changed", exception.getValue().getMessage());
+        assertFalse(modelZipFile.exists());
+    }
+
+    public void testRetrieve_ChunkFailure() {
+        createRetriever(4, null, hash(CONTENT)).retrieve();
+        pendingChunks.get("model_2").onFailure(new RuntimeException("test error"));
+        respond(0);
+        respond(1);
+        respond(3);
+
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertTrue(exception.getValue() instanceof MLResourceNotFoundException);
+        assertEquals("Fail to find model chunk model_2", exception.getValue().getMessage());
+        verify(listener, never()).onResponse(any());
+        assertFalse(modelZipFile.exists());
+        // no more chunk is fetched after failure
+        assertEquals(4, pendingChunks.size());
+    }
+
+    private MLModelChunkRetriever createRetriever(int maxConcurrentRequests, Long contentSize, String contentHash) {
+        return new MLModelChunkRetriever(
+            "model",
+            CHUNKS.length,
+            maxConcurrentRequests,
+            chunkNumber -> "model_" + chunkNumber,
+            (chunkId, chunkListener) -> pendingChunks.put(chunkId, chunkListener),
+            modelZipFile,
+            contentSize,
+            contentHash,
+            phaseTimings,
+            listener
+        );
+    }
+
+    private void respond(int chunkNumber) {
+        byte[] bytes = CHUNKS[chunkNumber].getBytes(StandardCharsets.UTF_8);
+        MLModel.MLModelBuilder chunk = MLModel.builder().modelId("model_" + chunkNumber);
+        // odd chunks are stored as Base64 string by old versions
+        if (chunkNumber % 2 == 0) {
+            chunk.binaryContent(bytes);
+        } else {
+            chunk.content(Base64.getEncoder().encodeToString(bytes));
+        }
+        pendingChunks.get("model_" + chunkNumber).onResponse(chunk.build());
+    }
+
+    private String hash(String content) {
+        return Hashing.sha256().hashBytes(content.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -12,8 +12,10 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -22,16 +24,26 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.MLTask.FUNCTION_NAME_FIELD;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
+import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.ModelHelper.TOTAL_CHUNKS;
 import static org.opensearch.ml.model.MLModelManager.TIMEOUT_IN_MILLIS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_PEER_TRANSFER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICTOR_NUM_THREADS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICTOR_POOL_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_WAIT_TIME_IN_MILLIS;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex_failure;
 import static org.opensearch.ml.utils.MockHelper.mock_client_ThreadContext;
@@ -50,9 +62,9 @@ import static org.opensearch.ml.utils.TestHelper.copyFile;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
@@ -69,18 +81,24 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
@@ -96,12 +114,18 @@ import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactNodesResponse;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.algorithms.remote.CompiledScriptCache;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
@@ -119,6 +143,7 @@ import org.opensearch.threadpool.ThreadPool;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
 
 public class MLModelManagerTests extends OpenSearchTestCase {
 
@@ -162,6 +187,10 @@ public class MLModelManagerTests extends OpenSearchTestCase {
     private Long modelContentSize;
     @Mock
     private MLModelCacheHelper modelCacheHelper;
+    @Mock
+    private CompiledScriptCache compiledScriptCache;
+    @Mock
+    private EmbeddingResultCache embeddingResultCache;
     private Encryptor encryptor;
     private MLEngine mlEngine;
     @Mock
@@ -185,13 +214,25 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         settings = Settings.builder().put(ML_COMMONS_MAX_MODELS_PER_NODE.getKey(), 10).build();
         settings = Settings.builder().put(ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE.getKey(), 10).build();
         settings = Settings.builder().put(ML_COMMONS_MONITORING_REQUEST_COUNT.getKey(), 10).build();
-        settings = Settings.builder().put(ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE.getKey(), 10).build();
+        settings = Settings
+            .builder()
+            .put(ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE.getKey(), 10)
+            .put(ML_COMMONS_MODEL_ARTIFACT_PEER_TRANSFER_ENABLED.getKey(), false)
+            .build();
         ClusterSettings clusterSettings = clusterSetting(
             settings,
             ML_COMMONS_MAX_MODELS_PER_NODE,
             ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
             ML_COMMONS_MONITORING_REQUEST_COUNT,
-            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE
+            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+            ML_COMMONS_PREDICT_BATCH_SIZE,
+            ML_COMMONS_PREDICT_BATCH_WAIT_TIME_IN_MILLIS,
+            ML_COMMONS_PREDICTOR_POOL_SIZE,
+            ML_COMMONS_PREDICTOR_NUM_THREADS,
+            ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS,
+            ML_COMMONS_MODEL_CHUNK_BINARY_FORMAT_ENABLED,
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB,
+            ML_COMMONS_MODEL_ARTIFACT_PEER_TRANSFER_ENABLED
         );
         clusterService = spy(new ClusterService(settings, clusterSettings, null));
         xContentRegistry = NamedXContentRegistry.EMPTY;
@@ -248,6 +289,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         threadContext = new ThreadContext(settings);
         when(client.threadPool()).thenReturn(threadPool);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
+        when(threadPool.executor(PREDICT_THREAD_POOL)).thenReturn(taskExecutorService);
 
         modelManager = spy(
             new MLModelManager(
@@ -264,7 +306,9 @@ public class MLModelManagerTests extends OpenSearchTestCase {
                 mlTaskManager,
                 modelCacheHelper,
                 mlEngine,
-                nodeHelper
+                nodeHelper,
+                compiledScriptCache,
+                embeddingResultCache
             )
         );
 
@@ -334,7 +378,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
 
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlTaskManager).updateMLTask(anyString(), anyMap(), anyLong(), anyBoolean());
-        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any(), any());
         verify(client, never()).index(any(), any());
     }
 
@@ -349,7 +393,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client).index(any(), any());
-        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Ignore
@@ -365,7 +409,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(2)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     public void testRegisterMLModel_DownloadModelFileFailure() {
@@ -379,7 +423,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any(), any());
     }
 
     public void testRegisterMLModel_RegisterPreBuildModel() throws PrivilegedActionException, IOException {
@@ -401,16 +445,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             indexResponseActionListener.onResponse(indexResponse);
             return null;
         }).when(client).index(any(), any());
-        String[] newChunks = createTempChunkFiles();
-        doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(7);
-            Map<String, Object> result = new HashMap<>();
-            result.put(MODEL_SIZE_IN_BYTES, modelContentSize);
-            result.put(CHUNK_FILES, Arrays.asList(newChunks[0], newChunks[1]));
-            result.put(MODEL_FILE_HASH, randomAlphaOfLength(10));
-            listener.onResponse(result);
-            return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        setUpMock_DownloadModelFile(createTempChunkFiles(), modelContentSize);
         MLTask pretrainedTask = MLTask
             .builder()
             .taskId("pretrained")
@@ -485,7 +520,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any(), any());
     }
 
     @Ignore
@@ -503,7 +538,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(mlRegisterModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any(), any());
         verify(client).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
     }
 
@@ -522,7 +557,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(mlRegisterModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any(), any());
         verify(client, never()).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
     }
 
@@ -533,12 +568,31 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
         String[] newChunks = createTempChunkFiles();
-        setUpMock_DownloadModelFile(newChunks, 10 * 1024 * 1024 * 1024L);
+        // model file size exceeds the limit at the first chunk
+        setUpMock_DownloadModelFile(newChunks, (int) (MLModelManager.MODEL_FILE_SIZE_LIMIT / CHUNK_SIZE) + 1, 10 * 1024 * 1024 * 1024L);
 
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(1)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any(), any());
+    }
+
+    public void testRegisterMLModel_IndexChunksWhileDownloading() throws IOException {
+        doNothing().when(mlTaskManager).checkLimitAndAddRunningTask(any(), any());
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(null);
+        when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
+        mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
+        mock_client_index(client, modelId);
+        String[] newChunks = createTempChunkFiles();
+        setUpMock_DownloadModelFile(newChunks, 1000L);
+
+        modelManager.registerMLModel(registerModelInput, mlTask);
+        // model meta and two chunks are indexed
+        ArgumentCaptor<IndexRequest> indexRequest = ArgumentCaptor.forClass(IndexRequest.class);
+        verify(client, times(3)).index(indexRequest.capture(), any());
+        assertEquals(modelId + "_0", indexRequest.getAllValues().get(1).id());
+        assertEquals(modelId + "_1", indexRequest.getAllValues().get(2).id());
+        verify(client, never()).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
     }
 
     public void testRegisterModel_ClientFailedToGetThreadPool() {
@@ -660,6 +714,90 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             );
     }
 
+    public void testDeployModel_FromArtifactCache() throws IOException {
+        Path artifactPath = createTempDir();
+        Files.write(artifactPath.resolve("model.pt"), randomByteArrayOfLength(100));
+        ModelArtifactCache artifactCache = new ModelArtifactCache(mlEngine.getModelArtifactCacheRootPath(), Long.MAX_VALUE);
+        artifactCache.put(modelContentHashValue, modelId, artifactPath);
+        assertTrue(artifactCache.contains(modelContentHashValue, modelId));
+
+        ActionListener<String> listener = mock(ActionListener.class);
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
+        when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] {});
+        when(modelCacheHelper.getLocalDeployedModels()).thenReturn(new String[] {});
+        mock_client_ThreadContext(client, threadPool, threadContext);
+        mock_threadpool(threadPool, taskExecutorService);
+        setUpMock_GetModel(model);
+        modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, mlTask, listener);
+
+        // only model meta is read, no model chunk is retrieved
+        verify(modelManager, times(1)).getModel(any(), any());
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("Failed to deploy model " + modelId, exception.getValue().getMessage());
+        // artifact which failed to deploy is removed from cache
+        assertFalse(artifactCache.contains(modelContentHashValue, modelId));
+    }
+
+    public void testDeployModel_ArtifactCachedForOtherModel() throws IOException {
+        Path artifactPath = createTempDir();
+        Files.write(artifactPath.resolve("model.pt"), randomByteArrayOfLength(100));
+        ModelArtifactCache artifactCache = new ModelArtifactCache(mlEngine.getModelArtifactCacheRootPath(), Long.MAX_VALUE);
+        artifactCache.put(modelContentHashValue, "otherModelId", artifactPath);
+
+        ActionListener<String> listener = mock(ActionListener.class);
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
+        when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] {});
+        when(modelCacheHelper.getLocalDeployedModels()).thenReturn(new String[] {});
+        mock_client_ThreadContext(client, threadPool, threadContext);
+        mock_threadpool(threadPool, taskExecutorService);
+        setUpMock_GetModel(model);
+        modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, mlTask, listener);
+
+        // model with the same content hash retrieves its own chunks before it uses the cached artifact
+        verify(modelManager, atLeast(2)).getModel(any(), any());
+        assertFalse(artifactCache.contains(modelContentHashValue, modelId));
+    }
+
+    public void testDeployModel_FromPeerArtifact() {
+        byte[] modelBytes = randomByteArrayOfLength(100);
+        Map<String, String> fileHashes = Map.of("model.pt", Hashing.sha256().hashBytes(modelBytes).toString());
+        clusterService
+            .getClusterSettings()
+            .applySettings(Settings.builder().put(ML_COMMONS_MODEL_ARTIFACT_PEER_TRANSFER_ENABLED.getKey(), true).build());
+        DiscoveryNode localNode = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode peerNode = new DiscoveryNode("node2", buildNewFakeTransportAddress(), Version.CURRENT);
+        doReturn(localNode).when(clusterService).localNode();
+        when(nodeHelper.getEligibleNodeIds(FunctionName.TEXT_EMBEDDING)).thenReturn(new String[] { "node1", "node2" });
+        doAnswer(invocation -> {
+            MLModelArtifactNodesRequest request = invocation.getArgument(1);
+            ActionListener<MLModelArtifactNodesResponse> artifactListener = invocation.getArgument(2);
+            assertArrayEquals(new String[] { "node2" }, request.nodesIds());
+            assertEquals(modelId, request.getModelId());
+            MLModelArtifactNodeResponse response = request.getFileName() == null
+                ? new MLModelArtifactNodeResponse(peerNode, Map.of("model.pt", 100L), fileHashes, 0L, null)
+                : new MLModelArtifactNodeResponse(peerNode, null, null, 0L, new BytesArray(modelBytes));
+            artifactListener.onResponse(new MLModelArtifactNodesResponse(ClusterName.DEFAULT, List.of(response), List.of()));
+            return null;
+        }).when(client).execute(eq(MLModelArtifactAction.INSTANCE), any(), any());
+
+        ActionListener<String> listener = mock(ActionListener.class);
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
+        when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] {});
+        when(modelCacheHelper.getLocalDeployedModels()).thenReturn(new String[] {});
+        mock_client_ThreadContext(client, threadPool, threadContext);
+        mock_threadpool(threadPool, taskExecutorService);
+        setUpMock_GetModel(model);
+        modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, mlTask, listener);
+
+        // model artifact is fetched from peer node instead of retrieving model chunks
+        verify(modelManager, times(1)).getModel(any(), any());
+        verify(client, times(2)).execute(eq(MLModelArtifactAction.INSTANCE), any(), any());
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("Failed to deploy model " + modelId, exception.getValue().getMessage());
+    }
+
     public void testDeployModel_ModelAlreadyDeployed() {
         when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(true);
         ActionListener<String> listener = mock(ActionListener.class);
@@ -694,6 +832,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
 
         modelManager.deployModel(modelId, modelContentHashValue, functionName, true, mlTask, listener);
         verify(modelCacheHelper).removeModel(eq(modelId));
+        verify(embeddingResultCache).invalidate(eq(modelId));
         verify(mlStats).createCounterStatIfAbsent(eq(functionName), eq(ActionName.DEPLOY), eq(MLActionLevelStat.ML_ACTION_FAILURE_COUNT));
     }
 
@@ -904,22 +1043,36 @@ public class MLModelManagerTests extends OpenSearchTestCase {
 
     private void setUpMock_DownloadModelFileFailure() {
         doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(8);
             listener.onFailure(new RuntimeException("downloadAndSplit failure"));
             return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     private void setUpMock_DownloadModelFile(String[] chunks, Long modelContentSize) {
+        setUpMock_DownloadModelFile(chunks, 0, modelContentSize);
+    }
+
+    private void setUpMock_DownloadModelFile(String[] chunks, int firstChunkNumber, Long modelContentSize) {
         doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
+            ModelHelper.ModelChunkConsumer chunkConsumer = invocation.getArgument(7);
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(8);
+            try {
+                for (int i = 0; i < chunks.length; i++) {
+                    byte[] bytes = Files.readAllBytes(Path.of(chunks[i]));
+                    chunkConsumer.accept(firstChunkNumber + i, bytes, bytes.length, firstChunkNumber + chunks.length);
+                }
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return null;
+            }
             Map<String, Object> result = new HashMap<>();
             result.put(MODEL_SIZE_IN_BYTES, modelContentSize);
-            result.put(CHUNK_FILES, Arrays.asList(chunks[0], chunks[1]));
+            result.put(TOTAL_CHUNKS, firstChunkNumber + chunks.length);
             result.put(MODEL_FILE_HASH, randomAlphaOfLength(10));
             listener.onResponse(result);
             return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Mock
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.utils.TestHelper;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLLatencyHistogramTests extends OpenSearchTestCase {
+
+    public void testBucketIndex() {
+        int previousIndex = -1;
+        for (long value = 0; value < 100_000; value++) {
+            int index = MLLatencyHistogram.bucketIndex(value);
+            assertTrue(index == previousIndex || index == previousIndex + 1);
+            long lowerBound = MLLatencyHistogram.bucketLowerBound(index);
+            assertTrue(value >= lowerBound);
+            assertTrue(value < lowerBound + MLLatencyHistogram.bucketWidth(index));
+            previousIndex = index;
+        }
+        assertEquals(0, MLLatencyHistogram.bucketIndex(-1));
+        assertEquals(MLLatencyHistogram.BUCKET_COUNT - 1, MLLatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(MLLatencyHistogram.BUCKET_COUNT - 1, MLLatencyHistogram.bucketIndex(MLLatencyHistogram.MAX_VALUE_IN_MICROS));
+    }
+
+    public void testPercentiles() {
+        MLLatencyHistogram histogram = histogram(1, 1000);
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1.0, histogram.getMin(), 1e-5);
+        assertEquals(1000.0, histogram.getMax(), 1e-5);
+        assertEquals(500.5, histogram.getAverage(), 1e-5);
+        assertEquals(500, histogram.getValueAtPercentile(50), 500 * 0.04);
+        assertEquals(900, histogram.getValueAtPercentile(90), 900 * 0.04);
+        assertEquals(990, histogram.getValueAtPercentile(99), 990 * 0.04);
+        assertEquals(999, histogram.getValueAtPercentile(99.9), 999 * 0.04);
+        assertEquals(1.0, histogram.getValueAtPercentile(0), 1e-5);
+        assertEquals(1000.0, histogram.getValueAtPercentile(100), 1e-5);
+    }
+
+    public void testPercentiles_InvalidPercentile() {
+        MLLatencyHistogram histogram = histogram(1, 10);
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+        assertEquals("percentile must be between 0 and 100", exception.getMessage());
+    }
+
+    public void testMerge() {
+        MLLatencyHistogram merged = histogram(1, 500).merge(histogram(501, 1000));
+        assertEquals(1000, merged.getCount());
+        assertEquals(1.0, merged.getMin(), 1e-5);
+        assertEquals(1000.0, merged.getMax(), 1e-5);
+        assertEquals(500.5, merged.getAverage(), 1e-5);
+        assertEquals(500, merged.getValueAtPercentile(50), 500 * 0.04);
+
+        MLLatencyHistogram histogram = histogram(1, 10);
+        assertSame(histogram, histogram.merge(null));
+        MLLatencyHistogram empty = new MLLatencyHistogram(new long[MLLatencyHistogram.BUCKET_COUNT], 0, 0, 0);
+        assertSame(histogram, histogram.merge(empty));
+        assertSame(histogram, empty.merge(histogram));
+        assertNull(empty.getMin());
+        assertNull(empty.getValueAtPercentile(50));
+    }
+
+    public void testSerializationDeserialization() throws IOException {
+        MLLatencyHistogram histogram = histogram(1, 1000);
+        BytesStreamOutput output = new BytesStreamOutput();
+        histogram.writeTo(output);
+        MLLatencyHistogram parsedHistogram = new MLLatencyHistogram(output.bytes().streamInput());
+        assertEquals(histogram.getCount(), parsedHistogram.getCount());
+        assertEquals(histogram.getMin(), parsedHistogram.getMin());
+        assertEquals(histogram.getMax(), parsedHistogram.getMax());
+        assertEquals(histogram.getAverage(), parsedHistogram.getAverage());
+        assertEquals(histogram.getValueAtPercentile(90), parsedHistogram.getValueAtPercentile(90));
+    }
+
+    public void testPredictRequestStats() throws IOException {
+        MLPredictRequestStats stats = MLPredictRequestStats.fromHistogram(histogram(1, 100));
+        assertEquals(100, stats.getCount().longValue());
+        assertEquals(50, stats.getPercentile(50), 50 * 0.04);
+        assertNull(stats.getPercentile(99.9));
+        assertNull(MLPredictRequestStats.fromHistogram(null));
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        stats.writeTo(output);
+        MLPredictRequestStats parsedStats = new MLPredictRequestStats(output.bytes().streamInput());
+        assertEquals(stats.getPercentile(99), parsedStats.getPercentile(99));
+        assertEquals(100, parsedStats.getHistogram().getCount());
+
+        MLPredictRequestStats merged = MLPredictRequestStats
+            .merge(Arrays.asList(stats, null, MLPredictRequestStats.builder().count(1L).build(), parsedStats), Arrays.asList(99.9));
+        assertEquals(200, merged.getCount().longValue());
+        assertEquals(100, merged.getPercentile(99.9), 100 * 0.04);
+        assertNull(merged.getPercentile(50));
+    }
+
+    public void testPredictRequestStats_CustomPercentiles() throws IOException {
+        MLPredictRequestStats stats = MLPredictRequestStats.fromHistogram(histogram(1, 100), Arrays.asList(25d, 75.0, 99.9));
+        assertEquals(Arrays.asList("p25", "p75", "p99.9"), new ArrayList<>(stats.getPercentiles().keySet()));
+        assertEquals(25, stats.getPercentile(25), 25 * 0.04);
+        assertEquals(75, stats.getPercentile(75), 75 * 0.04);
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        stats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String content = TestHelper.xContentBuilderToString(builder);
+        assertTrue(content.contains("\"p25\":"));
+        assertTrue(content.contains("\"p99.9\":"));
+        assertFalse(content.contains("\"p50\":"));
+    }
+
+    private MLLatencyHistogram histogram(int fromInMillis, int toInMillis) {
+        MLLatencyRecorder recorder = new MLLatencyRecorder();
+        for (int i = fromInMillis; i <= toInMillis; i++) {
+            recorder.record(i, 60_000);
+        }
+        return recorder.snapshot(60_000);
+    }
+}
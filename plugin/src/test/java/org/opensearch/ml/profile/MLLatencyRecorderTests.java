@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLLatencyRecorderTests extends OpenSearchTestCase {
+
+    private MLLatencyRecorder recorder;
+
+    @Before
+    public void setup() {
+        recorder = new MLLatencyRecorder();
+    }
+
+    public void testSnapshot_Empty() {
+        assertNull(recorder.snapshot(60_000));
+    }
+
+    public void testRecord() {
+        recorder.record(5, 60_000);
+        recorder.record(15, 60_000);
+        MLLatencyHistogram histogram = recorder.snapshot(60_000);
+        assertEquals(2, histogram.getCount());
+        assertEquals(5.0, histogram.getMin(), 1e-5);
+        assertEquals(15.0, histogram.getMax(), 1e-5);
+        assertEquals(10.0, histogram.getAverage(), 1e-5);
+    }
+
+    public void testSnapshot_WindowChanged() {
+        recorder.record(5, 60_000);
+        // slots recorded with another window size don't belong to the new window
+        assertNull(recorder.snapshot(120_000));
+    }
+
+    public void testSnapshot_Expired() throws InterruptedException {
+        recorder.record(5, 60);
+        Thread.sleep(100);
+        assertNull(recorder.snapshot(60));
+    }
+
+    public void testClear() {
+        recorder.record(5, 60_000);
+        recorder.clear();
+        assertNull(recorder.snapshot(60_000));
+    }
+
+    public void testRecord_Concurrently() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 1; j <= 1000; j++) {
+                    recorder.record(j, 60_000);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        MLLatencyHistogram histogram = recorder.snapshot(60_000);
+        assertEquals(4000, histogram.getCount());
+        assertEquals(1.0, histogram.getMin(), 1e-5);
+        assertEquals(1000.0, histogram.getMax(), 1e-5);
+    }
+}
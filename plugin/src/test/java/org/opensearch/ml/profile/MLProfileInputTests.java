@@ -8,6 +8,7 @@ package org.opensearch.ml.profile;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -28,7 +29,13 @@ public class MLProfileInputTests extends OpenSearchTestCase {
         Set<String> modelIds = new HashSet<>(Arrays.asList("model_id1", "model_id2"));
         Set<String> taskIds = new HashSet<>(Arrays.asList("task_id1", "task_id2"));
         Set<String> nodeIds = new HashSet<>(Arrays.asList("node_id1"));
-        mlProfileInput = MLProfileInput.builder().modelIds(modelIds).taskIds(taskIds).nodeIds(nodeIds).build();
+        mlProfileInput = MLProfileInput
+            .builder()
+            .modelIds(modelIds)
+            .taskIds(taskIds)
+            .nodeIds(nodeIds)
+            .percentiles(new ArrayList<>(Arrays.asList(50d, 99.9)))
+            .build();
     }
 
     public void testSerializationDeserialization() throws IOException {
@@ -45,6 +52,7 @@ public class MLProfileInputTests extends OpenSearchTestCase {
         MLProfileInput parsedMLProfileInput = new MLProfileInput(output.bytes().streamInput());
         assertTrue(parsedMLProfileInput.emptyModels());
         assertTrue(parsedMLProfileInput.emptyTasks());
+        assertTrue(parsedMLProfileInput.getPercentiles().isEmpty());
     }
 
     public void testParseMLProfileInput() throws IOException {
@@ -71,11 +79,20 @@ public class MLProfileInputTests extends OpenSearchTestCase {
         assertTrue(parsedMLProfileInput.emptyTasks());
     }
 
+    public void testInvalidPercentile() {
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> MLProfileInput.builder().percentiles(Arrays.asList(50d, 100.1)).build()
+        );
+        assertEquals("percentile must be between 0 and 100: 100.1", e.getMessage());
+    }
+
     private void verifyParsedMLProfileInput(MLProfileInput parsedMLProfileInput) {
         assertTrue(parsedMLProfileInput.getModelIds().contains("model_id1"));
         assertTrue(parsedMLProfileInput.getTaskIds().contains("task_id2"));
         assertFalse(parsedMLProfileInput.emptyModels());
         assertFalse(parsedMLProfileInput.emptyTasks());
         assertFalse(parsedMLProfileInput.retrieveProfileOnAllNodes());
+        assertEquals(Arrays.asList(50d, 99.9), parsedMLProfileInput.getPercentiles());
     }
 }
@@ -8,6 +8,7 @@ package org.opensearch.ml.rest;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -58,6 +59,7 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 import org.opensearch.ml.profile.MLProfileInput;
+import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestHandler;
 import org.opensearch.rest.RestRequest;
@@ -294,6 +296,55 @@ public class RestMLProfileActionTests extends OpenSearchTestCase {
         verify(client, times(1)).execute(eq(MLProfileAction.INSTANCE), argumentCaptor.capture(), any());
     }
 
+    public void test_PrepareRequest_Percentiles() throws Exception {
+        MLProfileInput mlProfileInput = new MLProfileInput();
+        RestRequest request = getProfileRestRequestWithQueryParams(mlProfileInput, ImmutableMap.of("percentiles", "50,99.9"));
+        profileAction.handleRequest(request, channel, client);
+        ArgumentCaptor<MLProfileRequest> argumentCaptor = ArgumentCaptor.forClass(MLProfileRequest.class);
+        verify(client, times(1)).execute(eq(MLProfileAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals(Arrays.asList(50d, 99.9), argumentCaptor.getValue().getMlProfileInput().getPercentiles());
+    }
+
+    public void test_PrepareRequest_InvalidPercentiles() throws Exception {
+        MLProfileInput mlProfileInput = new MLProfileInput();
+        RestRequest request = getProfileRestRequestWithQueryParams(mlProfileInput, ImmutableMap.of("percentiles", "50,abc"));
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> profileAction.prepareRequest(request, client));
+        assertEquals("Invalid percentile: abc", e.getMessage());
+    }
+
+    public void test_WhenViewIsModel_ReturnClusterModelStats() throws Exception {
+        MLModelProfile clusterModelProfile = MLModelProfile
+            .builder()
+            .modelInferenceStats(MLPredictRequestStats.builder().count(20L).percentiles(ImmutableMap.of("p50", 10.0)).build())
+            .build();
+        doAnswer(invocation -> {
+            ActionListener<MLProfileResponse> actionListener = invocation.getArgument(2);
+            Map<String, MLModelProfile> nodeModels = new HashMap<>();
+            nodeModels.put("test_id", mlModelProfile);
+            MLProfileNodeResponse nodeResponse = new MLProfileNodeResponse(node, new HashMap<>(), nodeModels);
+            MLProfileResponse profileResponse = new MLProfileResponse(
+                clusterName,
+                Arrays.asList(nodeResponse),
+                new ArrayList<>(),
+                ImmutableMap.of("test_id", clusterModelProfile)
+            );
+            actionListener.onResponse(profileResponse);
+            return null;
+        }).when(client).execute(eq(MLProfileAction.INSTANCE), any(), any());
+
+        for (String view : Arrays.asList("node", "model")) {
+            RestChannel restChannel = mock(RestChannel.class);
+            when(restChannel.newBuilder()).thenReturn(XContentFactory.jsonBuilder());
+            RestRequest request = getProfileRestRequestWithQueryParams(new MLProfileInput(), ImmutableMap.of("view", view));
+            profileAction.handleRequest(request, restChannel, client);
+            ArgumentCaptor<BytesRestResponse> responseCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+            verify(restChannel, times(1)).sendResponse(responseCaptor.capture());
+            String content = responseCaptor.getValue().content().utf8ToString();
+            assertTrue(content, content.contains("\"cluster_model_stats\":{\"test_id\":{"));
+            assertTrue(content, content.contains("\"count\":20,\"p50\":10.0"));
+        }
+    }
+
     private RestRequest getRestRequest() {
         Map<String, String> params = new HashMap<>();
         params.put("task_id", "test_id");
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.naming.LimitExceededException;
+
+import org.junit.Before;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.ml.action.stats.MLStatsNodeResponse;
+import org.opensearch.ml.action.stats.MLStatsNodesResponse;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.google.common.collect.ImmutableSet;
+
+public class MLNodeLoadViewTests extends OpenSearchTestCase {
+
+    private static final short JVM_HEAP_USAGE_THRESHOLD = 85;
+
+    MLNodeLoadView nodeLoadView;
+    DiscoveryNode node1;
+    DiscoveryNode node2;
+    DiscoveryNode[] nodes;
+
+    @Before
+    public void setup() {
+        nodeLoadView = new MLNodeLoadView();
+        Set<DiscoveryNodeRole> dataRoleSet = ImmutableSet.of(DiscoveryNodeRole.DATA_ROLE);
+        node1 = new DiscoveryNode("node1", buildNewFakeTransportAddress(), new HashMap<>(), dataRoleSet, Version.CURRENT);
+        node2 = new DiscoveryNode("node2", buildNewFakeTransportAddress(), new HashMap<>(), dataRoleSet, Version.CURRENT);
+        nodes = new DiscoveryNode[] { node1, node2 };
+    }
+
+    public void testGetStaleNodes() {
+        assertEquals(2, nodeLoadView.getStaleNodes(nodes, 1000).length);
+        assertTrue(nodeLoadView.startRefresh());
+        assertFalse(nodeLoadView.startRefresh());
+        nodeLoadView.update(statsResponse(nodeStats(node1, 1, 50)));
+
+        DiscoveryNode[] staleNodes = nodeLoadView.getStaleNodes(nodes, 1000);
+        assertEquals(1, staleNodes.length);
+        assertEquals(node2, staleNodes[0]);
+        assertEquals(2, nodeLoadView.getStaleNodes(nodes, 0).length);
+        assertTrue(nodeLoadView.startRefresh());
+        nodeLoadView.refreshFailed();
+        assertTrue(nodeLoadView.startRefresh());
+    }
+
+    public void testChoose_LeastLoad() throws LimitExceededException {
+        nodeLoadView.update(statsResponse(nodeStats(node1, 5, 50), nodeStats(node2, 1, 50)));
+        assertEquals(node2, nodeLoadView.choose(nodes, 10, JVM_HEAP_USAGE_THRESHOLD));
+    }
+
+    public void testChoose_SameTaskCount_LessHeapUsage() throws LimitExceededException {
+        nodeLoadView.update(statsResponse(nodeStats(node1, 2, 40), nodeStats(node2, 2, 60)));
+        assertEquals(node1, nodeLoadView.choose(nodes, 10, JVM_HEAP_USAGE_THRESHOLD));
+    }
+
+    public void testChoose_CountDispatchedTasks() throws LimitExceededException {
+        nodeLoadView.update(statsResponse(nodeStats(node1, 0, 50), nodeStats(node2, 2, 40)));
+        // node1 gets tasks until tasks dispatched since refresh make it as busy as node2
+        assertEquals(node1, nodeLoadView.choose(nodes, 10, JVM_HEAP_USAGE_THRESHOLD));
+        assertEquals(node1, nodeLoadView.choose(nodes, 10, JVM_HEAP_USAGE_THRESHOLD));
+        assertEquals(node2, nodeLoadView.choose(nodes, 10, JVM_HEAP_USAGE_THRESHOLD));
+    }
+
+    public void testChoose_UnknownLoad() throws LimitExceededException {
+        DiscoveryNode node = nodeLoadView.choose(nodes, 10, JVM_HEAP_USAGE_THRESHOLD);
+        assertTrue(node == node1 || node == node2);
+    }
+
+    public void testChoose_MemoryExceedLimit() {
+        nodeLoadView.update(statsResponse(nodeStats(node1, 1, 90), nodeStats(node2, 1, 95)));
+        LimitExceededException exception = expectThrows(
+            LimitExceededException.class,
+            () -> nodeLoadView.choose(nodes, 10, JVM_HEAP_USAGE_THRESHOLD)
+        );
+        assertEquals("All nodes' memory usage exceeds limitation 85. No eligible node available to run ml jobs ", exception.getMessage());
+    }
+
+    public void testChoose_TaskCountExceedLimit() {
+        nodeLoadView.update(statsResponse(nodeStats(node1, 10, 50), nodeStats(node2, 12, 50)));
+        LimitExceededException exception = expectThrows(
+            LimitExceededException.class,
+            () -> nodeLoadView.choose(nodes, 10, JVM_HEAP_USAGE_THRESHOLD)
+        );
+        assertEquals("All nodes' executing ML task count reach limitation.", exception.getMessage());
+    }
+
+    public void testUpdate_IgnoreMissingStats() throws LimitExceededException {
+        Map<MLNodeLevelStat, Object> stats = new HashMap<>();
+        stats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 95L);
+        nodeLoadView.update(statsResponse(new MLStatsNodeResponse(node1, stats), nodeStats(node2, 1, 95)));
+        assertEquals(node1, nodeLoadView.choose(nodes, 10, JVM_HEAP_USAGE_THRESHOLD));
+    }
+
+    public void testRemoveNodes() {
+        nodeLoadView.update(statsResponse(nodeStats(node1, 1, 50), nodeStats(node2, 1, 50)));
+        assertEquals(0, nodeLoadView.getStaleNodes(nodes, 1000).length);
+        nodeLoadView.removeNodes(ImmutableSet.of(node2.getId()));
+        DiscoveryNode[] staleNodes = nodeLoadView.getStaleNodes(nodes, 1000);
+        assertEquals(1, staleNodes.length);
+        assertEquals(node2, staleNodes[0]);
+    }
+
+    private MLStatsNodeResponse nodeStats(DiscoveryNode node, long taskCount, long jvmHeapUsage) {
+        Map<MLNodeLevelStat, Object> stats = new HashMap<>();
+        stats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, taskCount);
+        stats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, jvmHeapUsage);
+        return new MLStatsNodeResponse(node, stats);
+    }
+
+    private MLStatsNodesResponse statsResponse(MLStatsNodeResponse... nodeResponses) {
+        return new MLStatsNodesResponse(new ClusterName("test cluster"), Arrays.asList(nodeResponses), new ArrayList<>());
+    }
+}
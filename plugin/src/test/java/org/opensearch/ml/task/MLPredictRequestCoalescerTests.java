@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLPredictRequestCoalescerTests extends OpenSearchTestCase {
+
+    private ClusterSettings clusterSettings;
+    private MLPredictRequestCoalescer coalescer;
+    private List<ActionListener<MLOutput>> inferenceListeners;
+    private MLOutput output;
+
+    @Before
+    public void setup() {
+        clusterSettings = clusterSetting(Settings.EMPTY, ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        coalescer = new MLPredictRequestCoalescer(clusterService, Settings.EMPTY);
+        inferenceListeners = new ArrayList<>();
+        output = ModelTensorOutput.builder().mlModelOutputs(new ArrayList<>()).build();
+    }
+
+    public void testPredict_Coalesced() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener1, inferenceListeners::add);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener2, inferenceListeners::add);
+        assertEquals(1, inferenceListeners.size());
+        assertEquals(1, coalescer.getInFlightCount());
+
+        inferenceListeners.get(0).onResponse(output);
+        verify(listener1).onResponse(output);
+        ArgumentCaptor<MLOutput> outputCaptor = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener2).onResponse(outputCaptor.capture());
+        // joined request gets its own copy of the output
+        assertEquals(output, outputCaptor.getValue());
+        assertNotSame(output, outputCaptor.getValue());
+        assertEquals(1, coalescer.getCoalescedCount());
+        assertEquals(0, coalescer.getInFlightCount());
+
+        // completed inference is not cached
+        ActionListener<MLOutput> listener3 = mock(ActionListener.class);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener3, inferenceListeners::add);
+        assertEquals(2, inferenceListeners.size());
+    }
+
+    public void testPredict_CoalescedFailure() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        coalescer.predict("modelId", FunctionName.REMOTE, textDocsInput("hello"), listener1, inferenceListeners::add);
+        coalescer.predict("modelId", FunctionName.REMOTE, textDocsInput("hello"), listener2, inferenceListeners::add);
+        RuntimeException exception = new RuntimeException("test error");
+        inferenceListeners.get(0).onFailure(exception);
+        verify(listener1).onFailure(exception);
+        verify(listener2).onFailure(exception);
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    public void testPredict_JoinedRequestRetriesOnTimeout() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        MLInput expiredInput = textDocsInput("hello");
+        expiredInput.setDeadlineInNanos(System.nanoTime() - 1);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, expiredInput, listener1, inferenceListeners::add);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener2, inferenceListeners::add);
+        OpenSearchTimeoutException exception = new OpenSearchTimeoutException("test timeout");
+        inferenceListeners.get(0).onFailure(exception);
+        verify(listener1).onFailure(exception);
+        verify(listener2, never()).onFailure(any());
+        // joined request before its deadline runs the inference again
+        assertEquals(2, inferenceListeners.size());
+        assertEquals(1, coalescer.getInFlightCount());
+
+        inferenceListeners.get(1).onResponse(output);
+        verify(listener2).onResponse(output);
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    public void testPredict_ExpiredJoinedRequestFailsOnTimeout() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        MLInput expiredInput = textDocsInput("hello");
+        expiredInput.setDeadlineInNanos(System.nanoTime() - 1);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener1, inferenceListeners::add);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, expiredInput, listener2, inferenceListeners::add);
+        OpenSearchTimeoutException exception = new OpenSearchTimeoutException("test timeout");
+        inferenceListeners.get(0).onFailure(exception);
+        verify(listener1).onFailure(exception);
+        verify(listener2).onFailure(exception);
+        assertEquals(1, inferenceListeners.size());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    public void testPredict_RemoteNotTextDocs() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        RemoteInferenceInputDataSet dataSet = RemoteInferenceInputDataSet.builder().parameters(Map.of("prompt", "hello")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(dataSet).build();
+        coalescer.predict("modelId", FunctionName.REMOTE, mlInput, listener1, inferenceListeners::add);
+        coalescer.predict("modelId", FunctionName.REMOTE, mlInput, listener2, inferenceListeners::add);
+        assertEquals(2, inferenceListeners.size());
+        assertEquals(0, coalescer.getCoalescedCount());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    public void testPredict_DifferentInputs() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener3 = mock(ActionListener.class);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener1, inferenceListeners::add);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("world"), listener2, inferenceListeners::add);
+        coalescer.predict("modelId2", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener3, inferenceListeners::add);
+        assertEquals(3, inferenceListeners.size());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    public void testPredict_NotCoalescingFunction() {
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        coalescer.predict("modelId", FunctionName.BATCH_RCF, textDocsInput("hello"), listener1, inferenceListeners::add);
+        coalescer.predict("modelId", FunctionName.BATCH_RCF, textDocsInput("hello"), listener2, inferenceListeners::add);
+        assertEquals(2, inferenceListeners.size());
+        assertSame(listener1, inferenceListeners.get(0));
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    public void testPredict_Disabled() {
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED.getKey(), false).build());
+        ActionListener<MLOutput> listener1 = mock(ActionListener.class);
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener1, inferenceListeners::add);
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener2, inferenceListeners::add);
+        assertEquals(2, inferenceListeners.size());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    public void testPredict_InferenceThrows() {
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        RuntimeException exception = new RuntimeException("test error");
+        coalescer.predict("modelId", FunctionName.TEXT_EMBEDDING, textDocsInput("hello"), listener, it -> { throw exception; });
+        verify(listener).onFailure(exception);
+        verify(listener, never()).onResponse(any());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    private MLInput textDocsInput(String... docs) {
+        TextDocsInputDataSet dataSet = TextDocsInputDataSet.builder().docs(Arrays.asList(docs)).build();
+        return MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(dataSet).build();
+    }
+}
@@ -9,6 +9,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -22,12 +27,16 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchTimeoutException;
 import org.opensearch.Version;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.ConfigConstants;
@@ -47,15 +56,22 @@ import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.PredictableCache;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.model.EmbeddingResultCache;
+import org.opensearch.ml.model.MLModelBulkhead;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
@@ -65,6 +81,7 @@ import org.opensearch.ml.utils.TestData;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.collect.ImmutableList;
@@ -122,6 +139,9 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
     GetResponse getResponse;
     MLInput mlInputWithDataFrame;
     MLEngine mlEngine;
+    PredictableCache predictableCache;
+    MLPredictRequestCoalescer predictRequestCoalescer;
+    EmbeddingResultCache embeddingResultCache;
     Encryptor encryptor;
 
     @Before
@@ -129,9 +149,20 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         MockitoAnnotations.openMocks(this);
         encryptor = new EncryptorImpl("m+dWmfmnNRiNlOdej/QelEkvMTyH//frS2TBeS2BP4w=");
         mlEngine = new MLEngine(Path.of("/tmp/test" + randomAlphaOfLength(10)), encryptor);
+        predictableCache = new PredictableCache(1024 * 1024);
         localNode = new DiscoveryNode("localNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
         remoteNode = new DiscoveryNode("remoteNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
         when(clusterService.localNode()).thenReturn(localNode);
+        ClusterSettings clusterSettings = clusterSetting(
+            Settings.EMPTY,
+            ML_COMMONS_PREDICT_REQUEST_COALESCING_ENABLED,
+            ML_COMMONS_EMBEDDING_RESULT_CACHE_ENABLED,
+            ML_COMMONS_EMBEDDING_RESULT_CACHE_MAX_ENTRIES,
+            ML_COMMONS_EMBEDDING_RESULT_CACHE_SIZE_IN_MB
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        predictRequestCoalescer = new MLPredictRequestCoalescer(clusterService, Settings.EMPTY);
+        embeddingResultCache = new EmbeddingResultCache(clusterService, Settings.EMPTY, mlCircuitBreakerService);
 
         when(threadPool.executor(anyString())).thenReturn(executorService);
         doAnswer(invocation -> {
@@ -145,6 +176,9 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         stats.put(MLNodeLevelStat.ML_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_EXPIRED_PREDICT_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_LOCAL_DISPATCHED_PREDICT_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_REMOTE_DISPATCHED_PREDICT_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
         this.mlStats = new MLStats(stats);
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
         taskRunner = spy(
@@ -160,7 +194,10 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
                 xContentRegistry(),
                 mlModelManager,
                 nodeHelper,
-                mlEngine
+                mlEngine,
+                predictableCache,
+                predictRequestCoalescer,
+                embeddingResultCache
             )
         );
 
@@ -217,6 +254,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(mlTaskManager).add(any(MLTask.class));
         verify(client).get(any(), any());
         verify(mlTaskManager).remove(anyString());
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_LOCAL_DISPATCHED_PREDICT_REQUEST_COUNT).getValue());
     }
 
     public void testExecuteTask_OnLocalNode_RemoteModel() {
@@ -231,6 +269,85 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(client, never()).get(any(), any());
     }
 
+    public void testExecuteTask_OnLocalNode_DeployedRemoteModel() {
+        setupMocks(true, false, false, false);
+        RemoteModel predictor = mock(RemoteModel.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        MLOutput output = ModelTensorOutput.builder().mlModelOutputs(ImmutableList.of()).build();
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(output);
+            return null;
+        }).when(predictor).predictAsync(any(), any());
+        when(mlModelManager.getPredictor(anyString())).thenReturn(predictor);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(predictor).predictAsync(any(), any());
+        verify(predictor, never()).predict(any(MLInput.class));
+        verify(mlModelManager).trackPredictDuration(anyString(), anyLong());
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+        verify(mlTaskManager).addRunningSyncPredict("111");
+        verify(mlTaskManager).removeRunningSyncPredict("111");
+        assertEquals(0L, mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).getValue());
+        verify(client, never()).get(any(), any());
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        assertEquals(output, argumentCaptor.getValue().getOutput());
+    }
+
+    public void testExecuteTask_OnLocalNode_DeployedModelAdmitted() {
+        setupMocks(true, false, false, false);
+        RemoteModel predictor = mock(RemoteModel.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        MLOutput output = ModelTensorOutput.builder().mlModelOutputs(ImmutableList.of()).build();
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(output);
+            return null;
+        }).when(predictor).predictAsync(any(), any());
+        when(mlModelManager.getPredictor(anyString())).thenReturn(predictor);
+        MLModelBulkhead bulkhead = new MLModelBulkhead(1, 0);
+        when(mlModelManager.getBulkhead("111")).thenReturn(bulkhead);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(predictor).predictAsync(any(), any());
+        verify(listener).onResponse(any(MLTaskResponse.class));
+        assertEquals(0, bulkhead.getRunningCount());
+    }
+
+    public void testExecuteTask_OnLocalNode_DeployedModelRejected() {
+        setupMocks(true, false, false, false);
+        RemoteModel predictor = mock(RemoteModel.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.getPredictor(anyString())).thenReturn(predictor);
+        MLModelBulkhead bulkhead = new MLModelBulkhead(1, 0);
+        // another request holds the only slot of the model
+        assertTrue(bulkhead.execute(mock(AbstractRunnable.class), executorService));
+        when(mlModelManager.getBulkhead("111")).thenReturn(bulkhead);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(predictor, never()).predictAsync(any(), any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLLimitExceededException);
+        assertEquals("Too many predict requests of model 111 on node localNodeId", argumentCaptor.getValue().getMessage());
+        assertEquals(1, bulkhead.getRejectedCount());
+        verify(mlTaskManager).removeRunningSyncPredict("111");
+    }
+
+    public void testExecuteTask_OnLocalNode_Expired() {
+        setupMocks(true, false, false, false);
+        requestWithDataFrame.setTimeout(TimeValue.ZERO);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlModelManager, never()).getPredictor(anyString());
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof OpenSearchTimeoutException);
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_EXPIRED_PREDICT_REQUEST_COUNT).getValue());
+    }
+
     public void testExecuteTask_OnLocalNode_QueryInput() {
         setupMocks(true, false, false, false);
 
@@ -267,6 +384,18 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         setupMocks(false, false, false, false);
         taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
         verify(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(requestWithDataFrame), any());
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_REMOTE_DISPATCHED_PREDICT_REQUEST_COUNT).getValue());
+        assertEquals(0L, mlStats.getStat(MLNodeLevelStat.ML_LOCAL_DISPATCHED_PREDICT_REQUEST_COUNT).getValue());
+    }
+
+    public void testExecuteTask_OnRemoteNode_Timeout() {
+        setupMocks(false, false, false, false);
+        requestWithDataFrame.setTimeout(TimeValue.timeValueSeconds(10));
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<TransportRequestOptions> argumentCaptor = ArgumentCaptor.forClass(TransportRequestOptions.class);
+        verify(transportService)
+            .sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(requestWithDataFrame), argumentCaptor.capture(), any());
+        assertTrue(argumentCaptor.getValue().timeout().millis() <= 10_000);
     }
 
     public void testExecuteTask_OnLocalNode_GetModelFail() {
@@ -320,14 +449,14 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         }).when(mlTaskDispatcher).dispatch(any(), any());
 
         doAnswer(invocation -> {
-            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
+            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(2);
             if (runOnLocalNode) {
                 actionListener.onResponse(localNode);
             } else {
                 actionListener.onResponse(remoteNode);
             }
             return null;
-        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any());
+        }).when(mlTaskDispatcher).dispatchPredictTask(any(), anyLong(), any());
 
         if (failedToParseQueryInput) {
             doAnswer(invocation -> {
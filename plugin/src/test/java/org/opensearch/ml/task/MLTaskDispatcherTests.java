@@ -7,13 +7,23 @@ package org.opensearch.ml.task;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.breaker.MemoryCircuitBreaker.DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EXCLUDE_NODE_NAMES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOCAL_NODE_MAX_EXECUTING_TASKS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_PREFER_LOCAL_NODE;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,6 +44,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.action.stats.MLStatsNodeResponse;
@@ -68,11 +79,25 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
     MLStatsNodesResponse mlStatsNodesResponse;
     String clusterName = "test cluster";
     Settings settings;
+    ClusterSettings clusterSettings;
 
     @Before
     public void setup() {
         settings = Settings.builder().put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false).build();
         MockitoAnnotations.openMocks(this);
+        clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_ONLY_RUN_ON_ML_NODE,
+            ML_COMMONS_EXCLUDE_NODE_NAMES,
+            ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES,
+            ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES,
+            ML_COMMONS_TASK_DISPATCH_POLICY,
+            ML_COMMONS_MAX_ML_TASK_PER_NODE,
+            ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS,
+            ML_COMMONS_TASK_DISPATCH_PREFER_LOCAL_NODE,
+            ML_COMMONS_TASK_DISPATCH_LOCAL_NODE_MAX_EXECUTING_TASKS
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
 
         taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper));
         nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
@@ -95,6 +120,43 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         mlStatsNodesResponse = getMlStatsNodesResponse();
     }
 
+    public void testDispatchPredictTask_PreferLocalNode() {
+        when(clusterService.localNode()).thenReturn(dataNode1);
+        taskDispatcher.dispatchPredictTask(new String[] { "node2", "node1" }, 0, listener);
+        verify(listener).onResponse(dataNode1);
+    }
+
+    public void testDispatchPredictTask_LocalNodeOverloaded() {
+        taskDispatcher = createDispatcherWithNodes();
+        when(clusterService.localNode()).thenReturn(dataNode1);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, 100, listener);
+        verify(listener).onResponse(dataNode2);
+    }
+
+    public void testDispatchPredictTask_LocalNodeOverloaded_OnlyWorkerNode() {
+        when(clusterService.localNode()).thenReturn(dataNode1);
+        DiscoveryNodeHelper nodeHelper = mock(DiscoveryNodeHelper.class);
+        when(nodeHelper.getNode("node1")).thenReturn(dataNode1);
+        taskDispatcher = new MLTaskDispatcher(clusterService, client, settings, nodeHelper);
+        taskDispatcher.dispatchPredictTask(new String[] { "node1" }, 100, listener);
+        verify(listener).onResponse(dataNode1);
+    }
+
+    public void testDispatchPredictTask_LocalNodeNotWorkerNode() {
+        taskDispatcher = createDispatcherWithNodes();
+        when(clusterService.localNode()).thenReturn(mlNode);
+        taskDispatcher.dispatchPredictTask(new String[] { "node2", "node1" }, 0, listener);
+        verify(listener).onResponse(dataNode2);
+    }
+
+    public void testDispatchPredictTask_PreferLocalNodeDisabled() {
+        taskDispatcher = createDispatcherWithNodes();
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_TASK_DISPATCH_PREFER_LOCAL_NODE.getKey(), false).build());
+        when(clusterService.localNode()).thenReturn(dataNode1);
+        taskDispatcher.dispatchPredictTask(new String[] { "node2", "node1" }, 0, listener);
+        verify(listener).onResponse(dataNode2);
+    }
+
     @Ignore
     public void testDispatchTask_Success() {
         taskDispatcher.dispatch(FunctionName.REMOTE, listener);
@@ -158,6 +220,13 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         }
     }
 
+    private MLTaskDispatcher createDispatcherWithNodes() {
+        DiscoveryNodeHelper nodeHelper = mock(DiscoveryNodeHelper.class);
+        when(nodeHelper.getNode("node1")).thenReturn(dataNode1);
+        when(nodeHelper.getNode("node2")).thenReturn(dataNode2);
+        return new MLTaskDispatcher(clusterService, client, settings, nodeHelper);
+    }
+
     private MLStatsNodesResponse getMlStatsNodesResponse() {
         Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
         nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.when;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
@@ -169,6 +170,17 @@ public class MLTaskManagerTests extends OpenSearchTestCase {
         assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
     }
 
+    public void testUpdateDeployPhaseTimings() {
+        ArgumentCaptor<UpdateRequest> argumentCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        mlTaskManager.updateDeployPhaseTimings(mlTask.getTaskId(), "node1", ImmutableMap.of("fetch", 10L, "unzip", 2L));
+        verify(client, times(1)).update(argumentCaptor.capture(), any());
+        UpdateRequest updateRequest = argumentCaptor.getValue();
+        assertEquals(3, updateRequest.retryOnConflict());
+        Map<String, Object> source = updateRequest.doc().sourceAsMap();
+        Map<String, Object> timings = (Map<String, Object>) source.get(MLTask.DEPLOY_PHASE_TIMINGS_FIELD);
+        assertEquals(ImmutableMap.of("fetch", 10, "unzip", 2), timings.get("node1"));
+    }
+
     public void testRemove() {
         mlTaskManager.add(mlTask);
         Assert.assertTrue(mlTaskManager.contains(mlTask.getTaskId()));
@@ -209,6 +221,37 @@ public class MLTaskManagerTests extends OpenSearchTestCase {
         Assert.assertEquals(1, mlTaskManager.getRunningTaskCount());
     }
 
+    public void testRunningSyncPredict() {
+        String modelId = "test_model";
+        Assert.assertFalse(mlTaskManager.containsModel(modelId));
+        mlTaskManager.addRunningSyncPredict(modelId);
+        mlTaskManager.addRunningSyncPredict(modelId);
+        Assert.assertEquals(2, mlTaskManager.getRunningSyncPredictCount(modelId));
+        Assert.assertEquals(2, mlTaskManager.getRunningTaskCount());
+        Assert.assertTrue(mlTaskManager.containsModel(modelId));
+
+        mlTaskManager.removeRunningSyncPredict(modelId);
+        mlTaskManager.removeRunningSyncPredict(modelId);
+        Assert.assertEquals(0, mlTaskManager.getRunningSyncPredictCount(modelId));
+        Assert.assertEquals(0, mlTaskManager.getRunningTaskCount());
+        Assert.assertFalse(mlTaskManager.containsModel(modelId));
+    }
+
+    public void testClearRunningSyncPredict() {
+        String modelId = "test_model";
+        mlTaskManager.addRunningSyncPredict(modelId);
+        mlTaskManager.addRunningSyncPredict(modelId);
+        mlTaskManager.clearRunningSyncPredict(modelId);
+        Assert.assertEquals(0, mlTaskManager.getRunningSyncPredictCount(modelId));
+        Assert.assertEquals(0, mlTaskManager.getRunningTaskCount());
+        Assert.assertFalse(mlTaskManager.containsModel(modelId));
+
+        // Request which was running when model was undeployed finishes later.
+        mlTaskManager.removeRunningSyncPredict(modelId);
+        Assert.assertEquals(0, mlTaskManager.getRunningTaskCount());
+        mlTaskManager.clearRunningSyncPredict("not_tracked_model");
+    }
+
     public void testClear() {
         MLTask task1 = MLTask.builder().taskId("1").state(MLTaskState.CREATED).build();
         MLTask task2 = MLTask.builder().taskId("2").state(MLTaskState.RUNNING).build();
@@ -22,6 +22,8 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -49,4 +51,31 @@ public class MLNodeUtilsTests extends OpenSearchTestCase {
         MLTask parsedMLTask = MLTask.parse(xContentParser);
         assertEquals(mlTask, parsedMLTask);
     }
+
+    public void testCreateModelChunkSource() throws IOException {
+        byte[] bytes = randomByteArrayOfLength(1024);
+        MLModel chunk = MLModel
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelId("modelId")
+            .chunkNumber(0)
+            .binaryContent(bytes)
+            .build();
+        BytesReference binarySource = BytesReference.bytes(MLNodeUtils.createModelChunkSource(chunk, true));
+        XContentParser xContentParser = MLNodeUtils.createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, binarySource);
+        xContentParser.nextToken();
+        MLModel parsedChunk = MLModel.parse(xContentParser, FunctionName.TEXT_EMBEDDING.name());
+        assertArrayEquals(bytes, parsedChunk.getBinaryContent());
+        assertNull(parsedChunk.getContent());
+        assertEquals(0, parsedChunk.getChunkNumber().intValue());
+
+        // same chunk is written as Base64 string in JSON
+        BytesReference jsonSource = BytesReference.bytes(MLNodeUtils.createModelChunkSource(chunk, false));
+        xContentParser = MLNodeUtils.createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, jsonSource);
+        xContentParser.nextToken();
+        parsedChunk = MLModel.parse(xContentParser, FunctionName.TEXT_EMBEDDING.name());
+        assertNull(parsedChunk.getBinaryContent());
+        assertArrayEquals(bytes, parsedChunk.getContentBytes());
+        assertTrue(binarySource.length() < jsonSource.length());
+    }
 }